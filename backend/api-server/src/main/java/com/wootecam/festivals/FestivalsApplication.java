@@ -10,6 +10,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 @EnableConfigurationProperties(CloudConfiguration.class)
 @EnableAsync
+@EnableScheduling
 public class FestivalsApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,11 @@
+package com.wootecam.festivals.domain.checkin.dto;
+
+/**
+ * 저장할 대기 중인 체크인 정보
+ *
+ * @param festivalId 페스티벌 ID
+ * @param memberId   멤버 ID
+ * @param ticketId   티켓 ID
+ */
+public record PendingCheckin(Long festivalId, Long memberId, Long ticketId) {
+}
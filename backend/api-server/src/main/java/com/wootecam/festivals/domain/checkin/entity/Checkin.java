@@ -6,11 +6,10 @@ import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.global.audit.BaseEntity;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -29,7 +28,7 @@ import lombok.NoArgsConstructor;
 public class Checkin extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "checkin_id")
     private Long id;
 
@@ -0,0 +1,84 @@
+package com.wootecam.festivals.domain.checkin.repository;
+
+import com.wootecam.festivals.domain.checkin.dto.PendingCheckin;
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CheckinJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    public CheckinJdbcRepository(JdbcTemplate jdbcTemplate, SnowflakeIdGenerator snowflakeIdGenerator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+    }
+
+    /**
+     * 주어진 체크인 중 이미 저장된 체크인을 한 번의 조회로 찾습니다.
+     *
+     * @param checkins 저장할 체크인 목록
+     * @return 같은 멤버, 티켓으로 이미 저장된 체크인
+     */
+    public Set<PendingCheckin> findSavedCheckins(List<PendingCheckin> checkins) {
+        Set<PendingCheckin> saved = new HashSet<>();
+        if (checkins.isEmpty()) {
+            return saved;
+        }
+
+        Set<PendingCheckin> candidates = new HashSet<>(checkins);
+        Set<Long> memberIds = new HashSet<>();
+        checkins.forEach(checkin -> memberIds.add(checkin.memberId()));
+
+        namedParameterJdbcTemplate.query("""
+                        SELECT festival_id, member_id, ticket_id FROM checkin
+                        WHERE member_id IN (:memberIds)""",
+                Map.of("memberIds", memberIds),
+                rs -> {
+                    PendingCheckin checkin = new PendingCheckin(rs.getLong("festival_id"), rs.getLong("member_id"),
+                            rs.getLong("ticket_id"));
+                    if (candidates.contains(checkin)) {
+                        saved.add(checkin);
+                    }
+                });
+        return saved;
+    }
+
+    public void saveCheckins(List<PendingCheckin> checkins) {
+        String sql = """
+                INSERT INTO checkin (checkin_id, festival_id, member_id, ticket_id, is_checked, created_at, updated_at)
+                VALUES (?, ?, ?, ?, false, ?, ?)""";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int index) throws SQLException {
+                PendingCheckin checkin = checkins.get(index);
+                ps.setLong(1, snowflakeIdGenerator.nextId());
+                ps.setLong(2, checkin.festivalId());
+                ps.setLong(3, checkin.memberId());
+                ps.setLong(4, checkin.ticketId());
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return checkins.size();
+            }
+        });
+    }
+}
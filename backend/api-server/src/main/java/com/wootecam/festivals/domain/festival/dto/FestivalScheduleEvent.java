@@ -0,0 +1,9 @@
+package com.wootecam.festivals.domain.festival.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 축제 상태 변경을 스케줄링하기 위해 발행하는 이벤트
+ */
+public record FestivalScheduleEvent(Long festivalId, LocalDateTime startTime, LocalDateTime endTime) {
+}
@@ -2,17 +2,12 @@ package com.wootecam.festivals.domain.festival.service;
 
 import static com.wootecam.festivals.domain.festival.constant.FestivalRedisStreamConstants.FESTIVAL_STREAM_KEY;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.festival.dto.FestivalScheduleEvent;
+import com.wootecam.festivals.domain.festival.dto.FestivalScheduleEventCodec;
 import com.wootecam.festivals.domain.festival.entity.Festival;
-import com.wootecam.festivals.global.exception.GlobalErrorCode;
-import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.outbox.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,30 +15,18 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class FestivalScheduleEventProducer {
 
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public void sendEvent(Festival festival) {
         log.info("Send event to redis: {}", festival);
 
-        try {
-            String festivalToJson = objectMapper.writeValueAsString(festival);
+        // 스케줄링에 필요한 값만 발행하고, 나머지는 스케줄 서버가 DB 에서 조회합니다.
+        FestivalScheduleEvent event = new FestivalScheduleEvent(festival.getId(), festival.getStartTime(),
+                festival.getEndTime());
 
-            ObjectRecord<String, String> message = StreamRecords.newRecord()
-                    .ofObject(festivalToJson)
-                    .withStreamKey(FESTIVAL_STREAM_KEY);
+        // 축제 저장과 같은 트랜잭션에 저장하고, 커밋된 뒤 스트림에 발행합니다.
+        outboxEventPublisher.publish(FESTIVAL_STREAM_KEY, FestivalScheduleEventCodec.INSTANCE.encode(event));
 
-            RecordId recordId = redisTemplate.opsForStream().add(message);
-
-            if (recordId == null) {
-                log.error("Failed to send festival event to stream");
-                throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
-            }
-
-            log.info("Event sent to redis festivalId: {}", festival.getId());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to send festival event to stream", e);
-            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, e);
-        }
+        log.info("Event saved to outbox festivalId: {}", festival.getId());
     }
 }
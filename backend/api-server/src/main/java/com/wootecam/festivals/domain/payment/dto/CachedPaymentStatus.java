@@ -0,0 +1,19 @@
+package com.wootecam.festivals.domain.payment.dto;
+
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+
+/**
+ * 캐싱된 결제 상태
+ *
+ * @param purchaseStatus 구매 상태
+ * @param resultHandled  결제 결과 처리가 끝났는지 여부
+ */
+public record CachedPaymentStatus(PurchaseStatus purchaseStatus, boolean resultHandled) {
+
+    /**
+     * 결제 결과 처리가 끝났거나 구매 상태가 INITIATED 에서 바뀌었다면 더 이상 바뀌지 않은 결제 상태입니다.
+     */
+    public boolean isCompleted() {
+        return resultHandled || purchaseStatus != PurchaseStatus.INITIATED;
+    }
+}
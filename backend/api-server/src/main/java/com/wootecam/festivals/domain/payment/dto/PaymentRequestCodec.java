@@ -0,0 +1,39 @@
+package com.wootecam.festivals.domain.payment.dto;
+
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.BinaryPayloadReader;
+import com.wootecam.festivals.global.utils.BinaryPayloadWriter;
+
+/**
+ * 결제 요청 스트림 메시지의 바이너리 형식
+ * <p>
+ * 버전 1: paymentId, memberId, ticketId, ticketStockId
+ * </p>
+ */
+public class PaymentRequestCodec extends BinaryPayloadCodec<PaymentRequest> {
+
+    public static final PaymentRequestCodec INSTANCE = new PaymentRequestCodec();
+
+    private static final int VERSION = 1;
+
+    private PaymentRequestCodec() {
+    }
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    protected void write(PaymentRequest value, BinaryPayloadWriter writer) {
+        writer.writeId(value.paymentId());
+        writer.writeLong(value.memberId());
+        writer.writeLong(value.ticketId());
+        writer.writeLong(value.ticketStockId());
+    }
+
+    @Override
+    protected PaymentRequest read(int version, BinaryPayloadReader reader) {
+        return new PaymentRequest(reader.readId(), reader.readLong(), reader.readLong(), reader.readLong());
+    }
+}
@@ -0,0 +1,42 @@
+package com.wootecam.festivals.domain.payment.dto;
+
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.BinaryPayloadReader;
+import com.wootecam.festivals.global.utils.BinaryPayloadWriter;
+
+/**
+ * 결제 결과 스트림 메시지의 바이너리 형식
+ * <p>
+ * 버전 1: paymentId, status
+ * </p>
+ * <p>
+ * status 는 {@link PaymentStatus#payloadCode()} 로 씁니다. 결제 결과를 쓰는 payment-server 와 읽는 api-server 의 PaymentStatus 상수 순서가
+ * 달라도 같은 상수로 읽습니다.
+ * </p>
+ */
+public class PaymentResultCodec extends BinaryPayloadCodec<PaymentResult> {
+
+    public static final PaymentResultCodec INSTANCE = new PaymentResultCodec();
+
+    private static final int VERSION = 1;
+
+    private PaymentResultCodec() {
+    }
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    protected void write(PaymentResult value, BinaryPayloadWriter writer) {
+        writer.writeId(value.paymentId());
+        writer.writeEnum(value.status());
+    }
+
+    @Override
+    protected PaymentResult read(int version, BinaryPayloadReader reader) {
+        return new PaymentResult(reader.readId(), reader.readEnum(PaymentStatus.class));
+    }
+}
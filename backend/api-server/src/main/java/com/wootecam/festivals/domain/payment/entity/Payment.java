@@ -2,13 +2,12 @@ package com.wootecam.festivals.domain.payment.entity;
 
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
 import com.wootecam.festivals.global.audit.BaseEntity;
+import com.wootecam.festivals.global.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -30,7 +29,7 @@ import lombok.NoArgsConstructor;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "payment_id")
     private Long id;
 
@@ -66,6 +65,11 @@ public class Payment extends BaseEntity {
         this.purchase.paid();
     }
 
+    // 결제 결과가 이미 반영되었는지 여부
+    public boolean isCompleted() {
+        return paymentStatus.isSuccess() || paymentStatus.isFailed();
+    }
+
     public void fail(PaymentStatus status) {
         if(!status.isFailed()) {
             throw new IllegalArgumentException("결제 실패 상태여야 합니다. " + status.name());
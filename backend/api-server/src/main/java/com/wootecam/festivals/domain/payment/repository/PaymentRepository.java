@@ -1,6 +1,8 @@
 package com.wootecam.festivals.domain.payment.repository;
 
 import com.wootecam.festivals.domain.payment.entity.Payment;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,4 +12,7 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     @Query("SELECT p FROM Payment p JOIN FETCH p.purchase WHERE p.paymentUuid = :paymentUuid ")
     Optional<Payment> findByPaymentUuidWithPurchase(@Param("paymentUuid") String paymentUuid);
+
+    @Query("SELECT p FROM Payment p JOIN FETCH p.purchase pu JOIN FETCH pu.ticket WHERE p.paymentUuid IN :paymentUuids ")
+    List<Payment> findAllByPaymentUuidInWithPurchase(@Param("paymentUuids") Collection<String> paymentUuids);
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.wootecam.festivals.domain.payment.repository;
+
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisChannelConstants.PAYMENT_STATUS_COMPLETED_CHANNEL;
+
+import com.wootecam.festivals.domain.payment.dto.CachedPaymentStatus;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    결제 상태 조회마다 DB 를 조회하지 않도록 결제 ID 별 구매 상태를 캐싱하는 Repository
+    결제 상태는 Hash 로 구현되며, 결제 상태 조회 화면이 닫힌 뒤에는 필요 없으므로 만료 시간을 설정합니다.
+    - key: payments:{paymentId}:status
+    - hashKey: status(구매 상태), handled(결제 결과 처리 완료 시 1)
+    결제 결과 처리 전의 구매 상태는 비어 있을 때만 저장하므로, 먼저 DB 에서 읽은 이전 상태가 결제 결과를 덮어쓰지 않습니다.
+    결제 결과 처리 알림을 놓치면 결제 결과 처리 전의 상태가 남으므로, 짧은 만료 시간을 두어 만료된 뒤에는 DB 에서 다시 읽도록 합니다.
+ */
+@Repository
+public class PaymentStatusRedisRepository extends RedisRepository {
+
+    /*
+        KEYS[1]: 결제 상태 key
+        ARGV[1]: 구매 상태, ARGV[2]: 만료 시간(초), ARGV[3]: 결제 완료 채널, ARGV[4]: 발행할 메시지
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'status', ARGV[1], 'handled', '1')
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('PUBLISH', ARGV[3], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /*
+        KEYS[1]: 결제 상태 key
+        ARGV[1]: 구매 상태, ARGV[2]: 만료 시간(초)
+     */
+    private static final RedisScript<Long> SAVE_IF_ABSENT_SCRIPT = RedisScript.of("""
+            if redis.call('HSETNX', KEYS[1], 'status', ARGV[1]) == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final long STATUS_TTL_SECONDS = 600;
+    private static final long PENDING_STATUS_TTL_SECONDS = 30;
+
+    public PaymentStatusRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    public Optional<CachedPaymentStatus> find(String paymentId) {
+        List<String> values = redisTemplate.<String, String>opsForHash()
+                .multiGet(createKey(paymentId), List.of("status", "handled"));
+        if (values == null || values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new CachedPaymentStatus(PurchaseStatus.valueOf(values.get(0)), values.get(1) != null));
+    }
+
+    /*
+        결제 결과 처리 전의 구매 상태를 저장하는 메소드, 이미 저장된 상태가 있다면 저장하지 않습니다.
+        결제 결과가 반영되지 않은 상태일 수 있으므로 짧게 캐싱합니다.
+     */
+    public void saveIfAbsent(String paymentId, PurchaseStatus purchaseStatus) {
+        redisTemplate.execute(SAVE_IF_ABSENT_SCRIPT, List.of(createKey(paymentId)), purchaseStatus.name(),
+                String.valueOf(PENDING_STATUS_TTL_SECONDS));
+    }
+
+    /*
+        결제 결과 처리 후의 구매 상태를 저장하고, 결제 상태를 기다리는 인스턴스에 알리는 메소드
+     */
+    public void complete(String paymentId, PurchaseStatus purchaseStatus) {
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(createKey(paymentId)), purchaseStatus.name(),
+                String.valueOf(STATUS_TTL_SECONDS), PAYMENT_STATUS_COMPLETED_CHANNEL,
+                paymentId + ":" + purchaseStatus.name());
+    }
+
+    /*
+        여러 결제의 결제 결과 처리 후 구매 상태를 한 번의 pipeline 으로 저장하고 알리는 메소드
+     */
+    public void completeAll(Map<String, PurchaseStatus> purchaseStatuses) {
+        if (purchaseStatuses.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                purchaseStatuses.forEach((paymentId, purchaseStatus) -> stringOperations.execute(COMPLETE_SCRIPT,
+                        List.of(createKey(paymentId)), purchaseStatus.name(), String.valueOf(STATUS_TTL_SECONDS),
+                        PAYMENT_STATUS_COMPLETED_CHANNEL, paymentId + ":" + purchaseStatus.name()));
+                return null;
+            }
+        });
+    }
+
+    /*
+        캐싱된 결제 상태를 삭제하는 메소드
+     */
+    public void delete(String paymentId) {
+        redisTemplate.delete(createKey(paymentId));
+    }
+
+    private String createKey(String paymentId) {
+        return PAYMENTS_PREFIX + paymentId + ":" + PAYMENT_STATUS_PREFIX;
+    }
+}
@@ -2,17 +2,13 @@ package com.wootecam.festivals.domain.payment.service;
 
 import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_KEY;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.payment.dto.PaymentRequest;
-import com.wootecam.festivals.global.exception.GlobalErrorCode;
-import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.domain.payment.dto.PaymentRequestCodec;
+import com.wootecam.festivals.global.event.EventBus;
+import com.wootecam.festivals.global.outbox.OutboxEventPublisher;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -20,29 +16,31 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PaymentRequestEventProducer {
 
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final EventBus eventBus;
+    private final OutboxEventPublisher outboxEventPublisher;
 
+    /**
+     * 결제 요청 이벤트를 현재 트랜잭션의 outbox 에 저장하고, 커밋된 뒤 발행합니다.
+     *
+     * @param paymentRequest 발행할 결제 요청
+     */
     public void sendPaymentEvent(PaymentRequest paymentRequest) {
-        log.info("Send payment event to redis: {}", paymentRequest);
-        try {
-            String paymentToJson = objectMapper.writeValueAsString(paymentRequest);
-
-            ObjectRecord<String, String> message = StreamRecords.newRecord()
-                    .ofObject(paymentToJson)
-                    .withStreamKey(PAYMENT_REQUEST_STREAM_KEY);
-
-            RecordId recordId = redisTemplate.opsForStream().add(message);
-
-            if (recordId == null) {
-                log.error("Failed to send payment event to stream");
-                throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
-            }
+        log.info("Send payment event to outbox: {}", paymentRequest);
+        outboxEventPublisher.publish(PAYMENT_REQUEST_STREAM_KEY, PaymentRequestCodec.INSTANCE.encode(paymentRequest));
+    }
 
-            log.info("Payment event sent to redis paymentId: {}", paymentRequest.paymentId());
-        } catch (JsonProcessingException e) {
-            log.error("Failed to send payment event to stream", e);
-            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, e);
-        }
+    /**
+     * 여러 결제 요청 이벤트를 한 번에 발행합니다.
+     * <p>
+     * 쓰기 지연 저장이 커밋한 뒤 호출하고 실패하면 구매 요청 기록으로 다시 발행하므로, outbox 를 거치지 않고 바로 발행합니다.
+     * </p>
+     *
+     * @param paymentRequests 발행할 결제 요청
+     */
+    public void sendPaymentEvents(List<PaymentRequest> paymentRequests) {
+        eventBus.publishAll(PAYMENT_REQUEST_STREAM_KEY, paymentRequests.stream()
+                .map(PaymentRequestCodec.INSTANCE::encode)
+                .toList());
+        log.info("Payment events sent count: {}", paymentRequests.size());
     }
 }
@@ -6,27 +6,35 @@ import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamC
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.payment.dto.PaymentResult;
+import com.wootecam.festivals.domain.payment.dto.PaymentResultCodec;
 import com.wootecam.festivals.domain.payment.entity.Payment;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
 import com.wootecam.festivals.domain.payment.repository.PaymentRepository;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine.Subscription;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions.AckMode;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.DependsOn;
-import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.ReadOffset;
-import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
-import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -36,25 +44,37 @@ import org.springframework.stereotype.Component;
 public class PaymentResultConsumer implements StreamListener<String, ObjectRecord<String, String>>,
         InitializingBean, DisposableBean {
 
+    @Value("${payment.result.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${payment.result.batch.size:100}")
+    private int batchSize;
+
+    @Value("${payment.result.batch.poll-timeout-millis:2000}")
+    private long pollTimeoutMillis;
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final StreamConsumerEngine streamConsumerEngine;
 
     private Subscription subscription;
-    private StreamMessageListenerContainer<String, ObjectRecord<String, String>> container;
 
     private final PaymentResultService paymentResultService;
+    private final PaymentStatusRedisRepository paymentStatusRedisRepository;
 
     @Override
     public void onMessage(ObjectRecord<String, String> message) {
         log.debug("Received Payment Result Message: {}", message);
 
         try {
-            PaymentResult paymentResult = objectMapper.readValue(message.getValue(), PaymentResult.class);
+            PaymentResult paymentResult = readPaymentResult(message.getValue());
 
             String paymentId = paymentResult.paymentId();
             PaymentStatus status = paymentResult.status();
 
-            paymentResultService.handlePaymentStatus(paymentId, status);
+            PurchaseStatus purchaseStatus = paymentResultService.handlePaymentStatus(paymentId, status);
+            // 커밋된 결제 결과만 캐싱하고, 결제 상태를 기다리는 요청에 알립니다.
+            paymentStatusRedisRepository.complete(paymentId, purchaseStatus);
 
             log.debug("결제 후속 작업 완료: paymentId={}, status={}", paymentId, status);
         } catch (RuntimeException | JsonProcessingException e) {
@@ -64,37 +84,106 @@ public class PaymentResultConsumer implements StreamListener<String, ObjectRecor
     }
 
     /**
-     * Bean 초기화 이후(프로퍼티 주입 완료 후)에 실행되는 메서드 Redis Stream Listener Container를 생성하고 구독(Subscription)을 시작한다.
+     * 한 번에 읽은 결제 결과 메시지를 일괄 처리합니다.
+     * <p>
+     * 결제 결과를 하나의 트랜잭션에서 반영하고, 처리한 메시지를 한 번의 XACK 으로 확인합니다. 일괄 처리에 실패하면 한 건씩 다시 처리해 처리할 수 있는
+     * 메시지만 확인하며, 확인하지 못한 메시지는 Pending 상태로 남습니다. 역직렬화할 수 없는 메시지는 다시 읽어도 처리할 수 없으므로 확인합니다.
+     * </p>
+     *
+     * @param messages 결제 결과 메시지 목록
+     */
+    public void onMessages(List<ObjectRecord<String, String>> messages) {
+        log.debug("Received Payment Result Messages: {}건", messages.size());
+
+        Map<RecordId, PaymentResult> paymentResults = new LinkedHashMap<>();
+        List<RecordId> handledRecordIds = new ArrayList<>();
+        for (ObjectRecord<String, String> message : messages) {
+            try {
+                paymentResults.put(message.getId(), readPaymentResult(message.getValue()));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                log.error("[onMessages] 결제 스트림 메시지 역직렬화 실패 - recordId: {}", message.getId(), e);
+                handledRecordIds.add(message.getId());
+            }
+        }
+
+        if (!paymentResults.isEmpty()) {
+            handledRecordIds.addAll(handlePaymentResults(paymentResults));
+        }
+        acknowledge(handledRecordIds);
+    }
+
+    // 바이너리 형식을 사용하기 전에 발행한 JSON 메시지도 처리합니다.
+    private PaymentResult readPaymentResult(String payload) throws JsonProcessingException {
+        if (BinaryPayloadCodec.isBinary(payload)) {
+            return PaymentResultCodec.INSTANCE.decode(payload);
+        }
+        return objectMapper.readValue(payload, PaymentResult.class);
+    }
+
+    private List<RecordId> handlePaymentResults(Map<RecordId, PaymentResult> paymentResults) {
+        Map<String, PurchaseStatus> purchaseStatuses;
+        try {
+            purchaseStatuses = paymentResultService.handlePaymentStatuses(new ArrayList<>(paymentResults.values()));
+        } catch (RuntimeException e) {
+            log.error("[onMessages] 결제 결과 일괄 처리 실패, 한 건씩 다시 처리합니다. - {}건", paymentResults.size(), e);
+            return handleEach(paymentResults);
+        }
+
+        try {
+            // 커밋된 결제 결과만 캐싱하고, 결제 상태를 기다리는 요청에 알립니다.
+            paymentStatusRedisRepository.completeAll(purchaseStatuses);
+        } catch (RuntimeException e) {
+            log.error("[onMessages] 결제 상태 캐싱 실패 - {}건", purchaseStatuses.size(), e);
+        }
+        log.debug("결제 후속 작업 완료 - {}건", purchaseStatuses.size());
+        return new ArrayList<>(paymentResults.keySet());
+    }
+
+    private List<RecordId> handleEach(Map<RecordId, PaymentResult> paymentResults) {
+        List<RecordId> handledRecordIds = new ArrayList<>();
+        paymentResults.forEach((recordId, paymentResult) -> {
+            try {
+                PurchaseStatus purchaseStatus = paymentResultService.handlePaymentStatus(paymentResult.paymentId(),
+                        paymentResult.status());
+                paymentStatusRedisRepository.complete(paymentResult.paymentId(), purchaseStatus);
+                handledRecordIds.add(recordId);
+            } catch (RuntimeException e) {
+                log.error("[onMessages] 결제 결과 처리 실패 - paymentId: {}", paymentResult.paymentId(), e);
+            }
+        });
+        return handledRecordIds;
+    }
+
+    private void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForStream().acknowledge(PAYMENT_RESULT_STREAM_KEY, PAYMENT_RESULT_STREAM_GROUP,
+                recordIds.toArray(RecordId[]::new));
+    }
+
+    /**
+     * Bean 초기화 이후(프로퍼티 주입 완료 후)에 실행되는 메서드 결제 결과 스트림 구독을 시작한다.
+     * 일괄 처리 모드라면 결제 결과 메시지를 묶어서 전달받고, 처리한 메시지만 직접 확인한다.
      */
     @Override
     public void afterPropertiesSet() throws Exception {
         log.info("Starting PaymentResultConsumer...");
 
-        // 1) StreamMessageListenerContainer 생성
-        this.container = StreamMessageListenerContainer.create(
-                Objects.requireNonNull(this.redisTemplate.getConnectionFactory()),
-                StreamMessageListenerContainer
-                        .StreamMessageListenerContainerOptions.builder()
-                        .targetType(String.class)
-                        .pollTimeout(Duration.ofSeconds(5))
-                        .batchSize(10)
-                        .build()
-        );
-
-        // 2) Consumer 등록 & 구독 시작
-        this.subscription = this.container.receive(
-                Consumer.from(PAYMENT_RESULT_STREAM_GROUP, "consumer-" + System.currentTimeMillis()),
-                StreamOffset.create(PAYMENT_RESULT_STREAM_KEY, ReadOffset.lastConsumed()),
-                this
-        );
-
-        this.subscription.await(Duration.ofMillis(20));
-
-        this.container.start();
-
-        if (this.container.isRunning()) {
-            log.info("PaymentResultConsumer is running...");
+        StreamConsumerOptions.StreamConsumerOptionsBuilder options = StreamConsumerOptions.builder()
+                .streamKey(PAYMENT_RESULT_STREAM_KEY)
+                .groupName(PAYMENT_RESULT_STREAM_GROUP);
+        if (batchEnabled) {
+            this.subscription = streamConsumerEngine.subscribeBatch(options
+                    .batchSize(batchSize)
+                    .pollTimeout(Duration.ofMillis(pollTimeoutMillis))
+                    .ackMode(AckMode.MANUAL)
+                    .build(), this::onMessages);
+            log.info("PaymentResultConsumer is running in batch mode... batchSize: {}", batchSize);
+            return;
         }
+
+        this.subscription = streamConsumerEngine.subscribe(options.build(), this);
     }
 
     /**
@@ -107,8 +196,5 @@ public class PaymentResultConsumer implements StreamListener<String, ObjectRecor
         if (this.subscription != null) {
             this.subscription.cancel();
         }
-        if (this.container != null) {
-            this.container.stop();
-        }
     }
 }
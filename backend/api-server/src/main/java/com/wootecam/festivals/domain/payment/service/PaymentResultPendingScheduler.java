@@ -0,0 +1,25 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_RESULT_STREAM_GROUP;
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_RESULT_STREAM_KEY;
+
+import com.wootecam.festivals.global.utils.RedisStreamRecoveryEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentResultPendingScheduler {
+
+    private final RedisStreamRecoveryEngine redisStreamRecoveryEngine;
+    private final PaymentResultConsumer paymentResultConsumer;
+
+    @Scheduled(fixedRate = 60000)
+    public void processPaymentResultPendingMessage() {
+        redisStreamRecoveryEngine.recover(PAYMENT_RESULT_STREAM_KEY, PAYMENT_RESULT_STREAM_GROUP,
+                paymentResultConsumer);
+    }
+}
@@ -1,11 +1,21 @@
 package com.wootecam.festivals.domain.payment.service;
 
+import com.wootecam.festivals.domain.checkin.dto.PendingCheckin;
+import com.wootecam.festivals.domain.checkin.repository.CheckinJdbcRepository;
 import com.wootecam.festivals.domain.checkin.service.CheckinService;
+import com.wootecam.festivals.domain.payment.dto.PaymentResult;
 import com.wootecam.festivals.domain.payment.entity.Payment;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
 import com.wootecam.festivals.domain.payment.repository.PaymentRepository;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.domain.purchase.service.CompensationService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +29,7 @@ public class PaymentResultService {
     private final CompensationService compensationService;
     private final CheckinService checkinService;
     private final PaymentRepository paymentRepository;
+    private final CheckinJdbcRepository checkinJdbcRepository;
 
     /**
      * 결제 상태에 따라 Payment 상태 변경, 성공한 경우 연관된 Purchase 엔티티의 결제 상태를 변경, Checkin 엔티티를 추가합니다.
@@ -26,25 +37,101 @@ public class PaymentResultService {
      * 주어진 결제 UUID를 기반으로 Payment 엔티티를 조회한 후, 해당 Payment와 연관된 Purchase 엔티티를 가져옵니다.
      * 이후 {@code status}에 따라 성공(SUCCESS)인 경우 결제 성공 처리, 실패(FAILED_SERVER, FAILED_CLIENT)인 경우 결제 실패 처리 메서드를 호출합니다.
      * 결제 성공인 경우 CheckinService를 통해 Checkin 엔티티를 생성합니다.
+     * 결제 결과 메시지가 다시 전달되어 이미 결제 결과가 반영된 결제라면, 재고를 중복 복구하지 않도록 반영하지 않고 현재 구매 상태를 반환합니다.
      * </p>
      *
      * @param paymentId 결제 UUID (비즈니스 식별자)
      * @param status    결제 상태 (예: SUCCESS, FAILED_SERVER, FAILED_CLIENT)
+     * @return 결제 결과를 반영한 구매 상태
      * @throws RuntimeException 결제 정보를 찾지 못한 경우 예외 발생
      */
     @Transactional
-    public void handlePaymentStatus(String paymentId, PaymentStatus status) {
+    public PurchaseStatus handlePaymentStatus(String paymentId, PaymentStatus status) {
         Payment payment = paymentRepository.findByPaymentUuidWithPurchase(paymentId)
                 .orElseThrow(() -> {
                     log.error("결제 정보를 찾을 수 없습니다. paymentId: {}", paymentId);
                     return new RuntimeException("결제 정보를 찾을 수 없습니다. paymentId: " + paymentId);
                 });
         Purchase purchase = payment.getPurchase();
+        if (payment.isCompleted()) {
+            log.warn("이미 결제 결과가 반영된 결제입니다. paymentId: {}, status: {}", paymentId, payment.getPaymentStatus());
+            return purchase.getPurchaseStatus();
+        }
 
         switch (status) {
             case SUCCESS -> processPaymentSuccess(payment, purchase);
             case FAILED_SERVER, FAILED_CLIENT -> processPaymentFail(payment, status, purchase);
         }
+        return purchase.getPurchaseStatus();
+    }
+
+    /**
+     * 여러 결제 결과를 하나의 트랜잭션에서 반영합니다.
+     * <p>
+     * 결제 정보를 하나의 IN 조회로 가져온 뒤 결제 상태를 반영하고, 결제에 성공한 구매의 체크인은 이미 저장된 체크인을 제외하고 JDBC batch 로 저장합니다.
+     * 변경 감지된 Payment, Purchase 의 UPDATE 는 hibernate.jdbc.batch_size 단위로 묶여 커밋 시 전송됩니다.
+     * 같은 결제 ID 의 결제 결과가 여러 번 주어지면 마지막 결제 결과를 반영합니다.
+     * 이미 결제 결과가 반영된 결제는 재고를 중복 복구하지 않도록 반영하지 않고 현재 구매 상태를 반환합니다.
+     * </p>
+     *
+     * @param paymentResults 결제 결과 목록
+     * @return 결제 ID 별 결제 결과를 반영한 구매 상태
+     * @throws RuntimeException 결제 정보를 찾지 못한 결제 ID 가 있는 경우 예외 발생
+     */
+    @Transactional
+    public Map<String, PurchaseStatus> handlePaymentStatuses(List<PaymentResult> paymentResults) {
+        Map<String, PaymentStatus> statuses = new LinkedHashMap<>();
+        paymentResults.forEach(paymentResult -> statuses.put(paymentResult.paymentId(), paymentResult.status()));
+
+        List<Payment> payments = paymentRepository.findAllByPaymentUuidInWithPurchase(statuses.keySet());
+        if (payments.size() != statuses.size()) {
+            Set<String> found = payments.stream().map(Payment::getPaymentUuid).collect(Collectors.toSet());
+            List<String> missing = statuses.keySet().stream().filter(paymentId -> !found.contains(paymentId)).toList();
+            log.error("결제 정보를 찾을 수 없습니다. paymentIds: {}", missing);
+            throw new RuntimeException("결제 정보를 찾을 수 없습니다. paymentIds: " + missing);
+        }
+
+        Map<String, PurchaseStatus> purchaseStatuses = new LinkedHashMap<>();
+        List<PendingCheckin> checkins = new ArrayList<>();
+        for (Payment payment : payments) {
+            Purchase purchase = payment.getPurchase();
+            if (payment.isCompleted()) {
+                log.warn("이미 결제 결과가 반영된 결제입니다. paymentId: {}, status: {}", payment.getPaymentUuid(),
+                        payment.getPaymentStatus());
+                purchaseStatuses.put(payment.getPaymentUuid(), purchase.getPurchaseStatus());
+                continue;
+            }
+
+            PaymentStatus status = statuses.get(payment.getPaymentUuid());
+            switch (status) {
+                case SUCCESS -> {
+                    payment.success();
+                    checkins.add(new PendingCheckin(purchase.getTicket().getFestival().getId(),
+                            purchase.getMember().getId(), purchase.getTicket().getId()));
+                }
+                case FAILED_SERVER, FAILED_CLIENT -> processPaymentFail(payment, status, purchase);
+            }
+            purchaseStatuses.put(payment.getPaymentUuid(), purchase.getPurchaseStatus());
+        }
+        savePendingCheckins(checkins);
+        return purchaseStatuses;
+    }
+
+    // 스트림 메시지가 다시 전달되어도 체크인이 중복 저장되지 않도록 이미 저장된 체크인은 제외합니다.
+    private void savePendingCheckins(List<PendingCheckin> checkins) {
+        Set<PendingCheckin> saved = checkinJdbcRepository.findSavedCheckins(checkins);
+        if (!saved.isEmpty()) {
+            log.warn("이미 저장된 체크인 정보가 존재합니다. checkins={}", saved);
+        }
+        List<PendingCheckin> newCheckins = checkins.stream()
+                .distinct()
+                .filter(checkin -> !saved.contains(checkin))
+                .toList();
+        if (newCheckins.isEmpty()) {
+            return;
+        }
+        checkinJdbcRepository.saveCheckins(newCheckins);
+        log.debug("체크인 정보 저장 - {}건", newCheckins.size());
     }
 
     /**
@@ -0,0 +1,104 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import com.wootecam.festivals.domain.payment.dto.CachedPaymentStatus;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 결과 처리가 끝나기를 기다리는 요청에 결제 상태를 전달하는 서비스
+ * <p>
+ * 결제 결과는 어느 인스턴스에서든 처리될 수 있으므로, 결제 결과를 처리한 인스턴스가 payment-status-completed-channel 로 발행한 메시지를 받아 이
+ * 인스턴스에서 기다리는 요청에 전달합니다. 기다리기 시작하기 전에 처리가 끝난 결제는 캐싱된 결제 상태로 바로 전달하며, 콜백은 한 번만 호출합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PaymentStatusWatchService implements MessageListener {
+
+    private final PaymentStatusRedisRepository paymentStatusRedisRepository;
+    private final Map<String, Set<Consumer<PurchaseStatus>>> watchers = new ConcurrentHashMap<>();
+
+    @Getter
+    private final long timeoutMillis;
+
+    public PaymentStatusWatchService(PaymentStatusRedisRepository paymentStatusRedisRepository,
+                                     @Value("${payment.status.long-poll-timeout-millis:10000}") long timeoutMillis) {
+        this.paymentStatusRedisRepository = paymentStatusRedisRepository;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 결제 결과 처리가 끝나면 구매 상태를 전달받도록 등록합니다.
+     *
+     * @param paymentId 결제 ID
+     * @param callback  구매 상태를 전달받을 콜백
+     * @return 등록을 취소하는 Runnable
+     */
+    public Runnable watch(String paymentId, Consumer<PurchaseStatus> callback) {
+        Optional<CachedPaymentStatus> cached = paymentStatusRedisRepository.find(paymentId);
+        if (cached.isPresent() && cached.get().isCompleted()) {
+            callback.accept(cached.get().purchaseStatus());
+            return () -> {
+            };
+        }
+
+        watchers.compute(paymentId, (id, callbacks) -> {
+            Set<Consumer<PurchaseStatus>> registered = callbacks == null ? new HashSet<>() : callbacks;
+            registered.add(callback);
+            return registered;
+        });
+
+        // 처음 조회한 뒤 등록하기 전에 처리가 끝나 메시지를 놓쳤다면 캐싱된 결제 상태로 전달합니다.
+        cached = paymentStatusRedisRepository.find(paymentId);
+        if (cached.isPresent() && cached.get().isCompleted() && unwatch(paymentId, callback)) {
+            callback.accept(cached.get().purchaseStatus());
+        }
+        return () -> unwatch(paymentId, callback);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 결제 상태 메시지입니다. - body: {}", body);
+            return;
+        }
+
+        String paymentId = body.substring(0, separator);
+        Set<Consumer<PurchaseStatus>> callbacks = watchers.remove(paymentId);
+        if (callbacks == null) {
+            return;
+        }
+
+        try {
+            PurchaseStatus purchaseStatus = PurchaseStatus.valueOf(body.substring(separator + 1));
+            callbacks.forEach(callback -> callback.accept(purchaseStatus));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 결제 상태 메시지입니다. - body: {}", body);
+        }
+    }
+
+    private boolean unwatch(String paymentId, Consumer<PurchaseStatus> callback) {
+        AtomicBoolean removed = new AtomicBoolean();
+        watchers.computeIfPresent(paymentId, (id, callbacks) -> {
+            removed.set(callbacks.remove(callback));
+            return callbacks.isEmpty() ? null : callbacks;
+        });
+        return removed.get();
+    }
+}
@@ -1,17 +1,24 @@
 package com.wootecam.festivals.domain.purchase.controller;
 
+import static com.wootecam.festivals.global.constants.AdmissionTokenConstants.ADMISSION_TOKEN_HEADER;
+
+import com.wootecam.festivals.domain.payment.service.PaymentStatusWatchService;
 import com.wootecam.festivals.domain.purchase.dto.PaymentIdResponse;
 import com.wootecam.festivals.domain.purchase.dto.PaymentStatusResponse;
 import com.wootecam.festivals.domain.purchase.dto.PurchasableResponse;
 import com.wootecam.festivals.domain.purchase.dto.PurchasePreviewInfoResponse;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.domain.purchase.service.CheckoutMetricsRecorder;
 import com.wootecam.festivals.domain.purchase.service.PurchaseFacadeService;
 import com.wootecam.festivals.domain.purchase.service.PurchaseService;
 import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
 import com.wootecam.festivals.global.api.ApiResponse;
+import com.wootecam.festivals.global.auth.AdmissionToken;
+import com.wootecam.festivals.global.auth.AdmissionTokenVerifier;
 import com.wootecam.festivals.global.auth.AuthUser;
 import com.wootecam.festivals.global.auth.Authentication;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
+import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.domain.purchase.dto.PurchaseData;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +27,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * 티켓 구매 관련 API를 처리하는 컨트롤러
@@ -36,26 +45,47 @@ public class PurchaseController {
     private final PurchaseFacadeService purchaseFacadeService;
     private final PurchaseService purchaseService;
     private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final CheckoutMetricsRecorder checkoutMetricsRecorder;
+    private final AdmissionTokenVerifier admissionTokenVerifier;
+    private final PaymentStatusWatchService paymentStatusWatchService;
 
     /**
      * 티켓 구매 가능 여부 확인 API
+     * <p>
+     * 대기열을 거치지 않은 요청이 구매 세션 발급까지 도달하지 않도록, DB 조회 전에 대기열 서버가 발급한 입장 토큰을 먼저 검증합니다.
      *
      * @param festivalId
      * @param ticketId
      * @param authentication
+     * @param admissionToken 대기열 통과 시 발급받은 입장 토큰
      * @return 티켓 구매 가능 여부 응답
      */
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("/check")
     public ApiResponse<PurchasableResponse> checkPurchasable(@PathVariable Long festivalId,
                                                              @PathVariable Long ticketId,
-                                                             @AuthUser Authentication authentication) {
+                                                             @AuthUser Authentication authentication,
+                                                             @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false)
+                                                             String admissionToken) {
         Long requestMemberId = authentication.memberId();
         log.debug("티켓 구매 가능 여부 확인 - 유저 ID: {}, 축제 ID: {}, 티켓 ID: {}", requestMemberId, festivalId, ticketId);
-        PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticketId, requestMemberId,
-                LocalDateTime.now());
+        AdmissionToken verifiedToken = admissionTokenVerifier.verify(admissionToken, ticketId, requestMemberId);
+        if (purchaseService.isSoldOut(ticketId)) {
+            return ApiResponse.of(new PurchasableResponse(false, null));
+        }
+
+        long startTime = System.currentTimeMillis();
+        boolean sessionIssued = false;
+        try {
+            PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticketId, requestMemberId,
+                    LocalDateTime.now(), verifiedToken);
+            sessionIssued = purchasableResponse.purchasable();
 
-        return ApiResponse.of(purchasableResponse);
+            return ApiResponse.of(purchasableResponse);
+        } finally {
+            // 대기열 서버가 입장 속도를 조절할 수 있도록 처리 시간과 구매 세션 발급 여부를 모아 주기적으로 기록합니다.
+            checkoutMetricsRecorder.record(ticketId, System.currentTimeMillis() - startTime, sessionIssued);
+        }
     }
 
     /**
@@ -122,4 +152,45 @@ public class PurchaseController {
 
         return ApiResponse.of(new PaymentStatusResponse(paymentStatus));
     }
+
+    /**
+     * 결제 상태 대기 API (long-poll)
+     * <p>
+     * 결제 결과 처리가 끝날 때까지 응답을 보류하고, 처리가 끝나면 바로 결제 상태를 반환합니다. 응답을 보류하는 동안 요청 스레드를 반환하므로 톰캣 스레드를 점유하지
+     * 않으며, payment.status.long-poll-timeout-millis 가 지나면 DB 에서 조회한 현재 결제 상태를 반환합니다.
+     *
+     * @param festivalId
+     * @param ticketId
+     * @param paymentId
+     * @param authentication
+     * @return 결제 상태 응답
+     */
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/{paymentId}/status/long-poll")
+    public DeferredResult<ApiResponse<PaymentStatusResponse>> awaitPaymentStatus(@PathVariable Long festivalId,
+                                                                                 @PathVariable Long ticketId,
+                                                                                 @PathVariable String paymentId,
+                                                                                 @AuthUser Authentication authentication) {
+        log.debug("결제 상태 대기 - 축제 ID: {}, 티켓 ID: {}, 회원 ID: {}, 결제 ID: {}",
+                festivalId, ticketId, authentication.memberId(), paymentId);
+        // 존재하지 않는 결제라면 기다리지 않고 예외를 던지며, 결제 상태를 캐싱합니다.
+        purchaseFacadeService.getPaymentStatus(paymentId);
+
+        DeferredResult<ApiResponse<PaymentStatusResponse>> result = new DeferredResult<>(
+                paymentStatusWatchService.getTimeoutMillis());
+        result.onTimeout(() -> {
+            try {
+                // 결제 결과 처리 알림을 놓쳤을 수 있으므로 결제 결과 처리 전의 캐시 대신 DB 에서 조회합니다.
+                result.setResult(ApiResponse.of(new PaymentStatusResponse(
+                        purchaseFacadeService.refreshPaymentStatus(paymentId))));
+            } catch (ApiException e) {
+                result.setErrorResult(e);
+            }
+        });
+        Runnable unwatch = paymentStatusWatchService.watch(paymentId,
+                status -> result.setResult(ApiResponse.of(new PaymentStatusResponse(status))));
+        result.onCompletion(unwatch);
+
+        return result;
+    }
 }
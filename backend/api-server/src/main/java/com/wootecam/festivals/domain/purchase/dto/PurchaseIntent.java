@@ -0,0 +1,16 @@
+package com.wootecam.festivals.domain.purchase.dto;
+
+import java.time.LocalDateTime;
+
+/*
+    저장을 기다리는 구매 요청
+    구매 내역과 결제 내역은 쓰기 지연 단계에서 이 정보로 한 번에 저장됩니다.
+ */
+public record PurchaseIntent(String paymentId, Long memberId, Long ticketId, Long ticketStockId,
+                             LocalDateTime purchaseTime) {
+
+    public static PurchaseIntent of(String paymentId, PurchaseData purchaseData, LocalDateTime purchaseTime) {
+        return new PurchaseIntent(paymentId, purchaseData.memberId(), purchaseData.ticketId(),
+                purchaseData.ticketStockId(), purchaseTime);
+    }
+}
@@ -3,13 +3,12 @@ package com.wootecam.festivals.domain.purchase.entity;
 import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.global.audit.BaseEntity;
+import com.wootecam.festivals.global.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -28,7 +27,7 @@ import lombok.NoArgsConstructor;
 public class Purchase extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "purchase_id")
     private Long id;
 
@@ -13,6 +13,7 @@ public enum PurchaseErrorCode implements ErrorCode, EnumType {
     PURCHASE_NOT_FOUND(HttpStatus.NOT_FOUND, "TK-0003", "구매 내역을 찾을 수 없습니다."),
     PURCHASE_SESSION_EXPIRED(HttpStatus.FORBIDDEN, "TK-0004", "유효한 구매 세션이 아닙니다."),
     INVALID_PURCHASE_SESSION(HttpStatus.UNAUTHORIZED, "TK-0005", "티켓 구매 권한이 유효하지 않습니다."),
+    INVALID_ADMISSION_TOKEN(HttpStatus.FORBIDDEN, "TK-0006", "대기열 통과 이력이 유효하지 않습니다."),
     ;
 
     private final HttpStatus httpStatus;
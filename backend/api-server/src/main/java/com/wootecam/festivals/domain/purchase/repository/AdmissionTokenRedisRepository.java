@@ -0,0 +1,34 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import com.wootecam.festivals.global.auth.AdmissionToken;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+    구매 세션을 발급받은 입장 토큰을 기록하여 같은 입장 토큰으로 구매 세션을 다시 발급받지 못하도록 하는 Repository
+    - key: admission-tokens:used:{tokenId}
+    - value: 구매 세션을 발급받은 회원 ID
+    만료된 입장 토큰은 검증을 통과하지 못하므로, 토큰이 만료될 때까지만 기록합니다.
+ */
+@Repository
+public class AdmissionTokenRedisRepository extends RedisRepository {
+
+    private static final String USED_ADMISSION_TOKEN_PREFIX = "admission-tokens:used:";
+
+    public AdmissionTokenRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /*
+        입장 토큰을 사용한 토큰으로 기록하는 메소드, 처음 기록했다면 true 를, 이미 사용한 토큰이라면 false 를 반환합니다.
+     */
+    public boolean markUsed(AdmissionToken admissionToken, Long memberId) {
+        Duration ttl = Duration.between(Instant.now(), admissionToken.expiresAt());
+        Boolean firstUse = redisTemplate.opsForValue().setIfAbsent(USED_ADMISSION_TOKEN_PREFIX + admissionToken.id(),
+                String.valueOf(memberId), ttl.isNegative() || ttl.isZero() ? Duration.ofMillis(1) : ttl);
+        return Boolean.TRUE.equals(firstUse);
+    }
+}
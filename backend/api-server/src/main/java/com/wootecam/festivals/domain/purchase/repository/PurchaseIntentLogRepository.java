@@ -0,0 +1,318 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.purchase.dto.PurchaseIntent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/*
+    저장을 기다리는 구매 요청을 로컬 파일에 순서대로 기록하는 Repository
+    - I {구매 요청 json} : 접수한 구매 요청
+    - F {결제 ID} : DB 저장과 결제 요청 발행까지 끝난 구매 요청
+    프로세스가 비정상 종료되면 재시작 시 F 로 기록되지 않은 구매 요청을 복구합니다.
+    기록은 OS 버퍼까지 쓰므로 프로세스 장애에는 안전하지만, 장비 장애에 대비하려면 fsync 를 활성화해야 합니다.
+    fsync 는 기록마다 하지 않고 모아서 합니다. 한 스레드가 디스크에 쓰는 동안 다른 스레드는 기록을 OS 버퍼에 쓰고 기다리며,
+    쓰기가 끝나면 기다리던 스레드 중 하나가 그 사이 쌓인 기록을 한 번에 디스크에 쓰고, 그 기록을 남긴 스레드를 모두 반환합니다.
+    F 기록은 디스크에 쓰일 때까지 기다리지 않습니다. 장비 장애로 잃으면 재시작 시 다시 저장하며, 이미 저장된 구매 요청은 중복으로 확인됩니다.
+    컨테이너를 다시 만들어도 기록이 남도록 기록 파일은 볼륨에 마운트된 절대 경로에 두어야 합니다.
+    저장이 끝나 필요 없는 기록이 compact-bytes 보다 커지면, 저장을 기다리는 구매 요청만 새 파일에 쓰고 기록 파일을 교체합니다.
+ */
+@Slf4j
+@Repository
+public class PurchaseIntentLogRepository implements DisposableBean {
+
+    private static final String INTENT_PREFIX = "I ";
+    private static final String FLUSHED_PREFIX = "F ";
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final boolean fsync;
+    private final long compactBytes;
+
+    // 아래 필드는 this 로 잠급니다.
+    private final Map<String, byte[]> pendingRecords = new LinkedHashMap<>();
+    private FileChannel channel;
+    private long writtenBytes;
+    private long pendingBytes;
+    private long writtenSequence;
+
+    // 아래 필드는 syncLock 으로 잠급니다. this 를 잠근 채 syncLock 을 잠글 수 있지만, 반대 순서로는 잠그지 않습니다.
+    private final Object syncLock = new Object();
+    private long syncedSequence;
+    private boolean syncing;
+
+    public PurchaseIntentLogRepository(ObjectMapper objectMapper,
+                                       @Value("${purchase.write-behind.log-path:}") String path,
+                                       @Value("${purchase.write-behind.fsync:false}") boolean fsync,
+                                       @Value("${purchase.write-behind.compact-bytes:10485760}") long compactBytes) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+        this.fsync = fsync;
+        this.compactBytes = compactBytes;
+    }
+
+    /*
+        기록 파일 경로가 절대 경로인지 확인합니다. 상대 경로는 작업 디렉터리에 따라 위치가 바뀌어 재시작 시 복구할 수 없습니다.
+     */
+    public void validatePath() {
+        if (!path.isAbsolute()) {
+            throw new IllegalStateException(
+                    "purchase.write-behind.log-path 는 볼륨에 마운트된 절대 경로여야 합니다. log-path: " + path);
+        }
+    }
+
+    /*
+        구매 요청을 기록합니다. fsync 를 활성화했다면 다른 스레드의 기록과 함께 디스크에 쓴 뒤 반환합니다.
+     */
+    public void append(PurchaseIntent intent) {
+        byte[] record = toIntentRecord(intent);
+        long sequence;
+        synchronized (this) {
+            sequence = write(record);
+            byte[] previous = pendingRecords.put(intent.paymentId(), record);
+            pendingBytes += record.length - (previous == null ? 0 : previous.length);
+        }
+        awaitSync(sequence);
+    }
+
+    /*
+        저장이 끝난 구매 요청을 기록하고, 저장이 끝나 필요 없는 기록이 compact-bytes 보다 크다면 기록 파일을 정리합니다.
+     */
+    public synchronized void markFlushed(Collection<String> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return;
+        }
+        for (String paymentId : paymentIds) {
+            write(toRecord(FLUSHED_PREFIX + paymentId));
+            byte[] record = pendingRecords.remove(paymentId);
+            if (record != null) {
+                pendingBytes -= record.length;
+            }
+        }
+        if (writtenBytes - pendingBytes > compactBytes) {
+            rewrite();
+            log.debug("구매 요청 기록 파일 정리 - {}", path);
+        }
+    }
+
+    /*
+        저장이 끝나지 않은 구매 요청을 기록 순서대로 반환하고, 반환한 구매 요청만 남도록 파일을 다시 씁니다.
+     */
+    public synchronized List<PurchaseIntent> recover() {
+        close();
+        Map<String, PurchaseIntent> intents = new LinkedHashMap<>();
+        try {
+            if (Files.exists(path)) {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    readLine(line, intents);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("구매 요청 기록 파일을 읽을 수 없습니다. " + path, e);
+        }
+
+        pendingRecords.clear();
+        pendingBytes = 0;
+        for (PurchaseIntent intent : intents.values()) {
+            byte[] record = toIntentRecord(intent);
+            pendingRecords.put(intent.paymentId(), record);
+            pendingBytes += record.length;
+        }
+        rewrite();
+        return new ArrayList<>(intents.values());
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+    }
+
+    private void readLine(String line, Map<String, PurchaseIntent> intents) {
+        try {
+            if (line.startsWith(INTENT_PREFIX)) {
+                PurchaseIntent intent = objectMapper.readValue(line.substring(INTENT_PREFIX.length()),
+                        PurchaseIntent.class);
+                intents.put(intent.paymentId(), intent);
+            } else if (line.startsWith(FLUSHED_PREFIX)) {
+                intents.remove(line.substring(FLUSHED_PREFIX.length()));
+            }
+        } catch (JsonProcessingException e) {
+            // 기록 중 종료되어 마지막 줄이 잘린 경우
+            log.warn("읽을 수 없는 구매 요청 기록을 건너뜁니다. - {}", line);
+        }
+    }
+
+    private byte[] toIntentRecord(PurchaseIntent intent) {
+        try {
+            return toRecord(INTENT_PREFIX + objectMapper.writeValueAsString(intent));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("구매 요청을 기록할 수 없습니다. paymentId: " + intent.paymentId(), e);
+        }
+    }
+
+    private byte[] toRecord(String line) {
+        return (line + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 기록을 OS 버퍼까지 쓰고, 디스크에 쓰였는지 확인할 기록 순번을 반환합니다.
+    private long write(byte[] record) {
+        if (channel == null) {
+            open();
+        }
+        try {
+            writeFully(channel, record);
+            writtenBytes += record.length;
+            return ++writtenSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("구매 요청을 기록할 수 없습니다. " + path, e);
+        }
+    }
+
+    private void writeFully(FileChannel target, byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    /*
+        sequence 번째 기록까지 디스크에 쓰일 때까지 기다립니다.
+        다른 스레드가 디스크에 쓰고 있다면 끝날 때까지 기다리고, 그래도 쓰이지 않았다면 그 사이 쌓인 기록을 직접 디스크에 씁니다.
+     */
+    private void awaitSync(long sequence) {
+        if (!fsync) {
+            return;
+        }
+
+        boolean interrupted = false;
+        try {
+            while (true) {
+                synchronized (syncLock) {
+                    while (syncing && syncedSequence < sequence) {
+                        try {
+                            syncLock.wait();
+                        } catch (InterruptedException e) {
+                            // 기록은 이미 파일에 썼으므로, 디스크에 쓰일 때까지 기다린 뒤 인터럽트 상태를 되돌립니다.
+                            interrupted = true;
+                        }
+                    }
+                    if (syncedSequence >= sequence) {
+                        return;
+                    }
+                    syncing = true;
+                }
+                sync();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void sync() {
+        FileChannel target;
+        long sequence;
+        synchronized (this) {
+            target = channel;
+            sequence = writtenSequence;
+        }
+
+        try {
+            if (target != null) {
+                target.force(false);
+            }
+        } catch (ClosedChannelException e) {
+            // 기록 파일을 교체하거나 닫으면서 그때까지의 기록을 이미 디스크에 썼습니다.
+        } catch (IOException e) {
+            finishSync(0);
+            throw new UncheckedIOException("구매 요청 기록을 디스크에 쓸 수 없습니다. " + path, e);
+        }
+        finishSync(sequence);
+    }
+
+    private void finishSync(long sequence) {
+        synchronized (syncLock) {
+            syncedSequence = Math.max(syncedSequence, sequence);
+            syncing = false;
+            syncLock.notifyAll();
+        }
+    }
+
+    // 저장을 기다리는 구매 요청만 새 파일에 쓰고 기록 파일을 교체합니다. 새 파일은 교체하기 전에 디스크에 씁니다.
+    private void rewrite() {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (FileChannel tempChannel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (byte[] record : pendingRecords.values()) {
+                    writeFully(tempChannel, record);
+                }
+                if (fsync) {
+                    tempChannel.force(false);
+                }
+            }
+            close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("구매 요청 기록 파일을 정리할 수 없습니다. " + path, e);
+        }
+
+        open();
+        writtenBytes = pendingBytes;
+        synchronized (syncLock) {
+            syncedSequence = Math.max(syncedSequence, writtenSequence);
+            syncLock.notifyAll();
+        }
+    }
+
+    private void open() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("구매 요청 기록 파일을 열 수 없습니다. " + path, e);
+        }
+    }
+
+    // 디스크에 쓰이기를 기다리는 스레드가 있을 수 있으므로, fsync 를 활성화했다면 디스크에 쓴 뒤 닫습니다.
+    private void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (fsync) {
+                channel.force(false);
+            }
+            channel.close();
+        } catch (IOException e) {
+            log.warn("구매 요청 기록 파일을 닫을 수 없습니다. - {}", path, e);
+        } finally {
+            channel = null;
+        }
+    }
+}
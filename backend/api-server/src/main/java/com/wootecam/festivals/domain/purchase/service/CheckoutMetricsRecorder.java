@@ -0,0 +1,91 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import com.wootecam.festivals.domain.ticket.entity.CheckoutMetrics;
+import com.wootecam.festivals.domain.ticket.repository.CheckoutMetricsRedisRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매 가능 여부 확인 요청의 처리 지표를 인스턴스 메모리에 모았다가 주기적으로 Redis 에 기록하는 클래스
+ * <p>
+ * 요청마다 Redis 스크립트를 실행하면 구매 요청이 몰릴수록 Redis 왕복도 함께 늘어나므로, 티켓별로 요청 수, 처리 시간 합, 구매 세션 발급 수를 더해 두고
+ * 주기마다 티켓당 한 번만 기록합니다. queue-server 는 5초마다 지표를 조회하므로 기록 주기는 그보다 짧아야 합니다.
+ * </p>
+ * <p>
+ * 더하기와 기록할 지표 떼어 내기는 모두 ConcurrentHashMap 의 키 단위 잠금 안에서 하므로, 기록 중에 들어온 요청은 빠지지 않고 다음 주기에 기록됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckoutMetricsRecorder implements DisposableBean {
+
+    private final CheckoutMetricsRedisRepository checkoutMetricsRedisRepository;
+    private final Map<Long, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    /**
+     * 구매 가능 여부 확인 요청의 처리 결과를 더합니다.
+     *
+     * @param ticketId
+     * @param latencyMillis 처리 시간 (ms)
+     * @param sessionIssued 구매 세션 발급 여부
+     */
+    public void record(Long ticketId, long latencyMillis, boolean sessionIssued) {
+        accumulators.compute(ticketId, (id, accumulator) -> {
+            Accumulator target = accumulator == null ? new Accumulator() : accumulator;
+            target.add(latencyMillis, sessionIssued);
+            return target;
+        });
+    }
+
+    /**
+     * 직전 기록 이후 모인 지표를 티켓마다 한 번의 요청으로 Redis 에 기록합니다.
+     * <p>
+     * 모인 지표는 맵에서 떼어 낸 뒤 기록하므로, 그 뒤에 들어온 요청은 새 Accumulator 에 더해지고 요청이 없던 티켓은 맵에 남지 않습니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${purchase.checkout-metrics.flush-interval-millis:1000}")
+    public void flush() {
+        for (Long ticketId : accumulators.keySet()) {
+            Accumulator accumulator = accumulators.remove(ticketId);
+            if (accumulator == null) {
+                continue;
+            }
+            try {
+                checkoutMetricsRedisRepository.record(ticketId, accumulator.toMetrics());
+            } catch (Exception e) {
+                log.warn("구매 가능 여부 확인 지표 기록 실패 - ticketId: {}", ticketId, e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    // 필드는 accumulators 의 키 단위 잠금 안에서만 바꾸며, 맵에서 떼어 낸 뒤에는 바뀌지 않습니다.
+    private static class Accumulator {
+
+        private long sessions;
+        private long requests;
+        private long latencySum;
+
+        void add(long latencyMillis, boolean sessionIssued) {
+            latencySum += latencyMillis;
+            if (sessionIssued) {
+                sessions++;
+            }
+            requests++;
+        }
+
+        CheckoutMetrics toMetrics() {
+            return new CheckoutMetrics(sessions, requests, latencySum);
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.wootecam.festivals.domain.purchase.service;
 
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockIdRedisRepository;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Slf4j
@@ -15,19 +18,55 @@ public class CompensationService {
 
     private final JdbcTemplate jdbcTemplate;
     private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final TicketStockIdRedisRepository ticketStockIdRedisRepository;
 
+    /*
+        MySQL 의 티켓 재고 점유를 해제하고, 트랜잭션이 커밋된 뒤에 Redis 재고를 복구합니다.
+        트랜잭션이 롤백되면 점유가 그대로 남으므로 Redis 재고도 복구하지 않습니다.
+     */
     @Transactional
     public void compensateFailedPurchase(String paymentId, Long ticketId, Long memberId) {
+        List<Long> ticketStockIds;
         try {
-            // 레디스 재고 복구
-            ticketStockCountRedisRepository.increaseTicketStockCount(ticketId);
             // MySQL의 TicketStock 점유 해제
+            ticketStockIds = jdbcTemplate.queryForList("""
+                            SELECT ticket_stock_id FROM ticket_stock
+                            WHERE ticket_stock_member_id = ? and ticket_id = ?""",
+                    Long.class, memberId, ticketId);
             jdbcTemplate.update("""
                             UPDATE ticket_stock SET ticket_stock_member_id = NULL 
                             WHERE ticket_stock_member_id = ? and ticket_id = ?""",
                     memberId, ticketId);
         } catch (Exception e) {
             log.error("Compensation failed for paymentId: {}", paymentId, e);
+            return;
+        }
+
+        restoreRedisStockAfterCommit(paymentId, ticketId, ticketStockIds);
+    }
+
+    private void restoreRedisStockAfterCommit(String paymentId, Long ticketId, List<Long> ticketStockIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            restoreRedisStock(paymentId, ticketId, ticketStockIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                restoreRedisStock(paymentId, ticketId, ticketStockIds);
+            }
+        });
+    }
+
+    private void restoreRedisStock(String paymentId, Long ticketId, List<Long> ticketStockIds) {
+        try {
+            // 레디스 재고 복구
+            ticketStockCountRedisRepository.increaseTicketStockCount(ticketId);
+            // 점유 해제된 티켓 재고 ID 를 다시 적재
+            ticketStockIds.forEach(ticketStockId -> ticketStockIdRedisRepository.pushTicketStockId(ticketId,
+                    ticketStockId));
+        } catch (Exception e) {
+            log.error("Redis stock compensation failed for paymentId: {}", paymentId, e);
         }
     }
 }
@@ -6,9 +6,12 @@ import com.wootecam.festivals.domain.member.repository.MemberRepository;
 import com.wootecam.festivals.domain.payment.dto.PaymentRequest;
 import com.wootecam.festivals.domain.payment.entity.Payment;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.domain.payment.dto.CachedPaymentStatus;
 import com.wootecam.festivals.domain.payment.repository.PaymentRepository;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
 import com.wootecam.festivals.domain.payment.service.PaymentRequestEventProducer;
 import com.wootecam.festivals.domain.purchase.dto.PurchaseData;
+import com.wootecam.festivals.domain.purchase.dto.PurchaseIntent;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
@@ -17,12 +20,14 @@ import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.service.TicketCacheService;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.global.utils.TimeProvider;
+import com.wootecam.festivals.global.utils.UuidProvider;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -31,31 +36,44 @@ public class PurchaseFacadeService {
 
     private final TicketCacheService ticketCacheService;
     private final TimeProvider timeProvider;
+    private final UuidProvider uuidProvider;
 
     private final PaymentRequestEventProducer paymentRequestEventProducer;
     private final PurchaseRepository purchaseRepository;
     private final PaymentRepository paymentRepository;
+    private final PaymentStatusRedisRepository paymentStatusRedisRepository;
     private final MemberRepository memberRepository;
+    private final PurchaseWriteBehindService purchaseWriteBehindService;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 구매 요청을 처리합니다.
+     * 쓰기 지연 단계가 구매 요청을 접수하면 DB 커넥션을 점유하지 않고 바로 결제 ID 를 반환하며, 접수하지 못한 경우 요청 스레드에서 저장합니다.
      * @param purchaseData 구매 요청 데이터
      * @return 결제 ID
      * @throws ApiException 구매가 불가능한 경우 예외 발생
      */
-    @Transactional
     public String processPurchase(PurchaseData purchaseData) {
         validatePurchase(purchaseData);
 
-        String paymentId = UUID.randomUUID().toString();
-        Purchase purchase = createInitialPurchase(purchaseData, paymentId);
-        Purchase savedPurchase = purchaseRepository.save(purchase);
+        // 결제 ID 는 구매 내역과 결제 내역의 인덱스에 저장되므로 생성 시각 순으로 정렬되는 UUID 를 사용합니다.
+        String paymentId = uuidProvider.getTimeOrderedUuid();
+        if (purchaseWriteBehindService.offer(
+                PurchaseIntent.of(paymentId, purchaseData, timeProvider.getCurrentTime()))) {
+            return paymentId;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Purchase purchase = createInitialPurchase(purchaseData, paymentId);
+            Purchase savedPurchase = purchaseRepository.save(purchase);
 
-        Payment payment = createInitialPayment(paymentId, savedPurchase);
-        paymentRepository.save(payment);
+            Payment payment = createInitialPayment(paymentId, savedPurchase);
+            paymentRepository.save(payment);
 
-        paymentRequestEventProducer.sendPaymentEvent(new PaymentRequest(
-                paymentId, purchaseData.memberId(), purchaseData.ticketId(), purchaseData.ticketStockId()));
+            // 결제 요청 이벤트는 구매 내역과 함께 커밋되어야 발행됩니다.
+            paymentRequestEventProducer.sendPaymentEvent(new PaymentRequest(
+                    paymentId, purchaseData.memberId(), purchaseData.ticketId(), purchaseData.ticketStockId()));
+        });
 
         return paymentId;
     }
@@ -94,12 +112,44 @@ public class PurchaseFacadeService {
 
     /**
      * 결제 ID의 현재 결제 상태를 조회합니다.
+     * 결제가 진행되는 동안 반복되는 조회가 DB 까지 가지 않도록, 캐싱된 결제 상태가 있다면 캐싱된 결제 상태를 반환합니다.
      * @param paymentId 결제 ID
      */
     public PurchaseStatus getPaymentStatus(String paymentId) {
-        Purchase purchase = purchaseRepository.findByPaymentUuid(paymentId)
-                .orElseThrow(() -> new ApiException(PURCHASE_NOT_FOUND));
+        Optional<CachedPaymentStatus> cached = paymentStatusRedisRepository.find(paymentId);
+        if (cached.isPresent()) {
+            return cached.get().purchaseStatus();
+        }
+
+        // 저장을 기다리는 구매 요청은 결제가 시작되지 않았으므로 INITIATED
+        if (purchaseWriteBehindService.isPending(paymentId)) {
+            return PurchaseStatus.INITIATED;
+        }
+
+        PurchaseStatus purchaseStatus = findPurchaseStatus(paymentId);
+        paymentStatusRedisRepository.saveIfAbsent(paymentId, purchaseStatus);
+        return purchaseStatus;
+    }
 
-        return purchase.getPurchaseStatus();
+    /**
+     * 결제 ID의 현재 결제 상태를 결제 결과 처리 전의 캐시를 거치지 않고 조회합니다.
+     * 결제 상태 대기가 시간 초과되었다면 결제 결과 처리 알림을 놓쳤을 수 있으므로, 결제 결과 처리가 끝난 캐시가 없다면 DB 에서 조회합니다.
+     * @param paymentId 결제 ID
+     */
+    public PurchaseStatus refreshPaymentStatus(String paymentId) {
+        Optional<CachedPaymentStatus> cached = paymentStatusRedisRepository.find(paymentId);
+        if (cached.isPresent() && cached.get().isCompleted()) {
+            return cached.get().purchaseStatus();
+        }
+        if (purchaseWriteBehindService.isPending(paymentId)) {
+            return PurchaseStatus.INITIATED;
+        }
+        return findPurchaseStatus(paymentId);
+    }
+
+    private PurchaseStatus findPurchaseStatus(String paymentId) {
+        return purchaseRepository.findByPaymentUuid(paymentId)
+                .map(Purchase::getPurchaseStatus)
+                .orElseThrow(() -> new ApiException(PURCHASE_NOT_FOUND));
     }
 }
@@ -6,13 +6,18 @@ import com.wootecam.festivals.domain.payment.entity.Payment;
 import com.wootecam.festivals.domain.purchase.dto.PurchasableResponse;
 import com.wootecam.festivals.domain.purchase.dto.PurchasePreviewInfoResponse;
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
+import com.wootecam.festivals.domain.purchase.repository.AdmissionTokenRedisRepository;
 import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import com.wootecam.festivals.domain.ticket.exception.TicketErrorCode;
 import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockIdRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockRepository;
+import com.wootecam.festivals.domain.ticket.service.SoldOutTicketRegistry;
+import com.wootecam.festivals.global.auth.AdmissionToken;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.global.utils.TimeProvider;
@@ -24,9 +29,12 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 티켓 결제 관련 비즈니스 로직을 처리하는 서비스
@@ -47,6 +55,10 @@ public class PurchaseService {
     private final UuidProvider uuidProvider;
     private final RedisTemplate<String, String> redisTemplate;
     private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final TicketStockIdRedisRepository ticketStockIdRedisRepository;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+    private final AdmissionTokenRedisRepository admissionTokenRedisRepository;
 
     /**
      * 티켓 구매 권한이 유효한지 확인합니다.
@@ -68,15 +80,19 @@ public class PurchaseService {
 
     /**
      * 티켓을 결제할 수 있는지 확인합니다. 티켓을 재고가 없다면 false인 PurchasableResponse을, 티켓 재고가 있다면 true인 PurchasableResponse을 반환합니다. 티켓 구매
-     * 시각이 아니거나, 이미 티켓을 구매했다면 예외를 발생시킵니다. 티켓을 구매할 수 있다면 티켓 재고를 차감하고, 구매 가능한 세션을 발급하고 저장합니다.
+     * 시각이 아니거나, 이미 티켓을 구매했다면 예외를 발생시킵니다. 티켓을 구매할 수 있다면 티켓 재고를 차감하고, 구매 가능한 세션을 발급하고 저장합니다. 점유할 티켓
+     * 재고는 Redis 에 미리 적재된 티켓 재고 ID 를 꺼내 기본 키로 점유하며, 적재되지 않은 티켓만 티켓 재고 행을 탐색합니다. 입장 토큰은 구매 세션을 발급할 때
+     * 사용한 토큰으로 기록하며, 이미 구매 세션을 발급받은 토큰이라면 점유한 티켓 재고를 되돌리고 예외를 발생시킵니다.
      *
      * @param ticketId
      * @param loginMemberId
      * @param now
+     * @param admissionToken 검증을 통과한 입장 토큰
      * @return 구매 가능 여부 응답
      */
     @Transactional
-    public PurchasableResponse checkPurchasable(Long ticketId, Long loginMemberId, LocalDateTime now) {
+    public PurchasableResponse checkPurchasable(Long ticketId, Long loginMemberId, LocalDateTime now,
+                                                AdmissionToken admissionToken) {
         Ticket ticket = findTicketById(ticketId);
         validTicketPurchasableTime(now, ticket);
 
@@ -84,17 +100,21 @@ public class PurchaseService {
         validFirstTicketPurchase(ticket, member);
         validFirstTicketStockReservation(ticket, member);
 
-        Optional<TicketStock> optionalTicketStock = getTicketStockForUpdate(ticket);
-        if (optionalTicketStock.isEmpty() || optionalTicketStock.get().isReserved()) {
+        Optional<Long> reservedTicketStockId = reserveTicketStock(ticket, member.getId());
+        if (reservedTicketStockId.isEmpty()) {
+            markSoldOutIfNoAdmissionLeft(ticketId);
             return new PurchasableResponse(false, null);
         }
 
-        TicketStock ticketStock = optionalTicketStock.get();
-        reserveTicket(ticketStock, member.getId());
+        // 구매 세션을 발급하기 직전에 기록하므로, 재고가 없거나 검증에 실패한 요청은 입장 토큰을 소모하지 않습니다.
+        if (!admissionTokenRedisRepository.markUsed(admissionToken, loginMemberId)) {
+            log.warn("이미 구매 세션을 발급받은 입장 토큰입니다. 티켓 ID: {}, 회원 ID: {}", ticketId, loginMemberId);
+            throw new ApiException(PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
 
         String sessionId = uuidProvider.getUuid();
-        purchaseSessionRedisRepository.addPurchaseSession(ticketId, loginMemberId, sessionId, ticketStock.getId(),
-                purchaseSessionTtl);
+        purchaseSessionRedisRepository.addPurchaseSession(ticketId, loginMemberId, sessionId,
+                reservedTicketStockId.get(), purchaseSessionTtl);
 
         return new PurchasableResponse(true, sessionId);
     }
@@ -125,6 +145,89 @@ public class PurchaseService {
                 ticket.getEndSaleTime());
     }
 
+    /**
+     * 재고가 소진된 티켓인지 확인합니다. 재고가 소진된 티켓은 DB 조회 없이 구매 불가능으로 응답할 수 있습니다.
+     *
+     * @param ticketId
+     * @return 재고 소진 여부
+     */
+    public boolean isSoldOut(Long ticketId) {
+        return soldOutTicketRegistry.isSoldOut(ticketId);
+    }
+
+    /*
+        점유 가능한 티켓 재고가 없고, 남은 대기열 입장 인원도 없다면 재고 소진으로 기록합니다.
+        입장 인원이 남아 있다면 잠긴 티켓 재고가 롤백되어 다시 점유 가능할 수 있으므로 기록하지 않습니다.
+        재고 소진 기록은 보상 트랜잭션으로 재고가 복구되면 재입고 메시지로 해제됩니다.
+     */
+    private void markSoldOutIfNoAdmissionLeft(Long ticketId) {
+        Long remainAdmissionCount = ticketStockCountRedisRepository.getTicketStockCount(ticketId);
+        if (remainAdmissionCount != null && remainAdmissionCount <= 0) {
+            soldOutTicketRegistry.markSoldOut(ticketId);
+        }
+    }
+
+    /*
+        점유할 티켓 재고를 찾아 점유하고, 점유한 티켓 재고 ID 를 반환합니다.
+        적재된 티켓 재고 ID 는 이미 점유된 ID 일 수 있으므로, 기본 키 점유에 성공할 때까지 다음 ID 를 꺼냅니다.
+        티켓 재고 ID 가 적재되지 않은 티켓이라면 티켓 재고 행을 SKIP LOCKED 로 탐색합니다.
+     */
+    private Optional<Long> reserveTicketStock(Ticket ticket, Long buyerId) {
+        Long ticketStockId;
+        while ((ticketStockId = ticketStockIdRedisRepository.popTicketStockId(ticket.getId())) != null) {
+            if (reserveTicketStockById(ticket.getId(), ticketStockId, buyerId)) {
+                return Optional.of(ticketStockId);
+            }
+        }
+
+        if (ticketStockIdRedisRepository.hasTicketStockIdPool(ticket.getId())) {
+            return Optional.empty();
+        }
+
+        Optional<TicketStock> optionalTicketStock = getTicketStockForUpdate(ticket);
+        if (optionalTicketStock.isEmpty() || optionalTicketStock.get().isReserved()) {
+            return Optional.empty();
+        }
+
+        TicketStock ticketStock = optionalTicketStock.get();
+        reserveTicket(ticketStock, buyerId);
+        return Optional.of(ticketStock.getId());
+    }
+
+    /*
+        꺼낸 티켓 재고 ID 를 기본 키로 점유합니다. 이미 점유된 티켓 재고라면 false 를 반환합니다.
+        점유에 실패하거나 트랜잭션이 롤백되면 꺼낸 티켓 재고 ID 를 다시 적재합니다.
+     */
+    private boolean reserveTicketStockById(Long ticketId, Long ticketStockId, Long buyerId) {
+        try {
+            if (ticketStockRepository.reserveById(ticketStockId, buyerId) == 0) {
+                log.debug("이미 점유된 티켓 재고 - 티켓 ID: {}, 티켓 재고 ID: {}", ticketId, ticketStockId);
+                return false;
+            }
+        } catch (DataIntegrityViolationException e) {
+            ticketStockIdRedisRepository.pushTicketStockId(ticketId, ticketStockId);
+            log.warn("이미 티켓 재고를 예약한 회원입니다. - 티켓 ID: {}", ticketId);
+            throw new ApiException(TicketErrorCode.ALREADY_RESERVED_TICKET_STOCK);
+        }
+
+        pushBackOnRollback(ticketId, ticketStockId);
+        return true;
+    }
+
+    private void pushBackOnRollback(Long ticketId, Long ticketStockId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    ticketStockIdRedisRepository.pushTicketStockId(ticketId, ticketStockId);
+                }
+            }
+        });
+    }
+
     private Optional<TicketStock> getTicketStockForUpdate(Ticket ticket) {
         return ticketStockRepository.findByTicketForUpdate(ticket.getId());
     }
@@ -0,0 +1,377 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import com.wootecam.festivals.domain.payment.dto.PaymentRequest;
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
+import com.wootecam.festivals.domain.payment.service.PaymentRequestEventProducer;
+import com.wootecam.festivals.domain.purchase.dto.PurchaseIntent;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseIntentLogRepository;
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
+import com.wootecam.festivals.global.utils.TimeProvider;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 구매 요청을 접수한 즉시 결제 ID 를 반환하고, 구매 내역과 결제 내역을 모아서 JDBC batch 로 저장하는 쓰기 지연(write-behind) 서비스
+ * <p>
+ * 요청 스레드는 구매 요청을 로컬 기록 파일에 남기고 큐에 넣은 뒤 바로 반환하므로 DB 커넥션을 점유하지 않습니다. 저장 스레드는 batch-size 만큼 모이거나
+ * flush-interval-millis 가 지나면 구매 내역과 결제 내역을 하나의 트랜잭션으로 저장하고, 커밋 후 결제 요청 이벤트를 파이프라인으로 발행합니다. 결제 결과는 저장이
+ * 끝난 뒤에 발행된 이벤트로만 만들어지므로, 결제 결과를 처리할 때 구매 내역이 없는 경우는 없습니다.
+ * </p>
+ * <p>
+ * 저장에 실패한 구매 요청은 재시도하며, 이미 저장된 구매 요청은 결제 요청만 다시 발행합니다. 구매 내역을 저장할 수 없는 구매 요청은 점유한 재고를 복구하고 버립니다.
+ * 인스턴스가 재시작되면 기록 파일에서 저장이 끝나지 않은 구매 요청을 복구합니다. 큐가 가득 찼거나 비활성화되어 있다면 요청 스레드에서 바로 저장합니다.
+ * </p>
+ * <p>
+ * 접수한 구매 요청의 결제 상태를 INITIATED 로 캐싱하므로, 저장이 끝나기 전에 다른 인스턴스로 결제 상태를 조회해도 구매 내역을 찾지 못하는 경우가 없습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class PurchaseWriteBehindService implements DisposableBean {
+
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private static final String INSERT_PURCHASE_SQL = """
+            INSERT INTO purchase (purchase_id, payment_uuid, ticket_id, member_id, purchase_time, purchase_status,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_PURCHASE_IDS_SQL = """
+            SELECT purchase_id, payment_uuid FROM purchase WHERE payment_uuid IN (:paymentUuids)
+            """;
+    private static final String INSERT_PAYMENT_SQL = """
+            INSERT INTO payment (payment_id, payment_uuid, payment_time, payment_status, purchase_id, created_at,
+                                 updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentRequestEventProducer paymentRequestEventProducer;
+    private final PurchaseIntentLogRepository purchaseIntentLogRepository;
+    private final PaymentStatusRedisRepository paymentStatusRedisRepository;
+    private final CompensationService compensationService;
+    private final TimeProvider timeProvider;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final BlockingQueue<PurchaseIntent> queue;
+    private final Map<String, PurchaseIntent> pendingIntents = new ConcurrentHashMap<>();
+    private final List<PurchaseIntent> retryIntents = new ArrayList<>();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public PurchaseWriteBehindService(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      PaymentRequestEventProducer paymentRequestEventProducer,
+                                      PurchaseIntentLogRepository purchaseIntentLogRepository,
+                                      PaymentStatusRedisRepository paymentStatusRedisRepository,
+                                      CompensationService compensationService,
+                                      TimeProvider timeProvider,
+                                      SnowflakeIdGenerator snowflakeIdGenerator,
+                                      @Value("${purchase.write-behind.enabled:false}") boolean enabled,
+                                      @Value("${purchase.write-behind.batch-size:100}") int batchSize,
+                                      @Value("${purchase.write-behind.flush-interval-millis:5}") long flushIntervalMillis,
+                                      @Value("${purchase.write-behind.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.paymentRequestEventProducer = paymentRequestEventProducer;
+        this.purchaseIntentLogRepository = purchaseIntentLogRepository;
+        this.paymentStatusRedisRepository = paymentStatusRedisRepository;
+        this.compensationService = compensationService;
+        this.timeProvider = timeProvider;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 저장이 끝나지 않은 구매 요청을 복구하고 저장 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        purchaseIntentLogRepository.validatePath();
+        List<PurchaseIntent> recovered = purchaseIntentLogRepository.recover();
+        if (!recovered.isEmpty()) {
+            log.warn("저장이 끝나지 않은 구매 요청 복구 - {}건", recovered.size());
+        }
+        recovered.forEach(intent -> pendingIntents.put(intent.paymentId(), intent));
+        retryIntents.addAll(recovered);
+
+        running = true;
+        flusher = new Thread(this::run, "purchase-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 구매 요청을 접수합니다.
+     *
+     * @param intent 구매 요청
+     * @return 접수 여부, 비활성화되어 있거나 큐가 가득 찼다면 false
+     */
+    public boolean offer(PurchaseIntent intent) {
+        if (!running || queue.remainingCapacity() == 0) {
+            return false;
+        }
+
+        try {
+            purchaseIntentLogRepository.append(intent);
+        } catch (RuntimeException e) {
+            log.error("구매 요청 기록 실패 - paymentId: {}", intent.paymentId(), e);
+            return false;
+        }
+
+        pendingIntents.put(intent.paymentId(), intent);
+        if (!queue.offer(intent)) {
+            pendingIntents.remove(intent.paymentId());
+            purchaseIntentLogRepository.markFlushed(List.of(intent.paymentId()));
+            return false;
+        }
+        cachePendingStatus(intent.paymentId());
+        return true;
+    }
+
+    // 캐싱에 실패해도 구매 요청은 저장되며, 이 인스턴스에서는 isPending 으로 결제 상태를 확인할 수 있습니다.
+    private void cachePendingStatus(String paymentId) {
+        try {
+            paymentStatusRedisRepository.saveIfAbsent(paymentId, PurchaseStatus.INITIATED);
+        } catch (RuntimeException e) {
+            log.warn("접수한 구매 요청의 결제 상태 캐싱 실패 - paymentId: {}", paymentId, e);
+        }
+    }
+
+    /**
+     * 저장을 기다리는 구매 요청인지 여부를 반환합니다.
+     *
+     * @param paymentId 결제 ID
+     */
+    public boolean isPending(String paymentId) {
+        return pendingIntents.containsKey(paymentId);
+    }
+
+    /**
+     * 저장 스레드가 남은 구매 요청을 저장하고 종료할 때까지 기다립니다. 저장하지 못한 구매 요청은 재시작 시 복구합니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<PurchaseIntent> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("구매 요청 저장 스레드 오류", e);
+            }
+        }
+        flushRemaining();
+    }
+
+    // 종료 시 남은 구매 요청을 한 번 더 저장합니다. 실패한 구매 요청은 기록 파일에 남아 재시작 시 복구됩니다.
+    private void flushRemaining() {
+        List<PurchaseIntent> remaining = new ArrayList<>(retryIntents);
+        retryIntents.clear();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            try {
+                flush(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+            } catch (InterruptedException | RuntimeException e) {
+                log.error("종료 중 구매 요청 저장 실패, 재시작 시 복구합니다.", e);
+                return;
+            }
+        }
+    }
+
+    // 재시도할 구매 요청을 먼저 담고, batch-size 만큼 모이거나 flush-interval-millis 가 지날 때까지 기다립니다.
+    private List<PurchaseIntent> nextBatch() throws InterruptedException {
+        List<PurchaseIntent> batch = new ArrayList<>(retryIntents);
+        retryIntents.clear();
+        if (!batch.isEmpty()) {
+            queue.drainTo(batch, Math.max(0, batchSize - batch.size()));
+            return batch;
+        }
+
+        PurchaseIntent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            PurchaseIntent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PurchaseIntent> batch) throws InterruptedException {
+        List<PurchaseIntent> saved;
+        try {
+            saveAll(batch);
+            saved = batch;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("구매 요청 일괄 저장 실패, 건별로 저장합니다. - {}건", batch.size(), e);
+            List<PurchaseIntent> savedEach = saveEach(batch);
+            // 저장할 수 없어 버린 구매 요청은 다시 복구하지 않도록 기록합니다.
+            complete(batch.stream().filter(intent -> !savedEach.contains(intent)).toList());
+            saved = savedEach;
+        } catch (DataAccessException e) {
+            retryLater(batch, e);
+            return;
+        }
+
+        try {
+            paymentRequestEventProducer.sendPaymentEvents(saved.stream()
+                    .map(intent -> new PaymentRequest(intent.paymentId(), intent.memberId(), intent.ticketId(),
+                            intent.ticketStockId()))
+                    .toList());
+        } catch (RuntimeException e) {
+            // 저장된 구매 요청은 재시도 시 중복으로 확인되어 결제 요청만 다시 발행합니다.
+            retryLater(saved, e);
+            return;
+        }
+
+        complete(saved);
+        log.debug("구매 요청 저장 - {}건", saved.size());
+    }
+
+    private void retryLater(List<PurchaseIntent> batch, RuntimeException e) throws InterruptedException {
+        log.error("구매 요청 저장 실패, 재시도합니다. - {}건", batch.size(), e);
+        retryIntents.addAll(batch);
+        if (running) {
+            Thread.sleep(RETRY_BACKOFF_MILLIS);
+        }
+    }
+
+    private void complete(List<PurchaseIntent> batch) {
+        List<String> paymentIds = batch.stream().map(PurchaseIntent::paymentId).toList();
+        purchaseIntentLogRepository.markFlushed(paymentIds);
+        paymentIds.forEach(pendingIntents::remove);
+    }
+
+    // 구매 내역과 결제 내역을 하나의 트랜잭션에서 batch 로 저장합니다.
+    private void saveAll(List<PurchaseIntent> batch) {
+        Map<String, Long> purchaseIds = new HashMap<>();
+        batch.forEach(intent -> purchaseIds.put(intent.paymentId(), snowflakeIdGenerator.nextId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = timeProvider.getCurrentTime();
+            jdbcTemplate.batchUpdate(INSERT_PURCHASE_SQL, batch, batch.size(), (ps, intent) -> {
+                ps.setLong(1, purchaseIds.get(intent.paymentId()));
+                ps.setString(2, intent.paymentId());
+                ps.setLong(3, intent.ticketId());
+                ps.setLong(4, intent.memberId());
+                ps.setTimestamp(5, Timestamp.valueOf(intent.purchaseTime()));
+                ps.setString(6, PurchaseStatus.INITIATED.name());
+                ps.setTimestamp(7, Timestamp.valueOf(now));
+                ps.setTimestamp(8, Timestamp.valueOf(now));
+            });
+
+            jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, batch, batch.size(), (ps, intent) -> {
+                ps.setLong(1, snowflakeIdGenerator.nextId());
+                ps.setString(2, intent.paymentId());
+                ps.setTimestamp(3, Timestamp.valueOf(intent.purchaseTime()));
+                ps.setString(4, PaymentStatus.INITIATED.name());
+                ps.setLong(5, purchaseIds.get(intent.paymentId()));
+                ps.setTimestamp(6, Timestamp.valueOf(now));
+                ps.setTimestamp(7, Timestamp.valueOf(now));
+            });
+        });
+    }
+
+    /*
+        구매 요청을 건별로 저장하고, 저장되었거나 이미 저장되어 있던 구매 요청을 반환합니다.
+        구매 내역을 저장할 수 없는 구매 요청은 점유한 재고를 복구하고 버립니다.
+     */
+    private List<PurchaseIntent> saveEach(List<PurchaseIntent> batch) {
+        List<PurchaseIntent> saved = new ArrayList<>();
+        for (PurchaseIntent intent : batch) {
+            try {
+                saveAll(List.of(intent));
+                saved.add(intent);
+            } catch (DataIntegrityViolationException e) {
+                if (!findPurchaseIds(List.of(intent)).isEmpty()) {
+                    saved.add(intent);
+                    continue;
+                }
+                log.error("구매 요청을 저장할 수 없어 재고를 복구합니다. paymentId: {}", intent.paymentId(), e);
+                compensationService.compensateFailedPurchase(intent.paymentId(), intent.ticketId(),
+                        intent.memberId());
+                evictPendingStatus(intent.paymentId());
+            }
+        }
+        return saved;
+    }
+
+    // 버린 구매 요청은 결제가 진행되지 않으므로, 접수할 때 캐싱한 결제 상태를 지워 구매 내역이 없음을 알립니다.
+    private void evictPendingStatus(String paymentId) {
+        try {
+            paymentStatusRedisRepository.delete(paymentId);
+        } catch (RuntimeException e) {
+            log.warn("버린 구매 요청의 결제 상태 삭제 실패 - paymentId: {}", paymentId, e);
+        }
+    }
+
+    private Map<String, Long> findPurchaseIds(List<PurchaseIntent> batch) {
+        MapSqlParameterSource params = new MapSqlParameterSource("paymentUuids",
+                batch.stream().map(PurchaseIntent::paymentId).toList());
+        Map<String, Long> purchaseIds = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_PURCHASE_IDS_SQL, params,
+                rs -> {
+                    purchaseIds.put(rs.getString("payment_uuid"), rs.getLong("purchase_id"));
+                });
+        return purchaseIds;
+    }
+}
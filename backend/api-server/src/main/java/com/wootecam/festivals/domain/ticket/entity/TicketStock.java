@@ -1,11 +1,10 @@
 package com.wootecam.festivals.domain.ticket.entity;
 
 import com.wootecam.festivals.global.audit.BaseEntity;
+import com.wootecam.festivals.global.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -23,7 +22,7 @@ import lombok.NoArgsConstructor;
 public class TicketStock extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "ticket_stock_id")
     private Long id;
 
@@ -1,6 +1,7 @@
 package com.wootecam.festivals.domain.ticket.repository;
 
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -15,18 +16,20 @@ import org.springframework.stereotype.Repository;
 public class TicketStockJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
 
     public void saveTicketStocks(List<TicketStock> ticketStocks) {
-        String sql = "INSERT INTO ticket_stock (ticket_id, created_at, updated_at) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO ticket_stock (ticket_stock_id, ticket_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
         Timestamp now = new Timestamp(System.currentTimeMillis());
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int index) throws SQLException {
                 TicketStock ticketStock = ticketStocks.get(index);
-                ps.setLong(1, ticketStock.getTicket().getId());
-                ps.setTimestamp(2, now);
+                ps.setLong(1, snowflakeIdGenerator.nextId());
+                ps.setLong(2, ticketStock.getTicket().getId());
                 ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
             }
 
             @Override
@@ -6,6 +6,7 @@ import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,6 +18,13 @@ public interface TicketStockRepository extends JpaRepository<TicketStock, Long>
             """, nativeQuery = true)
     Optional<TicketStock> findByTicketForUpdate(@Param("ticketId") Long ticketId);
 
+    @Modifying
+    @Query(value = """
+            UPDATE ticket_stock SET ticket_stock_member_id = :memberId
+             WHERE ticket_stock_id = :ticketStockId AND ticket_stock_member_id IS NULL
+            """, nativeQuery = true)
+    int reserveById(@Param("ticketStockId") Long ticketStockId, @Param("memberId") Long memberId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ts FROM TicketStock ts WHERE ts.id = :id")
     Optional<TicketStock> findByIdForUpdate(Long id);
@@ -0,0 +1,9 @@
+package com.wootecam.festivals.global.auth;
+
+import java.time.Instant;
+
+/**
+ * 검증을 통과한 입장 토큰의 토큰 ID(jti)와 만료 시각
+ */
+public record AdmissionToken(String id, Instant expiresAt) {
+}
@@ -0,0 +1,79 @@
+package com.wootecam.festivals.global.auth;
+
+import static com.wootecam.festivals.global.constants.AdmissionTokenConstants.ADMISSION_TOKEN_AUDIENCE;
+import static com.wootecam.festivals.global.constants.AdmissionTokenConstants.TICKET_ID_CLAIM;
+
+import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 서버가 발급한 입장 토큰을 검증하는 클래스.
+ * <p>
+ * 입장 토큰은 대기열 서버의 JwtProvider 와 같은 키(jwt.secret)로 서명되므로, 서명과 만료 시각, audience, 티켓 ID, 사용자 ID 를 확인하여 대기열 통과 여부를
+ * 판단한다. audience 가 없는 액세스 토큰은 입장 토큰으로 사용할 수 없다. 검증은 토큰만으로 끝나며, 토큰을 한 번만 사용하도록 하는 것은 구매 세션을 발급하는
+ * PurchaseService 가 맡는다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AdmissionTokenVerifier {
+
+    private final JwtParser parser;
+
+    public AdmissionTokenVerifier(@Value("${jwt.secret}") String secretKey) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .requireAudience(ADMISSION_TOKEN_AUDIENCE)
+                .build();
+    }
+
+    /**
+     * 입장 토큰이 해당 사용자가 해당 티켓의 대기열을 통과하며 발급받은 유효한 토큰인지 검증한다.
+     *
+     * @param admissionToken 입장 토큰
+     * @param ticketId       요청한 티켓 ID
+     * @param memberId       요청한 사용자 ID
+     * @return 검증한 입장 토큰의 토큰 ID 와 만료 시각
+     * @throws ApiException 토큰이 없거나, 만료되었거나, 서명 또는 audience, 티켓 ID, 사용자 ID 가 일치하지 않거나, 토큰 ID 가 없는 경우
+     */
+    public AdmissionToken verify(String admissionToken, Long ticketId, Long memberId) {
+        if (admissionToken == null || admissionToken.isBlank()) {
+            log.debug("입장 토큰이 없습니다. 사용자: {}, 티켓: {}", memberId, ticketId);
+            throw new ApiException(PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        Claims claims = parse(admissionToken);
+        Number tokenTicketId = claims.get(TICKET_ID_CLAIM, Number.class);
+        if (tokenTicketId == null || tokenTicketId.longValue() != ticketId
+                || !String.valueOf(memberId).equals(claims.getSubject())) {
+            log.warn("입장 토큰의 티켓 또는 사용자가 일치하지 않습니다. 사용자: {}, 티켓: {}", memberId, ticketId);
+            throw new ApiException(PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        String tokenId = claims.getId();
+        if (tokenId == null || tokenId.isBlank()) {
+            log.warn("입장 토큰에 토큰 ID 가 없습니다. 사용자: {}, 티켓: {}", memberId, ticketId);
+            throw new ApiException(PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        return new AdmissionToken(tokenId, claims.getExpiration().toInstant());
+    }
+
+    private Claims parse(String admissionToken) {
+        try {
+            return parser.parseSignedClaims(admissionToken).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("유효하지 않은 입장 토큰: {}", e.getMessage());
+            throw new ApiException(PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.wootecam.festivals.global.config;
+
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // Hibernate ID 생성기와 같은 인스턴스를 사용해야 ID 가 겹치지 않습니다.
+    // 로컬과 테스트가 아닌 환경에서 노드 ID 를 지정하지 않으면 인스턴스끼리 ID 가 겹칠 수 있으므로 기동을 중단합니다.
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(Environment environment) {
+        if (!environment.acceptsProfiles(Profiles.of("local", "test"))) {
+            SnowflakeIdGenerator.requireConfiguredNodeId();
+        }
+        return SnowflakeIdGenerator.getInstance();
+    }
+}
@@ -0,0 +1,39 @@
+package com.wootecam.festivals.global.config;
+
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisChannelConstants.PAYMENT_STATUS_COMPLETED_CHANNEL;
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_RESTOCKED_CHANNEL;
+
+import com.wootecam.festivals.domain.payment.service.PaymentStatusWatchService;
+import com.wootecam.festivals.domain.ticket.listener.TicketStockEventListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 채널 구독을 설정하는 클래스
+ * <p>
+ * 리스너는 로컬 상태만 갱신하므로, 메시지 순서를 보장하기 위해 수신 스레드에서 동기적으로 처리합니다.
+ * <p>
+ * Redis 재고 수량은 남은 대기열 입장 인원이므로, 재고 소진 메시지를 받더라도 이미 입장한 사용자는 티켓 재고를 점유해야 합니다. 따라서 api-server 는 재입고 메시지만 구독하며,
+ * 재고 소진은 DB 에서 점유 가능한 티켓 재고가 없음을 확인했을 때 기록합니다.
+ * <p>
+ * 결제 결과는 어느 인스턴스에서든 처리될 수 있으므로, 결제 완료 메시지를 구독하여 이 인스턴스에서 결제 상태를 기다리는 요청에 전달합니다.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TicketStockEventListener ticketStockEventListener,
+                                                                       PaymentStatusWatchService paymentStatusWatchService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener(ticketStockEventListener, new ChannelTopic(TICKET_RESTOCKED_CHANNEL));
+        container.addMessageListener(paymentStatusWatchService, new ChannelTopic(PAYMENT_STATUS_COMPLETED_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,20 @@
+package com.wootecam.festivals.global.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티의 ID 를 {@link com.wootecam.festivals.global.utils.SnowflakeIdGenerator} 로 생성합니다.
+ * <p>
+ * IDENTITY 전략은 INSERT 를 실행해야 ID 를 알 수 있어 Hibernate 가 INSERT 를 batch 로 모을 수 없지만, 이 ID 는 저장 전에 생성되므로
+ * hibernate.jdbc.batch_size 에 따라 batch 로 저장됩니다.
+ * </p>
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
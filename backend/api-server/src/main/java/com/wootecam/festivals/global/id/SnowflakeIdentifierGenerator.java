@@ -0,0 +1,19 @@
+package com.wootecam.festivals.global.id;
+
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link SnowflakeId} 를 붙인 엔티티의 ID 를 생성하는 Hibernate ID 생성기
+ * JDBC 로 직접 저장하는 경우와 ID 가 겹치지 않도록 인스턴스에 하나뿐인 생성기를 함께 사용합니다.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private final SnowflakeIdGenerator snowflakeIdGenerator = SnowflakeIdGenerator.getInstance();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflakeIdGenerator.nextId();
+    }
+}
@@ -0,0 +1,43 @@
+package com.wootecam.festivals.global.outbox;
+
+import com.wootecam.festivals.global.audit.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트림에 발행할 이벤트
+ * <p>
+ * 이벤트를 발생시킨 트랜잭션 안에서 저장하고, {@link OutboxRelay} 가 커밋된 이벤트를 스트림에 발행한 뒤 삭제합니다.
+ * 저장과 조회는 {@link OutboxEventJdbcRepository} 로 하므로 ID 는 저장할 때 Snowflake ID 로 채웁니다.
+ * </p>
+ */
+@Entity
+@Table(name = "outbox_event")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(name = "stream_key", nullable = false)
+    private String streamKey;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Builder
+    private OutboxEvent(Long id, String streamKey, String payload) {
+        this.id = id;
+        this.streamKey = Objects.requireNonNull(streamKey, "스트림 키는 필수입니다.");
+        this.payload = Objects.requireNonNull(payload, "이벤트 내용은 필수입니다.");
+    }
+}
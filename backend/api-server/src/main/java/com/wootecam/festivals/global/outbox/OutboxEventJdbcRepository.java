@@ -0,0 +1,53 @@
+package com.wootecam.festivals.global.outbox;
+
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    public void save(String streamKey, String payload) {
+        String sql = "INSERT INTO outbox_event (outbox_event_id, stream_key, payload, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?)";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        jdbcTemplate.update(sql, snowflakeIdGenerator.nextId(), streamKey, payload, now, now);
+    }
+
+    /**
+     * 가장 먼저 저장된 이벤트부터 조회하고, 트랜잭션이 끝날 때까지 다른 트랜잭션이 같은 이벤트를 조회하지 못하도록 잠급니다.
+     *
+     * @param limit 조회할 최대 이벤트 수
+     * @return 저장된 순서대로 정렬한 이벤트
+     */
+    public List<OutboxEvent> findOldestForUpdate(int limit) {
+        String sql = "SELECT outbox_event_id, stream_key, payload FROM outbox_event "
+                + "ORDER BY outbox_event_id LIMIT ? FOR UPDATE";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> OutboxEvent.builder()
+                .id(rs.getLong("outbox_event_id"))
+                .streamKey(rs.getString("stream_key"))
+                .payload(rs.getString("payload"))
+                .build(), limit);
+    }
+
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String sql = "DELETE FROM outbox_event WHERE outbox_event_id IN (:ids)";
+
+        namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource("ids", ids));
+    }
+}
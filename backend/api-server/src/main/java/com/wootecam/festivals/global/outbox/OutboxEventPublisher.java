@@ -0,0 +1,44 @@
+package com.wootecam.festivals.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 스트림 이벤트를 현재 트랜잭션 안에서 outbox 테이블에 저장하는 클래스
+ * <p>
+ * 트랜잭션 안에서 바로 XADD 를 실행하면 롤백된 데이터의 이벤트가 발행되거나, 커밋 전에 이벤트를 읽은 소비자가 데이터를 찾지 못할 수 있습니다.
+ * 이벤트는 데이터와 함께 커밋되고, 커밋된 뒤 {@link OutboxRelay} 가 스트림에 발행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 현재 트랜잭션에 스트림 이벤트를 저장하고, 트랜잭션이 커밋되면 바로 발행하도록 요청합니다.
+     *
+     * @param streamKey 이벤트를 발행할 스트림 키
+     * @param payload   이벤트 내용
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String streamKey, String payload) {
+        outboxEventJdbcRepository.save(streamKey, payload);
+        log.debug("Outbox 이벤트 저장 - streamKey: {}", streamKey);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.requestRelay();
+            }
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.wootecam.festivals.global.outbox;
+
+import com.wootecam.festivals.global.event.EventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 테이블에 커밋된 이벤트를 스트림에 발행하는 클래스
+ * <p>
+ * 이벤트를 저장한 트랜잭션이 커밋되면 바로 발행하고, 발행하지 못한 이벤트는 일정 주기마다 다시 발행합니다.
+ * 한 트랜잭션에서 가장 오래된 이벤트를 잠가 조회하고, 토픽마다 {@link EventBus#publishAll} 로 한 번에 발행한 뒤 한 번의 DELETE 로 삭제합니다.
+ * 여러 서버가 함께 발행해도 잠금으로 같은 이벤트를 나눠 발행하지 않으며, 저장된 순서대로 발행합니다.
+ * 발행한 뒤 삭제가 커밋되기 전에 실패하면 같은 이벤트를 다시 발행하므로, 소비자는 같은 이벤트를 두 번 이상 받을 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final EventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean relayRequested = new AtomicBoolean(false);
+
+    public OutboxRelay(OutboxEventJdbcRepository outboxEventJdbcRepository,
+                       EventBus eventBus,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize) {
+        this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+        this.eventBus = eventBus;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 발행을 기다리는 이벤트를 발행하도록 요청합니다. 이미 요청되어 있으면 요청을 합칩니다.
+     */
+    public void requestRelay() {
+        if (!relayRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::relayRequested);
+        } catch (RejectedExecutionException e) {
+            relayRequested.set(false);
+            log.warn("Outbox 이벤트 발행 요청 거부 - 다음 주기에 발행합니다.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-millis:1000}")
+    public void relayPeriodically() {
+        requestRelay();
+    }
+
+    private void relayRequested() {
+        // 발행하는 동안 커밋된 이벤트도 놓치지 않도록 발행 전에 요청을 비웁니다.
+        relayRequested.set(false);
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("outbox.relay.failure").increment();
+            log.error("Outbox 이벤트 발행 실패 - 다음 주기에 다시 발행합니다.", e);
+        }
+    }
+
+    /**
+     * 발행을 기다리는 이벤트를 모두 발행합니다.
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int relay() {
+        int total = 0;
+        while (true) {
+            Integer published = transactionTemplate.execute(status -> relayBatch());
+            total += published == null ? 0 : published;
+            if (published == null || published < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outboxEventJdbcRepository.findOldestForUpdate(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 스트림마다 저장된 순서를 지켜 발행합니다.
+        Map<String, List<String>> payloadsByTopic = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            payloadsByTopic.computeIfAbsent(event.getStreamKey(), key -> new ArrayList<>()).add(event.getPayload());
+        }
+        payloadsByTopic.forEach(eventBus::publishAll);
+        outboxEventJdbcRepository.deleteAllByIds(events.stream().map(OutboxEvent::getId).toList());
+
+        meterRegistry.counter("outbox.relay.published").increment(events.size());
+        log.debug("Outbox 이벤트 발행 - count: {}", events.size());
+        return events.size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
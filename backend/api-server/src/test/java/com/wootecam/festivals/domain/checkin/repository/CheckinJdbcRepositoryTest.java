@@ -0,0 +1,73 @@
+package com.wootecam.festivals.domain.checkin.repository;
+
+import static com.wootecam.festivals.utils.Fixture.createFestival;
+import static com.wootecam.festivals.utils.Fixture.createMember;
+import static com.wootecam.festivals.utils.Fixture.createTicket;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.checkin.dto.PendingCheckin;
+import com.wootecam.festivals.domain.checkin.entity.Checkin;
+import com.wootecam.festivals.domain.festival.entity.Festival;
+import com.wootecam.festivals.domain.festival.repository.FestivalRepository;
+import com.wootecam.festivals.domain.member.entity.Member;
+import com.wootecam.festivals.domain.member.repository.MemberRepository;
+import com.wootecam.festivals.domain.ticket.entity.Ticket;
+import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("CheckinJdbcRepository 통합 테스트")
+class CheckinJdbcRepositoryTest extends SpringBootTestConfig {
+
+    @Autowired
+    private CheckinJdbcRepository checkinJdbcRepository;
+    @Autowired
+    private CheckinRepository checkinRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private FestivalRepository festivalRepository;
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Member member;
+    private Member otherMember;
+    private Festival festival;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        Member admin = memberRepository.save(createMember("admin", "admin@test.com"));
+        member = memberRepository.save(createMember("member", "member@test.com"));
+        otherMember = memberRepository.save(createMember("other", "other@test.com"));
+        festival = festivalRepository.save(createFestival(admin, "Test Festival", "Test Festival Detail",
+                now.plusDays(1), now.plusDays(4)));
+        ticket = ticketRepository.save(createTicket(festival, 10000L, 100, now, now.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("체크인을 batch 로 저장하고, 이미 저장된 체크인을 찾는다")
+    void saveCheckinsAndFindSavedCheckins() {
+        // given
+        PendingCheckin savedCheckin = new PendingCheckin(festival.getId(), member.getId(), ticket.getId());
+        PendingCheckin newCheckin = new PendingCheckin(festival.getId(), otherMember.getId(), ticket.getId());
+        checkinJdbcRepository.saveCheckins(List.of(savedCheckin));
+
+        // when
+        var saved = checkinJdbcRepository.findSavedCheckins(List.of(savedCheckin, newCheckin));
+
+        // then
+        assertThat(saved).containsExactly(savedCheckin);
+        List<Checkin> checkins = checkinRepository.findAll();
+        assertThat(checkins).hasSize(1);
+        assertThat(checkins.get(0).isCheckedIn()).isFalse();
+    }
+}
@@ -0,0 +1,76 @@
+package com.wootecam.festivals.domain.payment.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.wootecam.festivals.domain.festival.dto.FestivalScheduleEvent;
+import com.wootecam.festivals.domain.festival.dto.FestivalScheduleEventCodec;
+import com.wootecam.festivals.domain.festival.dto.TicketResponse;
+import com.wootecam.festivals.domain.festival.dto.TicketResponseCodec;
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스트림 메시지를 JSON 과 바이너리 형식으로 변환할 때의 메시지 크기와 변환 시간을 비교하는 벤치마크
+ * <p>
+ * 테스트로 실행되지 않으므로 main 메소드로 직접 실행합니다. 변환 시간은 발행(쓰기)과 처리(읽기)를 한 번씩 수행한 평균 시간입니다.
+ * 실행 인자: [측정 횟수]
+ * </p>
+ */
+public class StreamPayloadBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        System.out.printf("java.version=%s, iterations=%d%n", System.getProperty("java.version"), iterations);
+        System.out.printf("%-22s %-7s %-7s %s%n", "payload", "format", "bytes", "ns/op");
+        run("PaymentRequest", PaymentRequest.class, PaymentRequestCodec.INSTANCE,
+                new PaymentRequest(UUID.randomUUID().toString(), 12345L, 678L, 9012345L), iterations);
+        run("PaymentResult", PaymentResult.class, PaymentResultCodec.INSTANCE,
+                new PaymentResult(UUID.randomUUID().toString(), PaymentStatus.SUCCESS), iterations);
+        run("TicketResponse", TicketResponse.class, TicketResponseCodec.INSTANCE,
+                new TicketResponse(678L, "일반 입장권", "축제 기간 중 하루 입장할 수 있는 티켓입니다.", 30000L, 1000, 1000L,
+                        now.plusDays(1), now.plusDays(7), now.plusDays(6), now, now), iterations);
+        run("FestivalScheduleEvent", FestivalScheduleEvent.class, FestivalScheduleEventCodec.INSTANCE,
+                new FestivalScheduleEvent(42L, now.plusDays(10), now.plusDays(12)), iterations);
+    }
+
+    private static <T> void run(String name, Class<T> type, BinaryPayloadCodec<T> codec, T value, int iterations)
+            throws Exception {
+        String json = OBJECT_MAPPER.writeValueAsString(value);
+        String binary = codec.encode(value);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(value), type);
+            codec.decode(codec.encode(value));
+        }
+
+        int sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += OBJECT_MAPPER.readValue(OBJECT_MAPPER.writeValueAsString(value), type).hashCode();
+        }
+        long jsonNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += codec.decode(codec.encode(value)).hashCode();
+        }
+        long binaryNanos = System.nanoTime() - start;
+
+        System.out.printf("%-22s %-7s %-7d %.1f%n", name, "json", json.getBytes(StandardCharsets.UTF_8).length,
+                (double) jsonNanos / iterations);
+        System.out.printf("%-22s %-7s %-7d %.1f%n", name, "binary", binary.getBytes(StandardCharsets.UTF_8).length,
+                (double) binaryNanos / iterations);
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+}
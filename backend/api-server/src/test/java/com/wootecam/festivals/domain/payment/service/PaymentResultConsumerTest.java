@@ -3,7 +3,11 @@ package com.wootecam.festivals.domain.payment.service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,8 +16,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.payment.dto.PaymentResult;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +30,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 @DisplayName("PaymentResultConsumer 테스트")
@@ -30,18 +40,25 @@ class PaymentResultConsumerTest {
     @Mock
     private StringRedisTemplate redisTemplate;
 
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
     @Mock
     private ObjectMapper objectMapper;
 
     @Mock
     private PaymentResultService paymentResultService;
 
+    @Mock
+    private PaymentStatusRedisRepository paymentStatusRedisRepository;
+
     @InjectMocks
     private PaymentResultConsumer paymentResultConsumer;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
     }
 
     @Test
@@ -54,12 +71,15 @@ class PaymentResultConsumerTest {
         ObjectRecord<String, String> message = ObjectRecord.create("stream-key", serializedMessage);
 
         when(objectMapper.readValue(serializedMessage, PaymentResult.class)).thenReturn(paymentResult);
+        when(paymentResultService.handlePaymentStatus(paymentId, PaymentStatus.SUCCESS))
+                .thenReturn(PurchaseStatus.PAID);
 
         // when
         assertDoesNotThrow(() -> paymentResultConsumer.onMessage(message));
 
         // then
         verify(paymentResultService, times(1)).handlePaymentStatus(paymentId, PaymentStatus.SUCCESS);
+        verify(paymentStatusRedisRepository, times(1)).complete(paymentId, PurchaseStatus.PAID);
     }
 
     @Test
@@ -93,4 +113,59 @@ class PaymentResultConsumerTest {
         ApiException exception = assertThrows(ApiException.class, () -> paymentResultConsumer.onMessage(message));
         assertEquals(GlobalErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode(), "에러 코드가 INTERNAL_SERVER_ERROR여야 합니다.");
     }
+
+    @Test
+    @DisplayName("여러 메시지를 한 번에 처리하고 한 번에 확인한다")
+    void testOnMessagesSuccess() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> paid = createMessage("1-0", "payment-paid", PaymentStatus.SUCCESS);
+        ObjectRecord<String, String> failed = createMessage("2-0", "payment-failed", PaymentStatus.FAILED_CLIENT);
+        ObjectRecord<String, String> invalid = ObjectRecord.create("stream-key", "invalid json")
+                .withId(RecordId.of("3-0"));
+        when(objectMapper.readValue("invalid json", PaymentResult.class)).thenThrow(new JsonProcessingException("JSON 오류") {});
+
+        Map<String, PurchaseStatus> purchaseStatuses = Map.of("payment-paid", PurchaseStatus.PAID,
+                "payment-failed", PurchaseStatus.INITIATED);
+        when(paymentResultService.handlePaymentStatuses(List.of(
+                new PaymentResult("payment-paid", PaymentStatus.SUCCESS),
+                new PaymentResult("payment-failed", PaymentStatus.FAILED_CLIENT))))
+                .thenReturn(purchaseStatuses);
+
+        // when
+        assertDoesNotThrow(() -> paymentResultConsumer.onMessages(List.of(paid, failed, invalid)));
+
+        // then
+        verify(paymentStatusRedisRepository, times(1)).completeAll(purchaseStatuses);
+        verify(streamOperations, times(1)).acknowledge(any(), any(),
+                eq(RecordId.of("3-0")), eq(RecordId.of("1-0")), eq(RecordId.of("2-0")));
+    }
+
+    @Test
+    @DisplayName("일괄 처리에 실패하면 한 건씩 다시 처리하고 처리한 메시지만 확인한다")
+    void testOnMessagesFallback() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> paid = createMessage("1-0", "payment-paid", PaymentStatus.SUCCESS);
+        ObjectRecord<String, String> missing = createMessage("2-0", "payment-missing", PaymentStatus.SUCCESS);
+        when(paymentResultService.handlePaymentStatuses(anyList())).thenThrow(new RuntimeException("Service exception"));
+        when(paymentResultService.handlePaymentStatus("payment-paid", PaymentStatus.SUCCESS))
+                .thenReturn(PurchaseStatus.PAID);
+        when(paymentResultService.handlePaymentStatus("payment-missing", PaymentStatus.SUCCESS))
+                .thenThrow(new RuntimeException("Service exception"));
+
+        // when
+        assertDoesNotThrow(() -> paymentResultConsumer.onMessages(List.of(paid, missing)));
+
+        // then
+        verify(paymentStatusRedisRepository, times(1)).complete("payment-paid", PurchaseStatus.PAID);
+        verify(paymentStatusRedisRepository, never()).complete("payment-missing", PurchaseStatus.PAID);
+        verify(streamOperations, times(1)).acknowledge(any(), any(), eq(RecordId.of("1-0")));
+    }
+
+    private ObjectRecord<String, String> createMessage(String recordId, String paymentId, PaymentStatus status)
+            throws JsonProcessingException {
+        String serializedMessage = "{\"paymentId\":\"" + paymentId + "\",\"status\":\"" + status + "\"}";
+        when(objectMapper.readValue(serializedMessage, PaymentResult.class))
+                .thenReturn(new PaymentResult(paymentId, status));
+        return ObjectRecord.create("stream-key", serializedMessage).withId(RecordId.of(recordId));
+    }
 }
@@ -5,15 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import com.wootecam.festivals.domain.checkin.dto.PendingCheckin;
+import com.wootecam.festivals.domain.checkin.repository.CheckinJdbcRepository;
 import com.wootecam.festivals.domain.checkin.service.CheckinService;
+import com.wootecam.festivals.domain.festival.entity.Festival;
 import com.wootecam.festivals.domain.member.entity.Member;
+import com.wootecam.festivals.domain.payment.dto.PaymentResult;
 import com.wootecam.festivals.domain.payment.entity.Payment;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
 import com.wootecam.festivals.domain.payment.repository.PaymentRepository;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.domain.purchase.service.CompensationService;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,6 +43,9 @@ class PaymentResultServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private CheckinJdbcRepository checkinJdbcRepository;
+
     @InjectMocks
     private PaymentResultService paymentResultService;
 
@@ -95,6 +106,32 @@ class PaymentResultServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("이미 결제 결과가 반영된 결제 ID가 주어졌을 때")
+        class Context_with_completed_payment_id {
+
+            @BeforeEach
+            void setUp() {
+                when(payment.getPurchase()).thenReturn(purchase);
+                when(payment.isCompleted()).thenReturn(true);
+                when(purchase.getPurchaseStatus()).thenReturn(PurchaseStatus.INITIATED);
+                when(paymentRepository.findByPaymentUuidWithPurchase(paymentUuid)).thenReturn(Optional.of(payment));
+            }
+
+            @Test
+            @DisplayName("재고를 다시 복구하지 않고 현재 구매 상태를 반환한다")
+            void it_does_not_compensate_again() {
+                // when
+                PurchaseStatus purchaseStatus = paymentResultService.handlePaymentStatus(paymentUuid,
+                        PaymentStatus.FAILED_SERVER);
+
+                // then
+                assertThat(purchaseStatus).isEqualTo(PurchaseStatus.INITIATED);
+                verify(compensationService, never()).compensateFailedPurchase(anyString(), anyLong(), anyLong());
+                verify(payment, never()).fail(any());
+            }
+        }
+
         @Nested
         @DisplayName("유효하지 않은 결제 ID가 주어졌을 때")
         class Context_with_invalid_payment_id {
@@ -114,4 +151,109 @@ class PaymentResultServiceTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("handlePaymentStatuses 메소드는")
+    class Describe_handlePaymentStatuses {
+
+        private final Ticket ticket = mock(Ticket.class);
+        private final Festival festival = mock(Festival.class);
+
+        private Payment mockPayment(String paymentUuid, Long memberId, PurchaseStatus purchaseStatus) {
+            Payment payment = mock(Payment.class);
+            Purchase purchase = mock(Purchase.class);
+            Member member = mock(Member.class);
+            lenient().when(payment.getPaymentUuid()).thenReturn(paymentUuid);
+            lenient().when(payment.getPurchase()).thenReturn(purchase);
+            lenient().when(purchase.getMember()).thenReturn(member);
+            lenient().when(purchase.getTicket()).thenReturn(ticket);
+            lenient().when(purchase.getPurchaseStatus()).thenReturn(purchaseStatus);
+            lenient().when(member.getId()).thenReturn(memberId);
+            return payment;
+        }
+
+        @BeforeEach
+        void setUp() {
+            lenient().when(ticket.getId()).thenReturn(10L);
+            lenient().when(ticket.getFestival()).thenReturn(festival);
+            lenient().when(festival.getId()).thenReturn(100L);
+        }
+
+        @Test
+        @DisplayName("결제 정보를 한 번에 조회해 반영하고, 저장되지 않은 체크인만 한 번에 저장한다")
+        void it_handles_payment_results_at_once() {
+            // given
+            Payment paid = mockPayment("payment-paid", 1L, PurchaseStatus.PAID);
+            Payment alreadyCheckedIn = mockPayment("payment-checked-in", 2L, PurchaseStatus.PAID);
+            Payment failed = mockPayment("payment-failed", 3L, PurchaseStatus.INITIATED);
+            when(paymentRepository.findAllByPaymentUuidInWithPurchase(
+                    Set.of("payment-paid", "payment-checked-in", "payment-failed")))
+                    .thenReturn(List.of(paid, alreadyCheckedIn, failed));
+            when(checkinJdbcRepository.findSavedCheckins(anyList()))
+                    .thenReturn(Set.of(new PendingCheckin(100L, 2L, 10L)));
+
+            // when
+            Map<String, PurchaseStatus> purchaseStatuses = paymentResultService.handlePaymentStatuses(List.of(
+                    new PaymentResult("payment-paid", PaymentStatus.SUCCESS),
+                    new PaymentResult("payment-checked-in", PaymentStatus.SUCCESS),
+                    new PaymentResult("payment-failed", PaymentStatus.FAILED_CLIENT)));
+
+            // then
+            assertThat(purchaseStatuses).containsExactly(
+                    Map.entry("payment-paid", PurchaseStatus.PAID),
+                    Map.entry("payment-checked-in", PurchaseStatus.PAID),
+                    Map.entry("payment-failed", PurchaseStatus.INITIATED));
+            verify(paid).success();
+            verify(alreadyCheckedIn).success();
+            verify(failed).fail(PaymentStatus.FAILED_CLIENT);
+            verify(compensationService).compensateFailedPurchase("payment-failed", 10L, 3L);
+            verify(checkinJdbcRepository).saveCheckins(List.of(new PendingCheckin(100L, 1L, 10L)));
+            verify(checkinService, never()).createPendingCheckin(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("이미 결제 결과가 반영된 결제는 재고를 다시 복구하지 않고 현재 구매 상태를 반환한다")
+        void it_skips_completed_payments() {
+            // given
+            Payment completed = mockPayment("payment-completed", 1L, PurchaseStatus.INITIATED);
+            when(completed.isCompleted()).thenReturn(true);
+            Payment failed = mockPayment("payment-failed", 2L, PurchaseStatus.INITIATED);
+            when(paymentRepository.findAllByPaymentUuidInWithPurchase(Set.of("payment-completed", "payment-failed")))
+                    .thenReturn(List.of(completed, failed));
+            when(checkinJdbcRepository.findSavedCheckins(anyList())).thenReturn(Set.of());
+
+            // when
+            Map<String, PurchaseStatus> purchaseStatuses = paymentResultService.handlePaymentStatuses(List.of(
+                    new PaymentResult("payment-completed", PaymentStatus.FAILED_SERVER),
+                    new PaymentResult("payment-failed", PaymentStatus.FAILED_SERVER)));
+
+            // then
+            assertThat(purchaseStatuses).containsExactly(
+                    Map.entry("payment-completed", PurchaseStatus.INITIATED),
+                    Map.entry("payment-failed", PurchaseStatus.INITIATED));
+            verify(completed, never()).fail(any());
+            verify(compensationService, never()).compensateFailedPurchase(eq("payment-completed"), anyLong(),
+                    anyLong());
+            verify(compensationService).compensateFailedPurchase("payment-failed", 10L, 2L);
+            verify(failed).fail(PaymentStatus.FAILED_SERVER);
+        }
+
+        @Test
+        @DisplayName("결제 정보를 찾지 못한 결제 ID 가 있으면 예외를 던진다")
+        void it_throws_exception_when_payment_is_missing() {
+            // given
+            Payment paid = mockPayment("payment-paid", 1L, PurchaseStatus.PAID);
+            when(paymentRepository.findAllByPaymentUuidInWithPurchase(Set.of("payment-paid", "invalid-id")))
+                    .thenReturn(List.of(paid));
+
+            // when & then
+            RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                    paymentResultService.handlePaymentStatuses(List.of(
+                            new PaymentResult("payment-paid", PaymentStatus.SUCCESS),
+                            new PaymentResult("invalid-id", PaymentStatus.SUCCESS))));
+            assertThat(exception.getMessage()).contains("invalid-id");
+            verify(paid, never()).success();
+            verify(checkinJdbcRepository, never()).saveCheckins(anyList());
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("PaymentStatusWatchService 통합 테스트")
+class PaymentStatusWatchServiceTest extends SpringBootTestConfig {
+
+    @Autowired
+    private PaymentStatusWatchService paymentStatusWatchService;
+    @Autowired
+    private PaymentStatusRedisRepository paymentStatusRedisRepository;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("watch 메소드는")
+    class Describe_watch {
+
+        @Test
+        @DisplayName("이미 결제 결과 처리가 끝났다면 캐싱된 결제 상태를 바로 전달한다")
+        void it_delivers_cached_status_immediately() {
+            // given
+            paymentStatusRedisRepository.complete("payment-completed", PurchaseStatus.PAID);
+            List<PurchaseStatus> delivered = new CopyOnWriteArrayList<>();
+
+            // when
+            paymentStatusWatchService.watch("payment-completed", delivered::add);
+
+            // then
+            assertThat(delivered).containsExactly(PurchaseStatus.PAID);
+        }
+
+        @Test
+        @DisplayName("기다리는 동안 결제 결과 처리가 끝나면 결제 상태를 전달한다")
+        void it_delivers_status_when_completed() throws Exception {
+            // given
+            paymentStatusRedisRepository.saveIfAbsent("payment-waiting", PurchaseStatus.INITIATED);
+            CompletableFuture<PurchaseStatus> delivered = new CompletableFuture<>();
+            paymentStatusWatchService.watch("payment-waiting", delivered::complete);
+
+            // when
+            paymentStatusRedisRepository.complete("payment-waiting", PurchaseStatus.PAID);
+
+            // then
+            assertThat(delivered.get(3, TimeUnit.SECONDS)).isEqualTo(PurchaseStatus.PAID);
+        }
+
+        @Test
+        @DisplayName("등록을 취소하면 결제 상태를 전달하지 않는다")
+        void it_does_not_deliver_after_unwatch() throws Exception {
+            // given
+            List<PurchaseStatus> delivered = new CopyOnWriteArrayList<>();
+            Runnable unwatch = paymentStatusWatchService.watch("payment-canceled", delivered::add);
+            CompletableFuture<PurchaseStatus> other = new CompletableFuture<>();
+            paymentStatusWatchService.watch("payment-other", other::complete);
+
+            // when
+            unwatch.run();
+            paymentStatusRedisRepository.complete("payment-canceled", PurchaseStatus.PAID);
+            paymentStatusRedisRepository.complete("payment-other", PurchaseStatus.PAID);
+
+            // then
+            other.get(3, TimeUnit.SECONDS);
+            assertThat(delivered).isEmpty();
+        }
+    }
+}
@@ -16,9 +16,12 @@ import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockRepository;
+import com.wootecam.festivals.global.auth.AdmissionToken;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -78,7 +81,7 @@ class PurchaseSyncTest extends SpringBootTestConfig {
                 try {
 
                     PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticket.getId(),
-                            customer.getId(), LocalDateTime.now());
+                            customer.getId(), LocalDateTime.now(), admissionToken());
                     if (purchasableResponse.purchasable()) {
                         ticketStockDecreaseSuccessCount.incrementAndGet();
                     } else {
@@ -109,6 +112,10 @@ class PurchaseSyncTest extends SpringBootTestConfig {
         );
     }
 
+    private AdmissionToken admissionToken() {
+        return new AdmissionToken(UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+    }
+
     private Member createMember() {
         return memberRepository.save(Member.builder()
                 .name("name")
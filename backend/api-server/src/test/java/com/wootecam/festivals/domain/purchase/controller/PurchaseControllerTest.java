@@ -1,29 +1,45 @@
 package com.wootecam.festivals.domain.purchase.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.beneathPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.wootecam.festivals.docs.utils.RestDocsSupport;
 import com.wootecam.festivals.domain.payment.exception.PaymentErrorCode;
+import com.wootecam.festivals.domain.payment.service.PaymentStatusWatchService;
 import com.wootecam.festivals.domain.purchase.dto.PurchasableResponse;
 import com.wootecam.festivals.domain.purchase.dto.PurchasePreviewInfoResponse;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
+import com.wootecam.festivals.domain.purchase.service.CheckoutMetricsRecorder;
 import com.wootecam.festivals.domain.purchase.service.PurchaseFacadeService;
 import com.wootecam.festivals.domain.purchase.service.PurchaseService;
 import com.wootecam.festivals.domain.ticket.exception.TicketErrorCode;
 import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
+import com.wootecam.festivals.global.auth.AdmissionTokenVerifier;
 import com.wootecam.festivals.global.auth.AuthErrorCode;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import jakarta.servlet.AsyncListener;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,7 +50,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -54,6 +72,15 @@ class PurchaseControllerTest extends RestDocsSupport {
     @MockBean
     private PurchaseSessionRedisRepository purchaseSessionRedisRepository;
 
+    @MockBean
+    private CheckoutMetricsRecorder checkoutMetricsRecorder;
+
+    @MockBean
+    private AdmissionTokenVerifier admissionTokenVerifier;
+
+    @MockBean
+    private PaymentStatusWatchService paymentStatusWatchService;
+
     static Stream<Arguments> provideException() {
         return Stream.of(
                 Arguments.of(new ApiException(PurchaseErrorCode.INVALID_TICKET_PURCHASE_TIME)),
@@ -70,21 +97,26 @@ class PurchaseControllerTest extends RestDocsSupport {
 
     @Override
     protected Object initController() {
-        return new PurchaseController(purchaseFacadeService, purchaseService, purchaseSessionRedisRepository);
+        return new PurchaseController(purchaseFacadeService, purchaseService, purchaseSessionRedisRepository,
+                checkoutMetricsRecorder, admissionTokenVerifier, paymentStatusWatchService);
     }
 
     @Test
     @DisplayName("티켓 구매 가능 여부 확인 API - 성공")
     void checkPurchasable() throws Exception {
         //given
-        given(purchaseService.checkPurchasable(any(), any(), any()))
+        given(purchaseService.checkPurchasable(any(), any(), any(), any()))
                 .willReturn(new PurchasableResponse(true, "session1"));
 
         //when then
-        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L))
+        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L)
+                        .header("Admission-Token", "admissionToken"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.purchasable").value(true))
                 .andDo(restDocs.document(
+                        requestHeaders(
+                                headerWithName("Admission-Token").description("대기열 통과 시 발급받은 입장 토큰")
+                        ),
                         responseFields(
                                 beneathPath("data").withSubsectionId("data"),
                                 fieldWithPath("purchasable").type(JsonFieldType.BOOLEAN)
@@ -110,7 +142,7 @@ class PurchaseControllerTest extends RestDocsSupport {
     @DisplayName("티켓 구매 가능 여부 확인 API - 실패")
     void fail_checkPurchasable(ApiException exception) throws Exception {
         //given
-        given(purchaseService.checkPurchasable(any(), any(), any())).willThrow(exception);
+        given(purchaseService.checkPurchasable(any(), any(), any(), any())).willThrow(exception);
 
         //when then
         this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L))
@@ -123,6 +155,27 @@ class PurchaseControllerTest extends RestDocsSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("티켓 구매 가능 여부 확인 API - 입장 토큰이 유효하지 않으면 DB 조회 없이 실패")
+    void fail_checkPurchasable_without_admission_token() throws Exception {
+        //given
+        willThrow(new ApiException(PurchaseErrorCode.INVALID_ADMISSION_TOKEN))
+                .given(admissionTokenVerifier).verify(isNull(), anyLong(), any());
+
+        //when then
+        this.mockMvc.perform(get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/check", 1L, 1L))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value(PurchaseErrorCode.INVALID_ADMISSION_TOKEN.getCode()))
+                .andDo(restDocs.document(
+                        responseFields(
+                                fieldWithPath("errorCode").type(JsonFieldType.STRING).description("에러 코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("에러 메시지")
+                        )
+                ));
+
+        verify(purchaseService, never()).checkPurchasable(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("티켓 구매 미리보기 정보 조회 API")
     void getPurchasePreviewInfo() throws Exception {
@@ -333,4 +386,84 @@ class PurchaseControllerTest extends RestDocsSupport {
                         )
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("결제 상태 대기 성공 - 결제 결과 처리가 끝나면 결제 상태를 반환한다")
+    void awaitPaymentStatus_success() throws Exception {
+        // given
+        String paymentId = "payment-123";
+        given(purchaseFacadeService.getPaymentStatus(paymentId))
+                .willReturn(PurchaseStatus.INITIATED);
+        given(paymentStatusWatchService.getTimeoutMillis()).willReturn(10000L);
+        willAnswer(invocation -> {
+            Consumer<PurchaseStatus> callback = invocation.getArgument(1);
+            callback.accept(PurchaseStatus.PAID);
+            return (Runnable) () -> {
+            };
+        }).given(paymentStatusWatchService).watch(eq(paymentId), any());
+
+        // when
+        MvcResult mvcResult = this.mockMvc.perform(
+                        get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/{paymentId}/status/long-poll",
+                                1L, 1L, paymentId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.paymentStatus").value("PAID"))
+                .andDo(restDocs.document(
+                        responseFields(
+                                beneathPath("data").withSubsectionId("data"),
+                                fieldWithPath("paymentStatus").type(JsonFieldType.STRING).description("결제 상태")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("결제 상태 대기 시간 초과 - DB 에서 조회한 결제 상태를 반환한다")
+    void awaitPaymentStatus_timeout() throws Exception {
+        // given
+        String paymentId = "payment-123";
+        given(purchaseFacadeService.getPaymentStatus(paymentId))
+                .willReturn(PurchaseStatus.INITIATED);
+        given(purchaseFacadeService.refreshPaymentStatus(paymentId))
+                .willReturn(PurchaseStatus.PAID);
+        given(paymentStatusWatchService.getTimeoutMillis()).willReturn(10000L);
+        given(paymentStatusWatchService.watch(eq(paymentId), any())).willReturn(() -> {
+        });
+
+        // when
+        MvcResult mvcResult = this.mockMvc.perform(
+                        get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/{paymentId}/status/long-poll",
+                                1L, 1L, paymentId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+
+        // then
+        this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.paymentStatus").value("PAID"));
+    }
+
+    @Test
+    @DisplayName("결제 상태 대기 실패 - 존재하지 않는 결제라면 기다리지 않는다")
+    void awaitPaymentStatus_notFound() throws Exception {
+        // given
+        String paymentId = "non-existent-payment";
+        given(purchaseFacadeService.getPaymentStatus(paymentId))
+                .willThrow(new ApiException(PaymentErrorCode.PAYMENT_NOT_EXIST));
+
+        // when & then
+        this.mockMvc.perform(
+                        get("/api/v1/festivals/{festivalId}/tickets/{ticketId}/purchase/{paymentId}/status/long-poll",
+                                1L, 1L, paymentId))
+                .andExpect(status().isNotFound());
+        verify(paymentStatusWatchService, never()).watch(any(), any());
+    }
+}
@@ -0,0 +1,113 @@
+package com.wootecam.festivals.domain.purchase.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.purchase.dto.PurchaseIntent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PurchaseIntentLogRepository 클래스")
+class PurchaseIntentLogRepositoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path tempDir;
+
+    private PurchaseIntentLogRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.destroy();
+        }
+    }
+
+    private PurchaseIntentLogRepository createRepository(boolean fsync, long compactBytes) {
+        return new PurchaseIntentLogRepository(objectMapper, logPath().toString(), fsync, compactBytes);
+    }
+
+    private Path logPath() {
+        return tempDir.resolve("purchase-intents.log");
+    }
+
+    private PurchaseIntent createIntent(String paymentId) {
+        return new PurchaseIntent(paymentId, 1L, 1L, 1L, LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Nested
+    @DisplayName("append 메소드는")
+    class Describe_append {
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 기록해도 모든 구매 요청을 기록한 뒤 반환한다")
+        void it_records_all_intents_appended_concurrently() {
+            // given
+            repository = createRepository(true, Long.MAX_VALUE);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            CompletableFuture<?>[] futures = IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> repository.append(createIntent("payment-" + i)),
+                            executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+            executor.shutdown();
+
+            // then
+            assertThat(repository.recover()).hasSize(200);
+        }
+    }
+
+    @Nested
+    @DisplayName("markFlushed 메소드는")
+    class Describe_markFlushed {
+
+        @Test
+        @DisplayName("저장을 기다리는 구매 요청이 남아 있어도 필요 없는 기록이 compact-bytes 보다 크면 파일을 정리한다")
+        void it_compacts_while_intents_are_pending() throws IOException {
+            // given
+            repository = createRepository(false, 1024);
+            repository.append(createIntent("payment-pending"));
+            List<String> flushed = IntStream.range(0, 20).mapToObj(i -> "payment-" + i).toList();
+            flushed.forEach(paymentId -> repository.append(createIntent(paymentId)));
+
+            // when
+            repository.markFlushed(flushed);
+
+            // then
+            assertThat(Files.readAllLines(logPath())).hasSize(1);
+            assertThat(repository.recover())
+                    .extracting(PurchaseIntent::paymentId)
+                    .containsExactly("payment-pending");
+        }
+
+        @Test
+        @DisplayName("기록 크기를 문자 수가 아닌 바이트 수로 계산한다")
+        void it_counts_written_bytes() throws IOException {
+            // given - 한글 결제 ID 는 문자 수보다 바이트 수가 커서, 문자 수로 계산하면 compact-bytes 를 넘지 않습니다.
+            String paymentId = "결제".repeat(100);
+            repository = createRepository(false, 1000);
+            repository.append(createIntent(paymentId));
+
+            // when
+            repository.markFlushed(List.of(paymentId));
+
+            // then
+            assertThat(Files.size(logPath())).isZero();
+        }
+    }
+}
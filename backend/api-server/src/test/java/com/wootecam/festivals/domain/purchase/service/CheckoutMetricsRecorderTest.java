@@ -0,0 +1,113 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.wootecam.festivals.domain.ticket.entity.CheckoutMetrics;
+import com.wootecam.festivals.domain.ticket.repository.CheckoutMetricsRedisRepository;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("CheckoutMetricsRecorder 클래스")
+class CheckoutMetricsRecorderTest {
+
+    @Mock
+    private CheckoutMetricsRedisRepository checkoutMetricsRedisRepository;
+
+    @InjectMocks
+    private CheckoutMetricsRecorder checkoutMetricsRecorder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Nested
+    @DisplayName("flush 메소드는")
+    class Describe_flush {
+
+        @Test
+        @DisplayName("모아 둔 처리 결과를 티켓마다 한 번에 기록한다")
+        void it_records_aggregated_metrics_once_per_ticket() {
+            // given
+            checkoutMetricsRecorder.record(1L, 100, true);
+            checkoutMetricsRecorder.record(1L, 300, false);
+            checkoutMetricsRecorder.record(2L, 50, true);
+
+            // when
+            checkoutMetricsRecorder.flush();
+
+            // then
+            verify(checkoutMetricsRedisRepository).record(1L, new CheckoutMetrics(1L, 2L, 400L));
+            verify(checkoutMetricsRedisRepository).record(2L, new CheckoutMetrics(1L, 1L, 50L));
+        }
+
+        @Test
+        @DisplayName("직전 기록 이후 요청이 없다면 기록하지 않는다")
+        void it_does_not_record_when_idle() {
+            // given
+            checkoutMetricsRecorder.record(1L, 100, true);
+            checkoutMetricsRecorder.flush();
+
+            // when
+            checkoutMetricsRecorder.flush();
+
+            // then
+            verify(checkoutMetricsRedisRepository, times(1)).record(any(), any(CheckoutMetrics.class));
+        }
+
+        @Test
+        @DisplayName("기록하는 동안 더해진 처리 결과도 빠뜨리지 않는다")
+        void it_does_not_lose_results_recorded_during_flush() {
+            // given
+            AtomicLong recordedRequests = new AtomicLong();
+            doAnswer(invocation -> {
+                CheckoutMetrics metrics = invocation.getArgument(1);
+                recordedRequests.addAndGet(metrics.requestCount());
+                return null;
+            }).when(checkoutMetricsRedisRepository).record(any(), any(CheckoutMetrics.class));
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            CompletableFuture<?>[] futures = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        for (int j = 0; j < 10_000; j++) {
+                            checkoutMetricsRecorder.record(1L, 1, false);
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            while (!CompletableFuture.allOf(futures).isDone()) {
+                checkoutMetricsRecorder.flush();
+            }
+            checkoutMetricsRecorder.flush();
+            executor.shutdown();
+
+            // then
+            assertThat(recordedRequests.get()).isEqualTo(80_000L);
+        }
+
+        @Test
+        @DisplayName("처리 결과가 없다면 Redis 에 요청하지 않는다")
+        void it_does_nothing_without_records() {
+            // when
+            checkoutMetricsRecorder.flush();
+
+            // then
+            verify(checkoutMetricsRedisRepository, never()).record(any(), any(CheckoutMetrics.class));
+        }
+    }
+}
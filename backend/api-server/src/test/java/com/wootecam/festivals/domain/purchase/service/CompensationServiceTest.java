@@ -9,6 +9,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockIdRedisRepository;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @DisplayName("보상 트랜잭션 테스트")
 class CompensationServiceTest {
@@ -27,6 +31,9 @@ class CompensationServiceTest {
     @Mock
     private TicketStockCountRedisRepository ticketStockCountRedisRepository;
 
+    @Mock
+    private TicketStockIdRedisRepository ticketStockIdRedisRepository;
+
     @InjectMocks
     private CompensationService compensationService;
 
@@ -45,7 +52,7 @@ class CompensationServiceTest {
         Long memberId = 1L;
 
         when(ticketStockCountRedisRepository.increaseTicketStockCount(ticketId)).thenReturn(1L);
-        when(jdbcTemplate.update(anyString(), any(Long.class))).thenReturn(1);
+        when(jdbcTemplate.update(anyString(), any(), any())).thenReturn(1);
 
         // When
         compensationService.compensateFailedPurchase(paymentId, ticketId, memberId);
@@ -61,43 +68,96 @@ class CompensationServiceTest {
     }
 
     @Test
-    @DisplayName("Redis 재고 증가 실패 시 MySQL 작업 수행하지 않음")
-    void compensateFailedPurchase_RedisException() {
-        // 이 테스트는 Redis 재고 증가 작업이 실패할 경우, MySQL 작업이 수행되지 않는 것을 검증합니다.
+    @DisplayName("보상 처리 성공: 점유 해제된 티켓 재고 ID 를 다시 적재")
+    void compensateFailedPurchase_PushBackTicketStockId() {
         // Given
         String paymentId = "test-payment-id";
         Long ticketId = 1L;
+        Long memberId = 1L;
         Long ticketStockId = 100L;
 
+        when(ticketStockCountRedisRepository.increaseTicketStockCount(ticketId)).thenReturn(1L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(memberId), eq(ticketId)))
+                .thenReturn(List.of(ticketStockId));
+
+        // When
+        compensationService.compensateFailedPurchase(paymentId, ticketId, memberId);
+
+        // Then
+        verify(ticketStockIdRedisRepository).pushTicketStockId(ticketId, ticketStockId);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에 Redis 재고를 복구")
+    void compensateFailedPurchase_RestoreRedisStockAfterCommit() {
+        // Given
+        String paymentId = "test-payment-id";
+        Long ticketId = 1L;
+        Long memberId = 1L;
+        Long ticketStockId = 100L;
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(memberId), eq(ticketId)))
+                .thenReturn(List.of(ticketStockId));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            compensationService.compensateFailedPurchase(paymentId, ticketId, memberId);
+
+            // Then
+            verify(ticketStockCountRedisRepository, never()).increaseTicketStockCount(ticketId);
+            verify(ticketStockIdRedisRepository, never()).pushTicketStockId(ticketId, ticketStockId);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(ticketStockCountRedisRepository).increaseTicketStockCount(ticketId);
+            verify(ticketStockIdRedisRepository).pushTicketStockId(ticketId, ticketStockId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 재고 증가 실패 시에도 MySQL 티켓 재고 점유 해제는 유지")
+    void compensateFailedPurchase_RedisException() {
+        // 이 테스트는 MySQL 티켓 재고 점유 해제 이후 Redis 재고 증가 작업이 실패해도 예외가 전파되지 않는 것을 검증합니다.
+        // Given
+        String paymentId = "test-payment-id";
+        Long ticketId = 1L;
+        Long memberId = 1L;
+
         doThrow(new RuntimeException("Redis error"))
                 .when(ticketStockCountRedisRepository).increaseTicketStockCount(ticketId);
 
         // When
-        compensationService.compensateFailedPurchase(paymentId, ticketId, ticketStockId);
+        compensationService.compensateFailedPurchase(paymentId, ticketId, memberId);
 
         // Then
+        verify(jdbcTemplate).update(
+                eq("""
+                        UPDATE ticket_stock SET ticket_stock_member_id = NULL 
+                        WHERE ticket_stock_member_id = ? and ticket_id = ?"""),
+                eq(memberId), eq(ticketId)
+        );
         verify(ticketStockCountRedisRepository).increaseTicketStockCount(ticketId);
-        verify(jdbcTemplate, never()).update(anyString(), any(Long.class));
     }
 
     @Test
-    @DisplayName("MySQL 티켓 재고 점유 해제 실패 시 예외 처리")
+    @DisplayName("MySQL 티켓 재고 점유 해제 실패 시 Redis 재고를 복구하지 않음")
     void compensateFailedPurchase_JdbcException() {
-        // 이 테스트는 Redis 재고 증가는 성공했지만 MySQL 티켓 재고 점유 해제가 실패할 경우의 예외 처리를 검증합니다.
+        // 이 테스트는 MySQL 티켓 재고 점유 해제가 실패할 경우 Redis 재고를 복구하지 않는 것을 검증합니다.
         // Given
         String paymentId = "test-payment-id";
         Long ticketId = 1L;
         Long memberId = 1L;
 
-        when(ticketStockCountRedisRepository.increaseTicketStockCount(ticketId)).thenReturn(1L);
         doThrow(new DataAccessException("Database error") {
-        }).when(jdbcTemplate).update(anyString(), any(Long.class));
+        }).when(jdbcTemplate).update(anyString(), any(), any());
 
         // When
         compensationService.compensateFailedPurchase(paymentId, ticketId, memberId);
 
         // Then
-        verify(ticketStockCountRedisRepository).increaseTicketStockCount(ticketId);
+        verify(ticketStockCountRedisRepository, never()).increaseTicketStockCount(ticketId);
         verify(jdbcTemplate).update(
                 eq("""
                         UPDATE ticket_stock SET ticket_stock_member_id = NULL 
@@ -119,13 +179,12 @@ class CompensationServiceTest {
                 .when(ticketStockCountRedisRepository).increaseTicketStockCount(ticketId);
         doThrow(new DataAccessException("Database error") {
         })
-                .when(jdbcTemplate).update(anyString(), any(Long.class));
+                .when(jdbcTemplate).update(anyString(), any(), any());
 
         // When
         compensationService.compensateFailedPurchase(paymentId, ticketId, ticketStockId);
 
         // Then
-        verify(ticketStockCountRedisRepository).increaseTicketStockCount(ticketId);
-        verify(jdbcTemplate, never()).update(anyString(), any(Long.class));
+        verify(ticketStockCountRedisRepository, never()).increaseTicketStockCount(ticketId);
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,9 +15,12 @@ import com.wootecam.festivals.domain.festival.entity.Festival;
 import com.wootecam.festivals.domain.member.entity.Member;
 import com.wootecam.festivals.domain.member.repository.MemberRepository;
 import com.wootecam.festivals.domain.payment.dto.PaymentRequest;
+import com.wootecam.festivals.domain.payment.dto.CachedPaymentStatus;
 import com.wootecam.festivals.domain.payment.repository.PaymentRepository;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
 import com.wootecam.festivals.domain.payment.service.PaymentRequestEventProducer;
 import com.wootecam.festivals.domain.purchase.dto.PurchaseData;
+import com.wootecam.festivals.domain.purchase.dto.PurchaseIntent;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
@@ -25,6 +29,7 @@ import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.service.TicketCacheService;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.global.utils.TimeProvider;
+import com.wootecam.festivals.global.utils.UuidProvider;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class PurchaseFacadeServiceTest {
@@ -49,6 +55,9 @@ class PurchaseFacadeServiceTest {
     @Mock
     private TimeProvider timeProvider;
 
+    @Mock
+    private UuidProvider uuidProvider;
+
     @Mock
     private PaymentRequestEventProducer paymentRequestEventProducer;
 
@@ -58,9 +67,18 @@ class PurchaseFacadeServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private PaymentStatusRedisRepository paymentStatusRedisRepository;
+
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private PurchaseWriteBehindService purchaseWriteBehindService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PurchaseFacadeService purchaseFacadeService;
 
@@ -97,6 +115,7 @@ class PurchaseFacadeServiceTest {
                 // purchaseRepository와 paymentRepository는 save 시 전달된 객체를 그대로 반환하도록 설정
                 when(purchaseRepository.save(any(Purchase.class))).thenAnswer(invocation -> invocation.getArgument(0));
                 when(paymentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+                when(uuidProvider.getTimeOrderedUuid()).thenReturn("payment-id");
             }
 
             @Test
@@ -109,13 +128,44 @@ class PurchaseFacadeServiceTest {
                 String paymentId = purchaseFacadeService.processPurchase(purchaseData);
 
                 // then
-                assertThat(paymentId).isNotNull().isNotEmpty();
+                assertThat(paymentId).isEqualTo("payment-id");
                 verify(purchaseRepository).save(any(Purchase.class));
                 verify(paymentRepository).save(any());
                 verify(paymentRequestEventProducer).sendPaymentEvent(any(PaymentRequest.class));
             }
         }
 
+        @Nested
+        @DisplayName("쓰기 지연 단계가 구매 요청을 접수하면")
+        class Context_with_write_behind_accepted {
+
+            @BeforeEach
+            void setUp() {
+                LocalDateTime fixedTime = LocalDateTime.now();
+                when(timeProvider.getCurrentTime()).thenReturn(fixedTime);
+
+                Ticket ticket = mock(Ticket.class);
+                when(ticket.getStartSaleTime()).thenReturn(fixedTime.minusDays(1));
+                when(ticket.getEndSaleTime()).thenReturn(fixedTime.plusDays(1));
+                when(ticketCacheService.getTicket(ticketId)).thenReturn(ticket);
+                when(purchaseWriteBehindService.offer(any(PurchaseIntent.class))).thenReturn(true);
+                when(uuidProvider.getTimeOrderedUuid()).thenReturn("payment-id");
+            }
+
+            @Test
+            @DisplayName("저장 없이 결제 ID를 바로 반환한다")
+            void it_returns_payment_id_without_saving() {
+                // when
+                String paymentId = purchaseFacadeService.processPurchase(
+                        new PurchaseData(memberId, ticketId, ticketStockId));
+
+                // then
+                assertThat(paymentId).isEqualTo("payment-id");
+                verify(purchaseRepository, never()).save(any(Purchase.class));
+                verify(paymentRequestEventProducer, never()).sendPaymentEvent(any(PaymentRequest.class));
+            }
+        }
+
         @Nested
         @DisplayName("유효하지 않은 구매 시간일 때")
         class Context_with_invalid_purchase_time {
@@ -172,10 +222,44 @@ class PurchaseFacadeServiceTest {
             }
 
             @Test
-            @DisplayName("해당 결제 상태를 반환한다")
+            @DisplayName("해당 결제 상태를 반환하고 캐싱한다")
             void it_returns_payment_status() {
                 PurchaseStatus status = purchaseFacadeService.getPaymentStatus("payment-123");
                 assertThat(status).isEqualTo(PurchaseStatus.INITIATED);
+                verify(paymentStatusRedisRepository).saveIfAbsent("payment-123", PurchaseStatus.INITIATED);
+            }
+        }
+
+        @Nested
+        @DisplayName("캐싱된 결제 상태가 있을 때")
+        class Context_with_cached_payment_status {
+
+            @Test
+            @DisplayName("DB 를 조회하지 않고 캐싱된 결제 상태를 반환한다")
+            void it_returns_cached_payment_status() {
+                when(paymentStatusRedisRepository.find("payment-cached"))
+                        .thenReturn(Optional.of(new CachedPaymentStatus(PurchaseStatus.PAID, true)));
+
+                PurchaseStatus status = purchaseFacadeService.getPaymentStatus("payment-cached");
+
+                assertThat(status).isEqualTo(PurchaseStatus.PAID);
+                verify(purchaseRepository, never()).findByPaymentUuid("payment-cached");
+            }
+        }
+
+        @Nested
+        @DisplayName("저장을 기다리는 결제 ID가 주어졌을 때")
+        class Context_with_pending_payment_id {
+
+            @Test
+            @DisplayName("INITIATED 를 반환한다")
+            void it_returns_initiated() {
+                when(purchaseWriteBehindService.isPending("payment-pending")).thenReturn(true);
+
+                PurchaseStatus status = purchaseFacadeService.getPaymentStatus("payment-pending");
+
+                assertThat(status).isEqualTo(PurchaseStatus.INITIATED);
+                verify(purchaseRepository, never()).findByPaymentUuid("payment-pending");
             }
         }
 
@@ -197,4 +281,50 @@ class PurchaseFacadeServiceTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("refreshPaymentStatus 메소드는")
+    class Describe_refreshPaymentStatus {
+
+        @Nested
+        @DisplayName("결제 결과 처리 전의 결제 상태가 캐싱되어 있을 때")
+        class Context_with_cached_initiated_status {
+
+            @Test
+            @DisplayName("캐시 대신 DB 에서 조회한 결제 상태를 반환한다")
+            void it_returns_payment_status_from_database() {
+                Purchase purchase = Purchase.builder()
+                        .paymentUuid("payment-stale")
+                        .ticket(mock(Ticket.class))
+                        .member(mock(Member.class))
+                        .purchaseTime(LocalDateTime.now())
+                        .purchaseStatus(PurchaseStatus.PAID)
+                        .build();
+                when(paymentStatusRedisRepository.find("payment-stale"))
+                        .thenReturn(Optional.of(new CachedPaymentStatus(PurchaseStatus.INITIATED, false)));
+                when(purchaseRepository.findByPaymentUuid("payment-stale")).thenReturn(Optional.of(purchase));
+
+                PurchaseStatus status = purchaseFacadeService.refreshPaymentStatus("payment-stale");
+
+                assertThat(status).isEqualTo(PurchaseStatus.PAID);
+            }
+        }
+
+        @Nested
+        @DisplayName("결제 결과 처리가 끝난 결제 상태가 캐싱되어 있을 때")
+        class Context_with_cached_completed_status {
+
+            @Test
+            @DisplayName("DB 를 조회하지 않고 캐싱된 결제 상태를 반환한다")
+            void it_returns_cached_payment_status() {
+                when(paymentStatusRedisRepository.find("payment-cached"))
+                        .thenReturn(Optional.of(new CachedPaymentStatus(PurchaseStatus.PAID, true)));
+
+                PurchaseStatus status = purchaseFacadeService.refreshPaymentStatus("payment-cached");
+
+                assertThat(status).isEqualTo(PurchaseStatus.PAID);
+                verify(purchaseRepository, never()).findByPaymentUuid("payment-cached");
+            }
+        }
+    }
 }
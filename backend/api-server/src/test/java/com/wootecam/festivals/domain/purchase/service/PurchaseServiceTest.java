@@ -18,20 +18,27 @@ import com.wootecam.festivals.domain.purchase.dto.PurchasePreviewInfoResponse;
 import com.wootecam.festivals.domain.purchase.entity.Purchase;
 import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
 import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
+import com.wootecam.festivals.domain.purchase.repository.AdmissionTokenRedisRepository;
 import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
 import com.wootecam.festivals.domain.ticket.entity.TicketStock;
 import com.wootecam.festivals.domain.ticket.exception.TicketErrorCode;
 import com.wootecam.festivals.domain.ticket.repository.PurchaseSessionRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockIdRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockJdbcRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockRepository;
+import com.wootecam.festivals.domain.ticket.service.SoldOutTicketRegistry;
+import com.wootecam.festivals.global.auth.AdmissionToken;
 import com.wootecam.festivals.global.auth.purchase.PurchaseSession;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -50,6 +57,10 @@ class PurchaseServiceTest extends SpringBootTestConfig {
     private final PurchaseRepository purchaseRepository;
     private final RedisTemplate<String, String> redisTemplate;
     private final PurchaseSessionRedisRepository purchaseSessionRedisRepository;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final TicketStockIdRedisRepository ticketStockIdRedisRepository;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+    private final AdmissionTokenRedisRepository admissionTokenRedisRepository;
 
     private LocalDateTime ticketSaleStartTime = LocalDateTime.now();
     private Festival festival;
@@ -62,7 +73,11 @@ class PurchaseServiceTest extends SpringBootTestConfig {
                                PurchaseRepository purchaseRepository, CheckinRepository checkinRepository,
                                TicketStockJdbcRepository ticketStockJdbcRepository,
                                RedisTemplate<String, String> redisTemplate,
-                               PurchaseSessionRedisRepository purchaseSessionRedisRepository) {
+                               PurchaseSessionRedisRepository purchaseSessionRedisRepository,
+                               TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                               TicketStockIdRedisRepository ticketStockIdRedisRepository,
+                               SoldOutTicketRegistry soldOutTicketRegistry,
+                               AdmissionTokenRedisRepository admissionTokenRedisRepository) {
         this.purchaseService = purchaseService;
         this.memberRepository = memberRepository;
         this.festivalRepository = festivalRepository;
@@ -72,6 +87,10 @@ class PurchaseServiceTest extends SpringBootTestConfig {
         this.ticketStockJdbcRepository = ticketStockJdbcRepository;
         this.redisTemplate = redisTemplate;
         this.purchaseSessionRedisRepository = purchaseSessionRedisRepository;
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.ticketStockIdRedisRepository = ticketStockIdRedisRepository;
+        this.soldOutTicketRegistry = soldOutTicketRegistry;
+        this.admissionTokenRedisRepository = admissionTokenRedisRepository;
     }
 
     @BeforeEach
@@ -84,6 +103,10 @@ class PurchaseServiceTest extends SpringBootTestConfig {
         redisTemplate.getConnectionFactory().getConnection().flushAll();
     }
 
+    private AdmissionToken admissionToken() {
+        return new AdmissionToken(UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+    }
+
     @Nested
     @DisplayName("티켓 구매 가능 여부 확인 시")
     class Describe_checkPurchasable {
@@ -110,11 +133,35 @@ class PurchaseServiceTest extends SpringBootTestConfig {
         @DisplayName("티켓 구매가 가능하다는 응답을 반환한다")
         void It_return_purchasable_response() {
             PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticket.getId(),
-                    member.getId(), LocalDateTime.now());
+                    member.getId(), LocalDateTime.now(), admissionToken());
 
             assertAll(() -> assertThat(purchasableResponse.purchasable()).isTrue());
         }
 
+        @Test
+        @DisplayName("이미 구매 세션을 발급받은 입장 토큰이라면 예외가 발생하고 티켓 재고를 점유하지 않는다")
+        void It_throws_exception_when_admission_token_is_used() {
+            AdmissionToken admissionToken = admissionToken();
+            admissionTokenRedisRepository.markUsed(admissionToken, member.getId());
+
+            assertThatThrownBy(() -> purchaseService.checkPurchasable(ticket.getId(), member.getId(),
+                    LocalDateTime.now(), admissionToken))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessage(PurchaseErrorCode.INVALID_ADMISSION_TOKEN.getMessage());
+            assertThat(ticketStockRepository.existsByTicketAndMember(ticket, member.getId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("구매 세션을 발급받지 못했다면 입장 토큰을 사용한 토큰으로 기록하지 않는다")
+        void It_does_not_use_admission_token_when_session_is_not_issued() {
+            AdmissionToken admissionToken = admissionToken();
+
+            assertThatThrownBy(() -> purchaseService.checkPurchasable(ticket.getId(), member.getId(),
+                    ticketSaleStartTime.minusMinutes(1), admissionToken))
+                    .isInstanceOf(ApiException.class);
+            assertThat(admissionTokenRedisRepository.markUsed(admissionToken, member.getId())).isTrue();
+        }
+
         @Nested
         @DisplayName("티켓 재고가 없으면")
         class Context_with_no_stock {
@@ -138,6 +185,7 @@ class PurchaseServiceTest extends SpringBootTestConfig {
                         .build();
                 ticketStock.reserveTicket(member.getId());
                 ticketStockRepository.save(ticketStock);
+                soldOutTicketRegistry.markRestocked(ticket.getId());
             }
 
             @Test
@@ -147,10 +195,102 @@ class PurchaseServiceTest extends SpringBootTestConfig {
                 memberRepository.save(newMember);
 
                 PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticket.getId(),
-                        newMember.getId(), LocalDateTime.now());
+                        newMember.getId(), LocalDateTime.now(), admissionToken());
 
                 assertAll(() -> assertThat(purchasableResponse.purchasable()).isFalse());
             }
+
+            @Test
+            @DisplayName("남은 대기열 입장 인원이 없다면 재고 소진으로 기록한다")
+            void It_marks_sold_out_when_no_admission_left() {
+                Member newMember = memberRepository.save(Member.builder().name("newMember").email("email").build());
+                ticketStockCountRedisRepository.setTicketStockCount(ticket.getId(), 0L);
+
+                purchaseService.checkPurchasable(ticket.getId(), newMember.getId(), LocalDateTime.now(),
+                        admissionToken());
+
+                assertThat(purchaseService.isSoldOut(ticket.getId())).isTrue();
+            }
+
+            @Test
+            @DisplayName("남은 대기열 입장 인원이 있다면 재고 소진으로 기록하지 않는다")
+            void It_does_not_mark_sold_out_when_admission_left() {
+                Member newMember = memberRepository.save(Member.builder().name("newMember").email("email").build());
+                ticketStockCountRedisRepository.setTicketStockCount(ticket.getId(), 1L);
+
+                purchaseService.checkPurchasable(ticket.getId(), newMember.getId(), LocalDateTime.now(),
+                        admissionToken());
+
+                assertThat(purchaseService.isSoldOut(ticket.getId())).isFalse();
+            }
+        }
+
+        @Nested
+        @DisplayName("티켓 재고 ID 가 적재되어 있다면")
+        class Context_with_ticket_stock_id_pool {
+
+            Ticket ticket;
+            List<Long> ticketStockIds;
+
+            @BeforeEach
+            void setUp() {
+                ticket = ticketRepository.save(Ticket.builder()
+                        .name("Test Ticket")
+                        .detail("Test Ticket Detail")
+                        .price(10000L)
+                        .quantity(3)
+                        .startSaleTime(ticketSaleStartTime)
+                        .endSaleTime(ticketSaleStartTime.plusDays(2))
+                        .refundEndTime(ticketSaleStartTime.plusDays(2))
+                        .festival(festival)
+                        .build());
+                ticketStockIds = ticketStockRepository.saveAll(ticket.createTicketStock()).stream()
+                        .map(TicketStock::getId)
+                        .toList();
+                soldOutTicketRegistry.markRestocked(ticket.getId());
+            }
+
+            @Test
+            @DisplayName("적재된 티켓 재고 ID 를 꺼내 점유한다")
+            void It_reserves_ticket_stock_from_pool() {
+                ticketStockIdRedisRepository.setTicketStockIds(ticket.getId(), List.of(ticketStockIds.get(2)));
+
+                PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticket.getId(),
+                        member.getId(), LocalDateTime.now(), admissionToken());
+
+                assertAll(() -> assertThat(purchasableResponse.purchasable()).isTrue(),
+                        () -> assertThat(ticketStockRepository.findById(ticketStockIds.get(2)).get().getMemberId())
+                                .isEqualTo(member.getId()),
+                        () -> assertThat(ticketStockIdRedisRepository.getSize(ticket.getId())).isZero());
+            }
+
+            @Test
+            @DisplayName("이미 점유된 티켓 재고 ID 는 건너뛰고 다음 ID 를 점유한다")
+            void It_skips_already_reserved_ticket_stock() {
+                Member otherMember = memberRepository.save(createMember("other", "other@example.com"));
+                TicketStock reserved = ticketStockRepository.findById(ticketStockIds.get(0)).get();
+                reserved.reserveTicket(otherMember.getId());
+                ticketStockRepository.save(reserved);
+                ticketStockIdRedisRepository.setTicketStockIds(ticket.getId(), ticketStockIds);
+
+                PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticket.getId(),
+                        member.getId(), LocalDateTime.now(), admissionToken());
+
+                assertAll(() -> assertThat(purchasableResponse.purchasable()).isTrue(),
+                        () -> assertThat(ticketStockRepository.findById(ticketStockIds.get(1)).get().getMemberId())
+                                .isEqualTo(member.getId()));
+            }
+
+            @Test
+            @DisplayName("적재된 티켓 재고 ID 가 모두 소진되었다면 티켓 재고 행을 탐색하지 않고 구매 불가능을 반환한다")
+            void It_returns_cannot_purchasable_when_pool_is_empty() {
+                ticketStockIdRedisRepository.setTicketStockIds(ticket.getId(), List.of());
+
+                PurchasableResponse purchasableResponse = purchaseService.checkPurchasable(ticket.getId(),
+                        member.getId(), LocalDateTime.now(), admissionToken());
+
+                assertThat(purchasableResponse.purchasable()).isFalse();
+            }
         }
 
         @Nested
@@ -180,7 +320,7 @@ class PurchaseServiceTest extends SpringBootTestConfig {
                 LocalDateTime now = ticketSaleStartTime.minusMinutes(1);
 
                 assertThatThrownBy(
-                        () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), now))
+                        () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), now, admissionToken()))
                         .isInstanceOf(ApiException.class)
                         .hasMessage(PurchaseErrorCode.INVALID_TICKET_PURCHASE_TIME.getMessage());
             }
@@ -213,7 +353,7 @@ class PurchaseServiceTest extends SpringBootTestConfig {
                 LocalDateTime now = ticket.getEndSaleTime().plusMinutes(1);
 
                 assertThatThrownBy(
-                        () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), now))
+                        () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), now, admissionToken()))
                         .isInstanceOf(ApiException.class)
                         .hasMessage(PurchaseErrorCode.INVALID_TICKET_PURCHASE_TIME.getMessage());
             }
@@ -251,7 +391,8 @@ class PurchaseServiceTest extends SpringBootTestConfig {
             @DisplayName("예외가 발생한다")
             void It_throws_exception() {
                 assertThatThrownBy(
-                        () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), LocalDateTime.now()))
+                        () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), LocalDateTime.now(),
+                                admissionToken()))
                         .isInstanceOf(ApiException.class)
                         .hasMessage(PurchaseErrorCode.ALREADY_PURCHASED_TICKET.getMessage());
             }
@@ -289,7 +430,8 @@ class PurchaseServiceTest extends SpringBootTestConfig {
         @DisplayName("예외가 발생한다")
         void It_throws_exception() {
             assertThatThrownBy(
-                    () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), LocalDateTime.now()))
+                    () -> purchaseService.checkPurchasable(ticket.getId(), member.getId(), LocalDateTime.now(),
+                            admissionToken()))
                     .isInstanceOf(ApiException.class)
                     .hasMessage(TicketErrorCode.ALREADY_RESERVED_TICKET_STOCK.getMessage());
         }
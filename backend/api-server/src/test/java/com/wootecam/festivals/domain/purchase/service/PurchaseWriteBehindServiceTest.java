@@ -0,0 +1,212 @@
+package com.wootecam.festivals.domain.purchase.service;
+
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.festival.entity.Festival;
+import com.wootecam.festivals.domain.festival.repository.FestivalRepository;
+import com.wootecam.festivals.domain.member.entity.Member;
+import com.wootecam.festivals.domain.member.repository.MemberRepository;
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.domain.payment.dto.CachedPaymentStatus;
+import com.wootecam.festivals.domain.payment.repository.PaymentRepository;
+import com.wootecam.festivals.domain.payment.repository.PaymentStatusRedisRepository;
+import com.wootecam.festivals.domain.payment.service.PaymentRequestEventProducer;
+import com.wootecam.festivals.domain.purchase.dto.PurchaseIntent;
+import com.wootecam.festivals.domain.purchase.entity.PurchaseStatus;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseIntentLogRepository;
+import com.wootecam.festivals.domain.purchase.repository.PurchaseRepository;
+import com.wootecam.festivals.domain.ticket.entity.Ticket;
+import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
+import com.wootecam.festivals.global.utils.SnowflakeIdGenerator;
+import com.wootecam.festivals.global.utils.TimeProvider;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("PurchaseWriteBehindService 통합 테스트")
+class PurchaseWriteBehindServiceTest extends SpringBootTestConfig {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private PaymentRequestEventProducer paymentRequestEventProducer;
+    @Autowired
+    private PaymentStatusRedisRepository paymentStatusRedisRepository;
+    @Autowired
+    private CompensationService compensationService;
+    @Autowired
+    private TimeProvider timeProvider;
+    @Autowired
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private FestivalRepository festivalRepository;
+    @Autowired
+    private TicketRepository ticketRepository;
+    @Autowired
+    private PurchaseRepository purchaseRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private PurchaseIntentLogRepository purchaseIntentLogRepository;
+    private Member member;
+    private Ticket ticket;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+        redisTemplate.delete(PAYMENT_REQUEST_STREAM_KEY);
+        purchaseIntentLogRepository = new PurchaseIntentLogRepository(objectMapper,
+                tempDir.resolve("purchase-intents.log").toString(), false, 1024);
+
+        member = memberRepository.save(Member.builder()
+                .name("test")
+                .email("test@example.com")
+                .profileImg("profile-img")
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        Festival festival = festivalRepository.save(Festival.builder()
+                .admin(member)
+                .title("페스티벌 이름")
+                .description("페스티벌 설명")
+                .startTime(now)
+                .endTime(now.plusDays(7))
+                .build());
+
+        ticket = ticketRepository.save(Ticket.builder()
+                .name("Test Ticket")
+                .detail("Test Ticket Detail")
+                .price(10000L)
+                .quantity(100)
+                .startSaleTime(now.minusMinutes(1))
+                .endSaleTime(now.plusDays(2))
+                .refundEndTime(now.plusDays(2))
+                .festival(festival)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("offer 메소드는")
+    class Describe_offer {
+
+        @Test
+        @DisplayName("접수한 구매 요청을 구매 내역과 결제 내역으로 저장하고 결제 요청을 발행한다")
+        void it_saves_purchases_and_payments_in_batch() throws InterruptedException {
+            // given
+            PurchaseWriteBehindService writeBehindService = createWriteBehindService(true);
+            writeBehindService.start();
+            List<PurchaseIntent> intents = IntStream.range(0, 3)
+                    .mapToObj(i -> createIntent("payment-" + i))
+                    .toList();
+
+            // when
+            List<Boolean> accepted = intents.stream().map(writeBehindService::offer).toList();
+            writeBehindService.destroy();
+
+            // then
+            assertThat(accepted).containsOnly(true);
+            intents.forEach(intent -> {
+                assertThat(writeBehindService.isPending(intent.paymentId())).isFalse();
+                assertThat(paymentStatusRedisRepository.find(intent.paymentId()))
+                        .map(CachedPaymentStatus::purchaseStatus)
+                        .hasValue(PurchaseStatus.INITIATED);
+                assertThat(purchaseRepository.findByPaymentUuid(intent.paymentId()))
+                        .hasValueSatisfying(purchase ->
+                                assertThat(purchase.getPurchaseStatus()).isEqualTo(PurchaseStatus.INITIATED));
+                assertThat(paymentRepository.findByPaymentUuidWithPurchase(intent.paymentId()))
+                        .hasValueSatisfying(payment ->
+                                assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.INITIATED));
+            });
+            assertThat(redisTemplate.opsForStream().size(PAYMENT_REQUEST_STREAM_KEY)).isEqualTo(3L);
+            assertThat(purchaseIntentLogRepository.recover()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있다면 구매 요청을 접수하지 않는다")
+        void it_rejects_when_disabled() {
+            // given
+            PurchaseWriteBehindService writeBehindService = createWriteBehindService(false);
+            writeBehindService.start();
+
+            // when
+            boolean accepted = writeBehindService.offer(createIntent("payment-disabled"));
+
+            // then
+            assertThat(accepted).isFalse();
+            assertThat(writeBehindService.isPending("payment-disabled")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("start 메소드는")
+    class Describe_start {
+
+        @Test
+        @DisplayName("기록 파일 경로가 절대 경로가 아니라면 예외를 던진다")
+        void it_throws_exception_when_log_path_is_relative() {
+            // given
+            purchaseIntentLogRepository = new PurchaseIntentLogRepository(objectMapper,
+                    "data/purchase-intents.log", false, 1024);
+            PurchaseWriteBehindService writeBehindService = createWriteBehindService(true);
+
+            // when & then
+            assertThatThrownBy(writeBehindService::start)
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("저장이 끝나지 않은 구매 요청을 기록 파일에서 복구하여 저장한다")
+        void it_recovers_unflushed_intents() throws InterruptedException {
+            // given
+            PurchaseIntent flushed = createIntent("payment-flushed");
+            PurchaseIntent unflushed = createIntent("payment-unflushed");
+            purchaseIntentLogRepository.append(flushed);
+            purchaseIntentLogRepository.append(unflushed);
+            purchaseIntentLogRepository.markFlushed(List.of(flushed.paymentId()));
+            PurchaseWriteBehindService writeBehindService = createWriteBehindService(true);
+
+            // when
+            writeBehindService.start();
+            writeBehindService.destroy();
+
+            // then
+            assertThat(purchaseRepository.findByPaymentUuid(unflushed.paymentId())).isPresent();
+            assertThat(purchaseRepository.findByPaymentUuid(flushed.paymentId())).isEmpty();
+        }
+    }
+
+    private PurchaseWriteBehindService createWriteBehindService(boolean enabled) {
+        return new PurchaseWriteBehindService(jdbcTemplate, transactionTemplate, paymentRequestEventProducer,
+                purchaseIntentLogRepository, paymentStatusRedisRepository, compensationService, timeProvider, snowflakeIdGenerator, enabled, 100, 5,
+                100);
+    }
+
+    private PurchaseIntent createIntent(String paymentId) {
+        return new PurchaseIntent(paymentId, member.getId(), ticket.getId(), 1L, LocalDateTime.now());
+    }
+}
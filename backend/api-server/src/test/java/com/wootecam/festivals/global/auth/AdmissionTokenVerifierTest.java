@@ -0,0 +1,132 @@
+package com.wootecam.festivals.global.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.domain.purchase.exception.PurchaseErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdmissionTokenVerifier 클래스")
+class AdmissionTokenVerifierTest {
+
+    private static final String SECRET = "testtesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttest";
+    private static final String OTHER_SECRET = "abcdtesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttesttest";
+
+    private final Long ticketId = 1L;
+    private final Long memberId = 1L;
+    private AdmissionTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new AdmissionTokenVerifier(SECRET);
+    }
+
+    private String createToken(String secret, Long ticketId, Long memberId, long validityMillis) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(memberId))
+                .audience().add("admission").and()
+                .claim("ticketId", ticketId)
+                .claim("waitOrder", 1L)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + validityMillis))
+                .signWith(key, SIG.HS256)
+                .compact();
+    }
+
+    @Nested
+    @DisplayName("verify 메소드는")
+    class Describe_verify {
+
+        @Test
+        @DisplayName("대기열 서버가 발급한 유효한 토큰이라면 통과한다")
+        void it_passes_valid_token() {
+            String token = createToken(SECRET, ticketId, memberId, 60_000L);
+
+            assertThatCode(() -> verifier.verify(token, ticketId, memberId)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("토큰이 없다면 예외를 던진다")
+        void it_throws_exception_when_token_is_missing() {
+            assertThatThrownBy(() -> verifier.verify(null, ticketId, memberId))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        @Test
+        @DisplayName("만료된 토큰이라면 예외를 던진다")
+        void it_throws_exception_when_token_is_expired() {
+            String token = createToken(SECRET, ticketId, memberId, -1000L);
+
+            assertThatThrownBy(() -> verifier.verify(token, ticketId, memberId))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명된 토큰이라면 예외를 던진다")
+        void it_throws_exception_when_signature_is_invalid() {
+            String token = createToken(OTHER_SECRET, ticketId, memberId, 60_000L);
+
+            assertThatThrownBy(() -> verifier.verify(token, ticketId, memberId))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        @Test
+        @DisplayName("audience 가 없는 액세스 토큰이라면 예외를 던진다")
+        void it_throws_exception_when_token_is_access_token() {
+            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+            String accessToken = Jwts.builder()
+                    .id(UUID.randomUUID().toString())
+                    .subject(String.valueOf(memberId))
+                    .claim("ticketId", ticketId)
+                    .expiration(new Date(System.currentTimeMillis() + 60_000L))
+                    .signWith(key, SIG.HS256)
+                    .compact();
+
+            assertThatThrownBy(() -> verifier.verify(accessToken, ticketId, memberId))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+
+        @Test
+        @DisplayName("상태를 기록하지 않으므로 같은 토큰을 다시 검증해도 같은 토큰 ID 를 반환한다")
+        void it_returns_same_token_id_when_token_is_verified_again() {
+            String token = createToken(SECRET, ticketId, memberId, 60_000L);
+
+            AdmissionToken first = verifier.verify(token, ticketId, memberId);
+            AdmissionToken second = verifier.verify(token, ticketId, memberId);
+
+            assertThat(second).isEqualTo(first);
+            assertThat(first.id()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("다른 티켓이나 다른 사용자에게 발급된 토큰이라면 예외를 던진다")
+        void it_throws_exception_when_ticket_or_member_does_not_match() {
+            String token = createToken(SECRET, ticketId, memberId, 60_000L);
+
+            assertThatThrownBy(() -> verifier.verify(token, 2L, memberId))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+            assertThatThrownBy(() -> verifier.verify(token, ticketId, 2L))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", PurchaseErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+    }
+}
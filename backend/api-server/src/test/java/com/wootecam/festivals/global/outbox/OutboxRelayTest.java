@@ -0,0 +1,87 @@
+package com.wootecam.festivals.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = "outbox.relay.batch-size=2")
+@DisplayName("OutboxRelay 클래스")
+class OutboxRelayTest extends SpringBootTestConfig {
+
+    private static final String STREAM_KEY = "outbox-test-stream";
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private OutboxEventJdbcRepository outboxEventJdbcRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+        redisTemplate.delete(STREAM_KEY);
+    }
+
+    private int remainingEvents() {
+        return transactionTemplate.execute(status -> outboxEventJdbcRepository.findOldestForUpdate(100).size());
+    }
+
+    @Nested
+    @DisplayName("relay 메소드는")
+    class Describe_relay {
+
+        @Test
+        @DisplayName("커밋된 이벤트를 저장한 순서대로 발행하고 outbox 에서 삭제한다")
+        void it_publishes_committed_events_in_order() {
+            // given - 배치 크기보다 많은 이벤트를 저장합니다.
+            transactionTemplate.executeWithoutResult(status -> IntStream.range(0, 5)
+                    .forEach(i -> outboxEventPublisher.publish(STREAM_KEY, "event-" + i)));
+
+            // when
+            outboxRelay.relay();
+
+            // then
+            assertThat(redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded()))
+                    .extracting(record -> record.getValue().values().iterator().next())
+                    .containsExactly("event-0", "event-1", "event-2", "event-3", "event-4");
+            assertThat(remainingEvents()).isZero();
+        }
+
+        @Test
+        @DisplayName("롤백된 트랜잭션의 이벤트는 발행하지 않는다")
+        void it_skips_rolled_back_events() {
+            // given
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                outboxEventPublisher.publish(STREAM_KEY, "rolled-back");
+                throw new IllegalStateException("rollback");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // when
+            int published = outboxRelay.relay();
+
+            // then
+            assertThat(published).isZero();
+            assertThat(redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded()))
+                    .extracting(MapRecord::getId)
+                    .isEmpty();
+            assertThat(remainingEvents()).isZero();
+        }
+    }
+}
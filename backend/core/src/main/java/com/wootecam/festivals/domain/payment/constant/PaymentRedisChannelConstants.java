@@ -0,0 +1,10 @@
+package com.wootecam.festivals.domain.payment.constant;
+
+public class PaymentRedisChannelConstants {
+
+    // 결제 결과 처리가 끝났을 때 "{결제 ID}:{구매 상태}" 를 발행하는 채널
+    public static final String PAYMENT_STATUS_COMPLETED_CHANNEL = "payment-status-completed-channel";
+
+    private PaymentRedisChannelConstants() {
+    }
+}
@@ -0,0 +1,14 @@
+package com.wootecam.festivals.domain.ticket.constant;
+
+public class TicketRedisChannelConstants {
+
+    // 티켓 정보가 변경되었을 때 티켓 ID 를 발행하는 채널
+    public static final String TICKET_INFO_UPDATED_CHANNEL = "ticket-info-updated-channel";
+    // 티켓 재고가 소진되었을 때 티켓 ID 를 발행하는 채널
+    public static final String TICKET_SOLD_OUT_CHANNEL = "ticket-sold-out-channel";
+    // 소진된 티켓 재고가 다시 채워졌을 때 티켓 ID 를 발행하는 채널
+    public static final String TICKET_RESTOCKED_CHANNEL = "ticket-restocked-channel";
+
+    private TicketRedisChannelConstants() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.wootecam.festivals.domain.ticket.entity;
+
+/**
+ * 직전 집계 구간 동안 api-server 에서 처리된 티켓 구매 가능 여부 확인 요청의 지표
+ *
+ * @param issuedSessionCount 발급된 구매 세션 수
+ * @param requestCount       처리된 구매 가능 여부 확인 요청 수
+ * @param latencySumMillis   요청 처리 시간의 합 (ms)
+ */
+public record CheckoutMetrics(Long issuedSessionCount, Long requestCount, Long latencySumMillis) {
+
+    public static CheckoutMetrics empty() {
+        return new CheckoutMetrics(0L, 0L, 0L);
+    }
+
+    public boolean isIdle() {
+        return requestCount == 0;
+    }
+
+    public long averageLatencyMillis() {
+        return isIdle() ? 0 : latencySumMillis / requestCount;
+    }
+}
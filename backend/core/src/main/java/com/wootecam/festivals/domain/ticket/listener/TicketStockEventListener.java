@@ -0,0 +1,40 @@
+package com.wootecam.festivals.domain.ticket.listener;
+
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_SOLD_OUT_CHANNEL;
+
+import com.wootecam.festivals.domain.ticket.service.SoldOutTicketRegistry;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티켓 재고 소진/재입고 메시지를 받아 SoldOutTicketRegistry 를 갱신하는 리스너
+ * <p>
+ * ticket-sold-out-channel, ticket-restocked-channel 을 구독해야 하며, 메시지 순서가 뒤바뀌지 않도록 동기적으로 처리되어야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketStockEventListener implements MessageListener {
+
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long ticketId = Long.parseLong(body);
+            if (TICKET_SOLD_OUT_CHANNEL.equals(channel)) {
+                soldOutTicketRegistry.markSoldOut(ticketId);
+                return;
+            }
+            soldOutTicketRegistry.markRestocked(ticketId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 티켓 재고 메시지입니다. - channel: {}, body: {}", channel, body);
+        }
+    }
+}
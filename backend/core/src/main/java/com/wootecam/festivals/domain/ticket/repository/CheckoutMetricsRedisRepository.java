@@ -0,0 +1,108 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import com.wootecam.festivals.domain.ticket.entity.CheckoutMetrics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/*
+    api-server 의 구매 가능 여부 확인 처리 지표를 관리하는 Repository
+    CheckoutMetrics 는 Hash 로 구현되며, queue-server 가 입장 순서를 갱신할 때마다 조회 후 초기화합니다.
+    - key: tickets:{ticketId}:checkoutMetrics
+    - hashKey: sessions(발급된 구매 세션 수), requests(처리된 요청 수), latencySum(처리 시간 합, ms)
+ */
+@Repository
+public class CheckoutMetricsRedisRepository extends RedisRepository {
+
+    /*
+        KEYS[1]: 지표 key
+        ARGV[1]: 처리된 요청 수, ARGV[2]: 처리 시간 합(ms), ARGV[3]: 발급된 구매 세션 수, ARGV[4]: 지표 만료 시간(초)
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            redis.call('HINCRBY', KEYS[1], 'requests', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'latencySum', ARGV[2])
+            redis.call('HINCRBY', KEYS[1], 'sessions', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /*
+        KEYS[i]: i 번째 티켓의 지표 key
+        반환: { 1번째 티켓의 발급된 구매 세션 수, 처리된 요청 수, 처리 시간 합, 2번째 티켓의 발급된 구매 세션 수, ... }
+     */
+    private static final RedisScript<List> POLL_ALL_SCRIPT = RedisScript.of("""
+            local result = {}
+            for i = 1, #KEYS do
+                local metrics = redis.call('HMGET', KEYS[i], 'sessions', 'requests', 'latencySum')
+                redis.call('DEL', KEYS[i])
+                result[3 * i - 2] = tonumber(metrics[1] or '0')
+                result[3 * i - 1] = tonumber(metrics[2] or '0')
+                result[3 * i] = tonumber(metrics[3] or '0')
+            end
+            return result
+            """, List.class);
+
+    // 집계하는 queue-server 가 없을 때 지표가 쌓이지 않도록 만료 시간을 설정합니다.
+    private static final long METRICS_TTL_SECONDS = 60;
+
+    public CheckoutMetricsRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /*
+        구매 가능 여부 확인 요청의 처리 결과를 기록하는 메소드
+     */
+    public void record(Long ticketId, long latencyMillis, boolean sessionIssued) {
+        record(ticketId, new CheckoutMetrics(sessionIssued ? 1L : 0L, 1L, latencyMillis));
+    }
+
+    /*
+        인스턴스에서 모아 둔 처리 결과를 한 번에 기록하는 메소드
+     */
+    public void record(Long ticketId, CheckoutMetrics metrics) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(createKey(ticketId)), String.valueOf(metrics.requestCount()),
+                String.valueOf(metrics.latencySumMillis()), String.valueOf(metrics.issuedSessionCount()),
+                String.valueOf(METRICS_TTL_SECONDS));
+    }
+
+    /*
+        직전 조회 이후 기록된 지표를 반환하고 초기화하는 메소드
+     */
+    public CheckoutMetrics poll(Long ticketId) {
+        return pollAll(List.of(ticketId)).get(ticketId);
+    }
+
+    /*
+        여러 티켓의 지표를 한 번의 요청으로 반환하고 초기화하는 메소드
+     */
+    public Map<Long, CheckoutMetrics> pollAll(List<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = ticketIds.stream()
+                .map(this::createKey)
+                .toList();
+        List<?> result = redisTemplate.execute(POLL_ALL_SCRIPT, keys);
+
+        boolean invalidResult = result == null || result.size() != keys.size() * 3;
+
+        Map<Long, CheckoutMetrics> metrics = new HashMap<>();
+        for (int i = 0; i < ticketIds.size(); ++i) {
+            if (invalidResult) {
+                metrics.put(ticketIds.get(i), CheckoutMetrics.empty());
+                continue;
+            }
+            metrics.put(ticketIds.get(i), new CheckoutMetrics((Long) result.get(3 * i), (Long) result.get(3 * i + 1),
+                    (Long) result.get(3 * i + 2)));
+        }
+        return metrics;
+    }
+
+    private String createKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":checkoutMetrics";
+    }
+}
@@ -8,8 +8,17 @@ public abstract class RedisRepository {
 
     public final String TICKETS_PREFIX = "tickets:";
     public final String TICKET_STOCK_COUNT_PREFIX = "ticketStocks:count";
+    public final String TICKET_STOCK_STRIPES_PREFIX = "ticketStocks:stripes";
+    public final String TICKET_STOCK_LEASES_PREFIX = "ticketStocks:leases";
+    public final String TICKET_STOCK_LEASE_EXPIRIES_PREFIX = "ticketStocks:leaseExpiries";
+    public final String TICKET_STOCK_IDS_PREFIX = "ticketStocks:ids";
+    public final String TICKET_STOCK_IDS_POOLED_PREFIX = "ticketStocks:pooled";
     public final String TICKET_INFO_START_SALE_TIME_PREFIX = "startSaleTime";
     public final String TICKET_INFO_END_SALE_TIME_PREFIX = "endSaleTime";
+    public final String TICKET_PASS_ORDER_PREFIX = "passOrder";
+    public final String TICKET_WAIT_ORDER_PREFIX = "waitOrder";
+    public final String PAYMENTS_PREFIX = "payments:";
+    public final String PAYMENT_STATUS_PREFIX = "status";
 
     protected final RedisTemplate<String, String> redisTemplate;
 }
@@ -1,7 +1,10 @@
 package com.wootecam.festivals.domain.ticket.repository;
 
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_INFO_UPDATED_CHANNEL;
+
 import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.Assert;
@@ -28,8 +31,10 @@ public class TicketInfoRedisRepository extends RedisRepository {
      *    존재하지 않는 티켓이라면 null 반환
      */
     public TicketInfo getTicketInfo(Long ticketId) {
-        String startSaleTime = (String) redisTemplate.opsForHash().get(TICKETS_PREFIX + ticketId, TICKET_INFO_START_SALE_TIME_PREFIX);
-        String endSaleTime = (String) redisTemplate.opsForHash().get(TICKETS_PREFIX + ticketId, TICKET_INFO_END_SALE_TIME_PREFIX);
+        List<Object> saleTimes = redisTemplate.opsForHash().multiGet(TICKETS_PREFIX + ticketId,
+                List.of(TICKET_INFO_START_SALE_TIME_PREFIX, TICKET_INFO_END_SALE_TIME_PREFIX));
+        String startSaleTime = (String) saleTimes.get(0);
+        String endSaleTime = (String) saleTimes.get(1);
 
         if (startSaleTime == null || endSaleTime == null) {
             return null;
@@ -48,4 +53,12 @@ public class TicketInfoRedisRepository extends RedisRepository {
         redisTemplate.opsForHash().put(TICKETS_PREFIX + ticketId, TICKET_INFO_START_SALE_TIME_PREFIX, startSaleTime.toString());
         redisTemplate.opsForHash().put(TICKETS_PREFIX + ticketId, TICKET_INFO_END_SALE_TIME_PREFIX, endSaleTime.toString());
     }
+
+    /**
+     * 티켓 정보가 변경되었음을 발행하는 메소드
+     * 티켓 정보를 로컬에 캐싱하는 서버는 이 메시지를 받아 캐시를 무효화합니다.
+     */
+    public void publishTicketInfoUpdated(Long ticketId) {
+        redisTemplate.convertAndSend(TICKET_INFO_UPDATED_CHANNEL, String.valueOf(ticketId));
+    }
 }
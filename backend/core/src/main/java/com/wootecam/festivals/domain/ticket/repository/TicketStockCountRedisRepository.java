@@ -1,9 +1,15 @@
 package com.wootecam.festivals.domain.ticket.repository;
 
-import java.util.Arrays;
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_RESTOCKED_CHANNEL;
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_SOLD_OUT_CHANNEL;
+
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.InvalidDataAccessApiUsageException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
@@ -13,37 +19,271 @@ import org.springframework.util.StringUtils;
     구매 가능한 티켓 재고 수량을 관리하는 Repository
     TicketStockCount: String 으로 구현되어 있으며 구매 가능한 티켓 수량을 관리
     - tickets:{ticketId}:ticketStocks:count:{}
+    재고가 0 이 되면 ticket-sold-out-channel 로, 재고가 다시 채워지면 ticket-restocked-channel 로 티켓 ID 를 발행합니다.
+
+    판매량이 많은 티켓은 재고를 여러 개의 하위 카운터(stripe)로 나누어 하나의 키에 차감 요청이 몰리지 않도록 할 수 있습니다.
+    - tickets:{ticketId}:ticketStocks:stripes : 하위 카운터 수, 없다면 하위 카운터를 사용하지 않는 티켓
+    - tickets:{ticketId}:ticketStocks:count:{stripe} : 하위 카운터별 재고 수량
+    차감은 사용자 ID 로 고른 하위 카운터에서 시작하며, 해당 하위 카운터가 비었다면 같은 스크립트 안에서 다음 하위 카운터에서 차감합니다.
+    차감한 하위 카운터가 비었을 때만 나머지 하위 카운터와 임대 현황을 읽어 재고 소진 여부를 판단합니다.
+    재고 수량 조회는 모든 하위 카운터의 합을 반환합니다.
+    하위 카운터 key 는 모두 KEYS 로 전달하며, 스크립트는 전달받은 하위 카운터 수가 저장된 하위 카운터 수와 다르면 실행하지 않습니다.
+
+    대기열 서버 인스턴스는 재고를 블록 단위로 임대하여 메모리에서 나누어 줄 수 있습니다.
+    - tickets:{ticketId}:ticketStocks:leases : 인스턴스 ID 별 임대한 재고 중 아직 나누어 주지 않은 재고 수량
+    - tickets:{ticketId}:ticketStocks:leaseExpiries : 인스턴스 ID 별 임대 만료 시각 (Sorted Set, score: 만료 시각)
+    임대한 재고는 인스턴스가 반환하기 전까지 판매 가능한 재고로 보고 재고 수량 조회에 포함합니다.
+    인스턴스는 임대, 반환할 때와 주기적으로 남은 재고 수량을 기록하므로, 임대 현황에는 마지막 기록 이후 나누어 준 재고만 남아 있습니다.
+    만료 시각이 지나도록 반환되지 않은 임대는 종료된 인스턴스의 임대로 보고, 다른 인스턴스가 재고를 임대할 때 기록된 남은 재고 수량만 회수합니다.
+    재고 수량을 다시 설정할 때는 만료되지 않은 임대를 그대로 두고, 설정한 재고 수량에서 임대 중인 재고 수량을 뺀 만큼만 재고 수량으로 나눕니다.
  */
 @Repository
-@Slf4j
 public class TicketStockCountRedisRepository extends RedisRepository {
 
-    private static final String CHECK_AND_DECREASE_STOCK_SCRIPT = """
-            local function executeScript()
-                local stockKey = KEYS[1]
-                local ticketStockCount = tonumber(redis.call('GET', stockKey))
+    /*
+        모든 스크립트는 보관 중인 하위 카운터 수로 만든 key 를 KEYS 로 전달받고, 하위 카운터 수가 그 사이에 바뀌었다면 STALE 을 반환합니다.
+        재고 수량 key 는 하위 카운터를 사용하지 않는 티켓의 하위 카운터 하나로 봅니다.
+     */
+    private static final long STALE = -2;
+    private static final String STALE_COUNT = "stale";
+
+    /*
+        KEYS: 티켓별 { 하위 카운터 수, 임대 현황, 재고 수량 또는 하위 카운터들 }
+        ARGV: 티켓별 하위 카운터 수
+        반환: 티켓별 재고 수량(하위 카운터의 합 + 임대 중인 재고 수량), 존재하지 않는 티켓이라면 빈 문자열
+     */
+    private static final RedisScript<List> GET_STOCK_COUNTS_SCRIPT = RedisScript.of("""
+            local counts = {}
+            local k = 1
+            for i = 1, #ARGV do
+                local expected = tonumber(ARGV[i])
+                local stripes = math.max(1, tonumber(redis.call('GET', KEYS[k]) or '1'))
+                if stripes ~= expected then
+                    counts[#counts + 1] = 'stale'
+                else
+                    local total
+                    if stripes > 1 then
+                        total = 0
+                        for j = k + 2, k + 1 + stripes do
+                            total = total + tonumber(redis.call('GET', KEYS[j]) or '0')
+                        end
+                    else
+                        total = tonumber(redis.call('GET', KEYS[k + 2]))
+                    end
 
-                if not ticketStockCount then
-                    error("Failed to get ticket stock count")
+                    if total then
+                        for _, leased in ipairs(redis.call('HVALS', KEYS[k + 1])) do
+                            total = total + tonumber(leased)
+                        end
+                        counts[#counts + 1] = tostring(total)
+                    else
+                        counts[#counts + 1] = ''
+                    end
                 end
+                k = k + 2 + expected
+            end
+            return counts
+            """, List.class);
+
+    /*
+        KEYS[1]: 하위 카운터 수, KEYS[2]: 임대 현황, KEYS[3..]: 차감을 시도할 순서대로 재고 수량 또는 하위 카운터들
+        ARGV[1]: 하위 카운터 수, ARGV[2]: 재고 소진 채널, ARGV[3]: 티켓 ID
+        반환: 차감한 하위 카운터에 남은 재고 수량, 그 하위 카운터가 비었다면 전체 재고 수량(임대 중인 재고 수량 포함),
+             차감할 재고가 없다면 -1
+        재고가 있는 첫 하위 카운터에서 차감하고, 그 하위 카운터가 비었을 때만 앞에서 비어 있던 하위 카운터를 제외한 나머지와 임대 현황을 합산합니다.
+        합산한 재고 수량이 0 이라면 재고 소진을 발행합니다.
+     */
+    private static final RedisScript<Long> DECREASE_STOCK_SCRIPT = RedisScript.of("""
+            if math.max(1, tonumber(redis.call('GET', KEYS[1]) or '1')) ~= tonumber(ARGV[1]) then
+                return -2
+            end
+
+            for i = 3, #KEYS do
+                if tonumber(redis.call('GET', KEYS[i]) or '0') > 0 then
+                    local remaining = redis.call('DECR', KEYS[i])
+                    if remaining > 0 then
+                        return remaining
+                    end
+
+                    local total = 0
+                    for j = i + 1, #KEYS do
+                        total = total + tonumber(redis.call('GET', KEYS[j]) or '0')
+                    end
+                    for _, leased in ipairs(redis.call('HVALS', KEYS[2])) do
+                        total = total + tonumber(leased)
+                    end
+                    if total == 0 then
+                        redis.call('PUBLISH', ARGV[2], ARGV[3])
+                    end
+                    return total
+                end
+            end
+            return -1
+            """, Long.class);
+
+    /*
+        KEYS[1]: 하위 카운터 수, KEYS[2]: 임대 현황, KEYS[3]: 증가시킬 재고 수량 또는 하위 카운터, KEYS[4..]: 나머지 하위 카운터들
+        ARGV[1]: 하위 카운터 수, ARGV[2]: 재입고 채널, ARGV[3]: 재고 소진 채널, ARGV[4]: 티켓 ID
+        반환: 증가 후 재고 수량(임대 중인 재고 수량 포함)
+     */
+    private static final RedisScript<Long> INCREASE_STOCK_SCRIPT = RedisScript.of("""
+            if math.max(1, tonumber(redis.call('GET', KEYS[1]) or '1')) ~= tonumber(ARGV[1]) then
+                return -2
+            end
+
+            local total = redis.call('INCR', KEYS[3])
+            for i = 4, #KEYS do
+                total = total + tonumber(redis.call('GET', KEYS[i]) or '0')
+            end
+            for _, leased in ipairs(redis.call('HVALS', KEYS[2])) do
+                total = total + tonumber(leased)
+            end
+            if total > 0 then
+                redis.call('PUBLISH', ARGV[2], ARGV[4])
+            else
+                redis.call('PUBLISH', ARGV[3], ARGV[4])
+            end
+            return total
+            """, Long.class);
+
+    /*
+        KEYS[1]: 임대 현황, KEYS[2]: 임대 만료 시각, KEYS[3]: 하위 카운터 수, KEYS[4..]: 재고 수량 또는 하위 카운터들
+        ARGV[1]: 임대할 재고 수량, ARGV[2]: 인스턴스 ID, ARGV[3]: 재고 소진 채널, ARGV[4]: 티켓 ID,
+        ARGV[5]: 현재 시각, ARGV[6]: 임대 만료 시각, ARGV[7]: 하위 카운터 수
+        반환: 임대한 재고 수량
+        만료된 다른 인스턴스의 임대에 기록된 남은 재고 수량을 먼저 재고 수량으로 회수한 뒤 임대합니다.
+        임대할 재고가 없고 다른 인스턴스가 임대 중인 재고도 없다면 재고 소진을 발행합니다.
+     */
+    private static final RedisScript<Long> LEASE_STOCK_SCRIPT = RedisScript.of("""
+            if math.max(1, tonumber(redis.call('GET', KEYS[3]) or '1')) ~= tonumber(ARGV[7]) then
+                return -2
+            end
 
-                if ticketStockCount > 0 then
-                    local decrementResult = redis.call('DECR', stockKey)
-                    if not decrementResult or decrementResult < 0 then
-                        error("Failed to decrement stock count")
+            for _, instance in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[5])) do
+                if instance ~= ARGV[2] then
+                    local expired = tonumber(redis.call('HGET', KEYS[1], instance) or '0')
+                    if expired > 0 then
+                        redis.call('INCRBY', KEYS[4], expired)
                     end
-                    return 1
+                    redis.call('HDEL', KEYS[1], instance)
+                    redis.call('ZREM', KEYS[2], instance)
                 end
-                       
+            end
+
+            local requested = tonumber(ARGV[1])
+            local leased = 0
+            for i = 4, #KEYS do
+                if leased >= requested then
+                    break
+                end
+                local count = tonumber(redis.call('GET', KEYS[i]) or '0')
+                if count > 0 then
+                    local taken = math.min(count, requested - leased)
+                    redis.call('DECRBY', KEYS[i], taken)
+                    leased = leased + taken
+                end
+            end
+
+            if leased > 0 then
+                redis.call('HSET', KEYS[1], ARGV[2], leased)
+                redis.call('ZADD', KEYS[2], ARGV[6], ARGV[2])
+                return leased
+            end
+
+            redis.call('HDEL', KEYS[1], ARGV[2])
+            redis.call('ZREM', KEYS[2], ARGV[2])
+            local outstanding = 0
+            for _, value in ipairs(redis.call('HVALS', KEYS[1])) do
+                outstanding = outstanding + tonumber(value)
+            end
+            if outstanding == 0 then
+                redis.call('PUBLISH', ARGV[3], ARGV[4])
+            end
+            return 0
+            """, Long.class);
+
+    /*
+        KEYS[1]: 임대 현황
+        ARGV[1]: 인스턴스 ID, ARGV[2]: 임대한 재고 중 남은 재고 수량
+        반환: 기록했다면 1, 다른 인스턴스가 이미 회수한 임대라면 -1
+     */
+    private static final RedisScript<Long> RECORD_LEASE_SCRIPT = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /*
+        KEYS[1]: 임대 현황, KEYS[2]: 임대 만료 시각, KEYS[3]: 하위 카운터 수, KEYS[4]: 재고 수량 또는 하위 카운터
+        ARGV[1]: 반환할 재고 수량, ARGV[2]: 인스턴스 ID, ARGV[3]: 재입고 채널, ARGV[4]: 티켓 ID, ARGV[5]: 하위 카운터 수
+        반환: 반환 후 재고 수량, 다른 인스턴스가 이미 회수한 임대라면 -1
+        재고 수량이 0 에서 다시 채워지면 재입고를 발행합니다.
+     */
+    private static final RedisScript<Long> RETURN_STOCK_SCRIPT = RedisScript.of("""
+            if math.max(1, tonumber(redis.call('GET', KEYS[3]) or '1')) ~= tonumber(ARGV[5]) then
+                return -2
+            end
+
+            local leased = redis.call('HGET', KEYS[1], ARGV[2])
+            redis.call('HDEL', KEYS[1], ARGV[2])
+            redis.call('ZREM', KEYS[2], ARGV[2])
+            if not leased then
+                return -1
+            end
+
+            local returned = math.min(tonumber(ARGV[1]), tonumber(leased))
+            if returned <= 0 then
                 return 0
             end
+            local count = redis.call('INCRBY', KEYS[4], returned)
+            if count == returned then
+                redis.call('PUBLISH', ARGV[3], ARGV[4])
+            end
+            return count
+            """, Long.class);
 
-            local status, result = pcall(executeScript)
-            if not status then
-                return redis.error_reply("Lua script error: " .. result)
+    /*
+        KEYS[1]: 하위 카운터 수, KEYS[2]: 임대 현황, KEYS[3]: 임대 만료 시각, KEYS[4]: 재고 수량, KEYS[5..]: 하위 카운터들
+        ARGV[1]: 재고 수량, ARGV[2]: 하위 카운터 수, ARGV[3]: 현재 시각
+        반환: 재고 수량 또는 하위 카운터들에 나누어 설정한 재고 수량
+        만료된 임대는 설정할 재고 수량에 이미 포함되어 있으므로 삭제하고, 만료되지 않은 임대는 남겨 두고 그만큼 뺀 재고 수량을 설정합니다.
+     */
+    private static final RedisScript<Long> SET_STOCK_SCRIPT = RedisScript.of("""
+            for _, instance in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[3])) do
+                redis.call('HDEL', KEYS[2], instance)
+                redis.call('ZREM', KEYS[3], instance)
+            end
+            local leased = 0
+            for _, value in ipairs(redis.call('HVALS', KEYS[2])) do
+                leased = leased + tonumber(value)
             end
-            return result
-            """;
+
+            local available = math.max(0, tonumber(ARGV[1]) - leased)
+            local stripes = tonumber(ARGV[2])
+            if stripes <= 1 then
+                redis.call('SET', KEYS[4], available)
+                redis.call('DEL', KEYS[1])
+            else
+                for i = 0, stripes - 1 do
+                    local stripeStock = math.floor(available / stripes)
+                    if i < available % stripes then
+                        stripeStock = stripeStock + 1
+                    end
+                    redis.call('SET', KEYS[5 + i], stripeStock)
+                end
+                redis.call('SET', KEYS[1], stripes)
+                redis.call('DEL', KEYS[4])
+            end
+            return available
+            """, Long.class);
+
+    /*
+        재고 차감 시 하위 카운터 수를 매번 조회하지 않도록 보관하며, 재고 수량을 다시 설정하면 무효화합니다.
+        다른 서버에서 하위 카운터 수를 바꾸었다면 스크립트가 STALE 을 반환하므로, 다시 조회한 하위 카운터 수로 한 번 더 실행합니다.
+     */
+    private final Map<Long, Integer> stripeCounts = new ConcurrentHashMap<>();
 
     public TicketStockCountRedisRepository(RedisTemplate<String, String> redisTemplate) {
         super(redisTemplate);
@@ -51,59 +291,274 @@ public class TicketStockCountRedisRepository extends RedisRepository {
 
     /*
         티켓 재고 수량을 가져오는 메소드
+        하위 카운터를 사용하는 티켓이라면 모든 하위 카운터의 합을 반환하며, 임대 중인 재고 수량을 포함
         존재하지 않는 티켓이라면 null 반환
      */
     public Long getTicketStockCount(Long ticketId) {
-        String value = redisTemplate.opsForValue().get(createKey(ticketId));
-        return value == null ? null : Long.parseLong(value);
+        return getTicketStockCounts(List.of(ticketId)).get(ticketId);
+    }
+
+    /*
+        여러 티켓의 재고 수량을 한 번의 요청으로 가져오는 메소드
+        존재하지 않는 티켓의 재고 수량은 null
+     */
+    public Map<Long, Long> getTicketStockCounts(List<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> stockCounts = new HashMap<>();
+        List<Long> staleTicketIds = readTicketStockCounts(ticketIds, stockCounts);
+        if (!staleTicketIds.isEmpty()) {
+            staleTicketIds.forEach(this::evictStripeCount);
+            if (!readTicketStockCounts(staleTicketIds, stockCounts).isEmpty()) {
+                throw new IllegalStateException("하위 카운터 수가 바뀌고 있어 재고 수량을 조회할 수 없습니다. ticketIds: "
+                        + staleTicketIds);
+            }
+        }
+        return stockCounts;
+    }
+
+    // 조회한 재고 수량을 stockCounts 에 담고, 하위 카운터 수가 바뀐 티켓 ID 를 반환합니다.
+    private List<Long> readTicketStockCounts(List<Long> ticketIds, Map<Long, Long> stockCounts) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            int stripeCount = findStripeCount(ticketId);
+            keys.add(createStripeCountKey(ticketId));
+            keys.add(createLeaseKey(ticketId));
+            keys.addAll(createStockKeys(ticketId, stripeCount));
+            args.add(String.valueOf(stripeCount));
+        }
+        List<?> values = redisTemplate.execute(GET_STOCK_COUNTS_SCRIPT, keys, args.toArray());
+
+        List<Long> staleTicketIds = new ArrayList<>();
+        for (int i = 0; i < ticketIds.size(); ++i) {
+            String value = values == null ? null : (String) values.get(i);
+            if (STALE_COUNT.equals(value)) {
+                staleTicketIds.add(ticketIds.get(i));
+                continue;
+            }
+            stockCounts.put(ticketIds.get(i), StringUtils.hasText(value) ? Long.parseLong(value) : null);
+        }
+        return staleTicketIds;
     }
 
     /*
         티켓 재고 수량을 설정하는 메소드
      */
     public void setTicketStockCount(Long ticketId, Long count) {
-        redisTemplate.opsForValue()
-                .set(createKey(ticketId), String.valueOf(count));
+        setTicketStockCount(ticketId, count, 1);
+    }
+
+    /*
+        티켓 재고 수량을 하위 카운터 수만큼 나누어 설정하는 메소드
+        하위 카운터 수가 1 이하라면 하위 카운터를 사용하지 않습니다.
+        인스턴스가 임대 중인 재고는 반환될 수 있으므로 임대 현황을 남겨 두고, 설정할 재고 수량에서 임대 중인 재고 수량을 뺀 만큼 나누어 설정합니다.
+     */
+    public void setTicketStockCount(Long ticketId, Long count, int stripeCount) {
+        int stripes = Math.max(1, stripeCount);
+        List<String> keys = new ArrayList<>(stripes + 4);
+        keys.add(createStripeCountKey(ticketId));
+        keys.add(createLeaseKey(ticketId));
+        keys.add(createLeaseExpiryKey(ticketId));
+        keys.add(createKey(ticketId));
+        if (stripes > 1) {
+            keys.addAll(createStockKeys(ticketId, stripes));
+        }
+        redisTemplate.execute(SET_STOCK_SCRIPT, keys, String.valueOf(count), String.valueOf(stripes),
+                String.valueOf(System.currentTimeMillis()));
+        evictStripeCount(ticketId);
+        publishStockChanged(ticketId, count);
+    }
+
+    /*
+        보관 중인 하위 카운터 수를 무효화하는 메소드
+        다른 서버에서 재고 수량을 다시 설정한 경우 호출하며, 호출하지 않더라도 스크립트를 실행할 때 다시 조회합니다.
+     */
+    public void evictStripeCount(Long ticketId) {
+        stripeCounts.remove(ticketId);
+    }
+
+    /*
+        보관 중인 하위 카운터 수를 반환하는 메소드, 하위 카운터를 사용하지 않는 티켓이라면 1
+     */
+    public int findStripeCount(Long ticketId) {
+        return stripeCounts.computeIfAbsent(ticketId, this::getStripeCount);
+    }
+
+    /*
+        재고 수량을 합산할 key 목록을 반환하는 메소드
+        하위 카운터를 사용하는 티켓이라면 하위 카운터들, 아니라면 재고 수량 key 하나를 반환합니다.
+        스크립트에서 key 를 만들지 않고 모두 KEYS 로 전달합니다.
+     */
+    public List<String> createStockKeys(Long ticketId, int stripeCount) {
+        if (stripeCount <= 1) {
+            return List.of(createKey(ticketId));
+        }
+        List<String> keys = new ArrayList<>(stripeCount);
+        for (int stripe = 0; stripe < stripeCount; ++stripe) {
+            keys.add(createStripeKey(ticketId, stripe));
+        }
+        return keys;
     }
 
     /*
         연산의 결과를 반환
-        재고가 음수가 되는 경우에 대한 에러 핸들링 없음
+        임의의 하위 카운터부터 재고가 있는 하위 카운터를 차감하고 그 하위 카운터에 남은 재고 수량을 반환하며,
+        그 하위 카운터가 비었다면 임대 중인 재고 수량을 포함한 전체 재고 수량을 반환
+        차감할 재고가 없다면 차감하지 않고 -1 을 반환
      */
     public Long decreaseTicketStockCount(Long ticketId) {
-        return redisTemplate.opsForValue().increment(createKey(ticketId), -1);
+        return decreaseStock(ticketId, ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE));
     }
 
     /*
-        lua script 를 이용한 재고 확인 및 재고 있는 경우 차감합니다.
+        사용자 ID 로 고른 하위 카운터부터 재고를 확인하고, 재고가 있는 하위 카운터에서 차감합니다.
+        하위 카운터를 사용하지 않는 티켓이라면 재고 수량에서 차감합니다.
      */
-    public boolean checkAndDecreaseStock(Long ticketId) {
-        String stockKey = createKey(ticketId);
-
-        RedisScript<Long> script = RedisScript.of(CHECK_AND_DECREASE_STOCK_SCRIPT, Long.class);
-        List<String> keys = Arrays.asList(stockKey);
+    public boolean checkAndDecreaseStock(Long ticketId, Long memberId) {
+        Long remain = decreaseStock(ticketId, Long.hashCode(memberId));
+        return remain != null && remain >= 0;
+    }
 
-        try {
-            Long result = redisTemplate.execute(script, keys);
-            return result != null && result == 1;
-        } catch (InvalidDataAccessApiUsageException e) {
-            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-            if (StringUtils.hasText(message) && message.contains("Lua script error:")) {
-                log.warn("재고 확인 및 차감이 실패했습니다. - {}", message);
-                throw new IllegalStateException(message, e);
+    // seed 로 고른 하위 카운터부터 차례로 재고를 확인하여 한 번의 요청으로 차감합니다.
+    private Long decreaseStock(Long ticketId, int seed) {
+        return executeWithStripeCount(ticketId, stripeCount -> {
+            List<String> stockKeys = createStockKeys(ticketId, stripeCount);
+            int startStripe = Math.floorMod(seed, stripeCount);
+            List<String> keys = new ArrayList<>(stripeCount + 2);
+            keys.add(createStripeCountKey(ticketId));
+            keys.add(createLeaseKey(ticketId));
+            for (int i = 0; i < stripeCount; ++i) {
+                keys.add(stockKeys.get((startStripe + i) % stripeCount));
             }
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+            return redisTemplate.execute(DECREASE_STOCK_SCRIPT, keys, String.valueOf(stripeCount),
+                    TICKET_SOLD_OUT_CHANNEL, String.valueOf(ticketId));
+        });
     }
 
     /*
         연산의 결과를 반환
+        하위 카운터를 사용하는 티켓이라면 임의의 하위 카운터를 증가시키고 모든 하위 카운터의 합을 반환
      */
     public Long increaseTicketStockCount(Long ticketId) {
-        return redisTemplate.opsForValue().increment(createKey(ticketId), 1);
+        return executeWithStripeCount(ticketId, stripeCount -> {
+            List<String> stockKeys = createStockKeys(ticketId, stripeCount);
+            int targetStripe = ThreadLocalRandom.current().nextInt(stripeCount);
+            List<String> keys = new ArrayList<>(stripeCount + 2);
+            keys.add(createStripeCountKey(ticketId));
+            keys.add(createLeaseKey(ticketId));
+            keys.add(stockKeys.get(targetStripe));
+            for (int stripe = 0; stripe < stripeCount; ++stripe) {
+                if (stripe != targetStripe) {
+                    keys.add(stockKeys.get(stripe));
+                }
+            }
+            return redisTemplate.execute(INCREASE_STOCK_SCRIPT, keys, String.valueOf(stripeCount),
+                    TICKET_RESTOCKED_CHANNEL, TICKET_SOLD_OUT_CHANNEL, String.valueOf(ticketId));
+        });
+    }
+
+    /*
+        재고를 최대 blockSize 만큼 임대하고 임대한 재고 수량을 반환합니다.
+        인스턴스의 이전 임대 현황은 새로 임대한 재고 수량으로 대체되므로, 이전에 임대한 재고를 모두 사용한 뒤에 호출해야 합니다.
+        임대는 leaseTtlMillis 가 지나면 만료되어 다른 인스턴스가 회수할 수 있으므로, 그 전에 반환하거나 사용을 멈추어야 합니다.
+        하위 카운터를 사용하는 티켓이라면 임의의 하위 카운터부터 차례로 임대합니다.
+     */
+    public long leaseTicketStock(Long ticketId, String instanceId, long blockSize, long leaseTtlMillis) {
+        Long leased = executeWithStripeCount(ticketId, stripeCount -> {
+            List<String> stockKeys = createStockKeys(ticketId, stripeCount);
+            int startStripe = ThreadLocalRandom.current().nextInt(stripeCount);
+            List<String> keys = new ArrayList<>(stripeCount + 3);
+            keys.add(createLeaseKey(ticketId));
+            keys.add(createLeaseExpiryKey(ticketId));
+            keys.add(createStripeCountKey(ticketId));
+            for (int i = 0; i < stripeCount; ++i) {
+                keys.add(stockKeys.get((startStripe + i) % stripeCount));
+            }
+
+            long now = System.currentTimeMillis();
+            return redisTemplate.execute(LEASE_STOCK_SCRIPT, keys, String.valueOf(blockSize), instanceId,
+                    TICKET_SOLD_OUT_CHANNEL, String.valueOf(ticketId), String.valueOf(now),
+                    String.valueOf(now + leaseTtlMillis), String.valueOf(stripeCount));
+        });
+        return leased == null ? 0 : leased;
+    }
+
+    /*
+        임대한 재고 중 사용하지 않은 재고를 반환하고 인스턴스의 임대 현황을 삭제합니다.
+        만료되어 다른 인스턴스가 이미 회수한 임대라면 반환하지 않으며, false 를 반환합니다.
+        하위 카운터를 사용하는 티켓이라면 임의의 하위 카운터로 반환합니다.
+     */
+    public boolean returnTicketStock(Long ticketId, String instanceId, long count) {
+        Long result = executeWithStripeCount(ticketId, stripeCount -> {
+            String stockKey = createStockKeys(ticketId, stripeCount)
+                    .get(ThreadLocalRandom.current().nextInt(stripeCount));
+            return redisTemplate.execute(RETURN_STOCK_SCRIPT,
+                    List.of(createLeaseKey(ticketId), createLeaseExpiryKey(ticketId), createStripeCountKey(ticketId),
+                            stockKey),
+                    String.valueOf(count), instanceId, TICKET_RESTOCKED_CHANNEL, String.valueOf(ticketId),
+                    String.valueOf(stripeCount));
+        });
+        return result == null || result >= 0;
+    }
+
+    /*
+        임대한 재고 중 아직 나누어 주지 않은 재고 수량을 임대 현황에 기록합니다.
+        만료되어 다른 인스턴스가 이미 회수한 임대라면 기록하지 않으며, false 를 반환합니다.
+     */
+    public boolean recordLeasedTicketStock(Long ticketId, String instanceId, long remaining) {
+        Long result = redisTemplate.execute(RECORD_LEASE_SCRIPT, List.of(createLeaseKey(ticketId)), instanceId,
+                String.valueOf(remaining));
+        return result == null || result >= 0;
+    }
+
+    // 보관 중인 하위 카운터 수로 스크립트를 실행하고, 하위 카운터 수가 바뀌었다면 다시 조회하여 한 번 더 실행합니다.
+    private Long executeWithStripeCount(Long ticketId, IntFunction<Long> script) {
+        Long result = script.apply(findStripeCount(ticketId));
+        if (result == null || result != STALE) {
+            return result;
+        }
+
+        evictStripeCount(ticketId);
+        result = script.apply(findStripeCount(ticketId));
+        if (result != null && result == STALE) {
+            throw new IllegalStateException("하위 카운터 수가 바뀌고 있어 재고를 변경할 수 없습니다. ticketId: " + ticketId);
+        }
+        return result;
+    }
+
+    private int getStripeCount(Long ticketId) {
+        return parseStripeCount(redisTemplate.opsForValue().get(createStripeCountKey(ticketId)));
+    }
+
+    private int parseStripeCount(String value) {
+        return value == null ? 1 : Math.max(1, Integer.parseInt(value));
+    }
+
+    private void publishStockChanged(Long ticketId, Long count) {
+        String channel = count > 0 ? TICKET_RESTOCKED_CHANNEL : TICKET_SOLD_OUT_CHANNEL;
+        redisTemplate.convertAndSend(channel, String.valueOf(ticketId));
     }
 
     private String createKey(Long ticketId) {
         return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_COUNT_PREFIX;
     }
+
+    private String createStripeKey(Long ticketId, int stripe) {
+        return createKey(ticketId) + ":" + stripe;
+    }
+
+    private String createStripeCountKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_STRIPES_PREFIX;
+    }
+
+    private String createLeaseKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_LEASES_PREFIX;
+    }
+
+    private String createLeaseExpiryKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_LEASE_EXPIRIES_PREFIX;
+    }
 }
@@ -0,0 +1,77 @@
+package com.wootecam.festivals.domain.ticket.repository;
+
+import java.util.List;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+    점유되지 않은 티켓 재고 ID 를 관리하는 Repository
+    구매 가능 여부 확인 시 티켓 재고 행을 SKIP LOCKED 로 탐색하지 않고, 미리 적재한 ID 를 하나씩 꺼내 기본 키로 점유합니다.
+    - tickets:{ticketId}:ticketStocks:ids : 점유되지 않은 티켓 재고 ID 목록 (List)
+    - tickets:{ticketId}:ticketStocks:pooled : 티켓 재고 ID 목록 적재 여부 (String)
+    목록이 모두 소진되면 Redis 는 List 키를 삭제하므로, 적재 여부는 별도의 키로 관리합니다.
+ */
+@Repository
+public class TicketStockIdRedisRepository extends RedisRepository {
+
+    private static final int PUSH_CHUNK_SIZE = 1000;
+
+    public TicketStockIdRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /*
+        점유되지 않은 티켓 재고 ID 목록을 새로 적재하는 메소드
+        티켓 재고 수만큼 명령 인자가 늘어나지 않도록 나누어 적재합니다.
+     */
+    public void setTicketStockIds(Long ticketId, List<Long> ticketStockIds) {
+        String key = createKey(ticketId);
+        redisTemplate.delete(key);
+        for (int from = 0; from < ticketStockIds.size(); from += PUSH_CHUNK_SIZE) {
+            List<String> chunk = ticketStockIds.subList(from, Math.min(from + PUSH_CHUNK_SIZE, ticketStockIds.size()))
+                    .stream()
+                    .map(String::valueOf)
+                    .toList();
+            redisTemplate.opsForList().rightPushAll(key, chunk);
+        }
+        redisTemplate.opsForValue().set(createPooledKey(ticketId), "1");
+    }
+
+    /*
+        점유되지 않은 티켓 재고 ID 를 하나 꺼내는 메소드
+        목록이 비었거나 적재되지 않은 티켓이라면 null 반환
+     */
+    public Long popTicketStockId(Long ticketId) {
+        String value = redisTemplate.opsForList().leftPop(createKey(ticketId));
+        return value == null ? null : Long.parseLong(value);
+    }
+
+    /*
+        점유가 해제된 티켓 재고 ID 를 목록에 되돌리는 메소드
+        적재되지 않은 티켓이라면 되돌리지 않습니다.
+     */
+    public void pushTicketStockId(Long ticketId, Long ticketStockId) {
+        if (hasTicketStockIdPool(ticketId)) {
+            redisTemplate.opsForList().rightPush(createKey(ticketId), String.valueOf(ticketStockId));
+        }
+    }
+
+    /*
+        티켓 재고 ID 목록이 적재된 티켓인지 확인하는 메소드
+     */
+    public boolean hasTicketStockIdPool(Long ticketId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(createPooledKey(ticketId)));
+    }
+
+    public Long getSize(Long ticketId) {
+        return redisTemplate.opsForList().size(createKey(ticketId));
+    }
+
+    private String createKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_IDS_PREFIX;
+    }
+
+    private String createPooledKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_IDS_POOLED_PREFIX;
+    }
+}
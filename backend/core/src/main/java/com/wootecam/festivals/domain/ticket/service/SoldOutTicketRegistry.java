@@ -0,0 +1,35 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고가 소진된 티켓 ID 를 서버 메모리에 보관하는 클래스
+ * <p>
+ * 재고 소진 직후 몰리는 요청을 Redis 나 DB 조회 없이 거절하기 위해 사용합니다. 재고 소진/재입고 메시지를 받는 TicketStockEventListener 와, 직접 재고 소진을 확인한 서비스가
+ * 상태를 갱신합니다.
+ */
+@Slf4j
+@Component
+public class SoldOutTicketRegistry {
+
+    private final Set<Long> soldOutTicketIds = ConcurrentHashMap.newKeySet();
+
+    public boolean isSoldOut(Long ticketId) {
+        return soldOutTicketIds.contains(ticketId);
+    }
+
+    public void markSoldOut(Long ticketId) {
+        if (soldOutTicketIds.add(ticketId)) {
+            log.info("티켓 재고 소진 - ticketId: {}", ticketId);
+        }
+    }
+
+    public void markRestocked(Long ticketId) {
+        if (soldOutTicketIds.remove(ticketId)) {
+            log.info("티켓 재고 재입고 - ticketId: {}", ticketId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.wootecam.festivals.global.config;
+
+import com.wootecam.festivals.global.event.EventBus;
+import com.wootecam.festivals.global.event.InMemoryEventBus;
+import com.wootecam.festivals.global.event.RedisStreamEventBus;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * {@code event.bus.type} 프로퍼티로 {@link EventBus} 구현을 고르는 설정
+ * <p>
+ * {@code redis}(기본값) 는 Redis Stream, {@code in-memory} 는 같은 JVM 안의 원형 큐로 이벤트를 전달합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class EventBusConfig {
+
+    @Bean
+    public EventBus eventBus(@Value("${event.bus.type:redis}") String type,
+                             @Value("${event.bus.in-memory.capacity:65536}") int capacity,
+                             @Value("${event.bus.in-memory.publish-timeout-millis:1000}") long publishTimeoutMillis,
+                             StringRedisTemplate redisTemplate,
+                             StreamConsumerEngine streamConsumerEngine,
+                             MeterRegistry meterRegistry) {
+        log.info("EventBus 구현 - type: {}", type);
+        return switch (type) {
+            case "redis" -> new RedisStreamEventBus(redisTemplate, streamConsumerEngine);
+            case "in-memory" -> new InMemoryEventBus(meterRegistry, capacity, publishTimeoutMillis);
+            default -> throw new IllegalArgumentException("지원하지 않는 event.bus.type 입니다: " + type);
+        };
+    }
+}
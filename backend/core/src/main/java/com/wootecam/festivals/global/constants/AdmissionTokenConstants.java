@@ -0,0 +1,16 @@
+package com.wootecam.festivals.global.constants;
+
+/**
+ * 대기열 서버가 발급하고 api-server 가 검증하는 입장 토큰의 헤더 이름, 클레임 이름과 audience
+ */
+public final class AdmissionTokenConstants {
+
+    public static final String ADMISSION_TOKEN_HEADER = "Admission-Token";
+    public static final String TICKET_ID_CLAIM = "ticketId";
+    public static final String WAIT_ORDER_CLAIM = "waitOrder";
+    // 액세스 토큰과 같은 키로 서명하므로, audience 로 입장 토큰을 구분합니다.
+    public static final String ADMISSION_TOKEN_AUDIENCE = "admission";
+
+    private AdmissionTokenConstants() {
+    }
+}
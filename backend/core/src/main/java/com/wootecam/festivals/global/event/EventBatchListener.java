@@ -0,0 +1,15 @@
+package com.wootecam.festivals.global.event;
+
+import java.util.List;
+
+/**
+ * {@link EventBus} 로 한 번에 전달된 이벤트를 일괄 처리하는 Listener
+ * <p>
+ * 예외 없이 반환하면 처리에 성공한 것으로 봅니다. 일괄 처리에 실패하면 한 건씩 다시 처리하므로, 같은 이벤트를 다시 처리해도 안전해야 합니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface EventBatchListener {
+
+    void onEvents(List<EventMessage> messages);
+}
@@ -0,0 +1,43 @@
+package com.wootecam.festivals.global.event;
+
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
+import java.util.List;
+
+/**
+ * 서버 사이에 이벤트를 주고받는 통로
+ * <p>
+ * 발행자와 소비자는 이 인터페이스에만 의존하고, 구현은 {@code event.bus.type} 프로퍼티로 고릅니다.
+ * 기본값 {@code redis} 는 Redis Stream 으로 서버 사이에 이벤트를 전달하고, {@code in-memory} 는 네트워크를 거치지 않고
+ * 같은 JVM 안의 소비자에게만 전달합니다.
+ * </p>
+ */
+public interface EventBus {
+
+    /**
+     * 이벤트를 발행합니다.
+     *
+     * @param topic   이벤트를 발행할 토픽 (스트림 키)
+     * @param payload 이벤트 내용
+     */
+    void publish(String topic, String payload);
+
+    /**
+     * 같은 토픽에 여러 이벤트를 순서대로 발행합니다.
+     *
+     * @param topic    이벤트를 발행할 토픽 (스트림 키)
+     * @param payloads 이벤트 내용
+     */
+    default void publishAll(String topic, List<String> payloads) {
+        payloads.forEach(payload -> publish(topic, payload));
+    }
+
+    /**
+     * 이벤트를 한 건씩 Listener 에 전달하는 구독을 시작합니다.
+     */
+    EventSubscription subscribe(StreamConsumerOptions options, EventListener listener);
+
+    /**
+     * 한 번에 받은 이벤트를 Listener 에 전달하는 구독을 시작합니다. 일괄 처리에 실패하면 한 건씩 다시 처리합니다.
+     */
+    EventSubscription subscribeBatch(StreamConsumerOptions options, EventBatchListener listener);
+}
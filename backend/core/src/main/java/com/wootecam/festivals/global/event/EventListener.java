@@ -0,0 +1,13 @@
+package com.wootecam.festivals.global.event;
+
+/**
+ * {@link EventBus} 로 전달된 이벤트를 한 건씩 처리하는 Listener
+ * <p>
+ * 예외 없이 반환하면 처리에 성공한 것으로 봅니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface EventListener {
+
+    void onEvent(EventMessage message);
+}
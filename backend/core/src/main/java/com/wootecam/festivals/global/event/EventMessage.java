@@ -0,0 +1,11 @@
+package com.wootecam.festivals.global.event;
+
+/**
+ * {@link EventBus} 로 전달된 이벤트
+ *
+ * @param id      이벤트 ID, Redis Stream 은 메시지 ID 를 사용합니다.
+ * @param topic   이벤트를 발행한 토픽 (스트림 키)
+ * @param payload 이벤트 내용
+ */
+public record EventMessage(String id, String topic, String payload) {
+}
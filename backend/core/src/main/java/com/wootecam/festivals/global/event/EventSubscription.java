@@ -0,0 +1,13 @@
+package com.wootecam.festivals.global.event;
+
+/**
+ * {@link EventBus} 구독
+ */
+@FunctionalInterface
+public interface EventSubscription {
+
+    /**
+     * 구독을 취소합니다. 새 이벤트를 받지 않고, 처리 중인 이벤트를 처리할 때까지 기다립니다.
+     */
+    void cancel();
+}
@@ -0,0 +1,300 @@
+package com.wootecam.festivals.global.event;
+
+import com.wootecam.festivals.global.exception.GlobalErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * 같은 JVM 안의 소비자에게 이벤트를 전달하는 {@link EventBus}
+ * <p>
+ * 토픽의 소비자 그룹마다 크기가 정해진 {@link RingBuffer} 를 두고, 발행한 이벤트를 모든 소비자 그룹의 큐에 넣습니다.
+ * 같은 소비자 그룹의 구독 스레드는 하나의 큐에서 이벤트를 나눠 꺼내므로, Redis Stream 의 소비자 그룹처럼 한 이벤트를 그룹 안에서 한 번만 처리합니다.
+ * 큐가 가득 차면 {@link #publish} 는 발행 스레드가 {@code publishTimeoutMillis} 동안 기다리고, 그래도 넣지 못하면 예외가 발생합니다.
+ * {@link #publishAll} 은 기다리지 않고 바로 예외가 발생합니다.
+ * </p>
+ * <p>
+ * 이벤트를 저장하지 않으므로 Redis Stream 과 다음이 다릅니다.
+ * 구독하는 소비자 그룹이 없는 토픽에는 발행할 수 없고, 서버가 종료될 때 큐에 남은 이벤트는 버려지며,
+ * 처리에 실패한 이벤트는 Pending 목록에 남지 않습니다. {@link StreamConsumerOptions.AckMode} 는 사용하지 않습니다.
+ * 다른 서버의 소비자에게는 전달하지 못하므로, 발행자와 소비자가 모두 한 JVM 에 있는 테스트와 Redis 를 제외한 처리 비용을 측정하는 벤치마크에 사용합니다.
+ * </p>
+ */
+@Slf4j
+public class InMemoryEventBus implements EventBus, DisposableBean {
+
+    private static final long MIN_IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final long publishTimeoutNanos;
+
+    private final Map<String, Map<String, ConsumerGroup>> topics = new ConcurrentHashMap<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param capacity            소비자 그룹마다 처리를 기다리는 이벤트의 최대 수
+     * @param publishTimeoutMillis 큐가 가득 찼을 때 발행 스레드가 기다리는 최대 시간
+     */
+    public InMemoryEventBus(MeterRegistry meterRegistry, int capacity, long publishTimeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMillis);
+    }
+
+    @Override
+    public void publish(String topic, String payload) {
+        EventMessage message = new EventMessage(nextId(), topic, payload);
+        for (ConsumerGroup group : requireGroups(topic)) {
+            group.offer(message);
+        }
+    }
+
+    /**
+     * 여러 이벤트를 순서대로 발행합니다.
+     * <p>
+     * outbox 발행처럼 트랜잭션 안에서 호출되므로, 큐가 가득 차면 기다리지 않고 바로 예외를 던집니다.
+     * 일부 이벤트를 넣은 뒤 실패하면 호출한 쪽이 다시 발행하므로, 소비자는 같은 이벤트를 두 번 이상 받을 수 있습니다.
+     * </p>
+     */
+    @Override
+    public void publishAll(String topic, List<String> payloads) {
+        Collection<ConsumerGroup> groups = requireGroups(topic);
+        for (String payload : payloads) {
+            EventMessage message = new EventMessage(nextId(), topic, payload);
+            for (ConsumerGroup group : groups) {
+                group.offerWithoutWaiting(message);
+            }
+        }
+    }
+
+    // 이벤트를 저장하지 않으므로, 구독하는 소비자 그룹이 없다면 버리지 않고 예외를 던져 발행한 쪽이 다시 발행하게 합니다.
+    private Collection<ConsumerGroup> requireGroups(String topic) {
+        Map<String, ConsumerGroup> groups = topics.get(topic);
+        if (groups == null || groups.isEmpty()) {
+            meterRegistry.counter("event.bus.unsubscribed", "topic", topic).increment();
+            log.warn("구독하는 소비자 그룹이 없어 이벤트를 발행하지 못했습니다. topic: {}", topic);
+            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, topic + " 토픽을 구독하는 소비자 그룹이 없습니다.");
+        }
+        return groups.values();
+    }
+
+    // Redis Stream 의 메시지 ID 와 같이 "<밀리초>-<순번>" 형식을 사용합니다.
+    private String nextId() {
+        return System.currentTimeMillis() + "-" + sequence.incrementAndGet();
+    }
+
+    @Override
+    public EventSubscription subscribe(StreamConsumerOptions options, EventListener listener) {
+        return start(options, messages -> {
+            for (EventMessage message : messages) {
+                listener.onEvent(message);
+            }
+        }, false);
+    }
+
+    @Override
+    public EventSubscription subscribeBatch(StreamConsumerOptions options, EventBatchListener listener) {
+        return start(options, listener, true);
+    }
+
+    private synchronized EventSubscription start(StreamConsumerOptions options, EventBatchListener listener,
+                                                 boolean batch) {
+        ConsumerGroup group = topics.computeIfAbsent(options.streamKey(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(options.groupName(), groupName -> new ConsumerGroup(options.streamKey(), groupName));
+
+        Subscription subscription = new Subscription(options, group, listener, batch);
+        subscriptions.add(subscription);
+        subscription.start();
+        return subscription;
+    }
+
+    // 구독이 모두 취소된 소비자 그룹에는 더 이상 이벤트를 넣지 않습니다.
+    private synchronized void remove(Subscription subscription) {
+        subscriptions.remove(subscription);
+        ConsumerGroup group = subscription.group;
+        if (subscriptions.stream().noneMatch(other -> other.group == group)) {
+            topics.get(group.topic).remove(group.groupName, group);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * 소비자 그룹이 처리할 이벤트를 담는 큐
+     */
+    private final class ConsumerGroup {
+
+        private final String topic;
+        private final String groupName;
+        private final RingBuffer<EventMessage> buffer;
+
+        private ConsumerGroup(String topic, String groupName) {
+            this.topic = topic;
+            this.groupName = groupName;
+            this.buffer = new RingBuffer<>(capacity);
+            Gauge.builder("event.bus.queued", buffer, RingBuffer::size)
+                    .description("소비자 그룹이 처리를 기다리는 이벤트 수")
+                    .tags(Tags.of("topic", topic, "group", groupName))
+                    .register(meterRegistry);
+        }
+
+        private void offerWithoutWaiting(EventMessage message) {
+            if (buffer.offer(message)) {
+                return;
+            }
+            meterRegistry.counter("event.bus.backpressure", "topic", topic, "group", groupName).increment();
+            log.error("이벤트 큐가 가득 차 발행하지 못했습니다. topic: {}, group: {}", topic, groupName);
+            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR,
+                    topic + " 토픽의 " + groupName + " 소비자 그룹 큐가 가득 찼습니다.");
+        }
+
+        private void offer(EventMessage message) {
+            if (buffer.offer(message)) {
+                return;
+            }
+
+            meterRegistry.counter("event.bus.backpressure", "topic", topic, "group", groupName).increment();
+            long deadline = System.nanoTime() + publishTimeoutNanos;
+            long idleNanos = MIN_IDLE_NANOS;
+            while (!buffer.offer(message)) {
+                if (System.nanoTime() - deadline >= 0) {
+                    log.error("이벤트 큐가 가득 차 발행하지 못했습니다. topic: {}, group: {}", topic, groupName);
+                    throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR,
+                            topic + " 토픽의 " + groupName + " 소비자 그룹 큐가 가득 찼습니다.");
+                }
+                LockSupport.parkNanos(idleNanos);
+                idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+            }
+        }
+    }
+
+    /**
+     * 소비자 그룹의 큐에서 이벤트를 꺼내 처리하는 구독, {@code parallelism} 개의 스레드가 같은 큐를 나눠 처리합니다.
+     */
+    private final class Subscription implements EventSubscription {
+
+        private final StreamConsumerOptions options;
+        private final ConsumerGroup group;
+        private final EventBatchListener listener;
+        private final boolean batch;
+        private final List<Thread> workers = new ArrayList<>();
+
+        private final Counter received;
+        private final Counter failed;
+
+        private volatile boolean running;
+
+        private Subscription(StreamConsumerOptions options, ConsumerGroup group, EventBatchListener listener,
+                             boolean batch) {
+            this.options = options;
+            this.group = group;
+            this.listener = listener;
+            this.batch = batch;
+
+            Tags tags = Tags.of("topic", options.streamKey(), "group", options.groupName());
+            this.received = meterRegistry.counter("event.bus.received", tags);
+            this.failed = meterRegistry.counter("event.bus.failed", tags);
+
+            for (int i = 1; i <= options.parallelism(); i++) {
+                Thread worker = new Thread(this::poll, options.streamKey() + "-event-worker-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+            }
+        }
+
+        private void start() {
+            running = true;
+            workers.forEach(Thread::start);
+            log.info("이벤트 구독 시작 - topic: {}, groupName: {}, parallelism: {}, batchSize: {}",
+                    options.streamKey(), options.groupName(), options.parallelism(), options.batchSize());
+        }
+
+        private void poll() {
+            List<EventMessage> messages = new ArrayList<>(options.batchSize());
+            long idleNanos = MIN_IDLE_NANOS;
+
+            // 취소한 뒤에도 큐에 남은 이벤트는 처리합니다.
+            while (running || group.buffer.size() > 0) {
+                if (group.buffer.drainTo(messages, options.batchSize()) == 0) {
+                    if (!running) {
+                        break;
+                    }
+                    LockSupport.parkNanos(idleNanos);
+                    idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+                    continue;
+                }
+
+                idleNanos = MIN_IDLE_NANOS;
+                received.increment(messages.size());
+                handle(List.copyOf(messages));
+                messages.clear();
+            }
+        }
+
+        private void handle(List<EventMessage> messages) {
+            if (batch) {
+                try {
+                    listener.onEvents(messages);
+                    return;
+                } catch (RuntimeException e) {
+                    if (messages.size() == 1) {
+                        failed.increment();
+                        log.error("이벤트 처리 실패 - topic: {}, id: {}", options.streamKey(), messages.get(0).id(), e);
+                        return;
+                    }
+                    log.error("이벤트 일괄 처리 실패, 한 건씩 다시 처리합니다. topic: {}, {}건", options.streamKey(),
+                            messages.size(), e);
+                }
+            }
+
+            for (EventMessage message : messages) {
+                try {
+                    listener.onEvents(List.of(message));
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.error("이벤트 처리 실패 - topic: {}, id: {}", options.streamKey(), message.id(), e);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!running) {
+                return;
+            }
+            running = false;
+            for (Thread worker : workers) {
+                try {
+                    worker.join(options.pollTimeout().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            remove(this);
+            log.info("이벤트 구독 종료 - topic: {}", options.streamKey());
+        }
+    }
+}
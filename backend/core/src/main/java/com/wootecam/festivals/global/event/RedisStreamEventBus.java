@@ -0,0 +1,87 @@
+package com.wootecam.festivals.global.event;
+
+import com.wootecam.festivals.global.exception.GlobalErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine.Subscription;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis Stream 으로 이벤트를 주고받는 {@link EventBus}
+ * <p>
+ * 토픽을 스트림 키로 사용하고, 구독은 {@link StreamConsumerEngine} 이 소비자 그룹으로 읽어 처리합니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisStreamEventBus implements EventBus {
+
+    private final StringRedisTemplate redisTemplate;
+    private final StreamConsumerEngine streamConsumerEngine;
+
+    @Override
+    public void publish(String topic, String payload) {
+        RecordId recordId = redisTemplate.opsForStream().add(toRecord(topic, payload));
+
+        if (recordId == null) {
+            log.error("Failed to send event to stream: {}", topic);
+            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 이벤트를 파이프라인으로 한 번에 발행합니다.
+     */
+    @Override
+    public void publishAll(String topic, List<String> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        List<ObjectRecord<String, String>> records = payloads.stream()
+                .map(payload -> toRecord(topic, payload))
+                .toList();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                records.forEach(record -> stringOperations.opsForStream().add(record));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public EventSubscription subscribe(StreamConsumerOptions options, EventListener listener) {
+        Subscription subscription = streamConsumerEngine.subscribe(options,
+                message -> listener.onEvent(toEvent(message)));
+        return subscription::cancel;
+    }
+
+    @Override
+    public EventSubscription subscribeBatch(StreamConsumerOptions options, EventBatchListener listener) {
+        Subscription subscription = streamConsumerEngine.subscribeBatch(options,
+                messages -> listener.onEvents(messages.stream().map(RedisStreamEventBus::toEvent).toList()));
+        return subscription::cancel;
+    }
+
+    private static ObjectRecord<String, String> toRecord(String topic, String payload) {
+        return StreamRecords.newRecord()
+                .ofObject(payload)
+                .withStreamKey(topic);
+    }
+
+    private static EventMessage toEvent(ObjectRecord<String, String> message) {
+        return new EventMessage(message.getId().getValue(), message.getStream(), message.getValue());
+    }
+}
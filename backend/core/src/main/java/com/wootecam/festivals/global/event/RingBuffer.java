@@ -0,0 +1,127 @@
+package com.wootecam.festivals.global.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 정해진 lock-free 원형 큐, 여러 스레드가 동시에 넣고 꺼낼 수 있습니다.
+ * <p>
+ * 칸마다 순번을 두고, 넣는 스레드와 꺼내는 스레드는 각자 다음 위치를 CAS 로 차지한 뒤 칸의 순번을 바꿔 상대에게 알립니다.
+ * 순번이 위치와 같으면 비어 있는 칸, 위치 + 1 이면 채워진 칸입니다. 큐가 가득 차면 기다리지 않고 {@code false} 를 반환합니다.
+ * </p>
+ */
+final class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치
+
+    /**
+     * @param capacity 최대 원소 수, 2 의 거듭제곱으로 올림합니다.
+     */
+    RingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity 는 1 이상 2^30 이하여야 합니다. capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size;
+
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소를 넣습니다.
+     *
+     * @return 큐가 가득 차 넣지 못하면 {@code false}
+     */
+    boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("null 은 넣을 수 없습니다.");
+        }
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전의 원소를 아직 꺼내지 않았습니다.
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 가장 먼저 넣은 원소를 꺼냅니다.
+     *
+     * @return 큐가 비어 있으면 {@code null}
+     */
+    E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    // 다음 바퀴에 같은 칸에 넣을 수 있도록 순번을 한 바퀴 뒤로 옮깁니다.
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // 아직 넣지 않았거나 넣는 중인 칸입니다.
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 {@code maxElements} 개의 원소를 꺼내 {@code target} 에 넣습니다.
+     *
+     * @return 꺼낸 원소 수
+     */
+    int drainTo(List<E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 큐에 남은 원소 수, 다른 스레드가 넣고 꺼내는 중이면 근삿값입니다.
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.wootecam.festivals.global.utils;
+
+/**
+ * 바이너리 형식의 스트림 메시지에 쓸 수 있는 enum 이 구현하는 인터페이스
+ * <p>
+ * 메시지를 쓰는 서버와 읽는 서버가 각자 enum 을 두므로, 상수의 순서가 아니라 상수마다 정한 코드를 씁니다.
+ * 코드는 1 이상이어야 하고(0 은 null), 한 번 정한 코드는 바꾸거나 다른 상수에 다시 쓰지 않아야 합니다.
+ * </p>
+ */
+public interface BinaryPayloadCode {
+
+    int payloadCode();
+}
@@ -0,0 +1,63 @@
+package com.wootecam.festivals.global.utils;
+
+import java.util.Base64;
+
+/**
+ * 스트림 메시지를 버전이 있는 바이너리 형식으로 변환하는 클래스
+ * <p>
+ * 메시지는 형식 표시 바이트, 스키마 버전과 {@link #write} 가 쓴 값으로 이루어집니다. 필드 이름을 쓰지 않아 JSON 보다 작고, 리플렉션 없이
+ * 정해진 순서대로 읽으므로 변환 비용도 적습니다. 필드를 추가하거나 바꾸면 버전을 올리고, {@link #read} 에서 이전 버전도 읽을 수 있어야 합니다.
+ * </p>
+ * <p>
+ * 스트림은 StringRedisTemplate 으로 읽고 쓰므로 바이트 배열을 그대로 저장하면 UTF-8 로 변환하면서 깨집니다. 따라서 Base64 문자열로
+ * 저장합니다. Base64 문자열은 '{' 로 시작하지 않으므로, {@link #isBinary} 로 바이너리 형식을 사용하기 전에 발행한 JSON 메시지와 구분할 수
+ * 있습니다.
+ * </p>
+ *
+ * @param <T> 메시지 타입
+ */
+public abstract class BinaryPayloadCodec<T> {
+
+    private static final int FORMAT_MARKER = 0xB1;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    public static boolean isBinary(String payload) {
+        return payload != null && !payload.isEmpty() && payload.charAt(0) != '{';
+    }
+
+    /**
+     * @return 이 클래스가 쓰는 스키마 버전 (1 ~ 255)
+     */
+    protected abstract int version();
+
+    protected abstract void write(T value, BinaryPayloadWriter writer);
+
+    /**
+     * @param version 메시지를 쓴 스키마 버전, {@link #version()} 이하입니다.
+     */
+    protected abstract T read(int version, BinaryPayloadReader reader);
+
+    public String encode(T value) {
+        BinaryPayloadWriter writer = new BinaryPayloadWriter();
+        writer.writeByte(FORMAT_MARKER);
+        writer.writeByte(version());
+        write(value, writer);
+        return ENCODER.encodeToString(writer.toByteArray());
+    }
+
+    /**
+     * @throws IllegalArgumentException 바이너리 형식이 아니거나, 이 클래스보다 새로운 버전의 메시지인 경우
+     */
+    public T decode(String payload) {
+        BinaryPayloadReader reader = new BinaryPayloadReader(DECODER.decode(payload));
+        if (reader.readByte() != FORMAT_MARKER) {
+            throw new IllegalArgumentException("바이너리 형식의 메시지가 아닙니다.");
+        }
+        int version = reader.readByte();
+        if (version < 1 || version > version()) {
+            throw new IllegalArgumentException("지원하지 않는 메시지 버전입니다. version: " + version);
+        }
+        return read(version, reader);
+    }
+}
@@ -0,0 +1,114 @@
+package com.wootecam.festivals.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * {@link BinaryPayloadWriter} 로 쓴 스트림 메시지를 읽는 클래스
+ * <p>
+ * 필드를 담을 중간 객체를 만들지 않고, 메시지 바이트 배열에서 값을 바로 읽습니다. 문자열도 배열의 해당 구간에서 바로 만듭니다.
+ * </p>
+ */
+public class BinaryPayloadReader {
+
+    private static final int ID_NULL = 0;
+    private static final int ID_UUID = 1;
+    private static final int ID_STRING = 2;
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryPayloadReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        ensureReadable(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public Long readLong() {
+        long value = readVarLong();
+        return value == 0 ? null : unZigZag(value - 1);
+    }
+
+    public int readInt() {
+        return (int) unZigZag(readVarLong());
+    }
+
+    public String readString() {
+        long length = readVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = Math.toIntExact(length - 1);
+        ensureReadable(size);
+        String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    public String readId() {
+        int type = readByte();
+        return switch (type) {
+            case ID_NULL -> null;
+            case ID_UUID -> new UUID(readFixedLong(), readFixedLong()).toString();
+            case ID_STRING -> readString();
+            default -> throw new IllegalArgumentException("알 수 없는 ID 형식입니다. type: " + type);
+        };
+    }
+
+    public LocalDateTime readDateTime() {
+        Long epochSecond = readLong();
+        if (epochSecond == null) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, Math.toIntExact(readVarLong()), ZoneOffset.UTC);
+    }
+
+    public <E extends Enum<E> & BinaryPayloadCode> E readEnum(Class<E> type) {
+        long code = readVarLong();
+        if (code == 0) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.payloadCode() == code) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 " + type.getSimpleName() + " 코드입니다. code: " + code);
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("가변 길이 정수가 너무 깁니다.");
+    }
+
+    private long readFixedLong() {
+        ensureReadable(Long.BYTES);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void ensureReadable(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new IllegalArgumentException("메시지가 예상보다 짧습니다. position: " + position + ", length: " + length);
+        }
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
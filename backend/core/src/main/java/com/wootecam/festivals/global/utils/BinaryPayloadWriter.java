@@ -0,0 +1,146 @@
+package com.wootecam.festivals.global.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 스트림 메시지를 바이너리 형식으로 쓰는 클래스
+ * <p>
+ * 필드 이름 없이 {@link BinaryPayloadCodec} 이 정한 순서대로 값만 씁니다. 정수는 가변 길이로 써서 작은 값은 1바이트만 사용하고,
+ * null 은 0 으로 표시합니다.
+ * </p>
+ */
+public class BinaryPayloadWriter {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ID_NULL = 0;
+    private static final int ID_UUID = 1;
+    private static final int ID_STRING = 2;
+    private static final int UUID_STRING_LENGTH = 36;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * null 을 표시하기 위해 Long.MIN_VALUE 는 쓸 수 없습니다.
+     */
+    public void writeLong(Long value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE 는 쓸 수 없습니다.");
+        }
+        writeVarLong(zigZag(value) + 1);
+    }
+
+    public void writeInt(int value) {
+        writeVarLong(zigZag(value));
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeBytes(bytes);
+    }
+
+    /**
+     * UUID 형식의 ID 는 16바이트로, 그 외의 ID 는 문자열로 씁니다.
+     */
+    public void writeId(String value) {
+        if (value == null) {
+            writeByte(ID_NULL);
+            return;
+        }
+        UUID uuid = toUuid(value);
+        if (uuid == null) {
+            writeByte(ID_STRING);
+            writeString(value);
+            return;
+        }
+        writeByte(ID_UUID);
+        writeFixedLong(uuid.getMostSignificantBits());
+        writeFixedLong(uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * UTC 기준 초와 나노초로 씁니다. 초 단위로 정규화된 시간은 나노초에 1바이트만 사용합니다.
+     */
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeLong(null);
+            return;
+        }
+        writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(value.getNano());
+    }
+
+    /**
+     * 상수의 순서가 아니라 {@link BinaryPayloadCode#payloadCode()} 를 씁니다.
+     */
+    public void writeEnum(BinaryPayloadCode value) {
+        writeVarLong(value == null ? 0 : value.payloadCode());
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // 소문자 표준 형식만 UUID 로 써서, 읽었을 때 같은 문자열이 되도록 합니다.
+    private static UUID toUuid(String value) {
+        if (value.length() != UUID_STRING_LENGTH) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
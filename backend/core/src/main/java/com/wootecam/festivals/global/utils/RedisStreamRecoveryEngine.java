@@ -0,0 +1,361 @@
+package com.wootecam.festivals.global.utils;
+
+import com.wootecam.festivals.global.event.EventBus;
+import com.wootecam.festivals.global.event.EventListener;
+import com.wootecam.festivals.global.event.EventMessage;
+import com.wootecam.festivals.global.exception.GlobalErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions.AckMode;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.models.stream.ClaimedMessages;
+import io.lettuce.core.output.ClaimedMessagesOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumer;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리되지 않고 Pending 목록에 남은 스트림 메시지를 다시 처리하는 클래스
+ * <p>
+ * XAUTOCLAIM 으로 일정 시간 이상 확인되지 않은 메시지를 페이지 단위로 가져와, 스트림을 구독하는 Listener 에 다시 전달합니다.
+ * Listener 가 처리에 성공하면 메시지를 확인(XACK)합니다. 처리에 실패한 메시지는 Pending 목록에 남아 다음 복구 때 다시 처리합니다.
+ * 전달 횟수는 Pending 목록의 전달 횟수를 사용하며, 최대 전달 횟수를 넘은 메시지는 처리하지 않고 {@code <streamKey>:dlq} 스트림으로 옮긴 뒤 확인합니다.
+ * Listener 가 {@link StreamRecoveryDeferredException} 을 던져 처리를 미룬 메시지는 실패로 보지 않고, 가져오면서 늘어난 전달 횟수를 되돌립니다.
+ * </p>
+ * <p>
+ * Consumer 가 일부러 확인하지 않고 Pending 목록에 남겨 두는 스트림은 {@link #recoverFromInactiveConsumers} 로, 일정 시간 이상 스트림을 읽지 않은
+ * Consumer(종료된 인스턴스)의 메시지만 가져옵니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStreamRecoveryEngine {
+
+    public static final String DEAD_LETTER_STREAM_SUFFIX = ":dlq";
+    public static final String DEAD_LETTER_ORIGINAL_ID_FIELD = "dlq-original-id";
+    public static final String DEAD_LETTER_GROUP_FIELD = "dlq-group";
+    public static final String DEAD_LETTER_DELIVERY_COUNT_FIELD = "dlq-delivery-count";
+
+    private static final String START_ID = "0-0";
+    private static final long COMMAND_TIMEOUT_SECONDS = 5;
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 이 인스턴스가 가져온 메시지의 소유자, 인스턴스가 종료되면 다른 인스턴스가 다시 가져갑니다.
+    private final String consumerName = "recovery-" + System.currentTimeMillis();
+
+    @Value("${redis.stream.recovery.min-idle-millis:60000}")
+    private long minIdleMillis;
+
+    @Value("${redis.stream.recovery.page-size:10}")
+    private int pageSize;
+
+    @Value("${redis.stream.recovery.max-pages:10}")
+    private int maxPages;
+
+    @Value("${redis.stream.recovery.max-deliveries:5}")
+    private int maxDeliveries;
+
+    @Value("${redis.stream.recovery.inactive-consumer-millis:60000}")
+    private long inactiveConsumerMillis;
+
+    public static String deadLetterStreamKey(String streamKey) {
+        return streamKey + DEAD_LETTER_STREAM_SUFFIX;
+    }
+
+    /**
+     * 확인되지 않은 채 일정 시간이 지난 메시지를 가져와 Listener 로 다시 처리하고, 처리에 성공하면 확인합니다.
+     *
+     * @param streamKey 스트림 키
+     * @param groupName 소비자 그룹
+     * @param listener  메시지를 처리하는 Listener
+     */
+    public void recover(String streamKey, String groupName, StreamListener<String, ObjectRecord<String, String>> listener) {
+        recover(streamKey, groupName, AckMode.AUTO, listener);
+    }
+
+    /**
+     * {@link EventBus} 로 구독하는 {@link EventListener} 의 메시지를 복구합니다.
+     * <p>
+     * 가져온 메시지를 {@link EventMessage} 로 바꿔 전달하고, 처리에 성공하면 확인합니다.
+     * </p>
+     *
+     * @param streamKey 스트림 키
+     * @param groupName 소비자 그룹
+     * @param listener  이벤트를 처리하는 Listener
+     */
+    public void recoverEvents(String streamKey, String groupName, EventListener listener) {
+        recover(streamKey, groupName, AckMode.AUTO, message -> listener.onEvent(
+                new EventMessage(message.getId().getValue(), message.getStream(), message.getValue())));
+    }
+
+    /**
+     * 확인되지 않은 채 일정 시간이 지난 메시지를 가져와 Listener 로 다시 처리합니다.
+     *
+     * @param streamKey 스트림 키
+     * @param groupName 소비자 그룹
+     * @param ackMode   MANUAL 이면 Listener 가 직접 메시지를 확인합니다.
+     * @param listener  메시지를 처리하는 Listener
+     */
+    public void recover(String streamKey, String groupName, AckMode ackMode,
+                        StreamListener<String, ObjectRecord<String, String>> listener) {
+        String cursor = START_ID;
+        for (int page = 0; page < maxPages; page++) {
+            ClaimedMessages<String, String> claimed = autoClaim(streamKey, groupName, cursor);
+            List<MapRecord<String, Object, Object>> records = claimed.getMessages().stream()
+                    .map(message -> toMapRecord(streamKey, message))
+                    .toList();
+            if (!records.isEmpty()) {
+                log.info("Pending 메시지 {}건을 가져왔습니다. streamKey: {}, groupName: {}", records.size(), streamKey,
+                        groupName);
+                recoverPage(streamKey, groupName, ackMode, records, listener);
+            }
+
+            cursor = claimed.getId();
+            if (cursor == null || START_ID.equals(cursor)) {
+                return;
+            }
+        }
+        log.info("한 번에 복구할 수 있는 페이지 수를 넘어 나머지는 다음 복구 때 처리합니다. streamKey: {}, cursor: {}", streamKey, cursor);
+    }
+
+    /**
+     * 일정 시간 이상 스트림을 읽지 않은 Consumer 의 Pending 메시지만 가져와 Listener 로 다시 처리합니다.
+     * <p>
+     * 스트림을 계속 읽고 있는 Consumer 의 Pending 메시지는 그 Consumer 가 일부러 남겨 둔 메시지일 수 있으므로 가져오지 않습니다.
+     * 이 인스턴스가 이전 복구 때 가져와 처리하지 못한 메시지는 유휴 시간과 관계없이 다시 처리합니다.
+     * </p>
+     *
+     * @param streamKey 스트림 키
+     * @param groupName 소비자 그룹
+     * @param ackMode   MANUAL 이면 Listener 가 직접 메시지를 확인합니다.
+     * @param listener  메시지를 처리하는 Listener
+     */
+    public void recoverFromInactiveConsumers(String streamKey, String groupName, AckMode ackMode,
+                                             StreamListener<String, ObjectRecord<String, String>> listener) {
+        XInfoConsumers consumers = redisTemplate.opsForStream().consumers(streamKey, groupName);
+        if (consumers == null) {
+            return;
+        }
+
+        int page = 0;
+        for (XInfoConsumer consumer : consumers.stream().toList()) {
+            boolean own = consumerName.equals(consumer.consumerName());
+            if (consumer.pendingCount() == 0 || (!own && consumer.idleTimeMs() < inactiveConsumerMillis)) {
+                continue;
+            }
+
+            RecordId after = null;
+            while (page++ < maxPages) {
+                PendingMessages pendingMessages = readPending(streamKey, groupName, consumer.consumerName(), after);
+                if (pendingMessages == null || pendingMessages.isEmpty()) {
+                    break;
+                }
+                after = pendingMessages.get(pendingMessages.size() - 1).getId();
+
+                // 다른 Consumer 의 메시지는 확인되지 않은 채 일정 시간이 지난 메시지만 가져옵니다.
+                String[] ids = pendingMessages.stream()
+                        .filter(pendingMessage -> own
+                                || pendingMessage.getElapsedTimeSinceLastDelivery().toMillis() >= minIdleMillis)
+                        .map(PendingMessage::getIdAsString)
+                        .toArray(String[]::new);
+                if (ids.length == 0) {
+                    continue;
+                }
+
+                List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().claim(streamKey,
+                        groupName, consumerName,
+                        XClaimOptions.minIdle(Duration.ofMillis(own ? 0 : minIdleMillis)).ids(ids));
+                if (records != null && !records.isEmpty()) {
+                    log.info("종료된 Consumer 의 Pending 메시지 {}건을 가져왔습니다. streamKey: {}, consumer: {}",
+                            records.size(), streamKey, consumer.consumerName());
+                    recoverPage(streamKey, groupName, ackMode, records, listener);
+                }
+            }
+        }
+    }
+
+    /**
+     * 처리할 수 없는 메시지를 최대 전달 횟수와 관계없이 바로 DLQ 로 옮기고 확인합니다.
+     * <p>
+     * 스트림을 계속 읽고 있는 Consumer 의 Pending 메시지는 복구하지 않으므로, 그런 Consumer 가 처리에 실패한 메시지를 Pending 목록에 남기지 않을 때 사용합니다.
+     * 스트림에서 이미 잘린 메시지는 옮길 내용이 없으므로 확인만 합니다.
+     * </p>
+     *
+     * @param streamKey 스트림 키
+     * @param groupName 소비자 그룹
+     * @param id        옮길 메시지 ID
+     */
+    public void deadLetter(String streamKey, String groupName, RecordId id) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(streamKey, Range.closed(id.getValue(), id.getValue()));
+        if (records == null || records.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(streamKey, groupName, id);
+            return;
+        }
+
+        PendingMessages pendingMessages = redisTemplate.opsForStream()
+                .pending(streamKey, groupName, Range.closed(id.getValue(), id.getValue()), 1);
+        long deliveryCount = pendingMessages == null || pendingMessages.isEmpty()
+                ? 0 : pendingMessages.get(0).getTotalDeliveryCount();
+        deadLetter(streamKey, groupName, records.get(0), deliveryCount);
+    }
+
+    private PendingMessages readPending(String streamKey, String groupName, String owner, RecordId after) {
+        Range<?> range = after == null ? Range.unbounded() : Range.rightUnbounded(Bound.exclusive(after.getValue()));
+        return redisTemplate.opsForStream().pending(streamKey, Consumer.from(groupName, owner), range, pageSize);
+    }
+
+    private void recoverPage(String streamKey, String groupName, AckMode ackMode,
+                             List<MapRecord<String, Object, Object>> records,
+                             StreamListener<String, ObjectRecord<String, String>> listener) {
+        Map<String, Long> deliveryCounts = readDeliveryCounts(streamKey, groupName, records);
+
+        for (MapRecord<String, Object, Object> record : records) {
+            String id = record.getId().getValue();
+            long deliveryCount = deliveryCounts.getOrDefault(id, 0L);
+            if (deliveryCount > maxDeliveries) {
+                deadLetter(streamKey, groupName, record, deliveryCount);
+                continue;
+            }
+
+            try {
+                listener.onMessage(redisTemplate.opsForStream().map(record, String.class));
+                if (ackMode == AckMode.AUTO) {
+                    redisTemplate.opsForStream().acknowledge(streamKey, groupName, id);
+                }
+                meterRegistry.counter("redis.stream.recovery.recovered", "stream", streamKey).increment();
+            } catch (StreamRecoveryDeferredException e) {
+                log.info("Pending 메시지 처리를 다음 복구 때로 미룹니다. streamKey: {}, id: {}, reason: {}", streamKey, id,
+                        e.getMessage());
+                restoreDeliveryCount(streamKey, groupName, id, deliveryCount - 1);
+                meterRegistry.counter("redis.stream.recovery.deferred", "stream", streamKey).increment();
+            } catch (RuntimeException e) {
+                log.error("Pending 메시지 재처리 실패, 다음 복구 때 다시 처리합니다. streamKey: {}, id: {}, deliveryCount: {}",
+                        streamKey, id, deliveryCount, e);
+                meterRegistry.counter("redis.stream.recovery.failure", "stream", streamKey).increment();
+            }
+        }
+    }
+
+    /*
+        처리를 미룬 메시지는 최대 전달 횟수에 포함하지 않도록, 전달 횟수를 늘리지 않는 XCLAIM JUSTID 로 가져오기 전의 전달 횟수를 설정합니다.
+     */
+    private void restoreDeliveryCount(String streamKey, String groupName, String id, long deliveryCount) {
+        try {
+            redisTemplate.execute((RedisCallback<List<RecordId>>) connection -> connection.streamCommands()
+                    .xClaimJustId(streamKey.getBytes(StandardCharsets.UTF_8), groupName, consumerName,
+                            XClaimOptions.minIdle(Duration.ZERO).ids(RecordId.of(id))
+                                    .retryCount(Math.max(0, deliveryCount))));
+        } catch (RuntimeException e) {
+            log.warn("Pending 메시지의 전달 횟수를 되돌리지 못했습니다. streamKey: {}, id: {}", streamKey, id, e);
+        }
+    }
+
+    /*
+        XAUTOCLAIM 은 Spring Data Redis 에서 지원하지 않으므로 Lettuce 명령을 직접 실행합니다.
+        가져온 메시지의 전달 횟수는 1 증가하고, 유휴 시간은 0 으로 초기화됩니다.
+     */
+    @SuppressWarnings("unchecked")
+    private ClaimedMessages<String, String> autoClaim(String streamKey, String groupName, String cursor) {
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8)
+                .addKey(streamKey)
+                .add(groupName)
+                .add(consumerName)
+                .add(minIdleMillis)
+                .add(cursor)
+                .add(CommandKeyword.COUNT)
+                .add(pageSize);
+
+        return redisTemplate.execute((RedisCallback<ClaimedMessages<String, String>>) connection -> {
+            RedisAsyncCommands commands = (RedisAsyncCommands) connection.getNativeConnection();
+            RedisFuture<ClaimedMessages<String, String>> future = commands.dispatch(CommandType.XAUTOCLAIM,
+                    new ClaimedMessagesOutput<>(StringCodec.UTF8, streamKey, false), args);
+            try {
+                return future.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, streamKey + " XAUTOCLAIM 중 인터럽트 발생", e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, streamKey + " XAUTOCLAIM 중 에러 발생", e);
+            }
+        });
+    }
+
+    // 가져온 메시지는 모두 이 인스턴스가 소유하므로, 이 인스턴스의 Pending 목록을 한 번 조회해 전달 횟수를 읽습니다.
+    private Map<String, Long> readDeliveryCounts(String streamKey, String groupName,
+                                                 List<MapRecord<String, Object, Object>> records) {
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(streamKey,
+                Consumer.from(groupName, consumerName),
+                Range.closed(records.get(0).getId().getValue(), records.get(records.size() - 1).getId().getValue()),
+                records.size());
+
+        Map<String, Long> deliveryCounts = new HashMap<>();
+        if (pendingMessages != null) {
+            for (PendingMessage pendingMessage : pendingMessages) {
+                deliveryCounts.put(pendingMessage.getIdAsString(), pendingMessage.getTotalDeliveryCount());
+            }
+        }
+        return deliveryCounts;
+    }
+
+    private MapRecord<String, Object, Object> toMapRecord(String streamKey, StreamMessage<String, String> message) {
+        return StreamRecords.newRecord()
+                .in(streamKey)
+                .withId(RecordId.of(message.getId()))
+                .ofMap(new LinkedHashMap<Object, Object>(message.getBody()));
+    }
+
+    private void deadLetter(String streamKey, String groupName, MapRecord<String, Object, Object> record,
+                            long deliveryCount) {
+        String id = record.getId().getValue();
+        Map<String, String> fields = new LinkedHashMap<>();
+        record.getValue().forEach((field, value) -> fields.put(String.valueOf(field), String.valueOf(value)));
+        fields.put(DEAD_LETTER_ORIGINAL_ID_FIELD, id);
+        fields.put(DEAD_LETTER_GROUP_FIELD, groupName);
+        fields.put(DEAD_LETTER_DELIVERY_COUNT_FIELD, String.valueOf(deliveryCount));
+
+        // 옮긴 뒤 확인하기 전에 실패하면 다음 복구 때 다시 옮기므로, 같은 메시지가 DLQ 에 두 번 들어갈 수 있습니다.
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(deadLetterStreamKey(streamKey))
+                .ofMap(fields));
+        redisTemplate.opsForStream().acknowledge(streamKey, groupName, id);
+
+        log.warn("메시지를 DLQ 로 옮겼습니다. streamKey: {}, id: {}, deliveryCount: {}", streamKey,
+                id, deliveryCount);
+        meterRegistry.counter("redis.stream.recovery.dead.lettered", "stream", streamKey).increment();
+    }
+}
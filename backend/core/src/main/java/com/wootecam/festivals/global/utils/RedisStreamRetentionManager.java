@@ -0,0 +1,209 @@
+package com.wootecam.festivals.global.utils;
+
+import static com.wootecam.festivals.domain.festival.constant.FestivalRedisStreamConstants.FESTIVAL_STREAM_KEY;
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_KEY;
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_RESULT_STREAM_KEY;
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisStreamConstants.TICKET_STREAM_KEY;
+
+import com.wootecam.festivals.global.exception.GlobalErrorCode;
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.StreamReport.GroupReport;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 소비자 그룹이 처리한 스트림 메시지를 삭제하는 클래스
+ * <p>
+ * XADD 에 MAXLEN 을 붙이면 확인하지 않은 메시지도 삭제될 수 있으므로, 소비자 그룹마다 가장 오래된 Pending 메시지와 마지막으로 읽은 메시지 중
+ * 가장 앞선 ID 를 구하고 그보다 앞선 메시지만 XTRIM MINID 로 삭제합니다. 삭제한 메시지는 일정 시간 동안 남겨 둔 뒤 삭제합니다.
+ * 소비자 그룹이 없는 스트림은 누가 읽을지 알 수 없으므로 삭제하지 않고, {@code <streamKey>:dlq} 스트림은 최대 길이만큼만 남깁니다.
+ * 스트림마다 메시지 수, 메모리 사용량, 소비자 그룹별 Pending 수와 Lag 을 보고합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStreamRetentionManager {
+
+    public static final List<String> STREAM_KEYS = List.of(FESTIVAL_STREAM_KEY, TICKET_STREAM_KEY,
+            PAYMENT_REQUEST_STREAM_KEY, PAYMENT_RESULT_STREAM_KEY);
+
+    private static final String PROPERTY_PREFIX = "redis.stream.retention.streams.";
+    private static final long COMMAND_TIMEOUT_SECONDS = 5;
+    private static final long UNKNOWN_LAG = -1;
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final Map<String, AtomicLong> lengths = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> memoryBytes = new ConcurrentHashMap<>();
+
+    @Value("${redis.stream.retention.min-age-millis:3600000}")
+    private long minAgeMillis;
+
+    @Value("${redis.stream.retention.dead-letter-max-length:10000}")
+    private long deadLetterMaxLength;
+
+    /**
+     * 관리하는 모든 스트림에서 처리가 끝난 메시지를 삭제하고, 스트림별 보고서를 반환합니다.
+     */
+    public List<StreamReport> trimAll() {
+        List<StreamReport> reports = new ArrayList<>();
+        for (String streamKey : STREAM_KEYS) {
+            try {
+                reports.add(trim(streamKey));
+            } catch (RuntimeException e) {
+                log.error("스트림 정리 실패 - streamKey: {}", streamKey, e);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * 모든 소비자 그룹이 확인했고 보관 시간이 지난 메시지를 삭제합니다.
+     *
+     * @param streamKey 스트림 키
+     * @return 삭제한 뒤의 스트림 보고서
+     */
+    public StreamReport trim(String streamKey) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
+            return new StreamReport(streamKey, 0, 0, 0, List.of());
+        }
+
+        XInfoGroups groups = redisTemplate.opsForStream().groups(streamKey);
+        long trimmed = 0;
+        RecordId threshold = findTrimThreshold(streamKey, groups);
+        if (threshold != null) {
+            trimmed = trimBefore(streamKey, threshold);
+            meterRegistry.counter("redis.stream.trimmed", "stream", streamKey).increment(trimmed);
+        }
+
+        String deadLetterStreamKey = RedisStreamRecoveryEngine.deadLetterStreamKey(streamKey);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(deadLetterStreamKey))) {
+            redisTemplate.opsForStream().trim(deadLetterStreamKey, deadLetterMaxLength, true);
+        }
+
+        StreamReport report = report(streamKey, groups, trimmed);
+        log.info("스트림 정리 - streamKey: {}, trimmed: {}, length: {}, memoryBytes: {}, groups: {}", streamKey,
+                trimmed, report.length(), report.memoryBytes(), report.groups());
+        return report;
+    }
+
+    /*
+        소비자 그룹마다 가장 오래된 Pending 메시지와 마지막으로 읽은 메시지 중 앞선 ID 를 구하고, 그중 가장 앞선 ID 를 반환합니다.
+        이 ID 보다 앞선 메시지는 모든 소비자 그룹이 읽고 확인했습니다.
+     */
+    private RecordId findTrimThreshold(String streamKey, XInfoGroups groups) {
+        if (groups.isEmpty()) {
+            return null;
+        }
+
+        RecordId threshold = RecordId.of(System.currentTimeMillis() - minAgeMillis(streamKey), 0);
+        for (XInfoGroup group : groups) {
+            threshold = min(threshold, RecordId.of(group.lastDeliveredId()));
+            if (group.pendingCount() > 0) {
+                PendingMessagesSummary pending = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+                if (pending != null && pending.minMessageId() != null) {
+                    threshold = min(threshold, RecordId.of(pending.minMessageId()));
+                }
+            }
+        }
+        return threshold;
+    }
+
+    private long minAgeMillis(String streamKey) {
+        return environment.getProperty(PROPERTY_PREFIX + streamKey + ".min-age-millis", Long.class, minAgeMillis);
+    }
+
+    private static RecordId min(RecordId first, RecordId second) {
+        if (first.getTimestamp() != second.getTimestamp()) {
+            return first.getTimestamp() < second.getTimestamp() ? first : second;
+        }
+        return first.getSequence() <= second.getSequence() ? first : second;
+    }
+
+    // MINID 는 Spring Data Redis 에서 지원하지 않으므로 Lettuce 명령을 직접 실행합니다.
+    private long trimBefore(String streamKey, RecordId threshold) {
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8)
+                .addKey(streamKey)
+                .add("MINID")
+                .add(threshold.getValue());
+        Long trimmed = dispatch(CommandType.XTRIM, args, streamKey);
+        return trimmed == null ? 0 : trimmed;
+    }
+
+    private long memoryUsage(String streamKey) {
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8)
+                .add("USAGE")
+                .addKey(streamKey);
+        Long bytes = dispatch(CommandType.MEMORY, args, streamKey);
+        return bytes == null ? 0 : bytes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long dispatch(CommandType type, CommandArgs<String, String> args, String streamKey) {
+        return redisTemplate.execute((RedisCallback<Long>) connection -> {
+            RedisAsyncCommands commands = (RedisAsyncCommands) connection.getNativeConnection();
+            RedisFuture<Long> future = commands.dispatch(type, new IntegerOutput<>(StringCodec.UTF8), args);
+            try {
+                return future.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, streamKey + " " + type + " 중 인터럽트 발생", e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, streamKey + " " + type + " 중 에러 발생", e);
+            }
+        });
+    }
+
+    private StreamReport report(String streamKey, XInfoGroups groups, long trimmed) {
+        Long length = redisTemplate.opsForStream().size(streamKey);
+        long bytes = memoryUsage(streamKey);
+
+        List<GroupReport> groupReports = new ArrayList<>();
+        for (XInfoGroup group : groups) {
+            // 삭제 전에 조회한 소비자 그룹 정보이므로 Pending 수는 다시 조회합니다.
+            PendingMessagesSummary pending = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+            Object rawLag = group.getRaw().get("lag");
+            groupReports.add(new GroupReport(group.groupName(),
+                    pending == null ? 0 : pending.getTotalPendingMessages(),
+                    rawLag == null ? UNKNOWN_LAG : Long.parseLong(String.valueOf(rawLag)),
+                    group.lastDeliveredId()));
+        }
+
+        gauge("redis.stream.length", lengths, streamKey).set(length == null ? 0 : length);
+        gauge("redis.stream.memory.bytes", memoryBytes, streamKey).set(bytes);
+        return new StreamReport(streamKey, length == null ? 0 : length, bytes, trimmed, groupReports);
+    }
+
+    private AtomicLong gauge(String name, Map<String, AtomicLong> values, String streamKey) {
+        return values.computeIfAbsent(streamKey,
+                key -> meterRegistry.gauge(name, Tags.of("stream", key), new AtomicLong()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.wootecam.festivals.global.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간순으로 증가하는 ID 를 DB 에 묻지 않고 생성하는 Snowflake 방식의 ID 생성기
+ * <p>
+ * ID 는 [타임스탬프 41비트 | 노드 ID 5비트 | 시퀀스 7비트] 로 구성합니다. 프론트엔드의 Number 로 손실 없이 표현할 수 있도록 2^53 미만으로 제한하였으며,
+ * 노드마다 밀리초당 128개의 ID 를 생성할 수 있습니다. 타임스탬프와 시퀀스를 하나의 AtomicLong 에 담아 CAS 로 갱신하므로 잠금 없이 생성하고, 같은 밀리초의
+ * 시퀀스를 모두 사용하면 다음 밀리초를 앞당겨 사용합니다. 시계가 뒤로 가더라도 마지막으로 사용한 타임스탬프부터 이어서 생성하므로 ID 는 항상 증가합니다.
+ * </p>
+ * <p>
+ * 같은 노드 ID 를 사용하는 생성기가 여러 개라면 ID 가 중복될 수 있으므로, 인스턴스에서는 {@link #getInstance()} 하나만 사용합니다. 노드 ID 는 시스템 프로퍼티
+ * snowflake.node-id 또는 환경 변수 SNOWFLAKE_NODE_ID 로 인스턴스마다 다르게 지정해야 합니다. 호스트 이름의 해시는 32개 노드 ID 에서 쉽게 겹치므로
+ * 사용하지 않으며, 지정하지 않으면 0 을 사용합니다. 로컬과 테스트 외의 환경에서는 {@link #requireConfiguredNodeId()} 로 기동 시점에 실패시킵니다.
+ * </p>
+ */
+@Slf4j
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    private static final int NODE_ID_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String NODE_ID_PROPERTY = "snowflake.node-id";
+    private static final String NODE_ID_ENV = "SNOWFLAKE_NODE_ID";
+
+    private static final String CONFIGURED_NODE_ID = System.getProperty(NODE_ID_PROPERTY, System.getenv(NODE_ID_ENV));
+    private static final SnowflakeIdGenerator INSTANCE = new SnowflakeIdGenerator(resolveNodeId(CONFIGURED_NODE_ID));
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // (타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다. nodeId: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public static SnowflakeIdGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        long state = lastState.updateAndGet(last -> Math.max(now << SEQUENCE_BITS, last + 1));
+
+        long timestamp = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드 ID 가 명시적으로 지정되지 않았다면 예외를 던집니다. 여러 인스턴스가 같은 노드 ID 로 ID 를 생성하지 않도록 배포 환경의 기동 시점에 호출합니다.
+     */
+    public static void requireConfiguredNodeId() {
+        if (!isConfigured(CONFIGURED_NODE_ID)) {
+            throw new IllegalStateException(
+                    "Snowflake 노드 ID 가 지정되지 않았습니다. " + NODE_ID_ENV + " 또는 " + NODE_ID_PROPERTY + " 를 인스턴스마다 다르게 지정해야 합니다.");
+        }
+    }
+
+    static long resolveNodeId(String nodeId) {
+        if (isConfigured(nodeId)) {
+            return Long.parseLong(nodeId.trim());
+        }
+
+        log.warn("Snowflake 노드 ID 가 지정되지 않아 0 을 사용합니다. 인스턴스가 여러 개라면 {} 를 지정해야 합니다.", NODE_ID_ENV);
+        return 0;
+    }
+
+    private static boolean isConfigured(String nodeId) {
+        return nodeId != null && !nodeId.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package com.wootecam.festivals.global.utils;
+
+import java.util.List;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+
+/**
+ * 한 번에 읽은 스트림 메시지를 일괄 처리하는 Handler
+ * <p>
+ * 예외 없이 반환하면 처리에 성공한 것으로 봅니다. 일괄 처리에 실패하면 {@link StreamConsumerEngine} 이 한 건씩 다시 처리하므로,
+ * 같은 메시지를 다시 처리해도 안전해야 합니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface StreamBatchHandler {
+
+    void handle(List<ObjectRecord<String, String>> messages);
+}
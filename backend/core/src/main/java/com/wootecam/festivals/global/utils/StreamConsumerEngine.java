@@ -0,0 +1,415 @@
+package com.wootecam.festivals.global.utils;
+
+import com.wootecam.festivals.global.utils.StreamConsumerOptions.AckMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Redis Stream 을 소비자 그룹으로 읽어 Handler 에 전달하는 클래스
+ * <p>
+ * 인스턴스마다 고정된 소비자 이름(redis.stream.consumer.name)을 사용하고, 구독을 시작하면 먼저 같은 이름으로 받고 확인하지 않은 메시지를 다시 처리합니다.
+ * 따라서 재시작한 인스턴스가 이전에 받은 메시지를 Pending 목록에 버려 두지 않습니다. 컨테이너의 호스트 이름은 다시 배포할 때마다 바뀌어 이전 소비자의
+ * Pending 메시지를 이어받지 못하므로, 로컬과 테스트 외의 환경에서는 소비자 이름을 지정하지 않으면 기동을 중단합니다. 로컬과 테스트에서는 호스트 이름을 사용합니다.
+ * 스트림마다 한 스레드가 메시지를 읽어 처리 스레드에 나눠 주며, 처리 중인 메시지가 한도에 도달하면 절반으로 줄 때까지 읽기를 멈춥니다.
+ * 처리량(received, acknowledged, failed), 처리 중인 메시지 수, 소비자 그룹의 Pending 수와 Lag 을 메트릭으로 기록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class StreamConsumerEngine implements DisposableBean {
+
+    private static final String PROPERTY_PREFIX = "redis.stream.consumer.streams.";
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+    private static final long UNKNOWN_LAG = -1;
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final String consumerName;
+    private final long metricsIntervalMillis;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService metricsScheduler;
+
+    @Autowired
+    public StreamConsumerEngine(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Environment environment,
+                                @Value("${redis.stream.consumer.name:}") String consumerName,
+                                @Value("${redis.stream.consumer.metrics-interval-millis:10000}") long metricsIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.consumerName = resolveConsumerName(environment, consumerName);
+        this.metricsIntervalMillis = metricsIntervalMillis;
+    }
+
+    private static String resolveConsumerName(Environment environment, String consumerName) {
+        if (StringUtils.hasText(consumerName)) {
+            return consumerName;
+        }
+        if (!environment.acceptsProfiles(Profiles.of("local", "test"))) {
+            throw new IllegalStateException(
+                    "Redis Stream 소비자 이름이 지정되지 않았습니다. redis.stream.consumer.name 을 인스턴스마다 다르게, 재배포해도 바뀌지 않도록 지정해야 합니다.");
+        }
+
+        String hostName = environment.getProperty("HOSTNAME");
+        return StringUtils.hasText(hostName) ? hostName : localHostName();
+    }
+
+    private static String localHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.warn("호스트 이름을 알 수 없어 임의의 소비자 이름을 사용합니다.", e);
+            return "consumer-" + System.currentTimeMillis();
+        }
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    /**
+     * 메시지를 한 건씩 Listener 에 전달하는 구독을 시작합니다. 처리에 실패한 메시지는 Pending 목록에 남습니다.
+     */
+    public Subscription subscribe(StreamConsumerOptions options,
+                                  StreamListener<String, ObjectRecord<String, String>> listener) {
+        return start(new Subscription(resolve(options), null, listener));
+    }
+
+    /**
+     * 한 번에 읽은 메시지를 Handler 에 전달하는 구독을 시작합니다. 일괄 처리에 실패하면 한 건씩 다시 처리합니다.
+     */
+    public Subscription subscribeBatch(StreamConsumerOptions options, StreamBatchHandler handler) {
+        return start(new Subscription(resolve(options), handler, null));
+    }
+
+    private StreamConsumerOptions resolve(StreamConsumerOptions options) {
+        String prefix = PROPERTY_PREFIX + options.streamKey() + ".";
+        return StreamConsumerOptions.builder()
+                .streamKey(options.streamKey())
+                .groupName(options.groupName())
+                .parallelism(environment.getProperty(prefix + "parallelism", Integer.class, options.parallelism()))
+                .batchSize(environment.getProperty(prefix + "batch-size", Integer.class, options.batchSize()))
+                .pollTimeout(Duration.ofMillis(environment.getProperty(prefix + "poll-timeout-millis", Long.class,
+                        options.pollTimeout().toMillis())))
+                .maxInFlight(environment.getProperty(prefix + "max-in-flight", Integer.class, options.maxInFlight()))
+                .ackMode(options.ackMode())
+                .build();
+    }
+
+    private synchronized Subscription start(Subscription subscription) {
+        subscriptions.add(subscription);
+        subscription.start();
+
+        if (metricsScheduler == null) {
+            metricsScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "stream-consumer-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            metricsScheduler.scheduleWithFixedDelay(this::refreshGroupMetrics, 0, metricsIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        return subscription;
+    }
+
+    private void refreshGroupMetrics() {
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.refreshGroupMetrics();
+            } catch (RuntimeException e) {
+                log.warn("소비자 그룹 메트릭 조회 실패 - streamKey: {}", subscription.options.streamKey(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+        if (metricsScheduler != null) {
+            metricsScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 스트림 구독, 스트림마다 메시지를 읽는 스레드 하나와 처리하는 스레드를 사용합니다.
+     */
+    public final class Subscription {
+
+        private final StreamConsumerOptions options;
+        private final StreamBatchHandler handler;
+        private final StreamListener<String, ObjectRecord<String, String>> listener;
+        private final ExecutorService workers;
+        private final Thread poller;
+        private final Object pauseLock = new Object();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong lag = new AtomicLong(UNKNOWN_LAG);
+        private final AtomicLong pending = new AtomicLong();
+
+        private final Counter received;
+        private final Counter acknowledged;
+        private final Counter failed;
+        private final Counter pauses;
+        private final Timer handleTimer;
+
+        private volatile boolean running;
+        private boolean paused; // pauseLock 으로 보호
+
+        private Subscription(StreamConsumerOptions options, StreamBatchHandler handler,
+                             StreamListener<String, ObjectRecord<String, String>> listener) {
+            this.options = options;
+            this.handler = handler;
+            this.listener = listener;
+
+            String streamKey = options.streamKey();
+            AtomicInteger workerIndex = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(options.parallelism(),
+                    runnable -> new Thread(runnable, streamKey + "-worker-" + workerIndex.incrementAndGet()));
+            this.poller = new Thread(this::poll, streamKey + "-poller");
+            this.poller.setDaemon(true);
+
+            Tags tags = Tags.of("stream", streamKey, "group", options.groupName());
+            this.received = meterRegistry.counter("redis.stream.consumer.received", tags);
+            this.acknowledged = meterRegistry.counter("redis.stream.consumer.acknowledged", tags);
+            this.failed = meterRegistry.counter("redis.stream.consumer.failed", tags);
+            this.pauses = meterRegistry.counter("redis.stream.consumer.paused", tags);
+            this.handleTimer = meterRegistry.timer("redis.stream.consumer.handle", tags);
+            Gauge.builder("redis.stream.consumer.inflight", inFlight, AtomicInteger::get)
+                    .description("처리 중인 스트림 메시지 수")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("redis.stream.consumer.lag", lag, AtomicLong::get)
+                    .description("소비자 그룹이 아직 읽지 않은 스트림 메시지 수 (Redis 7 미만은 -1)")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("redis.stream.consumer.pending", pending, AtomicLong::get)
+                    .description("소비자 그룹이 읽고 확인하지 않은 스트림 메시지 수")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            running = true;
+            poller.start();
+            log.info("스트림 구독 시작 - streamKey: {}, groupName: {}, consumer: {}, parallelism: {}, batchSize: {}",
+                    options.streamKey(), options.groupName(), consumerName, options.parallelism(), options.batchSize());
+        }
+
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        private void poll() {
+            Consumer consumer = Consumer.from(options.groupName(), consumerName);
+            // 이전에 같은 이름으로 받고 확인하지 않은 메시지부터 다시 읽고, 모두 읽으면 새 메시지를 읽습니다.
+            ReadOffset offset = ReadOffset.from("0");
+            boolean replaying = true;
+
+            while (running) {
+                try {
+                    int capacity = awaitCapacity();
+                    if (!running) {
+                        break;
+                    }
+
+                    StreamReadOptions readOptions = StreamReadOptions.empty()
+                            .count(Math.min(options.batchSize(), capacity));
+                    if (!replaying) {
+                        readOptions = readOptions.block(options.pollTimeout());
+                    }
+
+                    List<ObjectRecord<String, String>> messages = redisTemplate.opsForStream().read(String.class,
+                            consumer, readOptions, StreamOffset.create(options.streamKey(), offset));
+                    if (messages == null || messages.isEmpty()) {
+                        if (replaying) {
+                            log.info("이전에 받은 메시지를 모두 다시 읽었습니다. streamKey: {}", options.streamKey());
+                            offset = ReadOffset.lastConsumed();
+                            replaying = false;
+                        }
+                        continue;
+                    }
+
+                    if (replaying) {
+                        offset = ReadOffset.from(messages.get(messages.size() - 1).getId());
+                    }
+                    dispatch(messages);
+                } catch (RuntimeException e) {
+                    if (!running) {
+                        break;
+                    }
+                    log.error("스트림 메시지 읽기 실패, 재시도합니다. streamKey: {}", options.streamKey(), e);
+                    try {
+                        Thread.sleep(RETRY_BACKOFF_MILLIS);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+
+        // 처리 중인 메시지가 한도에 도달하면 절반으로 줄 때까지 기다린 뒤, 더 받을 수 있는 메시지 수를 반환합니다.
+        private int awaitCapacity() {
+            synchronized (pauseLock) {
+                if (inFlight.get() >= options.maxInFlight() && !paused) {
+                    paused = true;
+                    pauses.increment();
+                    log.debug("처리 중인 메시지가 한도에 도달해 읽기를 멈춥니다. streamKey: {}, inFlight: {}",
+                            options.streamKey(), inFlight.get());
+                }
+                while (paused && running) {
+                    try {
+                        pauseLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        running = false;
+                    }
+                }
+                return Math.max(1, options.maxInFlight() - inFlight.get());
+            }
+        }
+
+        private void dispatch(List<ObjectRecord<String, String>> messages) {
+            int size = messages.size();
+            inFlight.addAndGet(size);
+            received.increment(size);
+            try {
+                workers.execute(() -> {
+                    try {
+                        handleTimer.record(() -> handle(messages));
+                    } finally {
+                        release(size);
+                    }
+                });
+            } catch (RuntimeException e) {
+                release(size);
+                throw e;
+            }
+        }
+
+        private void release(int size) {
+            int current = inFlight.addAndGet(-size);
+            synchronized (pauseLock) {
+                if (paused && current <= options.maxInFlight() / 2) {
+                    paused = false;
+                    pauseLock.notifyAll();
+                }
+            }
+        }
+
+        private void handle(List<ObjectRecord<String, String>> messages) {
+            if (handler != null) {
+                try {
+                    handler.handle(messages);
+                    acknowledge(messages.stream().map(ObjectRecord::getId).toList());
+                    return;
+                } catch (RuntimeException e) {
+                    if (messages.size() == 1) {
+                        failed.increment();
+                        log.error("스트림 메시지 처리 실패 - streamKey: {}, id: {}", options.streamKey(),
+                                messages.get(0).getId(), e);
+                        return;
+                    }
+                    log.error("스트림 메시지 일괄 처리 실패, 한 건씩 다시 처리합니다. streamKey: {}, {}건",
+                            options.streamKey(), messages.size(), e);
+                }
+            }
+
+            List<RecordId> handledIds = new ArrayList<>();
+            for (ObjectRecord<String, String> message : messages) {
+                try {
+                    if (handler != null) {
+                        handler.handle(List.of(message));
+                    } else {
+                        listener.onMessage(message);
+                    }
+                    handledIds.add(message.getId());
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.error("스트림 메시지 처리 실패 - streamKey: {}, id: {}", options.streamKey(), message.getId(), e);
+                }
+            }
+            acknowledge(handledIds);
+        }
+
+        private void acknowledge(List<RecordId> recordIds) {
+            if (options.ackMode() != AckMode.AUTO || recordIds.isEmpty()) {
+                return;
+            }
+            redisTemplate.opsForStream().acknowledge(options.streamKey(), options.groupName(),
+                    recordIds.toArray(RecordId[]::new));
+            acknowledged.increment(recordIds.size());
+        }
+
+        private void refreshGroupMetrics() {
+            for (XInfoGroup group : redisTemplate.opsForStream().groups(options.streamKey())) {
+                if (!group.groupName().equals(options.groupName())) {
+                    continue;
+                }
+                pending.set(group.pendingCount());
+                // lag 은 Redis 7 부터 제공합니다.
+                Object rawLag = group.getRaw().get("lag");
+                lag.set(rawLag == null ? UNKNOWN_LAG : Long.parseLong(String.valueOf(rawLag)));
+            }
+        }
+
+        /**
+         * 구독을 취소합니다. 새 메시지를 읽지 않고, 처리 중인 메시지를 처리할 때까지 기다립니다.
+         */
+        public void cancel() {
+            if (!running) {
+                return;
+            }
+            running = false;
+            synchronized (pauseLock) {
+                pauseLock.notifyAll();
+            }
+            try {
+                poller.join(options.pollTimeout().toMillis() + RETRY_BACKOFF_MILLIS);
+                workers.shutdown();
+                if (!workers.awaitTermination(options.pollTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+            subscriptions.remove(this);
+            log.info("스트림 구독 종료 - streamKey: {}", options.streamKey());
+        }
+    }
+}
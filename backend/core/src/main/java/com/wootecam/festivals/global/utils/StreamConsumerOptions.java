@@ -0,0 +1,48 @@
+package com.wootecam.festivals.global.utils;
+
+import java.time.Duration;
+import lombok.Builder;
+
+/**
+ * {@link StreamConsumerEngine} 으로 스트림을 구독할 때의 설정
+ * <p>
+ * 값을 지정하지 않으면 기본값을 사용하며, {@code redis.stream.consumer.streams.<streamKey>.*} 프로퍼티로 스트림마다 덮어쓸 수 있습니다.
+ * </p>
+ *
+ * @param streamKey   스트림 키
+ * @param groupName   소비자 그룹
+ * @param parallelism 메시지를 처리하는 스레드 수, 1 이면 읽은 순서대로 처리합니다.
+ * @param batchSize   한 번에 읽어 Handler 에 전달하는 최대 메시지 수
+ * @param pollTimeout 메시지가 없을 때 기다리는 최대 시간
+ * @param maxInFlight 처리 중인 메시지의 최대 수, 도달하면 절반으로 줄 때까지 읽기를 멈춥니다.
+ * @param ackMode     메시지 확인 방식
+ */
+@Builder
+public record StreamConsumerOptions(String streamKey,
+                                    String groupName,
+                                    int parallelism,
+                                    int batchSize,
+                                    Duration pollTimeout,
+                                    int maxInFlight,
+                                    AckMode ackMode) {
+
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_BATCH_SIZE = 10;
+    private static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofSeconds(5);
+
+    public StreamConsumerOptions {
+        if (streamKey == null || groupName == null) {
+            throw new IllegalArgumentException("streamKey 와 groupName 은 필수입니다.");
+        }
+        parallelism = parallelism > 0 ? parallelism : DEFAULT_PARALLELISM;
+        batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        pollTimeout = pollTimeout != null ? pollTimeout : DEFAULT_POLL_TIMEOUT;
+        maxInFlight = maxInFlight > 0 ? maxInFlight : batchSize * parallelism * 2;
+        ackMode = ackMode != null ? ackMode : AckMode.AUTO;
+    }
+
+    public enum AckMode {
+        AUTO, // Handler 가 처리에 성공하면 확인
+        MANUAL // Handler 가 직접 확인
+    }
+}
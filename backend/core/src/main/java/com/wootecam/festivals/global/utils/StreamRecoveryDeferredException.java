@@ -0,0 +1,14 @@
+package com.wootecam.festivals.global.utils;
+
+/**
+ * Pending 메시지를 지금은 처리할 수 없어 다음 복구 때 다시 처리하도록 미룰 때 Listener 가 던지는 예외
+ * <p>
+ * 처리 실패가 아니므로 RedisStreamRecoveryEngine 은 메시지를 Pending 목록에 남기고, 가져오면서 늘어난 전달 횟수를 되돌립니다.
+ * </p>
+ */
+public class StreamRecoveryDeferredException extends RuntimeException {
+
+    public StreamRecoveryDeferredException(String message) {
+        super(message);
+    }
+}
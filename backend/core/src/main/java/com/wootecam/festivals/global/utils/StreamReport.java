@@ -0,0 +1,25 @@
+package com.wootecam.festivals.global.utils;
+
+import java.util.List;
+
+/**
+ * 스트림의 메시지 수, 메모리 사용량과 소비자 그룹별 처리 현황
+ *
+ * @param streamKey      스트림 키
+ * @param length         스트림에 남은 메시지 수
+ * @param memoryBytes    스트림이 사용하는 메모리 (바이트)
+ * @param trimmedEntries 이번에 삭제한 메시지 수
+ * @param groups         소비자 그룹별 처리 현황
+ */
+public record StreamReport(String streamKey, long length, long memoryBytes, long trimmedEntries,
+                           List<GroupReport> groups) {
+
+    /**
+     * @param groupName       소비자 그룹
+     * @param pending         읽고 확인하지 않은 메시지 수
+     * @param lag             아직 읽지 않은 메시지 수, Redis 7 미만은 -1
+     * @param lastDeliveredId 마지막으로 읽은 메시지 ID
+     */
+    public record GroupReport(String groupName, long pending, long lag, String lastDeliveredId) {
+    }
+}
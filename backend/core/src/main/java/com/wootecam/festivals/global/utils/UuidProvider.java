@@ -1,12 +1,42 @@
 package com.wootecam.festivals.global.utils;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.stereotype.Component;
 
 @Component
 public class UuidProvider {
 
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // (unix_ts_ms << COUNTER_BITS) | 카운터
+    private final AtomicLong lastState = new AtomicLong();
+
     public String getUuid() {
         return UUID.randomUUID().toString();
     }
+
+    /**
+     * 생성 시각 순으로 정렬되는 UUIDv7 (RFC 9562) 을 반환합니다.
+     * <p>
+     * 인덱스에 저장하는 ID 로 사용하면 무작위 UUID 와 달리 B-tree 의 오른쪽 끝에 이어서 삽입되므로 페이지 분할과 버퍼 풀 교체가 줄어듭니다. 같은 밀리초에 생성한
+     * UUID 는 rand_a 12비트를 카운터로 사용해 문자열로도 증가하는 순서를 보장하며, 카운터를 모두 사용하면 다음 밀리초를 앞당겨 사용합니다. 나머지 62비트는
+     * SecureRandom 대신 ThreadLocalRandom 으로 채워 동시 요청에서 경합이 없으므로, 추측하기 어려워야 하는 값에는 {@link #getUuid()} 를 사용합니다.
+     * </p>
+     */
+    public String getTimeOrderedUuid() {
+        long now = System.currentTimeMillis();
+        long state = lastState.updateAndGet(last -> Math.max(now << COUNTER_BITS, last + 1));
+
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSigBits = VARIANT_RFC_4122 | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
 }
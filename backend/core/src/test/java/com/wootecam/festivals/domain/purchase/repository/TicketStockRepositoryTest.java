@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
 import com.wootecam.festivals.utils.TestApplication;
+import java.util.List;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -122,6 +123,22 @@ class TicketStockRepositoryTest {
             // Then
             assertThat(result).isEqualTo(-1L);
         }
+
+        @Test
+        @DisplayName("재고 수량이 비더라도 임대 중인 재고가 있다면 임대 중인 재고 수량을 포함해 반환한다")
+        void it_includes_leased_stock_when_stock_count_reaches_zero() {
+            // Given
+            Long ticketId = 1L;
+            ticketStockRepository.setTicketStockCount(ticketId, 3L);
+            ticketStockRepository.leaseTicketStock(ticketId, "instance-1", 2, 60000);
+
+            // When
+            Long result = ticketStockRepository.decreaseTicketStockCount(ticketId);
+
+            // Then
+            assertThat(result).isEqualTo(2L);
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(2L);
+        }
     }
 
     @Nested
@@ -145,4 +162,118 @@ class TicketStockRepositoryTest {
             assertThat(result).isEqualTo(initialCount + 1);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("하위 카운터를 사용하는 티켓은")
+    class Describe_striped_ticket_stock_count {
+
+        private final Long ticketId = 2L;
+
+        @Test
+        @DisplayName("재고 수량을 하위 카운터로 나누어 설정하고, 합산한 재고 수량을 반환한다")
+        void it_splits_stock_count_into_stripes() {
+            // When
+            ticketStockRepository.setTicketStockCount(ticketId, 10L, 4);
+
+            // Then
+            String stockKey = ticketStockRepository.TICKETS_PREFIX + ticketId + ":"
+                    + ticketStockRepository.TICKET_STOCK_COUNT_PREFIX;
+            assertThat(redisTemplate.opsForValue().multiGet(
+                    List.of(stockKey + ":0", stockKey + ":1", stockKey + ":2", stockKey + ":3")))
+                    .containsExactly("3", "3", "2", "2");
+            assertThat(redisTemplate.hasKey(stockKey)).isFalse();
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(10L);
+            assertThat(ticketStockRepository.getTicketStockCounts(List.of(ticketId, 999L)))
+                    .containsEntry(ticketId, 10L)
+                    .containsEntry(999L, null);
+        }
+
+        @Test
+        @DisplayName("사용자의 하위 카운터가 비었다면 다른 하위 카운터에서 차감한다")
+        void it_falls_back_to_sibling_stripes() {
+            // Given
+            ticketStockRepository.setTicketStockCount(ticketId, 4L, 4);
+
+            // When
+            List<Boolean> results = IntStream.range(0, 5)
+                    .mapToObj(i -> ticketStockRepository.checkAndDecreaseStock(ticketId, 1L))
+                    .toList();
+
+            // Then
+            assertThat(results).containsExactly(true, true, true, true, false);
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isZero();
+        }
+
+        @Test
+        @DisplayName("재고를 복구하면 하위 카운터 중 하나를 증가시키고 합산한 재고 수량을 반환한다")
+        void it_increases_one_of_stripes() {
+            // Given
+            ticketStockRepository.setTicketStockCount(ticketId, 0L, 4);
+
+            // When
+            Long result = ticketStockRepository.increaseTicketStockCount(ticketId);
+
+            // Then
+            assertThat(result).isEqualTo(1L);
+            assertThat(ticketStockRepository.checkAndDecreaseStock(ticketId, 1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("임의의 하위 카운터를 차감할 때 재고가 없는 하위 카운터는 음수로 만들지 않는다")
+        void it_does_not_decrease_empty_stripes() {
+            // Given
+            ticketStockRepository.setTicketStockCount(ticketId, 1L, 4);
+
+            // When
+            Long first = ticketStockRepository.decreaseTicketStockCount(ticketId);
+            Long second = ticketStockRepository.decreaseTicketStockCount(ticketId);
+
+            // Then
+            String stockKey = ticketStockRepository.TICKETS_PREFIX + ticketId + ":"
+                    + ticketStockRepository.TICKET_STOCK_COUNT_PREFIX;
+            assertThat(first).isZero();
+            assertThat(second).isEqualTo(-1L);
+            assertThat(redisTemplate.opsForValue().multiGet(
+                    List.of(stockKey + ":0", stockKey + ":1", stockKey + ":2", stockKey + ":3")))
+                    .containsOnly("0");
+        }
+
+        @Test
+        @DisplayName("다른 서버에서 하위 카운터 수를 바꾸었다면 보관한 하위 카운터 수를 다시 조회한다")
+        void it_reloads_stripe_count_changed_by_other_server() {
+            // Given - 하위 카운터 수를 보관한 뒤, 다른 서버가 하나의 재고 수량으로 다시 설정합니다.
+            ticketStockRepository.setTicketStockCount(ticketId, 10L, 4);
+            assertThat(ticketStockRepository.checkAndDecreaseStock(ticketId, 1L)).isTrue();
+
+            String stockKey = ticketStockRepository.TICKETS_PREFIX + ticketId + ":"
+                    + ticketStockRepository.TICKET_STOCK_COUNT_PREFIX;
+            redisTemplate.delete(List.of(stockKey + ":0", stockKey + ":1", stockKey + ":2", stockKey + ":3",
+                    ticketStockRepository.TICKETS_PREFIX + ticketId + ":"
+                            + ticketStockRepository.TICKET_STOCK_STRIPES_PREFIX));
+            redisTemplate.opsForValue().set(stockKey, "5");
+
+            // When
+            boolean decreased = ticketStockRepository.checkAndDecreaseStock(ticketId, 1L);
+
+            // Then
+            assertThat(decreased).isTrue();
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("4");
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("하위 카운터 수를 1 로 다시 설정하면 하나의 재고 수량으로 관리한다")
+        void it_returns_to_single_counter() {
+            // Given
+            ticketStockRepository.setTicketStockCount(ticketId, 10L, 4);
+
+            // When
+            ticketStockRepository.setTicketStockCount(ticketId, 5L, 1);
+
+            // Then
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(5L);
+            assertThat(ticketStockRepository.checkAndDecreaseStock(ticketId, 1L)).isTrue();
+            assertThat(ticketStockRepository.getTicketStockCount(ticketId)).isEqualTo(4L);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.wootecam.festivals.global.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryEventBus 클래스")
+class InMemoryEventBusTest {
+
+    private static final String TOPIC = "in-memory-test-topic";
+
+    private final InMemoryEventBus eventBus = new InMemoryEventBus(new SimpleMeterRegistry(), 4, 100);
+
+    @AfterEach
+    void tearDown() {
+        eventBus.destroy();
+    }
+
+    private static StreamConsumerOptions options(String groupName) {
+        return StreamConsumerOptions.builder()
+                .streamKey(TOPIC)
+                .groupName(groupName)
+                .pollTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    @Test
+    @DisplayName("발행한 이벤트를 소비자 그룹마다 발행한 순서대로 전달한다")
+    void it_delivers_events_to_every_group_in_order() throws InterruptedException {
+        // given
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(6);
+        eventBus.subscribe(options("group-1"), message -> {
+            first.add(message.payload());
+            latch.countDown();
+        });
+        eventBus.subscribeBatch(options("group-2"), messages -> messages.forEach(message -> {
+            second.add(message.payload());
+            latch.countDown();
+        }));
+
+        // when
+        eventBus.publishAll(TOPIC, List.of("event-0", "event-1", "event-2"));
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first).containsExactly("event-0", "event-1", "event-2");
+        assertThat(second).containsExactly("event-0", "event-1", "event-2");
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 이벤트가 있어도 다음 이벤트를 처리한다")
+    void it_continues_after_failure() throws InterruptedException {
+        // given
+        List<String> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        eventBus.subscribe(options("group-1"), message -> {
+            if (message.payload().equals("fail")) {
+                throw new IllegalStateException("처리 실패");
+            }
+            handled.add(message.payload());
+            latch.countDown();
+        });
+
+        // when
+        eventBus.publish(TOPIC, "fail");
+        eventBus.publish(TOPIC, "ok");
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).containsExactly("ok");
+    }
+
+    @Test
+    @DisplayName("소비자 그룹의 큐가 가득 차 기다려도 넣지 못하면 예외가 발생한다")
+    void it_fails_when_queue_is_full() throws InterruptedException {
+        // given - 첫 이벤트를 처리하는 동안 큐를 가득 채웁니다.
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus.subscribe(options("slow-group"), message -> {
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        eventBus.publish(TOPIC, "event-0");
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            eventBus.publish(TOPIC, "event-" + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> eventBus.publish(TOPIC, "event-5"))
+                .isInstanceOf(ApiException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("구독하는 소비자 그룹이 없는 토픽에 발행하면 이벤트를 버리지 않고 예외가 발생한다")
+    void it_fails_when_topic_has_no_group() {
+        assertThatThrownBy(() -> eventBus.publish(TOPIC, "event-0"))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> eventBus.publishAll(TOPIC, List.of("event-0")))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    @DisplayName("여러 이벤트를 발행할 때 소비자 그룹의 큐가 가득 차면 기다리지 않고 예외가 발생한다")
+    void it_fails_without_waiting_when_queue_is_full_on_publish_all() {
+        // given - 큐가 가득 차면 오래 기다리는 버스라도 publishAll 은 기다리지 않습니다.
+        InMemoryEventBus waitingEventBus = new InMemoryEventBus(new SimpleMeterRegistry(), 4, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        waitingEventBus.subscribe(options("slow-group"), message -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            // when & then
+            assertTimeout(Duration.ofSeconds(5), () ->
+                    assertThatThrownBy(() -> waitingEventBus.publishAll(TOPIC,
+                            List.of("event-0", "event-1", "event-2", "event-3", "event-4", "event-5")))
+                            .isInstanceOf(ApiException.class));
+        } finally {
+            release.countDown();
+            waitingEventBus.destroy();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.wootecam.festivals.global.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RingBuffer 클래스")
+class RingBufferTest {
+
+    @Nested
+    @DisplayName("offer 와 poll 메소드는")
+    class Describe_offer_poll {
+
+        @Test
+        @DisplayName("넣은 순서대로 꺼내고, 비어 있으면 null 을 반환한다")
+        void it_polls_in_insertion_order() {
+            // given
+            RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                buffer.offer(i);
+            }
+
+            // then
+            assertThat(buffer.poll()).isEqualTo(0);
+            assertThat(buffer.poll()).isEqualTo(1);
+            assertThat(buffer.poll()).isEqualTo(2);
+            assertThat(buffer.poll()).isNull();
+        }
+
+        @Test
+        @DisplayName("가득 차면 넣지 않고, 꺼낸 칸에 다시 넣는다")
+        void it_rejects_when_full() {
+            // given - 크기는 2 의 거듭제곱으로 올림합니다.
+            RingBuffer<Integer> buffer = new RingBuffer<>(3);
+            for (int i = 0; i < 4; i++) {
+                assertThat(buffer.offer(i)).isTrue();
+            }
+
+            // when & then
+            assertThat(buffer.capacity()).isEqualTo(4);
+            assertThat(buffer.offer(4)).isFalse();
+            assertThat(buffer.poll()).isEqualTo(0);
+            assertThat(buffer.offer(4)).isTrue();
+
+            List<Integer> drained = new ArrayList<>();
+            assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+            assertThat(drained).containsExactly(1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣고 꺼내도 원소를 잃거나 중복하지 않는다")
+    void it_is_safe_for_concurrent_producers_and_consumers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 50_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger receivedCount = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            executor.execute(() -> {
+                while (done.getCount() > 0) {
+                    Integer element = buffer.poll();
+                    if (element == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    received.add(element);
+                    receivedCount.incrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        // then
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdownNow();
+        assertThat(receivedCount.get()).isEqualTo(producers * perProducer);
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
@@ -0,0 +1,193 @@
+package com.wootecam.festivals.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BinaryPayloadCodec 클래스")
+class BinaryPayloadCodecTest {
+
+    private enum Status implements BinaryPayloadCode {
+        READY(1), DONE(2);
+
+        private final int payloadCode;
+
+        Status(int payloadCode) {
+            this.payloadCode = payloadCode;
+        }
+
+        @Override
+        public int payloadCode() {
+            return payloadCode;
+        }
+    }
+
+    // 다른 서버에 둔 Status 사본, 상수 순서가 다르지만 코드는 같습니다.
+    private enum ReorderedStatus implements BinaryPayloadCode {
+        DONE(2), READY(1);
+
+        private final int payloadCode;
+
+        ReorderedStatus(int payloadCode) {
+            this.payloadCode = payloadCode;
+        }
+
+        @Override
+        public int payloadCode() {
+            return payloadCode;
+        }
+    }
+
+    private record Sample(String id, Long count, int delta, String name, LocalDateTime time, Status status) {
+    }
+
+    private static class SampleCodec extends BinaryPayloadCodec<Sample> {
+
+        private final int version;
+
+        SampleCodec(int version) {
+            this.version = version;
+        }
+
+        @Override
+        protected int version() {
+            return version;
+        }
+
+        @Override
+        protected void write(Sample value, BinaryPayloadWriter writer) {
+            writer.writeId(value.id());
+            writer.writeLong(value.count());
+            writer.writeInt(value.delta());
+            writer.writeString(value.name());
+            writer.writeDateTime(value.time());
+            writer.writeEnum(value.status());
+        }
+
+        @Override
+        protected Sample read(int version, BinaryPayloadReader reader) {
+            return new Sample(reader.readId(), reader.readLong(), reader.readInt(), reader.readString(),
+                    reader.readDateTime(), reader.readEnum(Status.class));
+        }
+    }
+
+    private final SampleCodec codec = new SampleCodec(1);
+
+    @Nested
+    @DisplayName("decode 메소드는")
+    class Describe_decode {
+
+        @Test
+        @DisplayName("encode 메소드로 변환한 메시지를 같은 값으로 읽는다")
+        void it_reads_encoded_values() {
+            // given
+            Sample sample = new Sample(UUID.randomUUID().toString(), 1234567890123L, -7, "축제 티켓",
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), Status.DONE);
+
+            // when
+            Sample decoded = codec.decode(codec.encode(sample));
+
+            // then
+            assertThat(decoded).isEqualTo(sample);
+        }
+
+        @Test
+        @DisplayName("null 과 UUID 형식이 아닌 ID 를 그대로 읽는다")
+        void it_reads_null_and_non_uuid_values() {
+            // given
+            Sample sample = new Sample("payment-1", null, 0, null, null, null);
+
+            // when
+            Sample decoded = codec.decode(codec.encode(sample));
+
+            // then
+            assertThat(decoded).isEqualTo(sample);
+        }
+
+        @Test
+        @DisplayName("대문자 UUID 는 문자열로 써서 같은 문자열로 읽는다")
+        void it_keeps_non_canonical_uuid() {
+            // given
+            String id = UUID.randomUUID().toString().toUpperCase();
+            Sample sample = new Sample(id, 1L, 0, null, null, Status.READY);
+
+            // when
+            Sample decoded = codec.decode(codec.encode(sample));
+
+            // then
+            assertThat(decoded.id()).isEqualTo(id);
+        }
+
+        @Test
+        @DisplayName("enum 은 상수의 순서가 아닌 코드로 읽는다")
+        void it_reads_enum_by_payload_code() {
+            // given
+            BinaryPayloadWriter writer = new BinaryPayloadWriter();
+            writer.writeEnum(Status.DONE);
+            writer.writeEnum(Status.READY);
+
+            // when
+            BinaryPayloadReader reader = new BinaryPayloadReader(writer.toByteArray());
+
+            // then
+            assertThat(reader.readEnum(ReorderedStatus.class)).isEqualTo(ReorderedStatus.DONE);
+            assertThat(reader.readEnum(ReorderedStatus.class)).isEqualTo(ReorderedStatus.READY);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 enum 코드는 읽지 않는다")
+        void it_rejects_unknown_enum_code() {
+            // given
+            BinaryPayloadWriter writer = new BinaryPayloadWriter();
+            writer.writeEnum(() -> 3);
+
+            // when & then
+            assertThatThrownBy(() -> new BinaryPayloadReader(writer.toByteArray()).readEnum(Status.class))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("이 클래스보다 새로운 버전의 메시지는 읽지 않는다")
+        void it_rejects_newer_version() {
+            // given
+            String payload = new SampleCodec(2).encode(new Sample("payment-1", 1L, 0, null, null, null));
+
+            // when & then
+            assertThatThrownBy(() -> codec.decode(payload))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("잘린 메시지는 읽지 않는다")
+        void it_rejects_truncated_payload() {
+            // given
+            String payload = codec.encode(new Sample(UUID.randomUUID().toString(), 1L, 0, "name", null, null));
+
+            // when & then
+            assertThatThrownBy(() -> codec.decode(payload.substring(0, 8)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("isBinary 메소드는")
+    class Describe_isBinary {
+
+        @Test
+        @DisplayName("바이너리 메시지와 JSON 메시지를 구분한다")
+        void it_distinguishes_json_payload() {
+            // given
+            String binary = codec.encode(new Sample("payment-1", 1L, 0, null, null, null));
+
+            // when & then
+            assertThat(BinaryPayloadCodec.isBinary(binary)).isTrue();
+            assertThat(BinaryPayloadCodec.isBinary("{\"paymentId\":\"payment-1\"}")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.wootecam.festivals.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.global.event.EventMessage;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions.AckMode;
+import com.wootecam.festivals.utils.TestApplication;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "redis.stream.recovery.min-idle-millis=0",
+        "redis.stream.recovery.max-deliveries=2"
+})
+@ActiveProfiles("test")
+@DisplayName("RedisStreamRecoveryEngine 클래스")
+class RedisStreamRecoveryEngineTest {
+
+    private static final String STREAM_KEY = "recovery-test-stream";
+    private static final String GROUP_NAME = "recovery-test-group";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private RedisStreamRecoveryEngine recoveryEngine;
+
+    private final List<ObjectRecord<String, String>> handledMessages = new ArrayList<>();
+    private RecordId recordId;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 초기화
+        handledMessages.clear();
+
+        recordId = redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofObject("message"));
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP_NAME);
+
+        // 읽기만 하고 확인하지 않아 Pending 목록에 남깁니다.
+        redisTemplate.opsForStream().read(String.class, Consumer.from(GROUP_NAME, "consumer-1"),
+                StreamReadOptions.empty().count(10), StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+    }
+
+    private StreamListener<String, ObjectRecord<String, String>> succeedingListener() {
+        return handledMessages::add;
+    }
+
+    private StreamListener<String, ObjectRecord<String, String>> failingListener() {
+        return message -> {
+            handledMessages.add(message);
+            throw new IllegalStateException("처리 실패");
+        };
+    }
+
+    private StreamListener<String, ObjectRecord<String, String>> deferringListener() {
+        return message -> {
+            handledMessages.add(message);
+            throw new StreamRecoveryDeferredException("처리 보류");
+        };
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(STREAM_KEY, GROUP_NAME).getTotalPendingMessages();
+    }
+
+    private long deliveryCount() {
+        return redisTemplate.opsForStream().pending(STREAM_KEY, GROUP_NAME, Range.unbounded(), 1)
+                .get(0).getTotalDeliveryCount();
+    }
+
+    @Test
+    @DisplayName("recover 메소드는 Pending 메시지를 Listener 로 다시 처리한다")
+    void it_recovers_pending_message() {
+        // When
+        recoveryEngine.recover(STREAM_KEY, GROUP_NAME, succeedingListener());
+
+        // Then
+        assertThat(handledMessages).hasSize(1);
+        assertThat(handledMessages.get(0).getId()).isEqualTo(recordId);
+        assertThat(handledMessages.get(0).getValue()).isEqualTo("message");
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("recover 메소드는 처리에 실패한 메시지를 Pending 목록에 남긴다")
+    void it_keeps_failed_message_pending() {
+        // When
+        recoveryEngine.recover(STREAM_KEY, GROUP_NAME, failingListener());
+
+        // Then
+        assertThat(handledMessages).hasSize(1);
+        assertThat(pendingCount()).isOne();
+    }
+
+    @Test
+    @DisplayName("recover 메소드는 처리를 미룬 메시지의 전달 횟수를 늘리지 않는다")
+    void it_does_not_count_deferred_message_delivery() {
+        // When
+        recoveryEngine.recover(STREAM_KEY, GROUP_NAME, deferringListener());
+        recoveryEngine.recover(STREAM_KEY, GROUP_NAME, deferringListener());
+        recoveryEngine.recover(STREAM_KEY, GROUP_NAME, deferringListener());
+
+        // Then: 최대 전달 횟수(2)를 넘도록 미루어도 DLQ 로 옮기지 않는다
+        assertThat(handledMessages).hasSize(3);
+        assertThat(pendingCount()).isOne();
+        assertThat(deliveryCount()).isOne();
+    }
+
+    @Test
+    @DisplayName("recoverEvents 메소드는 Pending 메시지를 EventMessage 로 바꿔 EventListener 로 다시 처리한다")
+    void it_recovers_pending_message_as_event() {
+        // Given
+        List<EventMessage> handledEvents = new ArrayList<>();
+
+        // When
+        recoveryEngine.recoverEvents(STREAM_KEY, GROUP_NAME, handledEvents::add);
+
+        // Then
+        assertThat(handledEvents).containsExactly(new EventMessage(recordId.getValue(), STREAM_KEY, "message"));
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("deadLetter 메소드는 스트림을 읽고 있는 Consumer 의 메시지를 바로 DLQ 스트림으로 옮긴 뒤 확인한다")
+    void it_moves_message_of_active_consumer_to_dead_letter_stream() {
+        // When
+        recoveryEngine.deadLetter(STREAM_KEY, GROUP_NAME, recordId);
+
+        // Then
+        List<MapRecord<String, Object, Object>> deadLetters = redisTemplate.opsForStream()
+                .range(RedisStreamRecoveryEngine.deadLetterStreamKey(STREAM_KEY), Range.unbounded());
+        assertThat(pendingCount()).isZero();
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0).getValue())
+                .containsEntry(RedisStreamRecoveryEngine.DEAD_LETTER_ORIGINAL_ID_FIELD, recordId.getValue())
+                .containsEntry(RedisStreamRecoveryEngine.DEAD_LETTER_DELIVERY_COUNT_FIELD, "1");
+    }
+
+    @Nested
+    @DisplayName("recoverFromInactiveConsumers 메소드는")
+    class Describe_recoverFromInactiveConsumers {
+
+        @AfterEach
+        void tearDown() {
+            ReflectionTestUtils.setField(recoveryEngine, "inactiveConsumerMillis", 60000L);
+        }
+
+        @Test
+        @DisplayName("스트림을 읽고 있는 Consumer 의 Pending 메시지는 가져오지 않는다")
+        void it_skips_messages_of_active_consumer() {
+            // Given
+            ReflectionTestUtils.setField(recoveryEngine, "inactiveConsumerMillis", 60000L);
+
+            // When
+            recoveryEngine.recoverFromInactiveConsumers(STREAM_KEY, GROUP_NAME, AckMode.AUTO, succeedingListener());
+
+            // Then
+            assertThat(handledMessages).isEmpty();
+            assertThat(pendingCount()).isOne();
+            assertThat(deliveryCount()).isOne();
+        }
+
+        @Test
+        @DisplayName("종료된 Consumer 의 Pending 메시지를 가져와 다시 처리한다")
+        void it_recovers_messages_of_inactive_consumer() {
+            // Given
+            ReflectionTestUtils.setField(recoveryEngine, "inactiveConsumerMillis", 0L);
+
+            // When
+            recoveryEngine.recoverFromInactiveConsumers(STREAM_KEY, GROUP_NAME, AckMode.AUTO, succeedingListener());
+
+            // Then
+            assertThat(handledMessages).hasSize(1);
+            assertThat(handledMessages.get(0).getId()).isEqualTo(recordId);
+            assertThat(pendingCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("최대 전달 횟수를 넘은 메시지는")
+    class Describe_exceeded_max_deliveries {
+
+        @BeforeEach
+        void setUp() {
+            recoveryEngine.recover(STREAM_KEY, GROUP_NAME, failingListener());
+            handledMessages.clear();
+        }
+
+        @Test
+        @DisplayName("처리하지 않고 DLQ 스트림으로 옮긴 뒤 확인한다")
+        void it_moves_message_to_dead_letter_stream() {
+            // When
+            recoveryEngine.recover(STREAM_KEY, GROUP_NAME, succeedingListener());
+
+            // Then
+            List<MapRecord<String, Object, Object>> deadLetters = redisTemplate.opsForStream()
+                    .range(RedisStreamRecoveryEngine.deadLetterStreamKey(STREAM_KEY), Range.unbounded());
+            assertThat(handledMessages).isEmpty();
+            assertThat(pendingCount()).isZero();
+            assertThat(deadLetters).hasSize(1);
+            assertThat(deadLetters.get(0).getValue())
+                    .containsEntry(RedisStreamRecoveryEngine.DEAD_LETTER_ORIGINAL_ID_FIELD, recordId.getValue())
+                    .containsEntry(RedisStreamRecoveryEngine.DEAD_LETTER_GROUP_FIELD, GROUP_NAME)
+                    .containsEntry(RedisStreamRecoveryEngine.DEAD_LETTER_DELIVERY_COUNT_FIELD, "3");
+        }
+    }
+}
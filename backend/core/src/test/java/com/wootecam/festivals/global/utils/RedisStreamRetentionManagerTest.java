@@ -0,0 +1,112 @@
+package com.wootecam.festivals.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.wootecam.festivals.global.utils.StreamReport.GroupReport;
+import com.wootecam.festivals.utils.TestApplication;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class, properties = "redis.stream.retention.min-age-millis=0")
+@ActiveProfiles("test")
+@DisplayName("RedisStreamRetentionManager 클래스")
+class RedisStreamRetentionManagerTest {
+
+    private static final String STREAM_KEY = "retention-test-stream";
+    private static final String GROUP_NAME = "retention-test-group";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private RedisStreamRetentionManager retentionManager;
+
+    private final List<RecordId> recordIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 초기화
+        recordIds.clear();
+
+        for (int i = 0; i < 5; i++) {
+            recordIds.add(redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(STREAM_KEY)
+                    .ofObject("message-" + i)));
+        }
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP_NAME);
+    }
+
+    private List<ObjectRecord<String, String>> read(String groupName, long count) {
+        return redisTemplate.opsForStream().read(String.class, Consumer.from(groupName, "consumer-1"),
+                StreamReadOptions.empty().count(count), StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+    }
+
+    @Test
+    @DisplayName("trim 메소드는 확인한 메시지만 삭제하고 확인하지 않은 메시지는 남긴다")
+    void it_trims_only_acknowledged_messages() {
+        // Given - 4건을 읽고 앞의 2건만 확인합니다.
+        read(GROUP_NAME, 4);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP_NAME, recordIds.get(0), recordIds.get(1));
+
+        // When
+        StreamReport report = retentionManager.trim(STREAM_KEY);
+
+        // Then
+        assertThat(report.trimmedEntries()).isEqualTo(2);
+        assertThat(report.length()).isEqualTo(3);
+        assertThat(redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded()))
+                .extracting(MapRecord::getId)
+                .containsExactly(recordIds.get(2), recordIds.get(3), recordIds.get(4));
+        assertThat(report.groups())
+                .extracting(GroupReport::groupName, GroupReport::pending)
+                .containsExactly(tuple(GROUP_NAME, 2L));
+        assertThat(report.memoryBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("trim 메소드는 읽지 않은 소비자 그룹이 있으면 메시지를 삭제하지 않는다")
+    void it_keeps_messages_unread_by_another_group() {
+        // Given
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), "slow-group");
+        read(GROUP_NAME, 5);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP_NAME, recordIds.toArray(RecordId[]::new));
+
+        // When
+        StreamReport report = retentionManager.trim(STREAM_KEY);
+
+        // Then
+        assertThat(report.trimmedEntries()).isZero();
+        assertThat(report.length()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("trim 메소드는 소비자 그룹이 없는 스트림의 메시지를 삭제하지 않는다")
+    void it_keeps_messages_without_group() {
+        // Given
+        redisTemplate.opsForStream().destroyGroup(STREAM_KEY, GROUP_NAME);
+
+        // When
+        StreamReport report = retentionManager.trim(STREAM_KEY);
+
+        // Then
+        assertThat(report.trimmedEntries()).isZero();
+        assertThat(report.length()).isEqualTo(5);
+        assertThat(report.groups()).isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.wootecam.festivals.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SnowflakeIdGenerator 클래스")
+class SnowflakeIdGeneratorTest {
+
+    @Nested
+    @DisplayName("nextId 메소드는")
+    class Describe_nextId {
+
+        @Test
+        @DisplayName("같은 밀리초에 생성해도 증가하는 ID 를 반환하고, 시퀀스를 모두 사용하면 다음 밀리초를 사용한다")
+        void it_returns_increasing_ids_within_same_millis() {
+            // given
+            long now = SnowflakeIdGenerator.EPOCH_MILLIS + 1000;
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, () -> now);
+
+            // when
+            List<Long> ids = LongStream.range(0, 300).map(i -> generator.nextId()).boxed().toList();
+
+            // then
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+            assertThat(ids.get(ids.size() - 1)).isLessThan(1L << 53);
+            assertThat((ids.get(0) >>> 7) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(3L);
+            assertThat(ids.get(0) >>> 12).isEqualTo(1000L);
+            assertThat(ids.get(ids.size() - 1) >>> 12).isEqualTo(1002L);
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가더라도 증가하는 ID 를 반환한다")
+        void it_returns_increasing_ids_when_clock_moves_backwards() {
+            // given
+            AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, now::get);
+            long before = generator.nextId();
+
+            // when
+            now.addAndGet(-500);
+            long after = generator.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 생성해도 중복되지 않는 ID 를 반환한다")
+        void it_returns_unique_ids_concurrently() throws InterruptedException {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+            // when
+            for (int i = 0; i < 8; i++) {
+                executorService.submit(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        ids.add(generator.nextId());
+                    }
+                });
+            }
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(ids).hasSize(80000);
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 범위를 벗어나면 예외를 던진다")
+    void it_throws_exception_when_node_id_is_out_of_range() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    @DisplayName("resolveNodeId 메소드는")
+    class Describe_resolveNodeId {
+
+        @Test
+        @DisplayName("지정된 노드 ID 를 반환한다")
+        void it_returns_configured_node_id() {
+            assertThat(SnowflakeIdGenerator.resolveNodeId(" 7 ")).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("노드 ID 가 지정되지 않으면 호스트 이름 대신 0 을 반환한다")
+        void it_returns_zero_when_node_id_is_not_configured() {
+            assertThat(SnowflakeIdGenerator.resolveNodeId(null)).isZero();
+            assertThat(SnowflakeIdGenerator.resolveNodeId(" ")).isZero();
+        }
+    }
+}
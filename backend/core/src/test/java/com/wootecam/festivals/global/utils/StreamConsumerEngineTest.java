@@ -0,0 +1,214 @@
+package com.wootecam.festivals.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.wootecam.festivals.global.utils.StreamConsumerEngine.Subscription;
+import com.wootecam.festivals.utils.TestApplication;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("StreamConsumerEngine 클래스")
+class StreamConsumerEngineTest {
+
+    private static final String STREAM_KEY = "consumer-engine-test-stream";
+    private static final String GROUP_NAME = "consumer-engine-test-group";
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+    @Autowired
+    private StreamConsumerEngine streamConsumerEngine;
+
+    private final List<String> handledValues = new CopyOnWriteArrayList<>();
+    private Subscription subscription;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll(); // Redis 초기화
+        handledValues.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void addMessages(String... values) {
+        for (String value : values) {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(STREAM_KEY)
+                    .ofObject(value));
+        }
+        redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP_NAME);
+    }
+
+    private StreamConsumerOptions.StreamConsumerOptionsBuilder options() {
+        return StreamConsumerOptions.builder()
+                .streamKey(STREAM_KEY)
+                .groupName(GROUP_NAME)
+                .pollTimeout(Duration.ofMillis(100));
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(STREAM_KEY, GROUP_NAME).getTotalPendingMessages();
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("생성자는")
+    class Describe_constructor {
+
+        @Test
+        @DisplayName("로컬과 테스트 외의 환경에서 소비자 이름이 지정되지 않으면 예외를 던진다")
+        void it_throws_exception_when_consumer_name_is_missing_in_deployed_profile() {
+            // Given
+            MockEnvironment environment = new MockEnvironment();
+            environment.setActiveProfiles("prod");
+
+            // When, Then
+            assertThatThrownBy(() -> new StreamConsumerEngine(redisTemplate, new SimpleMeterRegistry(), environment,
+                    "", 10000))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("지정된 소비자 이름을 사용한다")
+        void it_uses_configured_consumer_name() {
+            // Given
+            MockEnvironment environment = new MockEnvironment();
+            environment.setActiveProfiles("prod");
+
+            // When
+            StreamConsumerEngine engine = new StreamConsumerEngine(redisTemplate, new SimpleMeterRegistry(),
+                    environment, "api-server-1", 10000);
+
+            // Then
+            assertThat(engine.getConsumerName()).isEqualTo("api-server-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe 메소드는")
+    class Describe_subscribe {
+
+        @Test
+        @DisplayName("메시지를 처리한 뒤 확인한다")
+        void it_acknowledges_handled_messages() throws InterruptedException {
+            // Given
+            addMessages("first", "second", "third");
+
+            // When
+            subscription = streamConsumerEngine.subscribe(options().build(),
+                    (ObjectRecord<String, String> message) -> handledValues.add(message.getValue()));
+
+            // Then
+            await(() -> handledValues.size() == 3 && pendingCount() == 0);
+            assertThat(handledValues).containsExactly("first", "second", "third");
+        }
+
+        @Test
+        @DisplayName("같은 소비자 이름으로 받고 확인하지 않은 메시지를 먼저 처리한다")
+        void it_replays_own_pending_messages() throws InterruptedException {
+            // Given
+            addMessages("delivered-before-restart");
+            redisTemplate.opsForStream().read(String.class,
+                    Consumer.from(GROUP_NAME, streamConsumerEngine.getConsumerName()),
+                    StreamReadOptions.empty().count(10), StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+            // When
+            subscription = streamConsumerEngine.subscribe(options().build(),
+                    (ObjectRecord<String, String> message) -> handledValues.add(message.getValue()));
+
+            // Then
+            await(() -> handledValues.size() == 1 && pendingCount() == 0);
+            assertThat(handledValues).containsExactly("delivered-before-restart");
+        }
+
+        @Test
+        @DisplayName("처리 중인 메시지가 한도에 도달하면 읽기를 멈춘다")
+        void it_pauses_polling_when_max_in_flight_reached() throws InterruptedException {
+            // Given
+            addMessages(IntStream.range(0, 5).mapToObj(String::valueOf).toArray(String[]::new));
+            CountDownLatch release = new CountDownLatch(1);
+
+            // When
+            subscription = streamConsumerEngine.subscribe(options().parallelism(2).batchSize(1).maxInFlight(2).build(),
+                    (ObjectRecord<String, String> message) -> {
+                        handledValues.add(message.getValue());
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+
+            // Then
+            await(() -> handledValues.size() == 2);
+            Thread.sleep(200);
+            assertThat(handledValues).hasSize(2);
+            assertThat(subscription.getInFlight()).isEqualTo(2);
+
+            release.countDown();
+            await(() -> handledValues.size() == 5 && pendingCount() == 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribeBatch 메소드는")
+    class Describe_subscribeBatch {
+
+        @Test
+        @DisplayName("일괄 처리에 실패하면 한 건씩 다시 처리하고 처리한 메시지만 확인한다")
+        void it_falls_back_to_each_message_when_batch_failed() throws InterruptedException {
+            // Given
+            addMessages("first", "poison", "third");
+
+            // When
+            subscription = streamConsumerEngine.subscribeBatch(options().build(), messages -> {
+                if (messages.stream().anyMatch(message -> message.getValue().equals("poison"))) {
+                    throw new IllegalStateException("처리 실패");
+                }
+                messages.forEach(message -> handledValues.add(message.getValue()));
+            });
+
+            // Then
+            await(() -> handledValues.size() == 2 && pendingCount() == 1);
+            assertThat(handledValues).containsExactly("first", "third");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.wootecam.festivals.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidProvider 클래스")
+class UuidProviderTest {
+
+    private final UuidProvider uuidProvider = new UuidProvider();
+
+    @Nested
+    @DisplayName("getTimeOrderedUuid 메소드는")
+    class Describe_getTimeOrderedUuid {
+
+        @Test
+        @DisplayName("UUIDv7 형식의 UUID 를 반환한다")
+        void it_returns_version_7_uuid() {
+            // when
+            UUID uuid = UUID.fromString(uuidProvider.getTimeOrderedUuid());
+
+            // then
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("같은 밀리초에 생성해도 문자열 순서가 생성 순서와 같다")
+        void it_returns_increasing_uuids() {
+            // when
+            List<String> uuids = IntStream.range(0, 10000)
+                    .mapToObj(i -> uuidProvider.getTimeOrderedUuid())
+                    .toList();
+
+            // then
+            assertThat(uuids).isSorted().doesNotHaveDuplicates();
+        }
+    }
+}
@@ -194,10 +194,14 @@ class E2eTest extends E2eTestEnvironment {
                 .statusCode(200)
                 .body("data.festivalId", equalTo(festivalId));
 
+        // 대기열 통과
+        String admissionToken = passWaitQueue(festivalId, ticketId);
+
         // Step 8: User 티켓 구매 가능 여부 확인
         Response purchaseSessionResponse = given()
                 .baseUri(API_SERVER_URL)
                 .filter(userCookieFilter)
+                .header("Admission-Token", admissionToken)
                 .when()
                 .get("/api/v1/festivals/" + festivalId + "/tickets/" + ticketId + "/purchase/check")
                 .then()
@@ -339,44 +343,14 @@ class E2eTest extends E2eTestEnvironment {
                 .statusCode(200)
                 .body("data.festivalId", equalTo(festivalId));
 
-        // 대기열 참가
-        Response waitOrderResponse = given()
-                .baseUri(QUEUE_SERVER_URL)
-                .filter(userCookieFilter)
-                .when()
-                .get("/api/v1/festivals/" + festivalId + "/tickets/" + ticketId + "/purchase/wait")
-                .then()
-                .statusCode(200)
-                .extract().response();
-        long absoluteWaitOrder = Long.parseLong(waitOrderResponse.path("data.absoluteWaitOrder").toString());
-
-        // 대기열 대기
-        int retry = 0;
-        for (; retry < 5; ++retry) {
-            waitOrderResponse = given()
-                    .baseUri(QUEUE_SERVER_URL)
-                    .filter(userCookieFilter)
-                    .when()
-                    .get("/api/v1/festivals/" + festivalId + "/tickets/" + ticketId + "/purchase/wait?waitOrder="
-                            + absoluteWaitOrder)
-                    .then()
-                    .statusCode(200)
-                    .extract().response();
-            String purchasable = waitOrderResponse.path("data.purchasable").toString();
-
-            if("true".equals(purchasable)) {
-                break;
-            }
-        }
-
-        if (retry == 5) {
-            throw new RuntimeException("대기열 통과 실패");
-        }
+        // 대기열 참가 및 통과
+        String admissionToken = passWaitQueue(festivalId, ticketId);
 
         // Step 8: User 티켓 구매 가능 여부 확인
         Response purchaseSessionResponse = given()
                 .baseUri(API_SERVER_URL)
                 .filter(userCookieFilter)
+                .header("Admission-Token", admissionToken)
                 .when()
                 .get("/api/v1/festivals/" + festivalId + "/tickets/" + ticketId + "/purchase/check")
                 .then()
@@ -581,4 +555,46 @@ class E2eTest extends E2eTestEnvironment {
                 .extract().response();
     }
     // 재고 롤백 프로세스
+
+    // 대기열에 참가하고 통과할 때까지 대기 순서를 조회하여 입장 토큰을 반환한다.
+    private String passWaitQueue(int festivalId, int ticketId) {
+        // 대기열 참가
+        Response waitOrderResponse = given()
+                .baseUri(QUEUE_SERVER_URL)
+                .filter(userCookieFilter)
+                .when()
+                .get("/api/v1/festivals/" + festivalId + "/tickets/" + ticketId + "/purchase/wait")
+                .then()
+                .statusCode(200)
+                .extract().response();
+        if ("true".equals(waitOrderResponse.path("data.purchasable").toString())) {
+            return waitOrderResponse.path("data.admissionToken").toString();
+        }
+        long absoluteWaitOrder = Long.parseLong(waitOrderResponse.path("data.absoluteWaitOrder").toString());
+
+        // 대기열 대기
+        int retry = 0;
+        for (; retry < 5; ++retry) {
+            waitOrderResponse = given()
+                    .baseUri(QUEUE_SERVER_URL)
+                    .filter(userCookieFilter)
+                    .when()
+                    .get("/api/v1/festivals/" + festivalId + "/tickets/" + ticketId + "/purchase/wait?waitOrder="
+                            + absoluteWaitOrder)
+                    .then()
+                    .statusCode(200)
+                    .extract().response();
+            String purchasable = waitOrderResponse.path("data.purchasable").toString();
+
+            if("true".equals(purchasable)) {
+                break;
+            }
+        }
+
+        if (retry == 5) {
+            throw new RuntimeException("대기열 통과 실패");
+        }
+
+        return waitOrderResponse.path("data.admissionToken").toString();
+    }
 }
@@ -237,6 +237,15 @@ create table if not exists twodari.ticket_stock
 create unique index ticket_stock_ticket_id_ticket_stock_member_id_index
     on twodari.ticket_stock (ticket_id, ticket_stock_member_id);
 
+create table if not exists twodari.outbox_event
+(
+    outbox_event_id bigint        not null primary key,
+    stream_key      varchar(255)  not null,
+    payload         varchar(4000) not null,
+    created_at      datetime(6)   null,
+    updated_at      datetime(6)   null
+);
+
 
 CREATE
 DATABASE IF NOT EXISTS schedule;
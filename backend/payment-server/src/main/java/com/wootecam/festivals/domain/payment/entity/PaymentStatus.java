@@ -1,11 +1,28 @@
 package com.wootecam.festivals.domain.payment.entity;
 
-public enum PaymentStatus {
-    INITIATED, // 결제 시도 전
-    IN_PROGRESS, // 결제 시도 중
-    SUCCESS, // 결제 성공
-    FAILED_CLIENT, // 잔액 부족 등의 사용자 과실로 인한 결제 실패
-    FAILED_SERVER; // 네트워크, 외부 결제 서버의 단기 장애 등의 외부 요소 과실로 인한 결제 실패
+import com.wootecam.festivals.global.utils.BinaryPayloadCode;
+
+/*
+    결제 결과 스트림 메시지에는 상수마다 정한 코드를 씁니다.
+    api-server 와 payment-server 가 각자 이 enum 을 두므로, 코드는 두 서버에서 같아야 하며 바꾸거나 다시 쓰지 않습니다.
+ */
+public enum PaymentStatus implements BinaryPayloadCode {
+    INITIATED(1), // 결제 시도 전
+    IN_PROGRESS(2), // 결제 시도 중
+    SUCCESS(3), // 결제 성공
+    FAILED_CLIENT(4), // 잔액 부족 등의 사용자 과실로 인한 결제 실패
+    FAILED_SERVER(5); // 네트워크, 외부 결제 서버의 단기 장애 등의 외부 요소 과실로 인한 결제 실패
+
+    private final int payloadCode;
+
+    PaymentStatus(int payloadCode) {
+        this.payloadCode = payloadCode;
+    }
+
+    @Override
+    public int payloadCode() {
+        return payloadCode;
+    }
 
     public boolean isFailed() {
         return this == FAILED_CLIENT || this == FAILED_SERVER;
@@ -0,0 +1,11 @@
+package com.wootecam.festivals.domain.payment.exception;
+
+/**
+ * 외부 결제 API 동시 호출 한도에 도달해 결제를 받아들이지 않았을 때 발생하는 예외
+ */
+public class PaymentRejectedException extends RuntimeException {
+
+    public PaymentRejectedException(String paymentId) {
+        super("외부 결제 API 동시 호출 한도에 도달했습니다. paymentId: " + paymentId);
+    }
+}
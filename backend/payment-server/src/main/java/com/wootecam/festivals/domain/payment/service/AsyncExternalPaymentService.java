@@ -0,0 +1,12 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 응답을 기다리는 동안 스레드를 점유하지 않는 외부 결제 API
+ */
+public interface AsyncExternalPaymentService {
+
+    CompletionStage<PaymentStatus> processPayment();
+}
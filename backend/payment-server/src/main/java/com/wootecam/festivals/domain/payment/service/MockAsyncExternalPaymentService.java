@@ -0,0 +1,47 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import io.netty.util.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 외부 결제 API 호출을 시뮬레이션하는 클래스
+ * <p>
+ * 응답 시간은 중앙값이 latency-millis 인 로그 정규 분포를 따르며, latency-sigma 가 클수록 응답 시간의 꼬리가 길어집니다.
+ * 응답은 타이머로 예약해 완료하므로 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+ * </p>
+ */
+@Component
+public class MockAsyncExternalPaymentService implements AsyncExternalPaymentService {
+
+    private final Timer paymentTimer;
+    private final long latencyMillis;
+    private final double latencySigma;
+    private final double failureRate;
+
+    public MockAsyncExternalPaymentService(Timer paymentTimer,
+                                           @Value("${payment.mock.latency-millis:500}") long latencyMillis,
+                                           @Value("${payment.mock.latency-sigma:0.0}") double latencySigma,
+                                           @Value("${payment.mock.failure-rate:0.0}") double failureRate) {
+        this.paymentTimer = paymentTimer;
+        this.latencyMillis = latencyMillis;
+        this.latencySigma = latencySigma;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public CompletionStage<PaymentStatus> processPayment() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMillis = Math.round(latencyMillis * Math.exp(latencySigma * random.nextGaussian()));
+        PaymentStatus status = random.nextDouble() < failureRate ? PaymentStatus.FAILED_SERVER : PaymentStatus.SUCCESS;
+
+        CompletableFuture<PaymentStatus> result = new CompletableFuture<>();
+        paymentTimer.newTimeout(timeout -> result.complete(status), delayMillis, TimeUnit.MILLISECONDS);
+        return result;
+    }
+}
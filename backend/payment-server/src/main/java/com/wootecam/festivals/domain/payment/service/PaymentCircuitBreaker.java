@@ -0,0 +1,245 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 결제 API 장애 시 호출을 차단하는 서킷 브레이커
+ * <p>
+ * 최근 호출 결과를 슬라이딩 윈도우에 기록하고, 실패율이나 느린 호출 비율이 기준을 넘으면 차단(OPEN) 상태가 됩니다.
+ * 차단 시간이 지나면 정해진 수의 호출만 허용(HALF_OPEN)하며, 이 호출들의 결과로 다시 닫을지(CLOSED) 차단할지 결정합니다.
+ * 상태가 바뀔 때마다 payment.circuitbreaker.transitions 메트릭을 기록합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PaymentCircuitBreaker {
+
+    private static final int FAILED_OUTCOME = 1;
+    private static final int SLOW_OUTCOME = 2;
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int slowCallRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+    private final Counter notPermittedCalls;
+
+    // 최근 호출 결과, 실패와 느린 호출을 비트로 기록합니다.
+    private final byte[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failedCalls;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenIssuedCalls;
+    private int halfOpenRecordedCalls;
+    private int halfOpenFailedCalls;
+    private int halfOpenSlowCalls;
+
+    @Autowired
+    public PaymentCircuitBreaker(MeterRegistry meterRegistry,
+                                 @Value("${payment.circuit-breaker.sliding-window-size:100}") int slidingWindowSize,
+                                 @Value("${payment.circuit-breaker.minimum-calls:20}") int minimumCalls,
+                                 @Value("${payment.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                 @Value("${payment.circuit-breaker.slow-call-duration-millis:2000}") long slowCallDurationMillis,
+                                 @Value("${payment.circuit-breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+                                 @Value("${payment.circuit-breaker.open-duration-millis:10000}") long openDurationMillis,
+                                 @Value("${payment.circuit-breaker.half-open-permitted-calls:10}") int halfOpenPermittedCalls) {
+        this(meterRegistry, slidingWindowSize, minimumCalls, failureRateThreshold, slowCallDurationMillis,
+                slowCallRateThreshold, openDurationMillis, halfOpenPermittedCalls, System::nanoTime);
+    }
+
+    PaymentCircuitBreaker(MeterRegistry meterRegistry, int slidingWindowSize, int minimumCalls,
+                          int failureRateThreshold, long slowCallDurationMillis, int slowCallRateThreshold,
+                          long openDurationMillis, int halfOpenPermittedCalls, LongSupplier nanoClock) {
+        if (slidingWindowSize < 1 || minimumCalls < 1 || minimumCalls > slidingWindowSize
+                || halfOpenPermittedCalls < 1) {
+            throw new IllegalArgumentException(
+                    "1 <= minimumCalls <= slidingWindowSize, 1 <= halfOpenPermittedCalls 이어야 합니다. slidingWindowSize: "
+                            + slidingWindowSize + ", minimumCalls: " + minimumCalls + ", halfOpenPermittedCalls: "
+                            + halfOpenPermittedCalls);
+        }
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(slowCallDurationMillis);
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        this.outcomes = new byte[slidingWindowSize];
+
+        Gauge.builder("payment.circuitbreaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("외부 결제 API 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .register(meterRegistry);
+        this.notPermittedCalls = Counter.builder("payment.circuitbreaker.not.permitted")
+                .description("서킷 브레이커가 차단한 외부 결제 API 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 외부 결제 API 를 호출할 수 있다면 호출 허가를 반환합니다.
+     *
+     * @return 차단 중이거나, HALF_OPEN 상태에서 허용한 호출 수를 모두 사용했다면 빈 Optional
+     */
+    public synchronized Optional<Call> tryAcquirePermission() {
+        long nowNanos = nanoClock.getAsLong();
+        if (state == State.OPEN) {
+            if (nowNanos - openedAtNanos < openDurationNanos) {
+                notPermittedCalls.increment();
+                return Optional.empty();
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssuedCalls >= halfOpenPermittedCalls) {
+                notPermittedCalls.increment();
+                return Optional.empty();
+            }
+            halfOpenIssuedCalls++;
+        }
+        return Optional.of(new Call(generation, nowNanos));
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private synchronized void onResult(long callGeneration, long durationNanos, boolean failed) {
+        // 상태가 바뀌기 전에 시작한 호출의 결과는 반영하지 않습니다.
+        if (callGeneration != generation) {
+            return;
+        }
+
+        boolean slow = durationNanos >= slowCallDurationNanos;
+        if (state == State.HALF_OPEN) {
+            halfOpenRecordedCalls++;
+            halfOpenFailedCalls += failed ? 1 : 0;
+            halfOpenSlowCalls += slow ? 1 : 0;
+            if (halfOpenRecordedCalls >= halfOpenPermittedCalls) {
+                transitionTo(exceedsThreshold(halfOpenRecordedCalls, halfOpenFailedCalls, halfOpenSlowCalls)
+                        ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+
+        record(failed, slow);
+        if (outcomeCount >= minimumCalls && exceedsThreshold(outcomeCount, failedCalls, slowCalls)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private synchronized void onIgnored(long callGeneration) {
+        if (callGeneration == generation && state == State.HALF_OPEN) {
+            halfOpenIssuedCalls--;
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (outcomeCount == slidingWindowSize) {
+            byte evicted = outcomes[outcomeIndex];
+            failedCalls -= evicted & FAILED_OUTCOME;
+            slowCalls -= (evicted & SLOW_OUTCOME) >> 1;
+        } else {
+            outcomeCount++;
+        }
+
+        byte outcome = (byte) ((failed ? FAILED_OUTCOME : 0) | (slow ? SLOW_OUTCOME : 0));
+        outcomes[outcomeIndex] = outcome;
+        outcomeIndex = (outcomeIndex + 1) % slidingWindowSize;
+        failedCalls += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+    }
+
+    private boolean exceedsThreshold(int calls, int failed, int slow) {
+        return failed * 100 >= failureRateThreshold * calls || slow * 100 >= slowCallRateThreshold * calls;
+    }
+
+    private void transitionTo(State newState) {
+        State oldState = state;
+        state = newState;
+        generation++;
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+        halfOpenIssuedCalls = 0;
+        halfOpenRecordedCalls = 0;
+        halfOpenFailedCalls = 0;
+        halfOpenSlowCalls = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+
+        log.warn("외부 결제 API 서킷 브레이커 상태 변경: {} -> {}", oldState, newState);
+        meterRegistry.counter("payment.circuitbreaker.transitions", "from", oldState.name(), "to", newState.name())
+                .increment();
+    }
+
+    public enum State {
+        CLOSED, // 모든 호출 허용
+        OPEN, // 모든 호출 차단
+        HALF_OPEN // 정해진 수의 호출만 허용해 외부 결제 API 가 회복했는지 확인
+    }
+
+    /**
+     * 외부 결제 API 호출 허가, 호출이 끝나면 결과에 맞는 메소드를 한 번 호출합니다.
+     */
+    public final class Call {
+
+        private final long callGeneration;
+        private final long startNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Call(long callGeneration, long startNanos) {
+            this.callGeneration = callGeneration;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 외부 결제 API 가 응답했습니다.
+         */
+        public void onSuccess() {
+            if (recorded.compareAndSet(false, true)) {
+                onResult(callGeneration, nanoClock.getAsLong() - startNanos, false);
+            }
+        }
+
+        /**
+         * 외부 결제 API 가 서버 실패를 응답했거나 응답하지 않았습니다.
+         */
+        public void onFailure() {
+            if (recorded.compareAndSet(false, true)) {
+                onResult(callGeneration, nanoClock.getAsLong() - startNanos, true);
+            }
+        }
+
+        /**
+         * 외부 결제 API 를 호출하지 않았습니다. HALF_OPEN 상태라면 허용한 호출 수를 돌려받습니다.
+         */
+        public void onIgnored() {
+            if (recorded.compareAndSet(false, true)) {
+                PaymentCircuitBreaker.this.onIgnored(callGeneration);
+            }
+        }
+    }
+}
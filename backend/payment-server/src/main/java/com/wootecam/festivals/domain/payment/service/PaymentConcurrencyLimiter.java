@@ -0,0 +1,211 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 결제 API 의 응답 시간을 보고 동시에 호출할 수 있는 최대 수(한도)를 조정하는 클래스
+ * <p>
+ * TCP Vegas 와 같이 가장 짧았던 응답 시간과 현재 응답 시간의 차이로 외부 결제 API 에 쌓인 요청 수를 추정합니다.
+ * 추정한 대기 요청 수가 적으면 한도를 늘리고, 많거나 서버 실패가 발생하면 한도를 줄입니다.
+ * 한도를 바꾼 결과는 응답 시간만큼 늦게 나타나므로, 가장 짧았던 응답 시간 동안 모은 응답의 평균 응답 시간으로 한 번씩 한도를 조정합니다.
+ * 외부 결제 API 의 기본 응답 시간이 바뀌는 경우에 대비해, 일정 횟수마다 가장 짧았던 응답 시간을 다시 측정합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PaymentConcurrencyLimiter {
+
+    private static final double DROP_DECREASE_RATIO = 0.9;
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int RTT_PROBE_WINDOWS = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+
+    private volatile double limit;
+    private long noLoadRttNanos;
+    private int windows;
+
+    // 한도를 조정하기 전까지 모은 응답
+    private long windowStartNanos;
+    private long windowRttSumNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    @Autowired
+    public PaymentConcurrencyLimiter(MeterRegistry meterRegistry,
+                                     @Value("${payment.limiter.initial-limit:20}") int initialLimit,
+                                     @Value("${payment.limiter.min-limit:1}") int minLimit,
+                                     @Value("${payment.limiter.max-limit:1000}") int maxLimit) {
+        this(meterRegistry, initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    PaymentConcurrencyLimiter(MeterRegistry meterRegistry, int initialLimit, int minLimit, int maxLimit,
+                              LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "한도는 1 <= minLimit <= initialLimit <= maxLimit 이어야 합니다. initialLimit: " + initialLimit
+                            + ", minLimit: " + minLimit + ", maxLimit: " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.windowStartNanos = nanoClock.getAsLong();
+
+        Gauge.builder("payment.limiter.limit", this, PaymentConcurrencyLimiter::getLimit)
+                .description("외부 결제 API 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("payment.limiter.inflight", inFlight, AtomicInteger::get)
+                .description("외부 결제 API 를 호출 중인 결제 수")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("payment.limiter.rejections")
+                .description("한도를 넘어 거절된 결제 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도 안이라면 외부 결제 API 를 호출할 수 있는 허가를 반환합니다.
+     *
+     * @return 한도에 도달했다면 빈 Optional
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejections.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1));
+            }
+        }
+    }
+
+    /**
+     * 한도와 관계없이 허가를 반환합니다. 이미 받아들인 결제를 재시도할 때 사용합니다.
+     */
+    public Permit acquire() {
+        return new Permit(inFlight.incrementAndGet());
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long nowNanos, long rttNanos, int inFlightAtStart, boolean dropped) {
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+                noLoadRttNanos = rttNanos;
+            }
+            windowRttSumNanos += rttNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        }
+
+        if (nowNanos - windowStartNanos < Math.max(noLoadRttNanos, MIN_WINDOW_NANOS)) {
+            return;
+        }
+
+        updateLimit();
+        if (++windows >= RTT_PROBE_WINDOWS && windowSamples > 0) {
+            noLoadRttNanos = windowRttSumNanos / windowSamples;
+            windows = 0;
+        }
+        windowStartNanos = nowNanos;
+        windowRttSumNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private void updateLimit() {
+        double current = limit;
+        double logLimit = Math.max(1, Math.log10(current));
+        double newLimit;
+
+        if (windowDropped) {
+            newLimit = current * DROP_DECREASE_RATIO;
+        } else {
+            // 한도의 절반도 사용하지 않았다면 응답 시간으로 한도를 판단할 수 없습니다.
+            if (windowSamples == 0 || windowMaxInFlight * 2 < current) {
+                return;
+            }
+
+            double rttNanos = (double) windowRttSumNanos / windowSamples;
+            double queueSize = Math.ceil(current * (1 - noLoadRttNanos / rttNanos));
+            if (queueSize <= logLimit) {
+                newLimit = current + 6 * logLimit;
+            } else if (queueSize < 3 * logLimit) {
+                newLimit = current + logLimit;
+            } else if (queueSize > 6 * logLimit) {
+                newLimit = current - logLimit;
+            } else {
+                return;
+            }
+        }
+
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) limit != (int) current) {
+            log.debug("외부 결제 API 동시 호출 한도 변경: {} -> {}", (int) current, (int) limit);
+        }
+    }
+
+    /**
+     * 외부 결제 API 호출 허가, 호출이 끝나면 결과에 맞는 메소드를 한 번 호출해 반납합니다.
+     */
+    public final class Permit {
+
+        private final long startNanos = nanoClock.getAsLong();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 외부 결제 API 가 응답했습니다. 응답 시간으로 한도를 조정합니다.
+         */
+        public void onSuccess() {
+            release(false);
+        }
+
+        /**
+         * 외부 결제 API 가 서버 실패를 응답했거나 응답하지 않았습니다. 한도를 줄입니다.
+         */
+        public void onDropped() {
+            release(true);
+        }
+
+        private void release(boolean dropped) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            long nowNanos = nanoClock.getAsLong();
+            onSample(nowNanos, nowNanos - startNanos, inFlightAtStart, dropped);
+        }
+    }
+}
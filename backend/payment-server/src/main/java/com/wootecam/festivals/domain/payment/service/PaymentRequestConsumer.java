@@ -6,30 +6,60 @@ import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamC
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.payment.dto.PaymentRequest;
+import com.wootecam.festivals.domain.payment.dto.PaymentRequestCodec;
 import com.wootecam.festivals.domain.payment.dto.PaymentResult;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.domain.payment.exception.PaymentRejectedException;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
-import com.wootecam.festivals.global.utils.RedisStreamOperator;
-import java.time.Duration;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.RedisStreamRecoveryEngine;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine.Subscription;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions.AckMode;
+import com.wootecam.festivals.global.utils.StreamRecoveryDeferredException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.ReadOffset;
-import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.stream.StreamListener;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
-import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
+/**
+ * 결제 요청 스트림을 읽어 결제를 처리하는 클래스
+ * <p>
+ * 외부 결제 API 동시 호출 한도에 도달해 결제를 받아들이지 않으면, 메시지를 확인하지 않고 Pending 목록에 남겨 둡니다.
+ * 이후 읽은 메시지도 순서를 지키기 위해 Pending 목록에 남겨 두며, 한도에 여유가 생기면 이 Consumer 의 Pending 목록에서 차례대로 다시 처리합니다.
+ * 처리를 기다리는 메시지를 애플리케이션 메모리에 쌓지 않으므로, 인스턴스가 종료되더라도 메시지는 스트림에 남습니다.
+ * </p>
+ * <p>
+ * 결제 요청 발행이 일부만 실패해 다시 발행되면 같은 결제 ID 의 메시지가 여러 번 들어올 수 있습니다.
+ * 결제 ID 별로 처음 처리한 메시지 ID 를 기록하고, 다른 메시지로 들어온 같은 결제 요청은 결제하지 않고 확인합니다.
+ * </p>
+ * <p>
+ * 스트림을 읽고 있는 Consumer 의 Pending 메시지는 복구하지 않으므로, 처리 중 예외가 발생한 메시지는 Pending 목록에 남기지 않고 바로 DLQ 로 옮깁니다.
+ * DLQ 로도 옮기지 못하면 한도에 도달했을 때처럼 Pending 목록에 남겨 두고 차례대로 다시 처리합니다.
+ * </p>
+ */
 @Slf4j
 @Component
 @DependsOn(value = {"redisConnectionFactory", "redisStreamInitializer"})
@@ -37,78 +67,256 @@ import org.springframework.stereotype.Component;
 public class PaymentRequestConsumer implements StreamListener<String, ObjectRecord<String, String>>,
         InitializingBean, DisposableBean {
 
+    private static final int DEFERRED_BATCH_SIZE = 10;
+
+    private static final String PAYMENT_REQUEST_MESSAGE_KEY_PREFIX = "payment-requests:";
+
+    /*
+        KEYS[1]: 결제 ID 별로 처리한 메시지 ID key
+        ARGV[1]: 메시지 ID, ARGV[2]: 만료 시간(초)
+        처음 처리하는 결제 ID 이거나 같은 메시지를 다시 처리하면 1, 다른 메시지가 이미 처리한 결제 ID 라면 0 을 반환합니다.
+     */
+    private static final RedisScript<Long> CLAIM_PAYMENT_SCRIPT = RedisScript.of("""
+            local messageId = redis.call('GET', KEYS[1])
+            if not messageId then
+                redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+                return 1
+            end
+            if messageId == ARGV[1] then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
-    private final RedisStreamOperator redisStreamOperator;
+    private final StreamConsumerEngine streamConsumerEngine;
+    private final RedisStreamRecoveryEngine redisStreamRecoveryEngine;
     private final ObjectMapper objectMapper;
 
     private final PaymentService paymentService;
     private final PaymentResultEventProducer paymentResultEventProducer;
 
+    private final AtomicBoolean deferring = new AtomicBoolean();
+    private final Object deferLock = new Object();
+
+    @Value("${payment.request.deferred-retry-interval-millis:100}")
+    private long deferredRetryIntervalMillis;
+
+    @Value("${payment.request.dedup-ttl-seconds:86400}")
+    private long dedupTtlSeconds;
+
     private Subscription subscription;
-    private StreamMessageListenerContainer<String, ObjectRecord<String, String>> container;
+    private ScheduledExecutorService deferredRetryScheduler;
 
-    private final ThreadPoolExecutor paymentExecutor = new ThreadPoolExecutor(
-            10, 10, 0L, TimeUnit.MILLISECONDS,
-            new LinkedBlockingQueue<>(500),
-            new ThreadPoolExecutor.CallerRunsPolicy()
-    );
+    private RecordId lastReceivedId; // 메시지를 처리하는 스레드에서만 사용
+    private volatile RecordId lastDeferredRetryId; // 이 ID 이후의 Pending 메시지를 다시 처리합니다.
 
     @Override
     public void onMessage(ObjectRecord<String, String> message) {
         log.debug("Received Payment Message: {}", message);
 
+        RecordId previousId = lastReceivedId;
+        lastReceivedId = message.getId();
+
+        synchronized (deferLock) {
+            if (deferring.get()) {
+                log.debug("결제 요청 메시지를 Pending 목록에 남겨 둡니다. messageId {}", message.getId());
+                return;
+            }
+        }
+
+        boolean processed;
+        try {
+            processed = process(message);
+        } catch (ApiException e) {
+            processed = false;
+        }
+
+        if (!processed) {
+            synchronized (deferLock) {
+                lastDeferredRetryId = previousId;
+                deferring.set(true);
+            }
+            log.info("결제 요청 메시지를 Pending 목록에 남겨 두고 차례대로 다시 처리합니다. messageId {}", message.getId());
+        }
+    }
+
+    /**
+     * Pending 목록에 남겨 둔 결제 요청 메시지를 한도에 여유가 있는 만큼 차례대로 다시 처리합니다.
+     */
+    void retryDeferredMessages() {
+        if (!deferring.get()) {
+            return;
+        }
+
+        try {
+            while (true) {
+                List<ObjectRecord<String, String>> messages;
+                // 남은 메시지가 없음을 확인하고 스트림을 읽는 스레드에 처리를 넘기는 사이에 남겨 둔 메시지를 놓치지 않도록 잠급니다.
+                synchronized (deferLock) {
+                    messages = readDeferredMessages();
+                    if (messages.isEmpty()) {
+                        deferring.set(false);
+                        log.info("Pending 목록에 남겨 둔 결제 요청 메시지를 모두 처리했습니다.");
+                        return;
+                    }
+                }
+
+                for (ObjectRecord<String, String> message : messages) {
+                    if (!process(message)) {
+                        return;
+                    }
+                    lastDeferredRetryId = message.getId();
+                }
+            }
+        } catch (RuntimeException e) {
+            // 처리하지 못한 메시지부터 다음 재처리 때 다시 처리합니다.
+            log.error("Pending 목록에 남겨 둔 결제 요청 메시지 처리 중 예외 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료된 Consumer 가 처리하지 못하고 Pending 목록에 남긴 결제 요청 메시지를 다시 처리합니다.
+     * <p>
+     * 스트림을 읽는 스레드의 순서와 관계없이 처리하며, 한도에 도달하면 Pending 목록에 남겨 다음 복구 때 다시 처리합니다.
+     * 한도에 도달한 것은 처리 실패가 아니므로 최대 전달 횟수에 포함되지 않도록 StreamRecoveryDeferredException 을 던집니다.
+     * </p>
+     *
+     * @param message Pending 목록에서 가져온 결제 요청 메시지
+     * @throws StreamRecoveryDeferredException 외부 결제 API 동시 호출 한도에 도달한 경우
+     */
+    public void recover(ObjectRecord<String, String> message) {
+        if (!process(message)) {
+            throw new StreamRecoveryDeferredException("외부 결제 API 동시 호출 한도에 도달했습니다. messageId: " + message.getId());
+        }
+    }
+
+    /*
+        XREADGROUP 으로 Pending 목록을 다시 읽으면 전달 횟수가 늘어나므로, XPENDING 으로 ID 를 조회한 뒤 XRANGE 로 메시지를 읽습니다.
+     */
+    private List<ObjectRecord<String, String>> readDeferredMessages() {
+        RecordId after = lastDeferredRetryId;
+        Range<?> range = after == null ? Range.unbounded() : Range.rightUnbounded(Bound.inclusive(after.getValue()));
+        PendingMessages pendingMessages = redisTemplate.opsForStream().pending(PAYMENT_REQUEST_STREAM_KEY,
+                Consumer.from(PAYMENT_REQUEST_STREAM_GROUP, streamConsumerEngine.getConsumerName()), range, DEFERRED_BATCH_SIZE + 1L);
+        if (pendingMessages == null) {
+            return List.of();
+        }
+
+        List<String> pendingIds = pendingMessages.stream()
+                .map(PendingMessage::getIdAsString)
+                .filter(id -> after == null || !after.getValue().equals(id))
+                .toList();
+        if (pendingIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> deferredIds = Set.copyOf(pendingIds);
+        List<ObjectRecord<String, String>> messages = redisTemplate.opsForStream().range(String.class,
+                PAYMENT_REQUEST_STREAM_KEY, Range.closed(pendingIds.get(0), pendingIds.get(pendingIds.size() - 1)));
+        if (messages == null) {
+            return List.of();
+        }
+        return messages.stream()
+                .filter(message -> deferredIds.contains(message.getId().getValue()))
+                .collect(Collectors.toList());
+    }
+
+    /*
+        결제 처리를 시작하거나 처리할 수 없는 메시지를 DLQ 로 옮기면 true,
+        외부 결제 API 동시 호출 한도에 도달해 결제를 받아들이지 않으면 false 를 반환합니다.
+        DLQ 로도 옮기지 못하면 ApiException 을 던집니다.
+     */
+    private boolean process(ObjectRecord<String, String> message) {
         try {
-            PaymentRequest paymentRequest = objectMapper.readValue(message.getValue(), PaymentRequest.class);
+            PaymentRequest paymentRequest = readPaymentRequest(message.getValue());
 
             String paymentId = paymentRequest.paymentId();
+            if (!claimPayment(paymentId, message.getId())) {
+                log.warn("이미 다른 메시지로 처리한 결제 요청입니다. messageId {}, paymentId {}", message.getId(), paymentId);
+                redisTemplate.opsForStream()
+                        .acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, message.getId());
+                return true;
+            }
 
+            // 결제 결과 발행과 확인은 결제를 처리한 스레드에서 이어서 실행해, 스트림을 읽는 스레드를 막지 않습니다.
             paymentService.processPayment(0, paymentId)
-                    .thenAcceptAsync(status -> handlePaymentResult(status, paymentId), paymentExecutor)
-                    .thenRunAsync(() -> {
+                    .thenAccept(status -> handlePaymentResult(status, paymentId))
+                    .thenRun(() -> {
                         redisTemplate.opsForStream()
                                 .acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, message.getId());
                         log.info("결제 요청 메시지 처리 완료: messageId {}, paymentId {}", message.getId(), paymentId);
-                    }, paymentExecutor)
+                    })
                     .exceptionally(e -> {
-                                log.error("결제 서버에 장애가 발생하였습니다. paymentId : {}", paymentId);
+                                log.error("결제 서버에 장애가 발생하였습니다. paymentId : {}", paymentId, e);
+                                try {
+                                    deadLetter(message.getId());
+                                } catch (ApiException deadLetterException) {
+                                    log.error("결제 요청 메시지를 DLQ 로 옮기지 못했습니다. messageId {}", message.getId(),
+                                            deadLetterException);
+                                }
                                 return null;
                             }
                     );
+            return true;
+        } catch (PaymentRejectedException e) {
+            return false;
         } catch (RuntimeException | JsonProcessingException e) {
             log.error("[onMessage] 결제 스트림 메시지 처리 중 예외 발생: {}", e.getMessage(), e);
-            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "결제 스트림 메시지 처리 중 예외 발생", e);
+            deadLetter(message.getId());
+            return true;
         }
     }
 
+    private void deadLetter(RecordId messageId) {
+        try {
+            redisStreamRecoveryEngine.deadLetter(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, messageId);
+        } catch (RuntimeException e) {
+            throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "결제 요청 메시지를 DLQ 로 옮기지 못했습니다", e);
+        }
+    }
+
+    private boolean claimPayment(String paymentId, RecordId messageId) {
+        Long claimed = redisTemplate.execute(CLAIM_PAYMENT_SCRIPT,
+                List.of(PAYMENT_REQUEST_MESSAGE_KEY_PREFIX + paymentId + ":message"), messageId.getValue(),
+                String.valueOf(dedupTtlSeconds));
+        return !Long.valueOf(0).equals(claimed);
+    }
+
+    // 바이너리 형식을 사용하기 전에 발행한 JSON 메시지도 처리합니다.
+    private PaymentRequest readPaymentRequest(String payload) throws JsonProcessingException {
+        if (BinaryPayloadCodec.isBinary(payload)) {
+            return PaymentRequestCodec.INSTANCE.decode(payload);
+        }
+        return objectMapper.readValue(payload, PaymentRequest.class);
+    }
+
     private void handlePaymentResult(PaymentStatus status, String paymentId) {
         log.debug("결제 완료 - paymentId {} status {}", paymentId, status);
         paymentResultEventProducer.sendPaymentResultEvent(new PaymentResult(paymentId, status));
     }
 
     /**
-     * Bean 초기화 이후(프로퍼티 주입 완료 후)에 실행되는 메서드 Redis Stream Listener Container를 생성하고 구독(Subscription)을 시작한다.
+     * Bean 초기화 이후(프로퍼티 주입 완료 후)에 실행되는 메서드 결제 요청 스트림 구독을 시작한다.
+     * 결제 처리가 끝난 뒤 직접 메시지를 확인하고, 읽은 순서대로 한도를 판단하므로 한 스레드에서 처리한다.
      */
     @Override
     public void afterPropertiesSet() throws Exception {
         log.info("Starting PaymentRequestConsumer...");
 
-        // 1) StreamMessageListenerContainer 생성
-        this.container = redisStreamOperator.createStreamMessageListenerContainer(5, 10);
-
-        // 2) Consumer 등록 & 구독 시작
-        this.subscription = this.container.receive(
-                Consumer.from(PAYMENT_REQUEST_STREAM_GROUP, "consumer-" + System.currentTimeMillis()),
-                StreamOffset.create(PAYMENT_REQUEST_STREAM_KEY, ReadOffset.lastConsumed()),
-                this
-        );
+        // 1) 결제 요청 스트림 구독 시작
+        this.subscription = streamConsumerEngine.subscribe(StreamConsumerOptions.builder()
+                .streamKey(PAYMENT_REQUEST_STREAM_KEY)
+                .groupName(PAYMENT_REQUEST_STREAM_GROUP)
+                .parallelism(1)
+                .ackMode(AckMode.MANUAL)
+                .build(), this);
 
-        this.subscription.await(Duration.ofMillis(20));
-
-        this.container.start();
-
-        if (this.container.isRunning()) {
-            log.info("PaymentRequestConsumer is running...");
-        }
+        // 2) Pending 목록에 남겨 둔 메시지 재처리 시작
+        this.deferredRetryScheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "payment-request-deferred-retry"));
+        this.deferredRetryScheduler.scheduleWithFixedDelay(this::retryDeferredMessages,
+                deferredRetryIntervalMillis, deferredRetryIntervalMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -121,8 +329,8 @@ public class PaymentRequestConsumer implements StreamListener<String, ObjectReco
         if (this.subscription != null) {
             this.subscription.cancel();
         }
-        if (this.container != null) {
-            this.container.stop();
+        if (this.deferredRetryScheduler != null) {
+            this.deferredRetryScheduler.shutdown();
         }
     }
 }
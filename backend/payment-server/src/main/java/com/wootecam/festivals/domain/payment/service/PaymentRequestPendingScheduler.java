@@ -0,0 +1,29 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_GROUP;
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_KEY;
+
+import com.wootecam.festivals.global.utils.RedisStreamRecoveryEngine;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions.AckMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentRequestPendingScheduler {
+
+    private final RedisStreamRecoveryEngine redisStreamRecoveryEngine;
+    private final PaymentRequestConsumer paymentRequestConsumer;
+
+    @Scheduled(fixedRate = 60000)
+    public void processPaymentRequestPendingMessage() {
+        // 결제 처리가 끝나면 PaymentRequestConsumer 가 메시지를 확인합니다.
+        // 스트림을 읽고 있는 Consumer 는 한도에 도달한 메시지를 일부러 Pending 목록에 남겨 두므로, 종료된 Consumer 의 메시지만 가져옵니다.
+        // 스트림을 읽고 있는 Consumer 가 처리에 실패한 메시지는 그 Consumer 가 바로 DLQ 로 옮깁니다.
+        redisStreamRecoveryEngine.recoverFromInactiveConsumers(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP,
+                AckMode.MANUAL, paymentRequestConsumer::recover);
+    }
+}
@@ -2,66 +2,266 @@ package com.wootecam.festivals.domain.payment.service;
 
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
 import com.wootecam.festivals.domain.payment.exception.PaymentException;
+import com.wootecam.festivals.domain.payment.exception.PaymentRejectedException;
+import com.wootecam.festivals.domain.payment.service.PaymentCircuitBreaker.Call;
+import com.wootecam.festivals.domain.payment.service.PaymentConcurrencyLimiter.Permit;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-public class PaymentService {
+public class PaymentService implements DisposableBean {
 
     private static final Integer MAX_RETRY = 3;
     private static final long BASE_DELAY_MS = 500L; // 0.5초 기본 대기
 
     private final ExternalPaymentService externalPaymentService;
-    private final ThreadPoolExecutor paymentExecutor = new ThreadPoolExecutor(
-            10, 10, 0L, TimeUnit.MILLISECONDS,
-            new LinkedBlockingQueue<>(500),
-            new ThreadPoolExecutor.CallerRunsPolicy()
-    );
+    private final AsyncExternalPaymentService asyncExternalPaymentService;
+    private final Timer paymentTimer;
+    private final ExecutorMode executorMode;
+    private final ExecutorService paymentExecutor;
+    private final PaymentConcurrencyLimiter concurrencyLimiter;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final Semaphore retryBulkhead;
+    private final long attemptTimeoutMillis;
 
-    public PaymentService(ExternalPaymentService externalPaymentService) {
+    /**
+     * @param concurrencyLimiter   외부 결제 API 동시 호출 한도
+     * @param circuitBreaker       외부 결제 API 장애 시 호출을 차단하는 서킷 브레이커
+     * @param executorMode         외부 결제 API 를 호출할 스레드 종류
+     * @param poolSize             PLATFORM 모드의 스레드 수, 동시 호출 한도가 이보다 크더라도 이 수만큼만 동시에 호출합니다.
+     *                             VIRTUAL 모드는 스레드 수 대신 동시 호출 한도만큼 동시에 호출합니다.
+     * @param maxRetryingPayments  동시에 재시도할 수 있는 결제의 최대 수, 초과하면 재시도하지 않고 서버 실패로 처리합니다.
+     * @param attemptTimeoutMillis ASYNC 모드에서 외부 결제 API 응답을 기다리는 최대 시간, 초과하면 서버 실패로 보고 재시도합니다.
+     */
+    public PaymentService(ExternalPaymentService externalPaymentService,
+                          AsyncExternalPaymentService asyncExternalPaymentService,
+                          Timer paymentTimer,
+                          PaymentConcurrencyLimiter concurrencyLimiter,
+                          PaymentCircuitBreaker circuitBreaker,
+                          @Value("${payment.executor.mode:PLATFORM}") ExecutorMode executorMode,
+                          @Value("${payment.executor.pool-size:10}") int poolSize,
+                          @Value("${payment.executor.max-retrying-payments:100}") int maxRetryingPayments,
+                          @Value("${payment.executor.attempt-timeout-millis:3000}") long attemptTimeoutMillis) {
         this.externalPaymentService = externalPaymentService;
+        this.asyncExternalPaymentService = asyncExternalPaymentService;
+        this.paymentTimer = paymentTimer;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.executorMode = executorMode;
+        this.paymentExecutor = createExecutor(executorMode, poolSize);
+        this.retryBulkhead = new Semaphore(maxRetryingPayments);
+        this.attemptTimeoutMillis = attemptTimeoutMillis;
+        log.info("결제 실행기 - mode: {}, poolSize: {}, maxRetryingPayments: {}", executorMode, poolSize,
+                maxRetryingPayments);
     }
 
     /**
      * <p>결제를 처리하는 메서드</p>
      * <p>내부 결제 서버 문제로 실패하는 경우 최대 3회 재시도합니다.</p>
+     * <p>외부 결제 API 동시 호출 한도에 도달했다면 결제를 받아들이지 않습니다. 이미 받아들인 결제의 재시도는 한도와 관계없이 진행합니다.</p>
+     * <p>서킷 브레이커가 외부 결제 API 호출을 차단하면 호출하거나 재시도하지 않고 바로 서버 실패(FAILED_SERVER)로 처리합니다.</p>
      * @param attempt 현재 재시도 횟수
      * @param paymentId 결제 ID
      * @return  결제 결과
+     * @throws PaymentRejectedException 외부 결제 API 동시 호출 한도에 도달한 경우
      */
     public CompletableFuture<PaymentStatus> processPayment(int attempt, String paymentId) {
-        return CompletableFuture
-                .supplyAsync(() -> {
-                    try {
-                        return externalPaymentService.processPayment();
-                    } catch (Exception e) {
-                        throw new PaymentException(e);
-                    }
-                }, paymentExecutor)
+        Optional<Call> call = circuitBreaker.tryAcquirePermission();
+        if (call.isEmpty()) {
+            return failFast(paymentId);
+        }
+
+        Optional<Permit> permit = concurrencyLimiter.tryAcquire();
+        if (permit.isEmpty()) {
+            call.get().onIgnored();
+            throw new PaymentRejectedException(paymentId);
+        }
+
+        return requestExternalPayment(paymentId, permit.get(), call.get())
                 .thenCompose(status -> {
-                    if (!status.isFailedByServer()) { // 성공하거나, 클라이언트 오류인 경우 재시도하지 않음
+                    if (isCompleted(attempt, paymentId, status)) {
                         return CompletableFuture.completedFuture(status);
                     }
 
-                    if (attempt == MAX_RETRY) { // 재시도 횟수를 모두 소진한 경우
-                        log.error("재시도 {}회 실패 - paymentId: {}", MAX_RETRY, paymentId);
+                    // 재시도하는 결제 수를 제한해, 장애가 길어질 때 재시도가 외부 결제 API 에 몰리지 않도록 합니다.
+                    if (!retryBulkhead.tryAcquire()) {
+                        log.warn("재시도 중인 결제가 너무 많아 재시도하지 않습니다. - paymentId: {}", paymentId);
                         return CompletableFuture.completedFuture(status);
                     }
+                    return retry(attempt, paymentId)
+                            .whenComplete((retried, e) -> retryBulkhead.release());
+                });
+    }
 
-                    // 재시도 진행
-                    long backoffTime = (long) (BASE_DELAY_MS * Math.pow(2, attempt - 1));
-                    log.debug("서버 실패 재시도 ({}/{}) - 대기: {} ms", attempt, MAX_RETRY, backoffTime);
+    @Override
+    public void destroy() {
+        paymentExecutor.shutdown();
+    }
 
-                    Executor delayedExec = CompletableFuture.delayedExecutor(backoffTime, TimeUnit.MILLISECONDS,
-                            paymentExecutor);
-                    return CompletableFuture.supplyAsync(() -> null, delayedExec)
-                            .thenCompose(ignored -> processPayment(attempt + 1, paymentId));
-                });
+    /*
+        지수 백오프만큼 기다린 뒤 재시도합니다. ASYNC 모드에서는 기다리는 동안 어떤 스레드도 점유하지 않습니다.
+     */
+    private CompletableFuture<PaymentStatus> retry(int attempt, String paymentId) {
+        long backoffTime = (long) (BASE_DELAY_MS * Math.pow(2, attempt - 1));
+        log.debug("서버 실패 재시도 ({}/{}) - 대기: {} ms", attempt, MAX_RETRY, backoffTime);
+
+        return delay(backoffTime).thenCompose(ignored -> {
+            Optional<Call> call = circuitBreaker.tryAcquirePermission();
+            if (call.isEmpty()) {
+                return failFast(paymentId);
+            }
+
+            return requestExternalPayment(paymentId, concurrencyLimiter.acquire(), call.get())
+                    .thenCompose(status -> isCompleted(attempt + 1, paymentId, status)
+                            ? CompletableFuture.completedFuture(status)
+                            : retry(attempt + 1, paymentId));
+        });
+    }
+
+    // 성공하거나, 클라이언트 오류이거나, 재시도 횟수를 모두 소진했다면 재시도하지 않습니다.
+    private boolean isCompleted(int attempt, String paymentId, PaymentStatus status) {
+        if (!status.isFailedByServer()) {
+            return true;
+        }
+        if (attempt == MAX_RETRY) {
+            log.error("재시도 {}회 실패 - paymentId: {}", MAX_RETRY, paymentId);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+        서킷 브레이커가 외부 결제 API 호출을 차단하면 서버 실패로 바로 처리해, 결제 결과를 기다리지 않고 발행하도록 합니다.
+     */
+    private CompletableFuture<PaymentStatus> failFast(String paymentId) {
+        log.debug("외부 결제 API 호출 차단 - paymentId: {}, state: {}", paymentId, circuitBreaker.getState());
+        return CompletableFuture.completedFuture(PaymentStatus.FAILED_SERVER);
+    }
+
+    private CompletableFuture<PaymentStatus> requestExternalPayment(String paymentId, Permit permit, Call call) {
+        CompletableFuture<PaymentStatus> response = executorMode == ExecutorMode.ASYNC
+                ? requestExternalPaymentAsync(paymentId)
+                : CompletableFuture.supplyAsync(this::callExternalPayment, paymentExecutor);
+        return response.whenComplete((status, e) -> record(permit, call, status));
+    }
+
+    /*
+        외부 결제 API 응답을 attemptTimeoutMillis 까지 기다리며, 시간이 초과되면 서버 실패로 처리합니다.
+        타이머 스레드가 밀리지 않도록 이후 작업은 paymentExecutor 에서 이어서 실행합니다.
+     */
+    private CompletableFuture<PaymentStatus> requestExternalPaymentAsync(String paymentId) {
+        CompletableFuture<PaymentStatus> result = new CompletableFuture<>();
+        Timeout timeout = paymentTimer.newTimeout(
+                ignored -> paymentExecutor.execute(() -> result.completeExceptionally(new TimeoutException())),
+                attemptTimeoutMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            asyncExternalPaymentService.processPayment()
+                    .whenCompleteAsync((status, e) -> {
+                        timeout.cancel();
+                        if (e != null) {
+                            result.completeExceptionally(e);
+                        } else {
+                            result.complete(status);
+                        }
+                    }, paymentExecutor);
+        } catch (RuntimeException e) {
+            timeout.cancel();
+            result.completeExceptionally(e);
+        }
+
+        return result.handle((status, e) -> {
+            if (e == null) {
+                return status;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                log.warn("외부 결제 API 응답 시간 초과 - paymentId: {}, timeout: {} ms", paymentId, attemptTimeoutMillis);
+                return PaymentStatus.FAILED_SERVER;
+            }
+            throw new PaymentException(cause);
+        });
+    }
+
+    private CompletableFuture<Void> delay(long delayMillis) {
+        if (executorMode != ExecutorMode.ASYNC) {
+            return CompletableFuture.runAsync(() -> {
+            }, CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, paymentExecutor));
+        }
+
+        CompletableFuture<Void> delayed = new CompletableFuture<>();
+        paymentTimer.newTimeout(ignored -> paymentExecutor.execute(() -> delayed.complete(null)),
+                delayMillis, TimeUnit.MILLISECONDS);
+        return delayed;
+    }
+
+    private PaymentStatus callExternalPayment() {
+        try {
+            return externalPaymentService.processPayment();
+        } catch (Exception e) {
+            throw new PaymentException(e);
+        }
+    }
+
+    /*
+        응답 시간과 결과를 동시 호출 한도와 서킷 브레이커에 반영합니다.
+        서버 실패, 응답 시간 초과, 예외는 외부 결제 API 가 과부하 또는 장애 상태일 수 있으므로 실패로 기록합니다.
+     */
+    private void record(Permit permit, Call call, PaymentStatus status) {
+        if (status == null || status.isFailedByServer()) {
+            permit.onDropped();
+            call.onFailure();
+        } else {
+            permit.onSuccess();
+            call.onSuccess();
+        }
+    }
+
+    private static ExecutorService createExecutor(ExecutorMode executorMode, int poolSize) {
+        return switch (executorMode) {
+            case PLATFORM -> new ThreadPoolExecutor(
+                    poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(500),
+                    new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+            case VIRTUAL -> newVirtualThreadPerTaskExecutor();
+            // 블로킹 작업 없이 응답 이후의 짧은 작업만 실행하므로 CPU 수만큼의 스레드로 충분합니다.
+            case ASYNC -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        };
+    }
+
+    /*
+        빌드는 Java 17 로 하므로 Java 21 의 Executors.newVirtualThreadPerTaskExecutor() 를 리플렉션으로 호출합니다.
+        가상 스레드를 지원하지 않는 JVM 에서는 요청마다 플랫폼 스레드를 사용하며, 동시 호출 수는 동시 호출 한도로 똑같이 제한됩니다.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("가상 스레드를 지원하지 않는 JVM 입니다. 플랫폼 스레드를 사용합니다. - java.version: {}",
+                    System.getProperty("java.version"));
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public enum ExecutorMode {
+        PLATFORM, // 고정된 수의 플랫폼 스레드
+        VIRTUAL, // 요청마다 가상 스레드 (Java 21 이상)
+        ASYNC // 비동기 외부 결제 API, 응답과 재시도를 기다리는 동안 스레드를 점유하지 않음
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.wootecam.festivals.global.config;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaymentTimerConfig {
+
+    /**
+     * 결제 재시도 대기와 결제 요청 시간 초과를 예약하는 타이머
+     * <p>
+     * 하나의 스레드가 10ms 마다 바퀴를 돌며 만료된 작업만 실행하므로, 대기 중인 결제 수와 관계없이 스레드를 점유하지 않습니다.
+     * </p>
+     */
+    @Bean(destroyMethod = "stop")
+    public Timer paymentTimer() {
+        return new HashedWheelTimer(runnable -> {
+            Thread thread = new Thread(runnable, "payment-timer");
+            thread.setDaemon(true);
+            return thread;
+        }, 10, TimeUnit.MILLISECONDS, 512);
+    }
+}
@@ -0,0 +1,184 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wootecam.festivals.domain.payment.service.PaymentCircuitBreaker.Call;
+import com.wootecam.festivals.domain.payment.service.PaymentCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PaymentCircuitBreaker 테스트")
+class PaymentCircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MILLIS = 1000;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 최근 10회 중 최소 4회 호출, 실패율 50% 또는 2초 이상 걸린 호출 80% 이상이면 차단, 차단 이후 2회 호출 허용
+        circuitBreaker = new PaymentCircuitBreaker(meterRegistry, 10, 4, 50, 2000, 80, OPEN_DURATION_MILLIS, 2,
+                nanoTime::get);
+    }
+
+    private void call(long durationMillis, boolean failed) {
+        Call call = circuitBreaker.tryAcquirePermission().orElseThrow();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(durationMillis));
+        if (failed) {
+            call.onFailure();
+        } else {
+            call.onSuccess();
+        }
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(10, true);
+        }
+    }
+
+    private double transitions(State from, State to) {
+        return meterRegistry.get("payment.circuitbreaker.transitions")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 호출을 차단한다")
+    void testOpenWhenFailureRateExceeded() {
+        // given
+        call(10, false);
+        call(10, false);
+        call(10, true);
+
+        // when
+        call(10, true);
+
+        // then
+        assertEquals(State.OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission().isEmpty());
+        assertEquals(1, transitions(State.CLOSED, State.OPEN));
+        assertEquals(1, meterRegistry.get("payment.circuitbreaker.not.permitted").counter().count());
+        assertEquals(State.OPEN.ordinal(), meterRegistry.get("payment.circuitbreaker.state").gauge().value());
+    }
+
+    @Test
+    @DisplayName("최소 호출 수보다 적게 호출했다면 실패하더라도 차단하지 않는다")
+    void testNotOpenBeforeMinimumCalls() {
+        // when
+        call(10, true);
+        call(10, true);
+        call(10, true);
+
+        // then
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 기준 이상이면 호출을 차단한다")
+    void testOpenWhenSlowCallRateExceeded() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            call(3000, false);
+        }
+
+        // then
+        assertEquals(State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("오래된 호출 결과는 슬라이딩 윈도우에서 빠진다")
+    void testOldOutcomesEvicted() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            call(10, false);
+        }
+        call(10, true);
+
+        // when
+        for (int i = 0; i < 9; i++) {
+            call(10, false);
+        }
+        for (int i = 0; i < 4; i++) {
+            call(10, true);
+        }
+
+        // then
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Nested
+    @DisplayName("차단 시간이 지나면")
+    class Context_after_open_duration {
+
+        @BeforeEach
+        void setUp() {
+            open();
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_DURATION_MILLIS));
+        }
+
+        @Test
+        @DisplayName("정해진 수의 호출만 허용한다")
+        void testHalfOpenPermitsLimitedCalls() {
+            // when
+            boolean first = circuitBreaker.tryAcquirePermission().isPresent();
+            boolean second = circuitBreaker.tryAcquirePermission().isPresent();
+            boolean third = circuitBreaker.tryAcquirePermission().isPresent();
+
+            // then
+            assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+            assertTrue(first && second && !third);
+            assertEquals(1, transitions(State.OPEN, State.HALF_OPEN));
+        }
+
+        @Test
+        @DisplayName("허용한 호출이 성공하면 차단을 해제한다")
+        void testCloseWhenProbesSucceeded() {
+            // when
+            call(10, false);
+            call(10, false);
+
+            // then
+            assertEquals(State.CLOSED, circuitBreaker.getState());
+            assertEquals(1, transitions(State.HALF_OPEN, State.CLOSED));
+        }
+
+        @Test
+        @DisplayName("허용한 호출이 실패하면 다시 차단한다")
+        void testReopenWhenProbesFailed() {
+            // when
+            call(10, false);
+            call(10, true);
+
+            // then
+            assertEquals(State.OPEN, circuitBreaker.getState());
+            assertEquals(1, transitions(State.HALF_OPEN, State.OPEN));
+        }
+
+        @Test
+        @DisplayName("허용한 호출을 사용하지 않으면 다른 호출에 허용한다")
+        void testIgnoredProbeReturned() {
+            // given
+            circuitBreaker.tryAcquirePermission().orElseThrow();
+            Call ignored = circuitBreaker.tryAcquirePermission().orElseThrow();
+
+            // when
+            ignored.onIgnored();
+
+            // then
+            assertTrue(circuitBreaker.tryAcquirePermission().isPresent());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.wootecam.festivals.domain.payment.service.PaymentConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PaymentConcurrencyLimiter 테스트")
+class PaymentConcurrencyLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private PaymentConcurrencyLimiter createLimiter(int initialLimit, int minLimit, int maxLimit) {
+        return new PaymentConcurrencyLimiter(meterRegistry, initialLimit, minLimit, maxLimit, nanoTime::get);
+    }
+
+    // 허가를 받은 뒤 응답 시간만큼 시간을 흘려보내고 모두 반납하기를 반복합니다.
+    private void respond(PaymentConcurrencyLimiter limiter, int concurrency, long rttMillis, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            List<Permit> permits = IntStream.range(0, concurrency)
+                    .mapToObj(i -> limiter.acquire())
+                    .toList();
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+            permits.forEach(Permit::onSuccess);
+        }
+    }
+
+    private void drop(PaymentConcurrencyLimiter limiter) {
+        Permit permit = limiter.acquire();
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        permit.onDropped();
+    }
+
+    @Test
+    @DisplayName("한도에 도달하면 허가를 거절하고 거절 수를 기록한다")
+    void testTryAcquireRejectedWhenLimitReached() {
+        // given
+        PaymentConcurrencyLimiter limiter = createLimiter(2, 1, 10);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // when
+        Optional<Permit> permit = limiter.tryAcquire();
+
+        // then
+        assertTrue(permit.isEmpty());
+        assertEquals(2, meterRegistry.get("payment.limiter.inflight").gauge().value());
+        assertEquals(2, meterRegistry.get("payment.limiter.limit").gauge().value());
+        assertEquals(1, meterRegistry.get("payment.limiter.rejections").counter().count());
+    }
+
+    @Test
+    @DisplayName("허가는 여러 번 반납해도 한 번만 반납된다")
+    void testPermitReleasedOnce() {
+        // given
+        PaymentConcurrencyLimiter limiter = createLimiter(2, 1, 10);
+        Permit permit = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire();
+
+        // when
+        permit.onSuccess();
+        permit.onDropped();
+
+        // then
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 늘지 않으면 한도를 늘린다")
+    void testLimitIncreasesWithoutQueueing() {
+        // given
+        PaymentConcurrencyLimiter limiter = createLimiter(10, 1, 100);
+        respond(limiter, 1, 100, 1);
+
+        // when
+        respond(limiter, 10, 100, 5);
+
+        // then
+        assertTrue(limiter.getLimit() > 10, "한도: " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 늘어나면 한도를 줄인다")
+    void testLimitDecreasesWhenQueueing() {
+        // given
+        PaymentConcurrencyLimiter limiter = createLimiter(50, 1, 100);
+        respond(limiter, 1, 100, 1);
+
+        // when
+        respond(limiter, 50, 200, 3);
+
+        // then
+        assertTrue(limiter.getLimit() < 50, "한도: " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("응답 시간이 늘어나지 않더라도 한도의 절반도 사용하지 않으면 한도를 유지한다")
+    void testLimitUnchangedWhenUnderused() {
+        // given
+        PaymentConcurrencyLimiter limiter = createLimiter(50, 1, 100);
+        respond(limiter, 1, 100, 1);
+
+        // when
+        respond(limiter, 10, 100, 5);
+
+        // then
+        assertEquals(50, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("서버 실패가 발생하면 최소 한도까지 한도를 줄인다")
+    void testLimitDecreasesOnDrop() {
+        // given
+        PaymentConcurrencyLimiter limiter = createLimiter(10, 5, 100);
+
+        // when
+        drop(limiter);
+        int decreased = limiter.getLimit();
+        IntStream.range(0, 20).forEach(i -> drop(limiter));
+
+        // then
+        assertEquals(9, decreased);
+        assertEquals(5, limiter.getLimit());
+    }
+}
@@ -0,0 +1,84 @@
+package com.wootecam.festivals.domain.payment.service;
+
+import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.domain.payment.exception.PaymentRejectedException;
+import com.wootecam.festivals.domain.payment.service.PaymentService.ExecutorMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 결제 API 응답 시간별로 실행기 모드의 초당 결제 처리량을 측정하는 벤치마크
+ * <p>
+ * 테스트로 실행되지 않으므로 main 메소드로 직접 실행합니다. VIRTUAL 모드는 Java 21 이상에서 실행해야 가상 스레드를 사용합니다.
+ * ASYNC 모드의 외부 결제 API 는 스레드를 점유하지 않도록 타이머로 응답합니다.
+ * 실행기 모드만 비교하도록 모든 모드의 동시 호출 한도와 PLATFORM 스레드 수를 같은 값으로 고정하며, 한도에 도달해 거절된 결제는 잠시 뒤 다시 요청합니다.
+ * VIRTUAL, ASYNC 모드는 동시 호출 한도로만 제한되므로, 응답 시간이 같다면 초당 결제 처리량은 어느 모드든 동시 호출 한도 / 응답 시간을 넘지 않습니다.
+ * 실행 인자: [결제 수] [동시 호출 한도]
+ * </p>
+ */
+public class PaymentExecutorBenchmark {
+
+    private static final List<Long> LATENCIES_MILLIS = List.of(50L, 200L, 500L, 1000L);
+
+    public static void main(String[] args) throws Exception {
+        int payments = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        System.out.printf("java.version=%s, payments=%d, concurrency=%d%n", System.getProperty("java.version"),
+                payments, concurrency);
+        System.out.printf("%-12s %-10s %-16s %s%n", "latency(ms)", "mode", "limit", "payments/s");
+        for (long latencyMillis : LATENCIES_MILLIS) {
+            run(ExecutorMode.PLATFORM, concurrency, latencyMillis, payments);
+            run(ExecutorMode.VIRTUAL, concurrency, latencyMillis, payments);
+            run(ExecutorMode.ASYNC, concurrency, latencyMillis, payments);
+        }
+    }
+
+    private static void run(ExecutorMode mode, int limit, long latencyMillis, int payments)
+            throws Exception {
+        ExternalPaymentService externalPaymentService = () -> {
+            Thread.sleep(latencyMillis);
+            return PaymentStatus.SUCCESS;
+        };
+        Timer paymentTimer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+        AsyncExternalPaymentService asyncExternalPaymentService = () -> {
+            CompletableFuture<PaymentStatus> response = new CompletableFuture<>();
+            paymentTimer.newTimeout(timeout -> response.complete(PaymentStatus.SUCCESS), latencyMillis,
+                    TimeUnit.MILLISECONDS);
+            return response;
+        };
+        PaymentConcurrencyLimiter limiter = new PaymentConcurrencyLimiter(new SimpleMeterRegistry(), limit, limit,
+                limit);
+        PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(new SimpleMeterRegistry(), 100, 100, 50,
+                latencyMillis * 10, 100, 10000, 10);
+        PaymentService paymentService = new PaymentService(externalPaymentService, asyncExternalPaymentService,
+                paymentTimer, limiter, circuitBreaker, mode, limit, limit, latencyMillis * 10);
+
+        long start = System.nanoTime();
+        CompletableFuture<?>[] results = new CompletableFuture[payments];
+        for (int i = 0; i < payments; i++) {
+            results[i] = processPayment(paymentService, "payment-" + i);
+        }
+        CompletableFuture.allOf(results).get();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        paymentService.destroy();
+        paymentTimer.stop();
+
+        System.out.printf("%-12d %-10s %-16d %.1f%n", latencyMillis, mode, limit, payments / elapsedSeconds);
+    }
+
+    private static CompletableFuture<?> processPayment(PaymentService paymentService, String paymentId)
+            throws InterruptedException {
+        while (true) {
+            try {
+                return paymentService.processPayment(1, paymentId);
+            } catch (PaymentRejectedException e) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.wootecam.festivals.domain.payment.service;
 
+import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_GROUP;
 import static com.wootecam.festivals.domain.payment.constant.PaymentRedisStreamConstants.PAYMENT_REQUEST_STREAM_KEY;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,9 +17,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.payment.dto.PaymentRequest;
 import com.wootecam.festivals.domain.payment.dto.PaymentResult;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
-import com.wootecam.festivals.global.exception.GlobalErrorCode;
-import com.wootecam.festivals.global.exception.type.ApiException;
-import com.wootecam.festivals.global.utils.RedisStreamOperator;
+import com.wootecam.festivals.domain.payment.exception.PaymentRejectedException;
+import com.wootecam.festivals.global.utils.RedisStreamRecoveryEngine;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,8 +29,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 
 @DisplayName("PaymentRequestConsumer 테스트")
 class PaymentRequestConsumerTest {
@@ -33,7 +46,10 @@ class PaymentRequestConsumerTest {
     private StringRedisTemplate redisTemplate;
 
     @Mock
-    private RedisStreamOperator redisStreamOperator;
+    private StreamConsumerEngine streamConsumerEngine;
+
+    @Mock
+    private RedisStreamRecoveryEngine redisStreamRecoveryEngine;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -44,6 +60,9 @@ class PaymentRequestConsumerTest {
     @Mock
     private PaymentResultEventProducer paymentResultEventProducer;
 
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
     @InjectMocks
     private PaymentRequestConsumer paymentRequestConsumer;
 
@@ -54,6 +73,23 @@ class PaymentRequestConsumerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        when(streamConsumerEngine.getConsumerName()).thenReturn("consumer");
+    }
+
+    private ObjectRecord<String, String> createMessage(String recordId, String paymentId) throws JsonProcessingException {
+        String value = "{\"paymentId\":\"" + paymentId + "\"}";
+        when(objectMapper.readValue(value, PaymentRequest.class))
+                .thenReturn(new PaymentRequest(paymentId, memberId, ticketId, ticketStockId));
+        return ObjectRecord.create(PAYMENT_REQUEST_STREAM_KEY, value).withId(RecordId.of(recordId));
+    }
+
+    private PendingMessages createPendingMessages(String... recordIds) {
+        List<PendingMessage> pendingMessages = List.of(recordIds).stream()
+                .map(recordId -> new PendingMessage(RecordId.of(recordId),
+                        Consumer.from(PAYMENT_REQUEST_STREAM_GROUP, "consumer"), Duration.ZERO, 1))
+                .toList();
+        return new PendingMessages(PAYMENT_REQUEST_STREAM_GROUP, pendingMessages);
     }
 
     @Test
@@ -76,29 +112,180 @@ class PaymentRequestConsumerTest {
     }
 
     @Test
-    @DisplayName("JSON 변환 예외 발생 시 예외 처리 테스트")
+    @DisplayName("JSON 변환 예외가 발생하면 메시지를 DLQ 로 옮긴다")
     void testOnMessageJsonProcessingException() throws JsonProcessingException {
         // given
-        ObjectRecord<String, String> message = ObjectRecord.create(PAYMENT_REQUEST_STREAM_KEY, "invalid json");
+        ObjectRecord<String, String> message = ObjectRecord.create(PAYMENT_REQUEST_STREAM_KEY, "invalid json")
+                .withId(RecordId.of("1-0"));
         when(objectMapper.readValue(message.getValue(), PaymentRequest.class)).thenThrow(new JsonProcessingException("Test serialization error") {});
 
-        // when & then
-        ApiException exception = assertThrows(ApiException.class, () -> paymentRequestConsumer.onMessage(message));
-        assertEquals(GlobalErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode(), "JSON 직렬화 오류가 발생해야 합니다.");
+        // when
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(message));
+
+        // then
+        verify(redisStreamRecoveryEngine).deadLetter(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP,
+                message.getId());
     }
 
     @Test
-    @DisplayName("결제 처리 실패 시 예외 처리 테스트")
+    @DisplayName("결제 처리 중 예외가 발생하면 메시지를 DLQ 로 옮긴다")
     void testOnMessagePaymentProcessingFailure() throws JsonProcessingException {
         // given
-        String paymentId = "test-payment-id";
-        PaymentRequest paymentRequest = new PaymentRequest(paymentId, memberId, ticketId, ticketStockId);
-        ObjectRecord<String, String> message = ObjectRecord.create(PAYMENT_REQUEST_STREAM_KEY, "{\"paymentId\":\"test-payment-id\"}");
+        ObjectRecord<String, String> message = createMessage("1-0", "payment-1");
+        when(paymentService.processPayment(0, "payment-1")).thenThrow(new RuntimeException("Payment failed"));
 
-        when(objectMapper.readValue(message.getValue(), PaymentRequest.class)).thenReturn(paymentRequest);
-        when(paymentService.processPayment(0, paymentId)).thenThrow(new RuntimeException("Payment failed"));
+        // when
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(message));
+
+        // then
+        verify(redisStreamRecoveryEngine).deadLetter(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP,
+                message.getId());
+    }
+
+    @Test
+    @DisplayName("결제가 예외로 끝나면 결과를 발행하지 않고 메시지를 DLQ 로 옮긴다")
+    void testOnMessagePaymentCompletedExceptionally() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> message = createMessage("1-0", "payment-1");
+        when(paymentService.processPayment(0, "payment-1"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Payment failed")));
+
+        // when
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(message));
+
+        // then
+        verify(paymentResultEventProducer, never()).sendPaymentResultEvent(any());
+        verify(streamOperations, never()).acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP,
+                message.getId());
+        verify(redisStreamRecoveryEngine).deadLetter(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP,
+                message.getId());
+    }
+
+    @Test
+    @DisplayName("DLQ 로도 옮기지 못한 메시지는 Pending 목록에 남겨 두고 다시 처리한다")
+    void testOnMessageDeferredWhenDeadLetterFailed() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> failed = createMessage("1-0", "payment-1");
+        ObjectRecord<String, String> next = createMessage("2-0", "payment-2");
+        when(paymentService.processPayment(0, "payment-1"))
+                .thenThrow(new RuntimeException("Payment failed"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+        when(paymentService.processPayment(0, "payment-2"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+        doThrow(new RuntimeException("Redis unavailable")).when(redisStreamRecoveryEngine)
+                .deadLetter(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, failed.getId());
+
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(failed));
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(next));
+        verify(paymentService, never()).processPayment(0, "payment-2");
+
+        when(streamOperations.pending(eq(PAYMENT_REQUEST_STREAM_KEY), any(Consumer.class), any(Range.class), anyLong()))
+                .thenReturn(createPendingMessages("1-0", "2-0"))
+                .thenReturn(createPendingMessages());
+        when(streamOperations.range(eq(String.class), eq(PAYMENT_REQUEST_STREAM_KEY), any()))
+                .thenReturn(List.of(failed, next));
+
+        // when
+        paymentRequestConsumer.retryDeferredMessages();
+
+        // then
+        verify(paymentService, times(2)).processPayment(0, "payment-1");
+        verify(paymentService, times(1)).processPayment(0, "payment-2");
+        verify(streamOperations).acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, failed.getId());
+        verify(streamOperations).acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, next.getId());
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도에 도달하면 메시지를 확인하지 않고 이후 메시지도 Pending 목록에 남겨 둔다")
+    void testOnMessageDeferredWhenRejected() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> rejected = createMessage("1-0", "payment-1");
+        ObjectRecord<String, String> next = createMessage("2-0", "payment-2");
+        when(paymentService.processPayment(0, "payment-1")).thenThrow(new PaymentRejectedException("payment-1"));
+
+        // when
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(rejected));
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(next));
+
+        // then
+        verify(paymentService, never()).processPayment(0, "payment-2");
+        verify(streamOperations, never())
+                .acknowledge(eq(PAYMENT_REQUEST_STREAM_KEY), eq(PAYMENT_REQUEST_STREAM_GROUP), any(RecordId.class));
+    }
+
+    @Test
+    @DisplayName("한도에 여유가 생기면 Pending 목록에 남겨 둔 메시지를 차례대로 다시 처리한다")
+    void testRetryDeferredMessages() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> rejected = createMessage("1-0", "payment-1");
+        ObjectRecord<String, String> next = createMessage("2-0", "payment-2");
+        when(paymentService.processPayment(0, "payment-1"))
+                .thenThrow(new PaymentRejectedException("payment-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+        when(paymentService.processPayment(0, "payment-2"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+        paymentRequestConsumer.onMessage(rejected);
+        paymentRequestConsumer.onMessage(next);
+
+        when(streamOperations.pending(eq(PAYMENT_REQUEST_STREAM_KEY), any(Consumer.class), any(Range.class), anyLong()))
+                .thenReturn(createPendingMessages("1-0", "2-0"))
+                .thenReturn(createPendingMessages());
+        when(streamOperations.range(eq(String.class), eq(PAYMENT_REQUEST_STREAM_KEY), any()))
+                .thenReturn(List.of(rejected, next));
+
+        // when
+        paymentRequestConsumer.retryDeferredMessages();
 
-        // when & then
-        assertThrows(RuntimeException.class, () -> paymentRequestConsumer.onMessage(message));
+        // then
+        verify(paymentService, times(2)).processPayment(0, "payment-1");
+        verify(paymentService, times(1)).processPayment(0, "payment-2");
+        verify(streamOperations).acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, rejected.getId());
+        verify(streamOperations).acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP, next.getId());
+    }
+
+    @Test
+    @DisplayName("Pending 목록에 남겨 둔 메시지를 모두 처리하면 새 메시지를 바로 처리한다")
+    void testOnMessageAfterDeferredMessagesRetried() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> rejected = createMessage("1-0", "payment-1");
+        ObjectRecord<String, String> next = createMessage("2-0", "payment-2");
+        when(paymentService.processPayment(0, "payment-1"))
+                .thenThrow(new PaymentRejectedException("payment-1"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+        when(paymentService.processPayment(0, "payment-2"))
+                .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+        paymentRequestConsumer.onMessage(rejected);
+
+        when(streamOperations.pending(eq(PAYMENT_REQUEST_STREAM_KEY), any(Consumer.class), any(Range.class), anyLong()))
+                .thenReturn(createPendingMessages("1-0"))
+                .thenReturn(createPendingMessages("1-0"));
+        when(streamOperations.range(eq(String.class), eq(PAYMENT_REQUEST_STREAM_KEY), any()))
+                .thenReturn(List.of(rejected));
+        paymentRequestConsumer.retryDeferredMessages();
+
+        // when
+        paymentRequestConsumer.onMessage(next);
+
+        // then
+        verify(paymentService, times(1)).processPayment(0, "payment-2");
+    }
+
+    @Test
+    @DisplayName("다른 메시지로 이미 처리한 결제 요청이라면 결제하지 않고 메시지를 확인한다")
+    @SuppressWarnings("unchecked")
+    void testOnMessageDuplicatedPaymentRequest() throws JsonProcessingException {
+        // given
+        ObjectRecord<String, String> duplicated = createMessage("2-0", "payment-1");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("payment-requests:payment-1:message")),
+                eq("2-0"), any()))
+                .thenReturn(0L);
+
+        // when
+        assertDoesNotThrow(() -> paymentRequestConsumer.onMessage(duplicated));
+
+        // then
+        verify(paymentService, never()).processPayment(0, "payment-1");
+        verify(streamOperations).acknowledge(PAYMENT_REQUEST_STREAM_KEY, PAYMENT_REQUEST_STREAM_GROUP,
+                duplicated.getId());
     }
 }
@@ -6,19 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.payment.dto.PaymentResult;
+import com.wootecam.festivals.domain.payment.dto.PaymentResultCodec;
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
+import com.wootecam.festivals.global.event.RedisStreamEventBus;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.utils.StreamConsumerEngine;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,9 +35,6 @@ class PaymentResultEventProducerTest {
     @Autowired
     private PaymentResultEventProducer paymentResultEventProducer;
 
-    @Autowired
-    private ObjectMapper objectMapper;
-
     @Autowired
     private StringRedisTemplate redisTemplate;
 
@@ -64,28 +59,9 @@ class PaymentResultEventProducerTest {
         assertFalse(records.isEmpty(), "Redis 스트림에 저장된 데이터가 있어야 합니다.");
 
         Map<Object, Object> messageMap = records.get(0).getValue();
-        boolean containsPaymentId = messageMap.values().stream()
-                .anyMatch(value -> value.toString().contains("testPaymentId"));
-        assertTrue(containsPaymentId, "저장된 메시지에 paymentId가 포함되어 있어야 합니다.");
-    }
-
-    @Test
-    @DisplayName("JSON 직렬화 실패 시 ApiException 발생 테스트")
-    void testSendPaymentResultEventJsonProcessingException() throws JsonProcessingException {
-        // given
-        PaymentResult paymentResult = new PaymentResult(null, PaymentStatus.SUCCESS);
-
-        ObjectMapper spyObjectMapper = spy(objectMapper);
-        doThrow(new JsonProcessingException("Test serialization error") {
-        }).when(spyObjectMapper).writeValueAsString(paymentResult);
-
-        PaymentResultEventProducer paymentResultEventProducerSpy = new PaymentResultEventProducer(redisTemplate, spyObjectMapper);
-
-        // when & then
-        ApiException exception = assertThrows(ApiException.class,
-                () -> paymentResultEventProducerSpy.sendPaymentResultEvent(paymentResult),
-                "JSON 직렬화 오류 발생 시 ApiException이 발생해야 합니다.");
-        assertEquals(GlobalErrorCode.INTERNAL_SERVER_ERROR, exception.getErrorCode(), "에러 코드가 INTERNAL_SERVER_ERROR여야 합니다.");
+        String payload = messageMap.values().iterator().next().toString();
+        assertEquals(paymentResult, PaymentResultCodec.INSTANCE.decode(payload),
+                "저장된 메시지를 읽으면 발행한 결제 결과와 같아야 합니다.");
     }
 
     @Test
@@ -95,13 +71,13 @@ class PaymentResultEventProducerTest {
         PaymentResult paymentResult = new PaymentResult("testPaymentId", PaymentStatus.SUCCESS);
 
         StringRedisTemplate mockRedisTemplate = mock(StringRedisTemplate.class);
-        ObjectMapper realObjectMapper = objectMapper;
 
         var mockStreamOps = mock(org.springframework.data.redis.core.StreamOperations.class);
         when(mockRedisTemplate.opsForStream()).thenReturn(mockStreamOps);
         when(mockStreamOps.add(any())).thenReturn(null);
 
-        PaymentResultEventProducer paymentResultEventProducerSpy = new PaymentResultEventProducer(mockRedisTemplate, realObjectMapper);
+        PaymentResultEventProducer paymentResultEventProducerSpy = new PaymentResultEventProducer(
+                new RedisStreamEventBus(mockRedisTemplate, mock(StreamConsumerEngine.class)));
 
         // when & then
         ApiException exception = assertThrows(ApiException.class,
@@ -1,20 +1,32 @@
 package com.wootecam.festivals.domain.payment.service;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.wootecam.festivals.domain.payment.entity.PaymentStatus;
 import com.wootecam.festivals.domain.payment.exception.PaymentException;
+import com.wootecam.festivals.domain.payment.exception.PaymentRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -24,12 +36,36 @@ class PaymentServiceTest {
     @Mock
     private ExternalPaymentService externalPaymentService;
 
-    @InjectMocks
+    @Mock
+    private AsyncExternalPaymentService asyncExternalPaymentService;
+
+    private final Timer paymentTimer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
+
     private PaymentService paymentService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        paymentService = createPaymentService(PaymentService.ExecutorMode.PLATFORM, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentService.destroy();
+        paymentTimer.stop();
+    }
+
+    private PaymentService createPaymentService(PaymentService.ExecutorMode executorMode, int limit) {
+        return new PaymentService(externalPaymentService, asyncExternalPaymentService, paymentTimer,
+                createLimiter(limit), createCircuitBreaker(100), executorMode, 10, 100, 100);
+    }
+
+    private PaymentConcurrencyLimiter createLimiter(int limit) {
+        return new PaymentConcurrencyLimiter(new SimpleMeterRegistry(), limit, 1, limit);
+    }
+
+    private PaymentCircuitBreaker createCircuitBreaker(int minimumCalls) {
+        return new PaymentCircuitBreaker(new SimpleMeterRegistry(), 100, minimumCalls, 50, 2000, 80, 10000, 1);
     }
 
     @Test
@@ -109,4 +145,192 @@ class PaymentServiceTest {
         assertTrue(exception.getCause() instanceof PaymentException);
         verify(externalPaymentService, times(1)).processPayment();
     }
+
+    @Test
+    @DisplayName("동시 호출 한도에 도달하면 결제를 받아들이지 않는다")
+    void testProcessPaymentRejectedWhenLimitReached() throws Exception {
+        // given
+        CountDownLatch response = new CountDownLatch(1);
+        ExternalPaymentService slowPaymentService = () -> {
+            response.await();
+            return PaymentStatus.SUCCESS;
+        };
+        PaymentService virtualPaymentService = new PaymentService(slowPaymentService, asyncExternalPaymentService,
+                paymentTimer, createLimiter(3), createCircuitBreaker(100), PaymentService.ExecutorMode.VIRTUAL, 10, 100,
+                100);
+        List<CompletableFuture<PaymentStatus>> results = IntStream.range(0, 3)
+                .mapToObj(i -> virtualPaymentService.processPayment(1, "payment-" + i))
+                .toList();
+
+        // when & then
+        assertThrows(PaymentRejectedException.class, () -> virtualPaymentService.processPayment(1, "payment-3"));
+
+        response.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertTrue(results.stream().allMatch(result -> result.join() == PaymentStatus.SUCCESS));
+        assertEquals(PaymentStatus.SUCCESS,
+                virtualPaymentService.processPayment(1, "payment-3").get(5, TimeUnit.SECONDS));
+        virtualPaymentService.destroy();
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드는 PLATFORM 모드의 스레드 수와 관계없이 동시 호출 한도만큼 외부 결제 API 를 호출한다")
+    void testVirtualModeBoundedByConcurrencyLimiter() throws Exception {
+        // given
+        CountDownLatch response = new CountDownLatch(1);
+        AtomicInteger calling = new AtomicInteger();
+        AtomicInteger maxCalling = new AtomicInteger();
+        ExternalPaymentService slowPaymentService = () -> {
+            maxCalling.accumulateAndGet(calling.incrementAndGet(), Math::max);
+            response.await();
+            calling.decrementAndGet();
+            return PaymentStatus.SUCCESS;
+        };
+        PaymentService virtualPaymentService = new PaymentService(slowPaymentService, asyncExternalPaymentService,
+                paymentTimer, createLimiter(5), createCircuitBreaker(100), PaymentService.ExecutorMode.VIRTUAL, 2, 100,
+                100);
+
+        // when
+        List<CompletableFuture<PaymentStatus>> results = IntStream.range(0, 5)
+                .mapToObj(i -> virtualPaymentService.processPayment(1, "payment-" + i))
+                .toList();
+
+        // then: 스레드 수(2)보다 많은 한도(5)만큼 동시에 호출하고, 한도를 넘는 결제는 받아들이지 않는다
+        await().atMost(5, TimeUnit.SECONDS).until(() -> calling.get() == 5);
+        assertThrows(PaymentRejectedException.class, () -> virtualPaymentService.processPayment(1, "payment-5"));
+        response.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertEquals(5, maxCalling.get());
+        virtualPaymentService.destroy();
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커가 호출을 차단하면 외부 결제 API 를 호출하지 않고 서버 실패로 처리한다")
+    void testProcessPaymentFailFastWhenCircuitOpen() throws Exception {
+        // given
+        PaymentService circuitPaymentService = new PaymentService(externalPaymentService,
+                asyncExternalPaymentService, paymentTimer, createLimiter(10), createCircuitBreaker(1),
+                PaymentService.ExecutorMode.PLATFORM, 10, 100, 100);
+        when(externalPaymentService.processPayment()).thenReturn(PaymentStatus.FAILED_SERVER);
+
+        // when
+        PaymentStatus first = circuitPaymentService.processPayment(1, "payment-1").get(5, TimeUnit.SECONDS);
+        PaymentStatus second = circuitPaymentService.processPayment(1, "payment-2").get(5, TimeUnit.SECONDS);
+        circuitPaymentService.destroy();
+
+        // then
+        assertEquals(PaymentStatus.FAILED_SERVER, first);
+        assertEquals(PaymentStatus.FAILED_SERVER, second);
+        verify(externalPaymentService, times(1)).processPayment(); // 첫 호출 실패로 차단되어 재시도하지 않음
+    }
+
+    @Test
+    @DisplayName("재시도 중인 결제 수가 최대에 도달하면 재시도하지 않고 서버 실패로 처리한다")
+    void testProcessPaymentNotRetriedWhenBulkheadFull() throws Exception {
+        // given
+        PaymentService bulkheadPaymentService = new PaymentService(externalPaymentService,
+                asyncExternalPaymentService, paymentTimer, createLimiter(10), createCircuitBreaker(100),
+                PaymentService.ExecutorMode.PLATFORM, 10, 1, 100);
+        when(externalPaymentService.processPayment())
+                .thenReturn(PaymentStatus.FAILED_SERVER)
+                .thenReturn(PaymentStatus.FAILED_SERVER)
+                .thenReturn(PaymentStatus.SUCCESS);
+
+        CompletableFuture<PaymentStatus> retrying = bulkheadPaymentService.processPayment(1, "payment-1");
+        verify(externalPaymentService, timeout(1000).times(1)).processPayment();
+        Thread.sleep(100); // 첫 결제가 재시도를 기다리기 시작할 때까지 대기
+
+        // when
+        PaymentStatus notRetried = bulkheadPaymentService.processPayment(1, "payment-2").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(PaymentStatus.FAILED_SERVER, notRetried);
+        assertEquals(PaymentStatus.SUCCESS, retrying.get(5, TimeUnit.SECONDS));
+        verify(externalPaymentService, times(3)).processPayment();
+        bulkheadPaymentService.destroy();
+    }
+
+    @Nested
+    @DisplayName("ASYNC 모드에서")
+    class Context_async_mode {
+
+        private PaymentService asyncPaymentService;
+
+        @BeforeEach
+        void setUp() {
+            asyncPaymentService = createPaymentService(PaymentService.ExecutorMode.ASYNC, 5000);
+        }
+
+        @AfterEach
+        void tearDown() {
+            asyncPaymentService.destroy();
+        }
+
+        private CompletableFuture<PaymentStatus> respondAfter(long delayMillis, PaymentStatus status) {
+            CompletableFuture<PaymentStatus> response = new CompletableFuture<>();
+            paymentTimer.newTimeout(timeout -> response.complete(status), delayMillis, TimeUnit.MILLISECONDS);
+            return response;
+        }
+
+        @Test
+        @DisplayName("서버 오류로 실패하면 타이머로 재시도해 성공한다")
+        void testProcessPaymentRetrySuccess() throws Exception {
+            // given
+            when(asyncExternalPaymentService.processPayment())
+                    .thenReturn(CompletableFuture.completedFuture(PaymentStatus.FAILED_SERVER))
+                    .thenReturn(CompletableFuture.completedFuture(PaymentStatus.SUCCESS));
+
+            // when
+            CompletableFuture<PaymentStatus> result = asyncPaymentService.processPayment(1, "test-payment-id");
+
+            // then
+            assertEquals(PaymentStatus.SUCCESS, result.get(5, TimeUnit.SECONDS));
+            verify(asyncExternalPaymentService, times(2)).processPayment();
+        }
+
+        @Test
+        @DisplayName("응답 시간이 초과되면 서버 오류로 처리한다")
+        void testProcessPaymentTimeout() throws Exception {
+            // given
+            when(asyncExternalPaymentService.processPayment()).thenReturn(new CompletableFuture<>());
+
+            // when
+            CompletableFuture<PaymentStatus> result = asyncPaymentService.processPayment(3, "test-payment-id");
+
+            // then
+            assertEquals(PaymentStatus.FAILED_SERVER, result.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("외부 서비스 예외 발생 시 PaymentException 발생")
+        void testProcessPaymentThrowsException() {
+            // given
+            when(asyncExternalPaymentService.processPayment())
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Network Error")));
+
+            // when
+            CompletableFuture<PaymentStatus> result = asyncPaymentService.processPayment(1, "test-payment-id");
+
+            // then
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof PaymentException);
+        }
+
+        @Test
+        @DisplayName("수천 건의 결제를 동시에 처리한다")
+        void testProcessPaymentManyInFlight() throws Exception {
+            // given
+            when(asyncExternalPaymentService.processPayment())
+                    .thenAnswer(invocation -> respondAfter(50, PaymentStatus.SUCCESS));
+
+            // when
+            List<CompletableFuture<PaymentStatus>> results = IntStream.range(0, 3000)
+                    .mapToObj(i -> asyncPaymentService.processPayment(1, "payment-" + i))
+                    .toList();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertTrue(results.stream().allMatch(result -> result.join() == PaymentStatus.SUCCESS));
+        }
+    }
 }
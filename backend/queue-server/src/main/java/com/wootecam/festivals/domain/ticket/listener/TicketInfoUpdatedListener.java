@@ -0,0 +1,34 @@
+package com.wootecam.festivals.domain.ticket.listener;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.service.TicketInfoCacheService;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티켓 정보 변경 메시지를 받아 로컬 티켓 정보 캐시와 보관 중인 재고 하위 카운터 수를 무효화하는 리스너
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketInfoUpdatedListener implements MessageListener {
+
+    private final TicketInfoCacheService ticketInfoCacheService;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long ticketId = Long.parseLong(body);
+            ticketInfoCacheService.invalidateTicketInfo(ticketId);
+            ticketStockCountRedisRepository.evictStripeCount(ticketId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 티켓 정보 변경 메시지입니다. - {}", body);
+        }
+    }
+}
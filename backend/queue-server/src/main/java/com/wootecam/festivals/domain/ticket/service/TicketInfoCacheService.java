@@ -0,0 +1,52 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
+import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 조회마다 Redis 에서 티켓 정보를 읽지 않도록, 파싱된 티켓 정보를 로컬에 캐싱하는 서비스
+ * <p>
+ * 티켓 정보가 변경되면 schedule-server 가 Redis 채널로 티켓 ID 를 발행하고, TicketInfoUpdatedListener 가 해당 캐시를 무효화합니다. 메시지가 유실되는 경우를 대비하여
+ * 일정 시간이 지나면 캐시가 만료됩니다.
+ */
+@Service
+@Slf4j
+public class TicketInfoCacheService {
+
+    private static final int CACHE_MAX_SIZE = 1000;
+
+    private final Cache<Long, TicketInfo> ticketInfoCache;
+    private final TicketInfoRedisRepository ticketInfoRedisRepository;
+
+    public TicketInfoCacheService(TicketInfoRedisRepository ticketInfoRedisRepository) {
+        this.ticketInfoCache = Caffeine.newBuilder()
+                .maximumSize(CACHE_MAX_SIZE) // 캐시의 최대 크기
+                .expireAfterWrite(10, TimeUnit.MINUTES) // 무효화 메시지 유실에 대비하여 캐시에 쓰여진 후 10분 뒤 만료
+                .recordStats() // 통계 기록
+                .build();
+        this.ticketInfoRedisRepository = ticketInfoRedisRepository;
+    }
+
+    /*
+        티켓 정보를 반환하는 메소드
+        Redis 에도 존재하지 않는 티켓이라면 캐싱하지 않고 null 반환
+     */
+    public TicketInfo getTicketInfo(Long ticketId) {
+        return ticketInfoCache.get(ticketId, ticketInfoRedisRepository::getTicketInfo);
+    }
+
+    public void invalidateTicketInfo(Long ticketId) {
+        ticketInfoCache.invalidate(ticketId);
+        log.debug("티켓 정보 캐시 무효화 - ticketId: {}", ticketId);
+    }
+
+    public CacheStats getCacheStats() {
+        return ticketInfoCache.stats();
+    }
+}
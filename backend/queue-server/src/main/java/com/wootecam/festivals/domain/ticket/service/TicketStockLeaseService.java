@@ -0,0 +1,204 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 통과마다 Redis 재고 수량을 차감하지 않도록, 재고를 블록 단위로 임대하여 인스턴스 메모리에서 나누어 주는 서비스
+ * <p>
+ * 임대한 재고는 Redis 의 임대 현황에 기록되어 재고 수량 조회에 포함되므로, 다른 인스턴스가 임대 중인 재고 때문에 재고 소진으로 판단하지 않습니다. 임대한 재고를 모두
+ * 나누어 주면 바로 다음 블록을 임대하며, 임대 후 timeout-millis 가 지나도록 남은 재고와 인스턴스 종료 시 남은 재고는 Redis 로 반환합니다. 비활성화되어 있다면
+ * 대기열 통과마다 Redis 재고 수량에서 차감합니다.
+ * <p>
+ * 인스턴스가 반환하지 못하고 종료되더라도 재고가 묶이지 않도록, 임대는 timeout-millis 의 두 배가 지나면 Redis 에서 만료되어 다른 인스턴스가 재고를 임대할 때
+ * 회수합니다. 만료된 임대를 회수한 뒤에 나누어 주지 않도록, timeout-millis 가 지난 임대는 나누어 주기 전에 반환합니다.
+ * <p>
+ * 회수하는 쪽은 이미 나누어 준 재고를 다시 채우지 않도록 Redis 에 기록된 남은 재고 수량만 회수하므로, record-interval-millis 마다 남은 재고 수량을 기록합니다.
+ * 인스턴스가 종료되면 마지막 기록 이후 나누어 준 재고만큼만 대기열 통과 인원이 늘어날 수 있습니다.
+ */
+@Slf4j
+@Service
+public class TicketStockLeaseService implements DisposableBean {
+
+    // 임대가 Redis 에서 만료되기까지의 시간은 timeout-millis 의 배수로, 반환 주기가 늦어지더라도 사용 중인 임대를 회수하지 않도록 여유를 둡니다.
+    private static final long LEASE_TTL_MULTIPLIER = 2;
+
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final Map<Long, TicketStockLease> leases = new ConcurrentHashMap<>();
+    private final String instanceId = "queue-" + UUID.randomUUID();
+
+    private final boolean enabled;
+    private final long blockSize;
+    private final long timeoutMillis;
+
+    public TicketStockLeaseService(TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                                   @Value("${ticket.stock.lease.enabled:false}") boolean enabled,
+                                   @Value("${ticket.stock.lease.block-size:50}") long blockSize,
+                                   @Value("${ticket.stock.lease.timeout-millis:10000}") long timeoutMillis) {
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.enabled = enabled;
+        this.blockSize = blockSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 재고 하나를 차감합니다. 임대한 재고가 남아 있다면 Redis 요청 없이 차감하고, 없다면 새로 임대한 재고에서 차감합니다.
+     *
+     * @param ticketId
+     * @param memberId 하위 카운터를 사용하는 티켓에서 임대하지 않는 경우 차감할 하위 카운터를 고르는 데 사용
+     * @return 재고를 차감했는지 여부
+     */
+    public boolean tryAcquire(Long ticketId, Long memberId) {
+        if (!enabled) {
+            return ticketStockCountRedisRepository.checkAndDecreaseStock(ticketId, memberId);
+        }
+
+        TicketStockLease lease = leases.computeIfAbsent(ticketId, id -> new TicketStockLease());
+        if (lease.isExpired(System.currentTimeMillis(), timeoutMillis)) {
+            returnLease(ticketId, lease);
+        }
+        while (true) {
+            if (lease.tryAcquire()) {
+                // 마지막 재고를 나누어 주었다면 다음 블록을 미리 임대하여 임대 현황을 최신으로 유지합니다.
+                if (lease.remaining() == 0) {
+                    renew(ticketId, lease);
+                }
+                return true;
+            }
+            if (!renew(ticketId, lease)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 임대 후 timeout-millis 가 지나도록 남은 재고를 Redis 로 반환합니다.
+     */
+    @Scheduled(fixedDelayString = "${ticket.stock.lease.timeout-millis:10000}")
+    public void returnExpiredLeases() {
+        long now = System.currentTimeMillis();
+        leases.forEach((ticketId, lease) -> {
+            if (lease.isExpired(now, timeoutMillis)) {
+                returnLease(ticketId, lease);
+            }
+        });
+    }
+
+    /**
+     * 임대한 재고 중 아직 나누어 주지 않은 재고 수량을 Redis 의 임대 현황에 기록합니다. 이미 회수된 임대라면 더 이상 나누어 주지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${ticket.stock.lease.record-interval-millis:1000}")
+    public void recordLeases() {
+        leases.forEach(this::recordLease);
+    }
+
+    @Override
+    public void destroy() {
+        leases.forEach((ticketId, lease) -> {
+            try {
+                returnLease(ticketId, lease);
+            } catch (Exception e) {
+                log.warn("임대한 재고 반환 실패 - ticketId: {}, instanceId: {}", ticketId, instanceId, e);
+            }
+        });
+    }
+
+    private boolean renew(Long ticketId, TicketStockLease lease) {
+        synchronized (lease) {
+            if (lease.remaining() > 0) {
+                return true;
+            }
+            long leased = ticketStockCountRedisRepository.leaseTicketStock(ticketId, instanceId, blockSize,
+                    timeoutMillis * LEASE_TTL_MULTIPLIER);
+            lease.renew(leased, System.currentTimeMillis());
+            log.debug("재고 임대 - ticketId: {}, 임대한 재고: {}", ticketId, leased);
+            return leased > 0;
+        }
+    }
+
+    private void recordLease(Long ticketId, TicketStockLease lease) {
+        synchronized (lease) {
+            long remaining = lease.remaining();
+            if (remaining <= 0 || remaining == lease.recorded()) {
+                return;
+            }
+            if (ticketStockCountRedisRepository.recordLeasedTicketStock(ticketId, instanceId, remaining)) {
+                lease.record(remaining);
+                return;
+            }
+            long drained = lease.drain();
+            log.warn("만료되어 회수된 임대입니다. ticketId: {}, instanceId: {}, 남은 재고: {}", ticketId, instanceId, drained);
+        }
+    }
+
+    private void returnLease(Long ticketId, TicketStockLease lease) {
+        synchronized (lease) {
+            long remaining = lease.drain();
+            if (remaining <= 0) {
+                return;
+            }
+            if (ticketStockCountRedisRepository.returnTicketStock(ticketId, instanceId, remaining)) {
+                log.debug("임대한 재고 반환 - ticketId: {}, 반환한 재고: {}", ticketId, remaining);
+                return;
+            }
+            log.warn("만료되어 회수된 임대입니다. ticketId: {}, instanceId: {}, 남은 재고: {}", ticketId, instanceId, remaining);
+        }
+    }
+
+    /*
+        인스턴스가 임대한 티켓 재고
+        차감은 잠금 없이 CAS 로 처리하고, 임대와 반환은 티켓별로 동기화합니다.
+     */
+    private static class TicketStockLease {
+
+        private final AtomicLong remaining = new AtomicLong();
+        private volatile long leasedAt;
+        // Redis 의 임대 현황에 마지막으로 기록한 남은 재고 수량
+        private volatile long recorded;
+
+        boolean tryAcquire() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        long remaining() {
+            return remaining.get();
+        }
+
+        void renew(long leased, long now) {
+            recorded = remaining.addAndGet(leased);
+            leasedAt = now;
+        }
+
+        long recorded() {
+            return recorded;
+        }
+
+        void record(long remaining) {
+            recorded = remaining;
+        }
+
+        long drain() {
+            recorded = 0;
+            return remaining.getAndSet(0);
+        }
+
+        boolean isExpired(long now, long timeoutMillis) {
+            return remaining.get() > 0 && now - leasedAt >= timeoutMillis;
+        }
+    }
+}
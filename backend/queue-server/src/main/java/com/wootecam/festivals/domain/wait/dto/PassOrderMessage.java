@@ -0,0 +1,15 @@
+package com.wootecam.festivals.domain.wait.dto;
+
+/**
+ * 대기열 입장 순서 갱신 시 구독자에게 전송되는 메시지
+ * <p>
+ * 클라이언트는 자신의 대기 순서(absoluteWaitOrder)와 passOrder, passChunkSize 로 입장 가능 여부와 상대 대기 순서를 직접 계산하고, 입장 가능할 때에만 REST API 를
+ * 호출합니다.
+ *
+ * @param ticketId      티켓 id
+ * @param passOrder     현재 입장 순서
+ * @param passChunkSize 한 번에 입장 가능한 범위
+ * @param lastWaitOrder 마지막으로 발급된 대기 순서
+ */
+public record PassOrderMessage(Long ticketId, Long passOrder, Long passChunkSize, Long lastWaitOrder) {
+}
@@ -1,4 +1,9 @@
 package com.wootecam.festivals.domain.wait.dto;
 
-public record WaitOrderResponse(boolean purchasable, Long relativeWaitOrder, Long absoluteWaitOrder) {
+public record WaitOrderResponse(boolean purchasable, Long relativeWaitOrder, Long absoluteWaitOrder,
+                                String admissionToken) {
+
+    public static WaitOrderResponse waiting(Long relativeWaitOrder, Long absoluteWaitOrder) {
+        return new WaitOrderResponse(false, relativeWaitOrder, absoluteWaitOrder, null);
+    }
 }
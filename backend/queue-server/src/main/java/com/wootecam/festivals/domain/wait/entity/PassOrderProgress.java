@@ -0,0 +1,10 @@
+package com.wootecam.festivals.domain.wait.entity;
+
+/**
+ * 티켓별 대기열 진행 상황
+ *
+ * @param passOrder     현재 입장 순서
+ * @param lastWaitOrder 마지막으로 발급된 대기 순서
+ */
+public record PassOrderProgress(Long passOrder, Long lastWaitOrder) {
+}
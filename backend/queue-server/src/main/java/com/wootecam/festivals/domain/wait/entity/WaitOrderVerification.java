@@ -0,0 +1,29 @@
+package com.wootecam.festivals.domain.wait.entity;
+
+/**
+ * 사용자가 제시한 대기 순서를 대기열에 저장된 대기 순서와 비교한 결과
+ *
+ * @param waiting   대기열에 참가한 사용자인지 여부
+ * @param matched   제시한 대기 순서가 저장된 대기 순서와 같은지 여부
+ * @param passOrder 현재 입장 순서 (대기 순서가 같을 때만 조회)
+ */
+public record WaitOrderVerification(boolean waiting, boolean matched, Long passOrder) {
+
+    private static final long NOT_WAITING = -1;
+    private static final long MISMATCHED = -2;
+
+    /**
+     * 대기 순서 확인 스크립트의 결과로 생성합니다.
+     *
+     * @param result 대기열에 없다면 -1, 대기 순서가 다르다면 -2, 같다면 현재 입장 순서
+     */
+    public static WaitOrderVerification from(Long result) {
+        if (result == null || result == NOT_WAITING) {
+            return new WaitOrderVerification(false, false, null);
+        }
+        if (result == MISMATCHED) {
+            return new WaitOrderVerification(true, false, null);
+        }
+        return new WaitOrderVerification(true, true, result);
+    }
+}
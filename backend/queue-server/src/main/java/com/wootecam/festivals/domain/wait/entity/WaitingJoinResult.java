@@ -0,0 +1,21 @@
+package com.wootecam.festivals.domain.wait.entity;
+
+/**
+ * 대기열 참가 스크립트의 실행 결과
+ *
+ * @param waitOrder  사용자에게 발급된 대기 순서
+ * @param passOrder  현재 입장 순서
+ * @param stockCount 남은 재고 수량 (재고 수량이 아직 적재되지 않았다면 -1)
+ */
+public record WaitingJoinResult(Long waitOrder, Long passOrder, Long stockCount) {
+
+    private static final long STOCK_NOT_LOADED = -1;
+
+    public boolean isStockNotLoaded() {
+        return stockCount == STOCK_NOT_LOADED;
+    }
+
+    public boolean hasNoStock() {
+        return !isStockNotLoaded() && stockCount <= 0;
+    }
+}
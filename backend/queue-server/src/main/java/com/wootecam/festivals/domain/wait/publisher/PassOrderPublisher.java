@@ -0,0 +1,40 @@
+package com.wootecam.festivals.domain.wait.publisher;
+
+import com.wootecam.festivals.domain.wait.dto.PassOrderMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 티켓별 입장 순서를 STOMP 토픽으로 브로드캐스트하는 클래스
+ * <p>
+ * 대기 중인 클라이언트는 /topic/tickets/{ticketId}/pass-order 를 구독하여 입장 순서를 전달받습니다. 대기자 수와 관계없이 갱신 주기마다 티켓당 하나의 메시지만 전송됩니다.
+ * 프론트엔드의 대기열 페이지(TicketQueuePage)가 이 토픽을 구독하며, 입장 범위에 들어왔을 때만 대기 순서 조회 API 를 호출하고 구독하지 못했을 때만 짧은 주기로 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PassOrderPublisher {
+
+    private static final String PASS_ORDER_DESTINATION = "/topic/tickets/%d/pass-order";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public static String createDestination(Long ticketId) {
+        return String.format(PASS_ORDER_DESTINATION, ticketId);
+    }
+
+    /*
+        전송에 실패하더라도 입장 순서 갱신에는 영향을 주지 않도록 예외를 기록만 합니다.
+        클라이언트는 다음 갱신 주기의 메시지로 입장 순서를 다시 전달받습니다.
+     */
+    public void publish(PassOrderMessage message) {
+        try {
+            messagingTemplate.convertAndSend(createDestination(message.ticketId()), message);
+        } catch (MessagingException e) {
+            log.error("입장 순서 전송 실패 - ticketId: {}, passOrder: {}", message.ticketId(), message.passOrder(), e);
+        }
+    }
+}
@@ -1,18 +1,61 @@
 package com.wootecam.festivals.domain.wait.repository;
 
 import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import com.wootecam.festivals.domain.wait.entity.PassOrderProgress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 /*
     통과 대기열 범위 관리를 위한 Repository
     통과 대기열 은 String 으로 구성됩니다.
-    - key: ticketId:{ticketId}
+    - key: tickets:{ticketId}:passOrder
     - value: passOrder
  */
 @Repository
 public class PassOrderRedisRepository extends RedisRepository {
 
+    /*
+        KEYS[1]: 현재 입장 순서
+        ARGV[1]: 증가시킬 크기, ARGV[2]: 현재 대기열 순번
+        반환: 갱신된 입장 순서
+     */
+    private static final RedisScript<Long> INCREASE_SCRIPT = RedisScript.of("""
+            local passOrder = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local newPassOrder = passOrder + tonumber(ARGV[1])
+            if newPassOrder <= tonumber(ARGV[2]) then
+                redis.call('SET', KEYS[1], newPassOrder)
+                return newPassOrder
+            end
+            return passOrder
+            """, Long.class);
+
+    /*
+        KEYS[2i-1]: i 번째 티켓의 현재 입장 순서, KEYS[2i]: i 번째 티켓의 마지막 대기 순서
+        ARGV[i]: i 번째 티켓의 입장 순서를 증가시킬 크기
+        반환: { 1번째 티켓의 입장 순서, 1번째 티켓의 마지막 대기 순서, 2번째 티켓의 입장 순서, ... }
+     */
+    private static final RedisScript<List> INCREASE_ALL_SCRIPT = RedisScript.of("""
+            local result = {}
+            for i = 1, #ARGV do
+                local passOrderKey = KEYS[2 * i - 1]
+                local passOrder = tonumber(redis.call('GET', passOrderKey) or '0')
+                local lastWaitOrder = tonumber(redis.call('GET', KEYS[2 * i]) or '0')
+                local newPassOrder = passOrder + tonumber(ARGV[i])
+                if newPassOrder <= lastWaitOrder then
+                    redis.call('SET', passOrderKey, newPassOrder)
+                    passOrder = newPassOrder
+                end
+                result[2 * i - 1] = passOrder
+                result[2 * i] = lastWaitOrder
+            end
+            return result
+            """, List.class);
+
     public PassOrderRedisRepository(RedisTemplate<String, String> redisTemplate) {
         super(redisTemplate);
     }
@@ -32,17 +75,74 @@ public class PassOrderRedisRepository extends RedisRepository {
         - 증가된 값이 현재 대기열 순번보다 클 경우 값을 증가시키지 않고 현재 값을 반환합니다.
      */
     public Long increase(Long ticketId, Long passOrderChunkSize, Long curWaitOrder) {
-        String curPassOrderStr = redisTemplate.opsForValue().get(createKey(ticketId));
-        Long curPassOrder = curPassOrderStr == null ? 0 : Long.parseLong(curPassOrderStr);
-        Long newPassOrder = curPassOrder + passOrderChunkSize;
-        if (newPassOrder <= curWaitOrder) {
-            redisTemplate.opsForValue().set(createKey(ticketId), String.valueOf(newPassOrder));
-            return newPassOrder;
+        return redisTemplate.execute(INCREASE_SCRIPT, List.of(createKey(ticketId)),
+                String.valueOf(passOrderChunkSize), String.valueOf(curWaitOrder));
+    }
+
+    /*
+        여러 티켓의 통과 대기열 범위를 하나의 스크립트로 증가시킵니다.
+        - 티켓별 증가 규칙은 increase 와 같으며, 현재 대기열 순번은 마지막으로 발급된 대기 순서를 사용합니다.
+        - 진행 중인 티켓 수와 관계없이 한 번의 요청으로 처리됩니다.
+     */
+    public Map<Long, PassOrderProgress> increaseAll(Map<Long, Long> chunkSizes) {
+        if (chunkSizes.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ticketIds = new ArrayList<>(chunkSizes.keySet());
+        List<String> keys = createProgressKeys(ticketIds);
+        Object[] args = ticketIds.stream()
+                .map(ticketId -> String.valueOf(chunkSizes.get(ticketId)))
+                .toArray();
+
+        List<?> result = redisTemplate.execute(INCREASE_ALL_SCRIPT, keys, args);
+        if (result == null || result.size() != keys.size()) {
+            throw new IllegalStateException("입장 순서 갱신 스크립트 실행 결과가 올바르지 않습니다.");
+        }
+
+        Map<Long, PassOrderProgress> progresses = new LinkedHashMap<>();
+        for (int i = 0; i < ticketIds.size(); ++i) {
+            progresses.put(ticketIds.get(i),
+                    new PassOrderProgress((Long) result.get(2 * i), (Long) result.get(2 * i + 1)));
         }
-        return curPassOrder;
+        return progresses;
+    }
+
+    /*
+        여러 티켓의 입장 순서와 마지막 대기 순서를 한 번의 요청으로 조회합니다.
+     */
+    public Map<Long, PassOrderProgress> getAll(List<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(createProgressKeys(ticketIds));
+        Map<Long, PassOrderProgress> progresses = new LinkedHashMap<>();
+        for (int i = 0; i < ticketIds.size(); ++i) {
+            progresses.put(ticketIds.get(i),
+                    new PassOrderProgress(parseOrder(values.get(2 * i)), parseOrder(values.get(2 * i + 1))));
+        }
+        return progresses;
+    }
+
+    private List<String> createProgressKeys(List<Long> ticketIds) {
+        List<String> keys = new ArrayList<>();
+        for (Long ticketId : ticketIds) {
+            keys.add(createKey(ticketId));
+            keys.add(createWaitOrderKey(ticketId));
+        }
+        return keys;
+    }
+
+    private Long parseOrder(String value) {
+        return value == null ? 0 : Long.parseLong(value);
     }
 
     private String createKey(Long ticketId) {
-        return TICKETS_PREFIX + ticketId + ":passOrder";
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_PASS_ORDER_PREFIX;
+    }
+
+    private String createWaitOrderKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_WAIT_ORDER_PREFIX;
     }
 }
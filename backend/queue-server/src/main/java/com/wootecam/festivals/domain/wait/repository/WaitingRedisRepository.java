@@ -1,43 +1,176 @@
 package com.wootecam.festivals.domain.wait.repository;
 
 import com.wootecam.festivals.domain.ticket.repository.RedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.wait.entity.WaitOrderVerification;
+import com.wootecam.festivals.domain.wait.entity.WaitingJoinResult;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 /*
     대기열 순번 관리를 위한 Repository
-    Waiting 은 Set 으로 구현되며, 사용자 id를 value 저장합니다.
+    Waiting 은 Hash 로 구현되며, 사용자 id 별로 발급된 대기 순서를 저장합니다.
+    - key: tickets:{ticketId}:waitings:v2, hashKey: userId, value: waitOrder
+    이전 버전은 같은 이름의 Set 으로 저장하였으므로, 배포 중에 두 버전이 섞여도 타입 오류가 나지 않도록 키 이름에 버전을 붙입니다.
+    대기 순서는 String 카운터로 발급되며, 마지막으로 발급된 대기 순서를 저장합니다.
+    - key: tickets:{ticketId}:waitOrder
  */
 @Repository
 public class WaitingRedisRepository extends RedisRepository {
 
-    public WaitingRedisRepository(RedisTemplate<String, String> redisTemplate) {
+    /*
+        KEYS[1]: 대기열, KEYS[2]: 대기 순서 카운터, KEYS[3]: 현재 입장 순서, KEYS[4]: 재고 하위 카운터 수,
+        KEYS[5]: 재고 임대 현황, 인스턴스들이 임대 중인 재고 수량을 재고 수량에 포함
+        KEYS[6..]: 재고 수량 또는 하위 카운터들, 합을 재고 수량으로 사용
+        ARGV[1]: 사용자 id, ARGV[2]: 1 이라면 이미 대기 중이더라도 새로운 대기 순서를 발급, ARGV[3]: 재고 하위 카운터 수
+        반환: { 대기 순서, 현재 입장 순서, 재고 수량 }, 재고 하위 카운터 수가 바뀌었다면 대기열을 바꾸지 않고 { -2 }
+        재고 수량 key 가 하나도 없다면 재고 수량이 아직 적재되지 않은 것이므로, 재고 수량 대신 -1 을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Long>> JOIN_SCRIPT = (RedisScript<List<Long>>) (RedisScript<?>) RedisScript.of("""
+            if math.max(1, tonumber(redis.call('GET', KEYS[4]) or '1')) ~= tonumber(ARGV[3]) then
+                return { -2 }
+            end
+
+            local waitOrder = redis.call('HGET', KEYS[1], ARGV[1])
+            if not waitOrder or ARGV[2] == '1' then
+                waitOrder = redis.call('INCR', KEYS[2])
+                redis.call('HSET', KEYS[1], ARGV[1], waitOrder)
+            end
+
+            local passOrder = redis.call('GET', KEYS[3]) or '0'
+            local loaded = false
+            local stockCount = 0
+            for i = 6, #KEYS do
+                local count = redis.call('GET', KEYS[i])
+                if count then
+                    loaded = true
+                    stockCount = stockCount + tonumber(count)
+                end
+            end
+            if not loaded then
+                return { tonumber(waitOrder), tonumber(passOrder), -1 }
+            end
+            for _, leased in ipairs(redis.call('HVALS', KEYS[5])) do
+                stockCount = stockCount + tonumber(leased)
+            end
+
+            return { tonumber(waitOrder), tonumber(passOrder), stockCount }
+            """, List.class);
+
+    /*
+        KEYS[1]: 대기열, KEYS[2]: 현재 입장 순서
+        ARGV[1]: 사용자 id, ARGV[2]: 사용자가 제시한 대기 순서
+        반환: 대기열에 없다면 -1, 저장된 대기 순서와 다르다면 -2, 같다면 현재 입장 순서
+     */
+    private static final RedisScript<Long> VERIFY_SCRIPT = RedisScript.of("""
+            local waitOrder = redis.call('HGET', KEYS[1], ARGV[1])
+            if not waitOrder then
+                return -1
+            end
+            if waitOrder ~= ARGV[2] then
+                return -2
+            end
+            return tonumber(redis.call('GET', KEYS[2]) or '0')
+            """, Long.class);
+
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    public WaitingRedisRepository(RedisTemplate<String, String> redisTemplate,
+                                  TicketStockCountRedisRepository ticketStockCountRedisRepository) {
         super(redisTemplate);
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+    }
+
+    /*
+        대기열에 사용자를 추가하고 대기 순서를 발급합니다.
+        이미 대기 중인 사용자라면 기존 대기 순서를 그대로 반환합니다.
+     */
+    public WaitingJoinResult join(Long ticketId, Long userId) {
+        return executeJoinScript(ticketId, userId, false);
+    }
+
+    /*
+        대기열에서 이탈한 사용자에게 대기열 맨 뒤의 새로운 대기 순서를 발급합니다.
+     */
+    public WaitingJoinResult rejoin(Long ticketId, Long userId) {
+        return executeJoinScript(ticketId, userId, true);
     }
 
     /*
-        대기열에 사용자를 추가합니다.
+        사용자가 제시한 대기 순서가 대기열에 저장된 사용자의 대기 순서와 같은지 확인하고, 같다면 현재 입장 순서를 함께 조회합니다.
+        클라이언트가 보낸 대기 순서만으로 대기열 통과를 판단하면 참가하지 않은 사용자도 대기열을 건너뛸 수 있습니다.
      */
-    public void addWaiting(Long ticketId, Long userId) {
-        redisTemplate.opsForSet().add(createKey(ticketId), String.valueOf(userId));
+    public WaitOrderVerification verify(Long ticketId, Long userId, Long waitOrder) {
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(createKey(ticketId), createPassOrderKey(ticketId)),
+                String.valueOf(userId), String.valueOf(waitOrder));
+        return WaitOrderVerification.from(result);
     }
 
     /*
-        대기열 전체 사이즈를 반환하는 메소드
+        마지막으로 발급된 대기 순서를 반환하는 메소드
      */
     public Long getSize(Long ticketId) {
-        return redisTemplate.opsForSet().size(createKey(ticketId));
+        String lastWaitOrder = redisTemplate.opsForValue().get(createWaitOrderKey(ticketId));
+        return lastWaitOrder == null ? 0 : Long.parseLong(lastWaitOrder);
     }
 
     /*
         대기열에 존재하는지 여부를 반환하는 메소드
      */
     public Boolean exists(Long ticketId, Long userId) {
-        Boolean member = redisTemplate.opsForSet().isMember(createKey(ticketId), String.valueOf(userId));
-        return redisTemplate.opsForSet().isMember(createKey(ticketId), String.valueOf(userId));
+        return redisTemplate.opsForHash().hasKey(createKey(ticketId), String.valueOf(userId));
+    }
+
+    private WaitingJoinResult executeJoinScript(Long ticketId, Long userId, boolean reissue) {
+        List<Long> result = executeJoinScript(ticketId, userId, reissue,
+                ticketStockCountRedisRepository.findStripeCount(ticketId));
+        if (isStale(result)) {
+            // 다른 서버에서 재고 하위 카운터 수를 바꾸었다면 다시 조회하여 한 번 더 실행합니다.
+            ticketStockCountRedisRepository.evictStripeCount(ticketId);
+            result = executeJoinScript(ticketId, userId, reissue,
+                    ticketStockCountRedisRepository.findStripeCount(ticketId));
+        }
+        if (result == null || result.size() != 3) {
+            throw new IllegalStateException("대기열 참가 스크립트 실행 결과가 올바르지 않습니다. ticketId: " + ticketId);
+        }
+
+        return new WaitingJoinResult(result.get(0), result.get(1), result.get(2));
+    }
+
+    private List<Long> executeJoinScript(Long ticketId, Long userId, boolean reissue, int stripeCount) {
+        List<String> keys = new ArrayList<>(List.of(createKey(ticketId), createWaitOrderKey(ticketId),
+                createPassOrderKey(ticketId), createStockStripeCountKey(ticketId), createStockLeaseKey(ticketId)));
+        keys.addAll(ticketStockCountRedisRepository.createStockKeys(ticketId, stripeCount));
+
+        return redisTemplate.execute(JOIN_SCRIPT, keys, String.valueOf(userId), reissue ? "1" : "0",
+                String.valueOf(stripeCount));
+    }
+
+    private boolean isStale(List<Long> result) {
+        return result != null && result.size() == 1 && result.get(0) == -2L;
     }
 
     private String createKey(Long ticketId) {
-        return TICKETS_PREFIX + ticketId + ":waitings";
+        return TICKETS_PREFIX + ticketId + ":waitings:v2";
+    }
+
+    private String createWaitOrderKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_WAIT_ORDER_PREFIX;
+    }
+
+    private String createPassOrderKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_PASS_ORDER_PREFIX;
+    }
+
+    private String createStockStripeCountKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_STRIPES_PREFIX;
+    }
+
+    private String createStockLeaseKey(Long ticketId) {
+        return TICKETS_PREFIX + ticketId + ":" + TICKET_STOCK_LEASES_PREFIX;
     }
 }
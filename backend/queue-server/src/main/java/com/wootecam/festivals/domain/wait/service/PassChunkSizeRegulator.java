@@ -0,0 +1,139 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import com.wootecam.festivals.domain.ticket.entity.CheckoutMetrics;
+import com.wootecam.festivals.domain.ticket.repository.CheckoutMetricsRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입장 순서 갱신 시 한 번에 입장시킬 인원(pass chunk)을 api-server 의 처리 지표로 조절하는 클래스
+ * <p>
+ * AIMD(Additive Increase, Multiplicative Decrease) 방식으로 티켓별 입장 인원을 조절합니다.
+ * <ul>
+ *     <li>구매 가능 여부 확인 요청의 평균 처리 시간이 SLO 를 넘으면 입장 인원을 decrease-factor 비율로 줄입니다.</li>
+ *     <li>평균 처리 시간이 SLO 의 hold-ratio 이상이면 SLO 에 가까워진 것으로 보고 입장 인원을 더 늘리지 않고 유지합니다.</li>
+ *     <li>그 외(api-server 가 한가한 경우 포함)에는 입장 인원을 increase-step 만큼 늘립니다.</li>
+ * </ul>
+ * 입장 인원은 min-chunk-size 와 wait.queue.pass-chunk-size 사이에서 조절되며, 남은 재고 수량을 넘지 않습니다. 비활성화되어 있다면 항상
+ * wait.queue.pass-chunk-size 를 반환합니다. 조절은 설정된 wait.queue.pass-chunk-size 에서 시작하므로, 활성화하더라도 api-server 가 느려지기
+ * 전까지는 고정된 입장 인원과 같은 속도로 입장시킵니다. 입장 인원 상태는 입장 순서를 갱신하는 리더 인스턴스의 메모리에 유지되며, 리더가 바뀌면 설정된
+ * 입장 인원부터 다시 조절합니다. 재고가 소진되었거나 판매가 종료되어 진행 중인 티켓 목록에서 빠진 티켓의 상태는 제거합니다.
+ */
+@Slf4j
+@Component
+public class PassChunkSizeRegulator {
+
+    private final CheckoutMetricsRedisRepository checkoutMetricsRedisRepository;
+    private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    private final Map<Long, Long> chunkSizes = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long maxChunkSize;
+    private final long minChunkSize;
+    private final long increaseStep;
+    private final double decreaseFactor;
+    private final long latencySloMillis;
+    private final double holdRatio;
+
+    public PassChunkSizeRegulator(CheckoutMetricsRedisRepository checkoutMetricsRedisRepository,
+                                  TicketStockCountRedisRepository ticketStockCountRedisRepository,
+                                  @Value("${wait.queue.adaptive.enabled:false}") boolean enabled,
+                                  @Value("${wait.queue.pass-chunk-size}") long maxChunkSize,
+                                  @Value("${wait.queue.adaptive.min-chunk-size:10}") long minChunkSize,
+                                  @Value("${wait.queue.adaptive.increase-step:10}") long increaseStep,
+                                  @Value("${wait.queue.adaptive.decrease-factor:0.5}") double decreaseFactor,
+                                  @Value("${wait.queue.adaptive.latency-slo-millis:300}") long latencySloMillis,
+                                  @Value("${wait.queue.adaptive.hold-ratio:0.8}") double holdRatio) {
+        this.checkoutMetricsRedisRepository = checkoutMetricsRedisRepository;
+        this.ticketStockCountRedisRepository = ticketStockCountRedisRepository;
+        this.enabled = enabled;
+        this.maxChunkSize = maxChunkSize;
+        this.minChunkSize = Math.min(minChunkSize, maxChunkSize);
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.latencySloMillis = latencySloMillis;
+        this.holdRatio = holdRatio;
+    }
+
+    /**
+     * 직전 갱신 이후의 api-server 처리 지표로 이번 갱신에서 입장시킬 인원을 계산합니다.
+     *
+     * @param ticketId
+     * @return 이번 갱신에서 입장시킬 인원
+     */
+    public Long nextChunkSize(Long ticketId) {
+        return nextChunkSizes(List.of(ticketId)).get(ticketId);
+    }
+
+    /**
+     * 여러 티켓의 이번 갱신에서 입장시킬 인원을 계산합니다. 처리 지표와 재고 수량은 티켓 수와 관계없이 각각 한 번의 요청으로 조회합니다.
+     *
+     * @param ticketIds 진행 중인 모든 티켓, 목록에 없는 티켓의 입장 인원 상태는 제거합니다.
+     * @return 티켓별 이번 갱신에서 입장시킬 인원
+     */
+    public Map<Long, Long> nextChunkSizes(List<Long> ticketIds) {
+        Map<Long, Long> nextChunkSizes = new LinkedHashMap<>();
+        if (!enabled) {
+            ticketIds.forEach(ticketId -> nextChunkSizes.put(ticketId, maxChunkSize));
+            return nextChunkSizes;
+        }
+
+        // 판매가 종료되어 진행 중인 티켓 목록에서 빠진 티켓의 상태를 제거합니다.
+        chunkSizes.keySet().retainAll(new HashSet<>(ticketIds));
+
+        Map<Long, CheckoutMetrics> metrics = checkoutMetricsRedisRepository.pollAll(ticketIds);
+        Map<Long, Long> stockCounts = ticketStockCountRedisRepository.getTicketStockCounts(ticketIds);
+        for (Long ticketId : ticketIds) {
+            Long stockCount = stockCounts.get(ticketId);
+            if (stockCount != null && stockCount <= 0) {
+                remove(ticketId);
+                nextChunkSizes.put(ticketId, 0L);
+                continue;
+            }
+
+            CheckoutMetrics ticketMetrics = metrics.getOrDefault(ticketId, CheckoutMetrics.empty());
+            long chunkSize = chunkSizes.compute(ticketId,
+                    (id, current) -> adjust(current == null ? maxChunkSize : current, ticketMetrics));
+            log.debug("입장 인원 조절 - ticketId: {}, 평균 처리 시간: {}ms, 요청 수: {}, 입장 인원: {}", ticketId,
+                    ticketMetrics.averageLatencyMillis(), ticketMetrics.requestCount(), chunkSize);
+
+            nextChunkSizes.put(ticketId, limitByStock(chunkSize, stockCount));
+        }
+        return nextChunkSizes;
+    }
+
+    /**
+     * 재고가 소진되었거나 판매가 종료된 티켓의 입장 인원 상태를 제거합니다.
+     *
+     * @param ticketId
+     */
+    public void remove(Long ticketId) {
+        chunkSizes.remove(ticketId);
+    }
+
+    private long adjust(long current, CheckoutMetrics metrics) {
+        long averageLatency = metrics.averageLatencyMillis();
+        if (averageLatency > latencySloMillis) {
+            return Math.max(minChunkSize, (long) (current * decreaseFactor));
+        }
+        if (averageLatency >= latencySloMillis * holdRatio) {
+            return current;
+        }
+        return Math.min(maxChunkSize, current + increaseStep);
+    }
+
+    // 남은 재고보다 많은 인원을 입장시키지 않습니다.
+    private long limitByStock(long chunkSize, Long stockCount) {
+        if (stockCount == null) {
+            return chunkSize;
+        }
+        return Math.min(chunkSize, stockCount);
+    }
+}
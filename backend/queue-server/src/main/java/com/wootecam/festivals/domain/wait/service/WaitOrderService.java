@@ -1,16 +1,28 @@
 package com.wootecam.festivals.domain.wait.service;
 
+import static com.wootecam.festivals.global.jwt.JwtProvider.ADMISSION_TOKEN_VALIDITY;
+
 import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
 import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
-import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.service.SoldOutTicketRegistry;
+import com.wootecam.festivals.domain.ticket.service.TicketInfoCacheService;
+import com.wootecam.festivals.domain.ticket.service.TicketStockLeaseService;
+import com.wootecam.festivals.domain.wait.dto.PassOrderMessage;
 import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
+import com.wootecam.festivals.domain.wait.entity.PassOrderProgress;
+import com.wootecam.festivals.domain.wait.entity.WaitOrderVerification;
+import com.wootecam.festivals.domain.wait.entity.WaitingJoinResult;
 import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
+import com.wootecam.festivals.domain.wait.publisher.PassOrderPublisher;
 import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
 import com.wootecam.festivals.domain.wait.repository.WaitingRedisRepository;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import com.wootecam.festivals.global.jwt.JwtProvider;
+import com.wootecam.festivals.global.leader.RedisLeaderElector;
 import com.wootecam.festivals.global.utils.TimeProvider;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,80 +37,106 @@ public class WaitOrderService {
     private final WaitingRedisRepository waitingRepository;
     private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
     private final PassOrderRedisRepository passOrderRedisRepository;
-    private final TicketInfoRedisRepository ticketInfoRedisRepository;
+    private final TicketInfoCacheService ticketInfoCacheService;
     private final TimeProvider timeProvider;
     private final CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    private final PassOrderPublisher passOrderPublisher;
+    private final PassChunkSizeRegulator passChunkSizeRegulator;
+    private final RedisLeaderElector leaderElector;
+    private final SoldOutTicketRegistry soldOutTicketRegistry;
+    private final JwtProvider jwtProvider;
+    private final TicketStockLeaseService ticketStockLeaseService;
 
     @Value("${wait.queue.pass-chunk-size}")
     private Long passChunkSize;
 
     /**
-     * 사용자가 구매 페이지로 진입할 수 있는지를 사용자 대기 순서와 현재 입장 범위로 판단합니다. 사용자 대기 순서가 현재 입장 범위에 포함되고, 재고가 남았다면 재고를 차감하고, 구매 페이지로 진입할 수
-     * 있습니다.
+     * 사용자가 구매 페이지로 진입할 수 있는지를 대기열에 저장된 사용자 대기 순서와 현재 입장 범위로 판단합니다. 사용자 대기 순서가 현재 입장 범위에 포함되고, 재고가 남았다면 재고를 차감하고, 구매 페이지로 진입할 수
+     * 있습니다. 대기열을 통과하면 api-server 가 대기열 통과 여부를 검증할 수 있도록 입장 토큰을 함께 발급합니다.
      *
      * @param ticketId
      * @param loginMemberId
      * @param waitOrder
-     * @return 사용자가 구매 페이지로 진입할 수 있는지 여부, 대기열 순서
+     * @return 사용자가 구매 페이지로 진입할 수 있는지 여부, 대기열 순서, 입장 토큰
      */
     public WaitOrderResponse getWaitOrder(Long ticketId, Long loginMemberId, Long waitOrder) {
         validTicketSaleTime(ticketId);
-
-        Boolean isWaiting = waitingRepository.exists(ticketId, loginMemberId);
-
-        Long curWaitOrder = waitOrder;
-        validWaitOrderWithWaiter(curWaitOrder, isWaiting);
+        validNotSoldOut(ticketId);
+        validWaitOrder(waitOrder);
 
         // 대기열 참가 및 대기 순서 발급, 만약 현재 입장 순서 범위라면 대기열 통과
-        Long currentPassOrder = getCurrentPassOrder(ticketId);
-        if (!isWaiting && curWaitOrder == null) {
-            return getNewWaitOrderForNewUser(ticketId, loginMemberId, currentPassOrder);
+        if (waitOrder == null) {
+            return getNewWaitOrderForNewUser(ticketId, loginMemberId);
         }
 
+        // 클라이언트가 보낸 대기 순서는 대기열에 저장된 사용자의 대기 순서와 같을 때만 사용합니다.
+        WaitOrderVerification verification = waitingRepository.verify(ticketId, loginMemberId, waitOrder);
+        if (!verification.waiting()) {
+            log.debug("대기열에 없는 사용자의 대기 순서 - 사용자: {}, 대기 순서: {}", loginMemberId, waitOrder);
+            return getNewWaitOrderForNewUser(ticketId, loginMemberId);
+        }
+        if (!verification.matched()) {
+            log.warn("대기 순서가 일치하지 않습니다. 사용자: {}, 대기 순서: {}", loginMemberId, waitOrder);
+            throw new ApiException(WaitErrorCode.INVALID_WAIT_ORDER);
+        }
+
+        Long currentPassOrder = verification.passOrder();
         validStockRemains(ticketId);
 
         // 대기 순서가 현재 입장 순서 범위에 포함된다면 대기열 통과 가능
-        if (canPass(curWaitOrder, currentPassOrder)) {
-            ticketStockCountRedisRepository.checkAndDecreaseStock(ticketId);
-            log.debug("대기열 통과 - 사용자: {}, 대기 순서: {}", loginMemberId, curWaitOrder);
-            return new WaitOrderResponse(true, curWaitOrder - currentPassOrder, curWaitOrder);
+        if (canPass(waitOrder, currentPassOrder)) {
+            return pass(ticketId, loginMemberId, waitOrder, currentPassOrder);
         }
 
         // 대기 순서가 현재 입장 순서 범위의 최소값보다 작거나 같다면, 이탈 유저이므로 새로운 대기 순서 발급
-        if (curWaitOrder <= curMinPassOrder(currentPassOrder)) {
-            log.debug("이탈 유저 새 대기 순서 발급 - 사용자: {}, 대기 순서: {}", loginMemberId, curWaitOrder);
-            return getNewWaitOrderForExitedUser(ticketId, currentPassOrder);
+        if (waitOrder <= curMinPassOrder(currentPassOrder)) {
+            log.debug("이탈 유저 새 대기 순서 발급 - 사용자: {}, 대기 순서: {}", loginMemberId, waitOrder);
+            return getNewWaitOrderForExitedUser(ticketId, loginMemberId);
         }
 
         // 대기가 현재 입장 순서 범위에 포함되지 않는다면 대기열 통과 불가
-        return new WaitOrderResponse(false, curWaitOrder - currentPassOrder, curWaitOrder);
+        return WaitOrderResponse.waiting(waitOrder - currentPassOrder, waitOrder);
     }
 
-    private WaitOrderResponse getNewWaitOrderForExitedUser(Long ticketId, Long currentPassOrder) {
-        Long newWaitOrder = waitingRepository.getSize(ticketId);
-        Long relativeWaitOrder = newWaitOrder - currentPassOrder;
-        return new WaitOrderResponse(false, relativeWaitOrder, newWaitOrder);
+    private WaitOrderResponse getNewWaitOrderForExitedUser(Long ticketId, Long loginMemberId) {
+        WaitingJoinResult joinResult = waitingRepository.rejoin(ticketId, loginMemberId);
+        validStockLoaded(ticketId, joinResult);
+        Long relativeWaitOrder = joinResult.waitOrder() - joinResult.passOrder();
+        return WaitOrderResponse.waiting(relativeWaitOrder, joinResult.waitOrder());
     }
 
-    private WaitOrderResponse getNewWaitOrderForNewUser(Long ticketId, Long loginMemberId, Long currentPassOrder) {
-        Long curWaitOrder;
-        curWaitOrder = joinWaitOrder(ticketId, loginMemberId);
-        validStockRemains(ticketId);
+    /*
+        대기열 참가, 입장 순서 조회, 재고 조회를 하나의 스크립트로 처리합니다.
+        이미 대기 중인 사용자라면 기존 대기 순서를 그대로 발급받습니다.
+     */
+    private WaitOrderResponse getNewWaitOrderForNewUser(Long ticketId, Long loginMemberId) {
+        WaitingJoinResult joinResult = waitingRepository.join(ticketId, loginMemberId);
+        validStockLoaded(ticketId, joinResult);
+        if (joinResult.hasNoStock()) {
+            throw soldOut(ticketId);
+        }
+
+        Long curWaitOrder = joinResult.waitOrder();
+        Long currentPassOrder = joinResult.passOrder();
         log.debug("대기열 참가 - 사용자: {}, 대기 순서: {}", loginMemberId, curWaitOrder);
         if (canPass(curWaitOrder, currentPassOrder)) {
-            return new WaitOrderResponse(true, curWaitOrder - currentPassOrder, curWaitOrder);
-        } else {
-            return new WaitOrderResponse(false, curWaitOrder - currentPassOrder, curWaitOrder);
+            return pass(ticketId, loginMemberId, curWaitOrder, currentPassOrder);
         }
+        return WaitOrderResponse.waiting(curWaitOrder - currentPassOrder, curWaitOrder);
     }
 
-    private Long getCurrentPassOrder(Long ticketId) {
-        return passOrderRedisRepository.get(ticketId);
+    // 재고를 차감하고, api-server 에 제시할 입장 토큰을 발급합니다.
+    private WaitOrderResponse pass(Long ticketId, Long loginMemberId, Long waitOrder, Long currentPassOrder) {
+        decreaseStock(ticketId, loginMemberId);
+        log.debug("대기열 통과 - 사용자: {}, 대기 순서: {}", loginMemberId, waitOrder);
+        String admissionToken = jwtProvider.generateAdmissionToken(ticketId, loginMemberId, waitOrder,
+                ADMISSION_TOKEN_VALIDITY);
+        return new WaitOrderResponse(true, waitOrder - currentPassOrder, waitOrder, admissionToken);
     }
 
     // 티켓 판매 시간이 아닌 경우 예외 반환
     private void validTicketSaleTime(Long ticketId) {
-        TicketInfo ticketInfo = ticketInfoRedisRepository.getTicketInfo(ticketId);
+        TicketInfo ticketInfo = ticketInfoCacheService.getTicketInfo(ticketId);
         if (ticketInfo == null) {
             log.warn("티켓 정보가 없습니다. ticketId: {}", ticketId);
             throw new ApiException(WaitErrorCode.INVALID_TICKET);
@@ -114,17 +152,56 @@ public class WaitOrderService {
         return currentPassOrder - passChunkSize;
     }
 
+    // 재고 소진이 확인된 티켓이라면 Redis 조회 없이 예외 반환
+    private void validNotSoldOut(Long ticketId) {
+        if (soldOutTicketRegistry.isSoldOut(ticketId)) {
+            log.debug("재고가 소진된 티켓입니다. ticketId: {}", ticketId);
+            throw new ApiException(WaitErrorCode.NO_STOCK);
+        }
+    }
+
     // 재고가 없는 경우 예외 반환
+    // 재고 수량이 아직 Redis 에 적재되지 않았다면 재고 소진으로 기록하지 않습니다. 기록하면 적재된 뒤에도 이 인스턴스에서 판매할 수 없습니다.
     private void validStockRemains(Long ticketId) {
-        if (ticketStockCountRedisRepository.getTicketStockCount(ticketId) <= 0) {
-            log.warn("재고가 없습니다. ticketId: {}", ticketId);
+        Long stockCount = ticketStockCountRedisRepository.getTicketStockCount(ticketId);
+        if (stockCount == null) {
+            log.warn("재고 수량이 없습니다. ticketId: {}", ticketId);
             throw new ApiException(WaitErrorCode.NO_STOCK);
         }
+        if (stockCount <= 0) {
+            throw soldOut(ticketId);
+        }
     }
 
-    // 대기열의 사용자가 대기열 번호를 보내지 않은 경우 예외 반환
-    private void validWaitOrderWithWaiter(Long waitOrder, Boolean isWaiting) {
-        if (isWaiting && (waitOrder == null || waitOrder < 0)) {
+    // 대기열 참가 스크립트가 재고 수량이 아직 적재되지 않았다고 반환한 경우 예외 반환
+    // validStockRemains 와 같이 재고 소진으로 기록하지 않습니다.
+    private void validStockLoaded(Long ticketId, WaitingJoinResult joinResult) {
+        if (joinResult.isStockNotLoaded()) {
+            log.warn("재고 수량이 없습니다. ticketId: {}", ticketId);
+            throw new ApiException(WaitErrorCode.NO_STOCK);
+        }
+    }
+
+    // 재고를 차감하고, 그 사이 재고가 소진되었다면 예외 반환
+    // 인스턴스가 임대한 재고가 있다면 Redis 요청 없이 차감합니다.
+    // 다른 인스턴스가 임대 중인 재고가 반환될 수 있으므로 재고 소진을 직접 기록하지 않고, 재고 차감과 임대 스크립트가 발행하는 재고 소진 메시지로 기록합니다.
+    private void decreaseStock(Long ticketId, Long loginMemberId) {
+        if (!ticketStockLeaseService.tryAcquire(ticketId, loginMemberId)) {
+            log.debug("차감할 재고가 없습니다. ticketId: {}", ticketId);
+            throw new ApiException(WaitErrorCode.NO_STOCK);
+        }
+    }
+
+    // 재고 소진을 기록하여 이후 요청은 Redis 조회 없이 거절합니다.
+    private ApiException soldOut(Long ticketId) {
+        log.warn("재고가 없습니다. ticketId: {}", ticketId);
+        soldOutTicketRegistry.markSoldOut(ticketId);
+        return new ApiException(WaitErrorCode.NO_STOCK);
+    }
+
+    // 대기열 번호가 음수인 경우 예외 반환
+    private void validWaitOrder(Long waitOrder) {
+        if (waitOrder != null && waitOrder < 0) {
             throw new ApiException(WaitErrorCode.INVALID_WAIT_ORDER);
         }
     }
@@ -133,19 +210,30 @@ public class WaitOrderService {
         return curMinPassOrder(currentPassOrder) < waitOrder && waitOrder <= currentPassOrder + passChunkSize;
     }
 
-    private Long joinWaitOrder(Long ticketId, Long userId) {
-        waitingRepository.addWaiting(ticketId, userId);
-        return waitingRepository.getSize(ticketId);
-    }
-
+    /**
+     * 현재 진행 중인 티켓팅들의 입장 순서를 api-server 처리 지표에 따라 조절된 인원만큼 갱신하고, 티켓별 토픽으로 갱신된 입장 순서를
+     * 브로드캐스트합니다. 클라이언트는 브로드캐스트된 입장 순서로 자신의 대기 순서를 계산하므로, 대기 중에 주기적으로 대기 순서를 조회할 필요가 없습니다.
+     *
+     * <p>
+     * 입장 순서는 리더 인스턴스만 하나의 스크립트로 모든 티켓을 한 번에 갱신하므로, 입장 속도는 인스턴스 수와 무관합니다. STOMP 브로커는 인스턴스마다 존재하므로
+     * 리더가 아닌 인스턴스는 입장 순서를 조회하여 자신에게 연결된 클라이언트에게 브로드캐스트합니다.
+     * </p>
+     */
     @Scheduled(fixedRate = 5000)
     public void updateCurrentPassOrder() {
         List<Long> currentTicketWait = currentTicketWaitRedisRepository.getCurrentTicketWait();
-
-        for (Long ticketId : currentTicketWait) {
-            Long waitSize = waitingRepository.getSize(ticketId);
-            Long newPassOrder = passOrderRedisRepository.increase(ticketId, passChunkSize, waitSize);
-            log.debug("대기열 업데이트 - ticketId: {}, 현재 입장 순서: {}", ticketId, newPassOrder);
+        if (currentTicketWait.isEmpty()) {
+            return;
         }
+
+        Map<Long, PassOrderProgress> progresses = leaderElector.tryAcquireLeadership()
+                ? passOrderRedisRepository.increaseAll(passChunkSizeRegulator.nextChunkSizes(currentTicketWait))
+                : passOrderRedisRepository.getAll(currentTicketWait);
+
+        progresses.forEach((ticketId, progress) -> {
+            log.debug("대기열 업데이트 - ticketId: {}, 현재 입장 순서: {}", ticketId, progress.passOrder());
+            passOrderPublisher.publish(new PassOrderMessage(ticketId, progress.passOrder(), passChunkSize,
+                    progress.lastWaitOrder()));
+        });
     }
 }
@@ -0,0 +1,37 @@
+package com.wootecam.festivals.global.config;
+
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_INFO_UPDATED_CHANNEL;
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_RESTOCKED_CHANNEL;
+import static com.wootecam.festivals.domain.ticket.constant.TicketRedisChannelConstants.TICKET_SOLD_OUT_CHANNEL;
+
+import com.wootecam.festivals.domain.ticket.listener.TicketInfoUpdatedListener;
+import com.wootecam.festivals.domain.ticket.listener.TicketStockEventListener;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 채널 구독을 설정하는 클래스
+ * <p>
+ * 리스너는 로컬 상태만 갱신하므로, 메시지 순서를 보장하기 위해 수신 스레드에서 동기적으로 처리합니다.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       TicketInfoUpdatedListener ticketInfoUpdatedListener,
+                                                                       TicketStockEventListener ticketStockEventListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener(ticketInfoUpdatedListener, new ChannelTopic(TICKET_INFO_UPDATED_CHANNEL));
+        container.addMessageListener(ticketStockEventListener,
+                List.of(new ChannelTopic(TICKET_SOLD_OUT_CHANNEL), new ChannelTopic(TICKET_RESTOCKED_CHANNEL)));
+        return container;
+    }
+}
@@ -1,5 +1,9 @@
 package com.wootecam.festivals.global.jwt;
 
+import static com.wootecam.festivals.global.constants.AdmissionTokenConstants.ADMISSION_TOKEN_AUDIENCE;
+import static com.wootecam.festivals.global.constants.AdmissionTokenConstants.TICKET_ID_CLAIM;
+import static com.wootecam.festivals.global.constants.AdmissionTokenConstants.WAIT_ORDER_CLAIM;
+
 import com.wootecam.festivals.global.auth.AuthErrorCode;
 import com.wootecam.festivals.global.exception.WebSocketException;
 import io.jsonwebtoken.Claims;
@@ -12,6 +16,7 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,6 +35,7 @@ import org.springframework.stereotype.Component;
 public class JwtProvider {
 
     public static final long ACCESS_TOKEN_VALIDITY = 5 * 60 * 1000L; // 5분
+    public static final long ADMISSION_TOKEN_VALIDITY = 60 * 1000L; // 1분
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -60,6 +66,32 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 대기열 통과 시 발급하는 입장 토큰 생성
+     *
+     * <p>
+     * - 액세스 토큰과 같은 키로 서명하며, api-server 는 같은 키로 서명을 검증하여 대기열 통과 여부를 확인한다. - 사용자 ID 는 subject 에, 티켓 ID 와 대기 순서는
+     * 클레임에 담는다. - 액세스 토큰을 입장 토큰으로 사용하지 못하도록 audience 를 담고, api-server 가 한 번만 사용하도록 토큰 ID(jti)를 담는다.
+     * </p>
+     *
+     * @param ticketId       티켓 ID
+     * @param memberId       사용자 ID
+     * @param waitOrder      대기열을 통과한 대기 순서
+     * @param validityMillis 토큰 유효 시간 (밀리초 단위)
+     * @return 입장 토큰
+     */
+    public String generateAdmissionToken(Long ticketId, Long memberId, Long waitOrder, long validityMillis) {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(String.valueOf(memberId))
+                .audience().add(ADMISSION_TOKEN_AUDIENCE).and()
+                .claim(TICKET_ID_CLAIM, ticketId)
+                .claim(WAIT_ORDER_CLAIM, waitOrder)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + validityMillis))
+                .signWith(this.key, SIG.HS256)
+                .compact();
+    }
 
     /**
      * JWT에서 사용자 ID를 추출하고 검증하는 메서드.
@@ -75,6 +107,10 @@ public class JwtProvider {
      */
     public Long getMemberIdFromToken(String token) {
         Claims claims = extractClaimsFromToken(token);
+        if (claims.getAudience() != null && claims.getAudience().contains(ADMISSION_TOKEN_AUDIENCE)) {
+            log.warn("입장 토큰은 액세스 토큰으로 사용할 수 없습니다.");
+            throw new WebSocketException(AuthErrorCode.UNAUTHORIZED, "액세스 토큰이 아닙니다.");
+        }
 
         return Long.parseLong(claims.getSubject());
     }
@@ -0,0 +1,84 @@
+package com.wootecam.festivals.global.leader;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 임대(lease) 기반으로 queue-server 인스턴스 중 하나를 리더로 선출하는 클래스
+ *
+ * <p>
+ * - 리더 key 가 비어 있다면 임대 시간과 함께 자신의 인스턴스 id 를 저장하여 리더가 됩니다. - 리더는 호출될 때마다 임대 시간을 갱신합니다. - 리더가 종료되면 key 를 삭제하고,
+ * 비정상 종료된 경우 임대 시간이 지나면 다른 인스턴스가 리더가 됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RedisLeaderElector implements DisposableBean {
+
+    private static final String LEADER_KEY = "queue:leader";
+
+    /*
+        KEYS[1]: 리더 key
+        ARGV[1]: 인스턴스 id, ARGV[2]: 임대 시간(ms)
+        반환: 리더라면 1, 아니라면 0
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+            local leader = redis.call('GET', KEYS[1])
+            if not leader then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if leader == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /*
+        KEYS[1]: 리더 key
+        ARGV[1]: 인스턴스 id
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String instanceId = "queue-" + UUID.randomUUID();
+    private final long leaseMillis;
+
+    public RedisLeaderElector(RedisTemplate<String, String> redisTemplate,
+                              @Value("${wait.queue.leader.lease-millis:15000}") long leaseMillis) {
+        this.redisTemplate = redisTemplate;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 리더 임대를 획득하거나 갱신합니다.
+     *
+     * @return 현재 인스턴스가 리더인지 여부
+     */
+    public boolean tryAcquireLeadership() {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEADER_KEY), instanceId,
+                String.valueOf(leaseMillis));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), instanceId);
+        } catch (Exception e) {
+            log.warn("리더 임대 해제 실패 - instanceId: {}", instanceId, e);
+        }
+    }
+}
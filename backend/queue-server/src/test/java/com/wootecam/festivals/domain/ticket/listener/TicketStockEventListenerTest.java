@@ -0,0 +1,64 @@
+package com.wootecam.festivals.domain.ticket.listener;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.service.SoldOutTicketRegistry;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("TicketStockEventListener 클래스")
+class TicketStockEventListenerTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 200L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        soldOutTicketRegistry.markRestocked(ticketId);
+    }
+
+    @Test
+    @DisplayName("재고 차감으로 재고가 소진되면 재고 소진으로 기록한다")
+    void it_marks_sold_out_when_stock_reaches_zero() {
+        // given
+        ticketStockCountRedisRepository.setTicketStockCount(ticketId, 1L);
+
+        // when
+        ticketStockCountRedisRepository.checkAndDecreaseStock(ticketId, 1L);
+
+        // then
+        await().atMost(2, SECONDS).untilAsserted(() ->
+                assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isTrue());
+    }
+
+    @Test
+    @DisplayName("소진된 재고가 복구되면 재고 소진 기록을 해제한다")
+    void it_clears_sold_out_when_restocked() {
+        // given
+        ticketStockCountRedisRepository.setTicketStockCount(ticketId, 1L);
+        ticketStockCountRedisRepository.decreaseTicketStockCount(ticketId);
+        await().atMost(2, SECONDS).untilAsserted(() ->
+                assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isTrue());
+
+        // when
+        ticketStockCountRedisRepository.increaseTicketStockCount(ticketId);
+
+        // then
+        await().atMost(2, SECONDS).untilAsserted(() ->
+                assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isFalse());
+    }
+}
@@ -0,0 +1,90 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.wootecam.festivals.domain.ticket.entity.TicketInfo;
+import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("TicketInfoCacheService 클래스")
+class TicketInfoCacheServiceTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 100L;
+    private final LocalDateTime startSaleTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private final LocalDateTime endSaleTime = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private TicketInfoRedisRepository ticketInfoRedisRepository;
+    @Autowired
+    private TicketInfoCacheService ticketInfoCacheService;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        ticketInfoCacheService.invalidateTicketInfo(ticketId);
+    }
+
+    @Nested
+    @DisplayName("getTicketInfo 메소드는")
+    class Describe_getTicketInfo {
+
+        @Test
+        @DisplayName("한 번 조회한 티켓 정보는 Redis 가 아닌 캐시에서 반환한다")
+        void it_returns_cached_ticket_info() {
+            // given
+            ticketInfoRedisRepository.setTicketInfo(ticketId, startSaleTime, endSaleTime);
+            ticketInfoCacheService.getTicketInfo(ticketId);
+            redisTemplate.delete("tickets:" + ticketId);
+
+            // when
+            TicketInfo ticketInfo = ticketInfoCacheService.getTicketInfo(ticketId);
+
+            // then
+            assertThat(ticketInfo).isEqualTo(new TicketInfo(startSaleTime, endSaleTime));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 티켓 정보는 캐싱하지 않는다")
+        void it_does_not_cache_missing_ticket_info() {
+            // given
+            ticketInfoCacheService.getTicketInfo(ticketId);
+            ticketInfoRedisRepository.setTicketInfo(ticketId, startSaleTime, endSaleTime);
+
+            // when
+            TicketInfo ticketInfo = ticketInfoCacheService.getTicketInfo(ticketId);
+
+            // then
+            assertThat(ticketInfo).isEqualTo(new TicketInfo(startSaleTime, endSaleTime));
+        }
+
+        @Test
+        @DisplayName("티켓 정보 변경 메시지를 받으면 캐시를 무효화한다")
+        void it_invalidates_cache_when_ticket_info_updated() {
+            // given
+            ticketInfoRedisRepository.setTicketInfo(ticketId, startSaleTime, endSaleTime);
+            ticketInfoCacheService.getTicketInfo(ticketId);
+
+            LocalDateTime newEndSaleTime = endSaleTime.plusHours(1);
+            ticketInfoRedisRepository.setTicketInfo(ticketId, startSaleTime, newEndSaleTime);
+
+            // when
+            ticketInfoRedisRepository.publishTicketInfoUpdated(ticketId);
+
+            // then
+            await().atMost(2, SECONDS).untilAsserted(() ->
+                    assertThat(ticketInfoCacheService.getTicketInfo(ticketId))
+                            .isEqualTo(new TicketInfo(startSaleTime, newEndSaleTime)));
+        }
+    }
+}
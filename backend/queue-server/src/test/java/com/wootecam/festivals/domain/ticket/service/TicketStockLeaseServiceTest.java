@@ -0,0 +1,310 @@
+package com.wootecam.festivals.domain.ticket.service;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("TicketStockLeaseService 클래스")
+class TicketStockLeaseServiceTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 1L;
+    private final Long memberId = 1L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+
+    private String stockKey;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        stockKey = ticketStockCountRedisRepository.TICKETS_PREFIX + ticketId + ":"
+                + ticketStockCountRedisRepository.TICKET_STOCK_COUNT_PREFIX;
+    }
+
+    @Nested
+    @DisplayName("tryAcquire 메소드는")
+    class Describe_tryAcquire {
+
+        @Test
+        @DisplayName("재고를 블록 단위로 임대하고, 임대한 재고는 재고 수량 조회에 포함한다")
+        void it_leases_stock_by_block() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService leaseService = createLeaseService(50, 10000);
+
+            // when
+            List<Boolean> results = IntStream.range(0, 10)
+                    .mapToObj(i -> leaseService.tryAcquire(ticketId, memberId))
+                    .toList();
+
+            // then
+            assertThat(results).containsOnly(true);
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("50");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("임대한 재고를 모두 나누어 주고 남은 재고가 없다면 false 를 반환한다")
+        void it_returns_false_when_stock_is_exhausted() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 3L);
+            TicketStockLeaseService leaseService = createLeaseService(2, 10000);
+
+            // when
+            List<Boolean> results = IntStream.range(0, 4)
+                    .mapToObj(i -> leaseService.tryAcquire(ticketId, memberId))
+                    .toList();
+
+            // then
+            assertThat(results).containsExactly(true, true, true, false);
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isZero();
+        }
+
+        @Test
+        @DisplayName("하위 카운터를 사용하는 티켓은 여러 하위 카운터에서 재고를 임대한다")
+        void it_leases_stock_from_stripes() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 8L, 4);
+            TicketStockLeaseService leaseService = createLeaseService(5, 10000);
+
+            // when
+            List<Boolean> results = IntStream.range(0, 9)
+                    .mapToObj(i -> leaseService.tryAcquire(ticketId, memberId))
+                    .toList();
+
+            // then
+            assertThat(results).containsExactly(true, true, true, true, true, true, true, true, false);
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isZero();
+        }
+
+        @Test
+        @DisplayName("만료된 다른 인스턴스의 임대 재고를 회수하여 임대한다")
+        void it_reclaims_expired_lease_of_other_instance() {
+            // given: 반환하지 못하고 만료된 임대가 남은 인스턴스
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 60L);
+            TicketStockLeaseService expiredService = createLeaseService(50, 0);
+            expiredService.tryAcquire(ticketId, memberId);
+            TicketStockLeaseService leaseService = createLeaseService(50, 10000);
+
+            // when
+            boolean result = leaseService.tryAcquire(ticketId, memberId);
+
+            // then: 만료된 임대 50 을 회수한 재고 60 에서 50 을 임대
+            assertThat(result).isTrue();
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("10");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(60L);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 임대 중인 재고가 있다면 재고 소진을 발행하지 않는다")
+        void it_does_not_publish_sold_out_while_other_leases_are_outstanding() {
+            // given
+            soldOutTicketRegistry.markRestocked(ticketId);
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 2L);
+            createLeaseService(2, 10000).tryAcquire(ticketId, memberId);
+            TicketStockLeaseService leaseService = createLeaseService(2, 10000);
+
+            // when
+            boolean result = leaseService.tryAcquire(ticketId, memberId);
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isFalse();
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있다면 Redis 재고 수량에서 바로 차감한다")
+        void it_decreases_redis_stock_when_disabled() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService leaseService = new TicketStockLeaseService(ticketStockCountRedisRepository,
+                    false, 50, 10000);
+
+            // when
+            boolean result = leaseService.tryAcquire(ticketId, memberId);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("99");
+        }
+    }
+
+    @Nested
+    @DisplayName("returnExpiredLeases 메소드는")
+    class Describe_returnExpiredLeases {
+
+        @Test
+        @DisplayName("임대 시간이 지난 재고 중 남은 재고를 반환한다")
+        void it_returns_remaining_stock_of_expired_lease() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService leaseService = createLeaseService(50, 0);
+            leaseService.tryAcquire(ticketId, memberId);
+
+            // when
+            leaseService.returnExpiredLeases();
+
+            // then
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("99");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(99L);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 이미 회수한 임대는 반환하지 않는다")
+        void it_does_not_return_lease_reclaimed_by_other_instance() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService expiredService = createLeaseService(50, 0);
+            expiredService.tryAcquire(ticketId, memberId);
+            createLeaseService(50, 10000).tryAcquire(ticketId, memberId);
+
+            // when
+            expiredService.returnExpiredLeases();
+
+            // then
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("50");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(100L);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordLeases 메소드는")
+    class Describe_recordLeases {
+
+        @Test
+        @DisplayName("임대한 재고 중 남은 재고 수량을 기록하여 나누어 준 재고를 재고 수량 조회에서 뺀다")
+        void it_records_remaining_stock_of_lease() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService leaseService = createLeaseService(50, 10000);
+            IntStream.range(0, 10).forEach(i -> leaseService.tryAcquire(ticketId, memberId));
+
+            // when
+            leaseService.recordLeases();
+
+            // then
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("50");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(90L);
+        }
+
+        @Test
+        @DisplayName("만료된 임대는 기록된 남은 재고 수량만 회수한다")
+        void it_reclaims_only_recorded_remaining_stock() {
+            // given: 50 을 임대하여 10 을 나누어 주고 40 을 기록한 뒤 종료된 인스턴스
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            ticketStockCountRedisRepository.leaseTicketStock(ticketId, "terminated", 50, 0);
+            ticketStockCountRedisRepository.recordLeasedTicketStock(ticketId, "terminated", 40);
+            TicketStockLeaseService leaseService = createLeaseService(50, 10000);
+
+            // when
+            boolean result = leaseService.tryAcquire(ticketId, memberId);
+
+            // then: 회수한 40 을 더한 재고 90 에서 50 을 임대
+            assertThat(result).isTrue();
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("40");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(90L);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 이미 회수한 임대라면 기록하지 않고 더 이상 나누어 주지 않는다")
+        void it_stops_handing_out_reclaimed_lease() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService expiredService = createLeaseService(50, 0);
+            expiredService.tryAcquire(ticketId, memberId);
+            createLeaseService(50, 10000).tryAcquire(ticketId, memberId);
+
+            // when
+            expiredService.recordLeases();
+            expiredService.returnExpiredLeases();
+
+            // then: 회수된 임대를 다시 기록하거나 반환하지 않는다
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("50");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(100L);
+        }
+    }
+
+    @Nested
+    @DisplayName("setTicketStockCount 로 재고 수량을 다시 설정하면")
+    class Context_with_stock_count_reset {
+
+        @Test
+        @DisplayName("임대 중인 재고를 남겨 두고 그만큼 뺀 재고 수량을 설정한다")
+        void it_keeps_live_leases() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService leaseService = createLeaseService(50, 10000);
+            leaseService.tryAcquire(ticketId, memberId);
+            leaseService.recordLeases();
+
+            // when
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 80L);
+
+            // then: 임대 중인 49 를 뺀 31 을 설정하고, 임대는 그대로 반환할 수 있다
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("31");
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(80L);
+            leaseService.destroy();
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("80");
+        }
+    }
+
+    @Nested
+    @DisplayName("destroy 메소드는")
+    class Describe_destroy {
+
+        @Test
+        @DisplayName("인스턴스가 종료되면 남은 재고를 반환한다")
+        void it_returns_remaining_stock_on_shutdown() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 100L);
+            TicketStockLeaseService leaseService = createLeaseService(50, 10000);
+            leaseService.tryAcquire(ticketId, memberId);
+            leaseService.tryAcquire(ticketId, memberId);
+
+            // when
+            leaseService.destroy();
+
+            // then
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(98L);
+        }
+
+        @Test
+        @DisplayName("소진되었던 재고 수량이 반환으로 다시 채워지면 재입고를 발행한다")
+        void it_publishes_restocked_when_returned_stock_refills() {
+            // given: 모든 재고를 임대하여 Redis 재고 수량이 0 인 상태
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 2L);
+            TicketStockLeaseService leaseService = createLeaseService(2, 10000);
+            leaseService.tryAcquire(ticketId, memberId);
+            soldOutTicketRegistry.markSoldOut(ticketId);
+
+            // when
+            leaseService.destroy();
+
+            // then
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("1");
+            await().atMost(2, SECONDS).untilAsserted(() ->
+                    assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isFalse());
+        }
+    }
+
+    private TicketStockLeaseService createLeaseService(long blockSize, long timeoutMillis) {
+        return new TicketStockLeaseService(ticketStockCountRedisRepository, true, blockSize, timeoutMillis);
+    }
+}
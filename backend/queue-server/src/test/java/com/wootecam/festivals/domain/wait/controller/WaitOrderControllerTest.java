@@ -48,7 +48,7 @@ class WaitOrderControllerTest extends RestDocsSupport {
         @DisplayName("대기열 통과 가능 여부와 대기 순서를 반환한다")
         void it_returns_wait_order_response() throws Exception {
             // Given
-            WaitOrderResponse response = new WaitOrderResponse(true, 15L, 30L);
+            WaitOrderResponse response = new WaitOrderResponse(true, 15L, 30L, "admissionToken");
             when(waitOrderService.getWaitOrder(any(), any(), any())).thenReturn(response);
             Authentication authentication = new Authentication(memberId);
 
@@ -61,6 +61,7 @@ class WaitOrderControllerTest extends RestDocsSupport {
                     .andExpect(jsonPath("$.data.purchasable").value(true))
                     .andExpect(jsonPath("$.data.relativeWaitOrder").value(15L))
                     .andExpect(jsonPath("$.data.absoluteWaitOrder").value(30L))
+                    .andExpect(jsonPath("$.data.admissionToken").value("admissionToken"))
                     .andDo(restDocs.document(
                             queryParameters(
                                     parameterWithName("waitOrder").description("해당 사용자의 대기 번호, 대기열 통과 여부 판단 시 사용됨")
@@ -71,7 +72,9 @@ class WaitOrderControllerTest extends RestDocsSupport {
                                     fieldWithPath("relativeWaitOrder").type(JsonFieldType.NUMBER)
                                             .description("사용자가 대기열 페이지에서 확인할 대기 번호"),
                                     fieldWithPath("absoluteWaitOrder").type(JsonFieldType.NUMBER)
-                                            .description("대기열 통과 여부 판단 시 사용되는 대기 번호"))
+                                            .description("대기열 통과 여부 판단 시 사용되는 대기 번호"),
+                                    fieldWithPath("admissionToken").type(JsonFieldType.STRING).optional()
+                                            .description("대기열 통과 시 발급되는 입장 토큰, 구매 가능 여부 확인 요청의 Admission-Token 헤더로 전달"))
                     ));
         }
     }
@@ -2,7 +2,10 @@ package com.wootecam.festivals.domain.wait.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.wootecam.festivals.domain.wait.entity.PassOrderProgress;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,8 @@ class PassOrderRedisRepositoryTest extends SpringBootTestConfig {
     private RedisTemplate<String, String> redisTemplate;
     @Autowired
     private PassOrderRedisRepository passOrderRedisRepository;
+    @Autowired
+    private WaitingRedisRepository waitingRedisRepository;
 
     @BeforeEach
     void setUp() {
@@ -70,4 +75,26 @@ class PassOrderRedisRepositoryTest extends SpringBootTestConfig {
         newPassOrder = passOrderRedisRepository.increase(ticketId, passOrderChunkSize, curWaitOrder);
         assertThat(newPassOrder).isEqualTo(10L);
     }
+
+    @Test
+    @DisplayName("increaseAll 메소드는 여러 티켓의 대기열 순번을 한 번에 증가시킨다")
+    void increaseAll_shouldIncrementPassOrdersOfAllTickets() {
+        // Given
+        Long otherTicketId = 2L;
+        for (long userId = 1; userId <= 10; ++userId) {
+            waitingRedisRepository.join(ticketId, userId);
+        }
+        for (long userId = 1; userId <= 3; ++userId) {
+            waitingRedisRepository.join(otherTicketId, userId);
+        }
+
+        // When
+        Map<Long, PassOrderProgress> progresses = passOrderRedisRepository.increaseAll(
+                Map.of(ticketId, 5L, otherTicketId, 5L));
+
+        // Then
+        assertThat(progresses.get(ticketId)).isEqualTo(new PassOrderProgress(5L, 10L));
+        assertThat(progresses.get(otherTicketId)).isEqualTo(new PassOrderProgress(0L, 3L));
+        assertThat(passOrderRedisRepository.getAll(List.of(ticketId, otherTicketId))).isEqualTo(progresses);
+    }
 }
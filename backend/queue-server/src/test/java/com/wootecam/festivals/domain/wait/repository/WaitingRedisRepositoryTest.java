@@ -0,0 +1,177 @@
+package com.wootecam.festivals.domain.wait.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.wait.entity.WaitOrderVerification;
+import com.wootecam.festivals.domain.wait.entity.WaitingJoinResult;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("WaitingRedisRepository 클래스")
+class WaitingRedisRepositoryTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 1L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private WaitingRedisRepository waitingRedisRepository;
+    @Autowired
+    private PassOrderRedisRepository passOrderRedisRepository;
+    @Autowired
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Nested
+    @DisplayName("join 메소드는")
+    class Describe_join {
+
+        @Test
+        @DisplayName("대기 순서와 함께 현재 입장 순서, 재고 수량을 반환한다")
+        void it_returns_wait_order_with_pass_order_and_stock() {
+            // Given
+            passOrderRedisRepository.set(ticketId, 3L);
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 7L);
+
+            // When
+            WaitingJoinResult result = waitingRedisRepository.join(ticketId, 1L);
+
+            // Then
+            assertThat(result).isEqualTo(new WaitingJoinResult(1L, 3L, 7L));
+            assertThat(waitingRedisRepository.exists(ticketId, 1L)).isTrue();
+        }
+
+        @Test
+        @DisplayName("재고 수량이 적재되지 않았다면 재고 수량이 적재되지 않았음을 반환한다")
+        void it_returns_stock_not_loaded_when_stock_is_missing() {
+            // When
+            WaitingJoinResult result = waitingRedisRepository.join(ticketId, 1L);
+
+            // Then
+            assertThat(result.isStockNotLoaded()).isTrue();
+            assertThat(result.hasNoStock()).isFalse();
+        }
+
+        @Test
+        @DisplayName("이미 대기 중인 사용자에게는 기존 대기 순서를 반환한다")
+        void it_returns_same_wait_order_for_waiting_user() {
+            // Given
+            waitingRedisRepository.join(ticketId, 1L);
+            waitingRedisRepository.join(ticketId, 2L);
+
+            // When
+            WaitingJoinResult result = waitingRedisRepository.join(ticketId, 1L);
+
+            // Then
+            assertThat(result.waitOrder()).isEqualTo(1L);
+            assertThat(waitingRedisRepository.getSize(ticketId)).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("동시에 참가한 사용자들에게 중복되지 않는 대기 순서를 발급한다")
+        void it_issues_unique_wait_orders_concurrently() throws Exception {
+            // Given
+            int userCount = 100;
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+            // When
+            List<Future<WaitingJoinResult>> futures = LongStream.rangeClosed(1, userCount)
+                    .mapToObj(userId -> executorService.submit(() -> waitingRedisRepository.join(ticketId, userId)))
+                    .toList();
+
+            List<Long> waitOrders = futures.stream()
+                    .map(future -> {
+                        try {
+                            return future.get().waitOrder();
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+            executorService.shutdown();
+
+            // Then
+            assertThat(waitOrders).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, userCount).boxed().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("rejoin 메소드는")
+    class Describe_rejoin {
+
+        @Test
+        @DisplayName("대기 중인 사용자에게 대기열 맨 뒤의 새로운 대기 순서를 발급한다")
+        void it_issues_new_wait_order_at_the_end() {
+            // Given
+            waitingRedisRepository.join(ticketId, 1L);
+            waitingRedisRepository.join(ticketId, 2L);
+
+            // When
+            WaitingJoinResult result = waitingRedisRepository.rejoin(ticketId, 1L);
+
+            // Then
+            assertThat(result.waitOrder()).isEqualTo(3L);
+            assertThat(waitingRedisRepository.join(ticketId, 1L).waitOrder()).isEqualTo(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("verify 메소드는")
+    class Describe_verify {
+
+        @Test
+        @DisplayName("저장된 대기 순서와 같다면 현재 입장 순서를 반환한다")
+        void it_returns_pass_order_when_wait_order_matches() {
+            // Given
+            passOrderRedisRepository.set(ticketId, 5L);
+            waitingRedisRepository.join(ticketId, 1L);
+
+            // When
+            WaitOrderVerification result = waitingRedisRepository.verify(ticketId, 1L, 1L);
+
+            // Then
+            assertThat(result).isEqualTo(new WaitOrderVerification(true, true, 5L));
+        }
+
+        @Test
+        @DisplayName("저장된 대기 순서와 다르다면 일치하지 않음을 반환한다")
+        void it_returns_mismatch_when_wait_order_differs() {
+            // Given
+            waitingRedisRepository.join(ticketId, 1L);
+            waitingRedisRepository.join(ticketId, 2L);
+
+            // When
+            WaitOrderVerification result = waitingRedisRepository.verify(ticketId, 1L, 2L);
+
+            // Then
+            assertThat(result.waiting()).isTrue();
+            assertThat(result.matched()).isFalse();
+        }
+
+        @Test
+        @DisplayName("대기열에 없는 사용자라면 대기 중이 아님을 반환한다")
+        void it_returns_not_waiting_when_user_not_in_queue() {
+            // When
+            WaitOrderVerification result = waitingRedisRepository.verify(ticketId, 1L, 1L);
+
+            // Then
+            assertThat(result.waiting()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.wootecam.festivals.domain.wait.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.domain.ticket.repository.CheckoutMetricsRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("PassChunkSizeRegulator 클래스")
+class PassChunkSizeRegulatorTest extends SpringBootTestConfig {
+
+    private final Long ticketId = 1L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+    @Autowired
+    private CheckoutMetricsRedisRepository checkoutMetricsRedisRepository;
+    @Autowired
+    private TicketStockCountRedisRepository ticketStockCountRedisRepository;
+
+    private PassChunkSizeRegulator regulator;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        ticketStockCountRedisRepository.setTicketStockCount(ticketId, 1000L);
+        // 최대 100, 최소 10, 증가 10, 감소 비율 0.5, SLO 300ms, 유지 비율 0.8
+        regulator = new PassChunkSizeRegulator(checkoutMetricsRedisRepository, ticketStockCountRedisRepository,
+                true, 100, 10, 10, 0.5, 300, 0.8);
+    }
+
+    @Nested
+    @DisplayName("nextChunkSize 메소드는")
+    class Describe_nextChunkSize {
+
+        @Test
+        @DisplayName("설정된 입장 인원에서 조절을 시작한다")
+        void it_starts_from_configured_chunk_size() {
+            // when
+            Long chunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(chunkSize).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("평균 처리 시간이 SLO 를 넘으면 입장 인원을 줄인다")
+        void it_decreases_chunk_size_when_latency_exceeds_slo() {
+            // given
+            checkoutMetricsRedisRepository.record(ticketId, 500, true);
+            checkoutMetricsRedisRepository.record(ticketId, 700, true);
+
+            // when
+            Long chunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(chunkSize).isEqualTo(50L);
+        }
+
+        @Test
+        @DisplayName("api-server 가 한가하면 입장 인원을 늘린다")
+        void it_increases_chunk_size_when_api_server_is_idle() {
+            // given
+            checkoutMetricsRedisRepository.record(ticketId, 500, true);
+            regulator.nextChunkSize(ticketId);
+
+            // when
+            Long first = regulator.nextChunkSize(ticketId);
+            Long second = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(first).isEqualTo(60L);
+            assertThat(second).isEqualTo(70L);
+        }
+
+        @Test
+        @DisplayName("평균 처리 시간이 SLO 에 가까우면 입장 인원을 유지한다")
+        void it_holds_chunk_size_when_latency_approaches_slo() {
+            // given
+            checkoutMetricsRedisRepository.record(ticketId, 500, true);
+            regulator.nextChunkSize(ticketId);
+            checkoutMetricsRedisRepository.record(ticketId, 260, true);
+
+            // when
+            Long chunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(chunkSize).isEqualTo(50L);
+        }
+
+        @Test
+        @DisplayName("입장 인원은 남은 재고 수량을 넘지 않는다")
+        void it_limits_chunk_size_by_stock_count() {
+            // given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 3L);
+
+            // when
+            Long chunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(chunkSize).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("조회한 지표는 초기화되어 다음 갱신에 반영되지 않는다")
+        void it_resets_metrics_after_poll() {
+            // given
+            checkoutMetricsRedisRepository.record(ticketId, 1000, true);
+            regulator.nextChunkSize(ticketId);
+
+            // when
+            Long chunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(chunkSize).isEqualTo(60L);
+        }
+
+        @Test
+        @DisplayName("재고가 소진되면 입장시키지 않고 입장 인원 상태를 제거한다")
+        void it_removes_chunk_size_when_sold_out() {
+            // given
+            checkoutMetricsRedisRepository.record(ticketId, 1000, true);
+            regulator.nextChunkSize(ticketId);
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 0L);
+
+            // when
+            Long soldOutChunkSize = regulator.nextChunkSize(ticketId);
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 1000L);
+            Long restockedChunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(soldOutChunkSize).isZero();
+            assertThat(restockedChunkSize).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("진행 중인 티켓 목록에서 빠진 티켓의 입장 인원 상태를 제거한다")
+        void it_removes_chunk_size_of_finished_ticket() {
+            // given
+            Long otherTicketId = 2L;
+            ticketStockCountRedisRepository.setTicketStockCount(otherTicketId, 1000L);
+            checkoutMetricsRedisRepository.record(ticketId, 1000, true);
+            regulator.nextChunkSize(ticketId);
+
+            // when
+            regulator.nextChunkSizes(List.of(otherTicketId));
+            Long chunkSize = regulator.nextChunkSize(ticketId);
+
+            // then
+            assertThat(chunkSize).isEqualTo(100L);
+        }
+    }
+}
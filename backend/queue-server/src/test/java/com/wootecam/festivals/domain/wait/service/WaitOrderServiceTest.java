@@ -2,12 +2,17 @@ package com.wootecam.festivals.domain.wait.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
 
 import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.service.SoldOutTicketRegistry;
+import com.wootecam.festivals.domain.ticket.service.TicketInfoCacheService;
+import com.wootecam.festivals.domain.wait.dto.PassOrderMessage;
 import com.wootecam.festivals.domain.wait.dto.WaitOrderResponse;
 import com.wootecam.festivals.domain.wait.exception.WaitErrorCode;
+import com.wootecam.festivals.domain.wait.publisher.PassOrderPublisher;
 import com.wootecam.festivals.domain.wait.repository.PassOrderRedisRepository;
 import com.wootecam.festivals.domain.wait.repository.WaitingRedisRepository;
 import com.wootecam.festivals.global.exception.type.ApiException;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.TestPropertySource;
 
@@ -39,17 +45,25 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
     @Autowired
     private TicketInfoRedisRepository ticketInfoRedisRepository;
     @Autowired
+    private TicketInfoCacheService ticketInfoCacheService;
+    @Autowired
+    private SoldOutTicketRegistry soldOutTicketRegistry;
+    @Autowired
     private PassOrderRedisRepository passOrderRedisRepository;
     @Autowired
     private CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
+    @MockBean
+    private PassOrderPublisher passOrderPublisher;
 
     @BeforeEach
     void setUp() {
         redisTemplate.getConnectionFactory().getConnection().flushAll();
         ticketInfoRedisRepository.setTicketInfo(ticketId, LocalDateTime.now().minusHours(1),
                 LocalDateTime.now().plusHours(1));
+        ticketInfoCacheService.invalidateTicketInfo(ticketId);
+        soldOutTicketRegistry.markRestocked(ticketId);
         ticketStockCountRedisRepository.setTicketStockCount(ticketId, 10L);
     }
 
@@ -77,10 +91,39 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             assertThat(response.purchasable()).isTrue();
             assertThat(response.relativeWaitOrder()).isEqualTo(1L); // (6 - 5)
             assertThat(response.absoluteWaitOrder()).isEqualTo(6L);
+            assertThat(response.admissionToken()).isNotBlank();
 
             assertThat(waitingRepository.exists(ticketId, loginMemberId)).isTrue(); // 사용자가 대기열에 추가되었는지 확인
         }
 
+        @Test
+        @DisplayName("이미 대기열에 있는 사용자가 다시 참가하면 기존 대기 순서를 반환한다.")
+        void it_returns_same_wait_order_when_user_rejoins() {
+            // Given
+            passOrderRedisRepository.set(ticketId, 0L);
+            WaitOrderResponse first = waitOrderService.getWaitOrder(ticketId, loginMemberId, null);
+            waitOrderService.getWaitOrder(ticketId, 2L, null);
+
+            // When
+            WaitOrderResponse second = waitOrderService.getWaitOrder(ticketId, loginMemberId, null);
+
+            // Then
+            assertThat(second.absoluteWaitOrder()).isEqualTo(first.absoluteWaitOrder());
+            assertThat(waitingRepository.getSize(ticketId)).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("재고가 없는 상태에서 새로운 사용자가 참가하면 예외를 던진다.")
+        void it_throws_exception_when_new_user_joins_without_stock() {
+            // Given
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 0L);
+
+            // When, Then
+            assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, loginMemberId, null))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", WaitErrorCode.NO_STOCK);
+        }
+
         @Test
         @DisplayName("재고가 없으면 예외를 던진다.")
         void it_throws_exception_when_no_stock_remains() {
@@ -95,11 +138,56 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
                     .hasFieldOrPropertyWithValue("errorCode", WaitErrorCode.NO_STOCK);
         }
 
+        @Test
+        @DisplayName("재고 수량이 Redis 에 없으면 재고 소진으로 기록하지 않고 예외를 던진다.")
+        void it_throws_exception_without_marking_sold_out_when_stock_is_missing() {
+            // Given: 사용자가 대기열에 존재하지만 재고 수량이 아직 적재되지 않음
+            passOrderRedisRepository.set(ticketId, 0L);
+            WaitOrderResponse joined = waitOrderService.getWaitOrder(ticketId, loginMemberId, null);
+            redisTemplate.delete("tickets:" + ticketId + ":ticketStocks:count");
+
+            // When, Then
+            assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, loginMemberId, joined.absoluteWaitOrder()))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", WaitErrorCode.NO_STOCK);
+            assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("재고 수량이 Redis 에 없을 때 새로운 사용자가 참가하면 재고 소진으로 기록하지 않고 예외를 던진다.")
+        void it_throws_exception_without_marking_sold_out_when_new_user_joins_before_stock_is_loaded() {
+            // Given: 재고 수량이 아직 적재되지 않음
+            redisTemplate.delete("tickets:" + ticketId + ":ticketStocks:count");
+
+            // When, Then
+            assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, loginMemberId, null))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", WaitErrorCode.NO_STOCK);
+            assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("재고 소진이 확인된 이후에는 Redis 재고를 조회하지 않고 예외를 던진다.")
+        void it_throws_exception_without_redis_after_sold_out() {
+            // Given: 재고 소진 확인 후 Redis 재고가 다시 생겼지만 재입고 메시지는 받지 못한 상태
+            ticketStockCountRedisRepository.setTicketStockCount(ticketId, 0L);
+            assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, loginMemberId, null))
+                    .isInstanceOf(ApiException.class);
+            redisTemplate.opsForValue().set("tickets:" + ticketId + ":ticketStocks:count", "10");
+
+            // When, Then
+            assertThat(soldOutTicketRegistry.isSoldOut(ticketId)).isTrue();
+            assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, 2L, null))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", WaitErrorCode.NO_STOCK);
+            assertThat(waitingRepository.exists(ticketId, 2L)).isFalse();
+        }
+
         @Test
         @DisplayName("대기 순서가 잘못된 경우 예외를 던진다.")
         void it_throws_exception_when_invalid_wait_order() {
             // Given: 사용자가 대기열에 존재하고 잘못된 대기 순서가 전달된 경우
-            waitingRepository.addWaiting(ticketId, loginMemberId);
+            waitingRepository.join(ticketId, loginMemberId);
 
             // When, Then: 잘못된 대기 순서로 인한 예외 발생 확인
             assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, loginMemberId, -1L))
@@ -114,13 +202,13 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             Long currentPassOrder = 10L;
             Long loginMemberId = 10L;
             passOrderRedisRepository.set(ticketId, currentPassOrder);
-            waitingRepository.addWaiting(ticketId, loginMemberId);
+            waitingRepository.join(ticketId, loginMemberId);
             for (int i = 0; i < 5; ++i) {
                 waitOrderService.getWaitOrder(ticketId, (long) i, null);
             }
 
             // When: 사용자가 새로운 대기열 순서를 발급받음
-            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 5L);
+            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 1L);
 
             // Then: 새로운 대기열 순서가 발급되었는지 확인
             Long newWaitOrder = waitingRepository.getSize(ticketId);
@@ -149,12 +237,36 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             // Given
             Long currentPassOrder = 5L;
             passOrderRedisRepository.set(ticketId, currentPassOrder);
+            for (int i = 0; i < 10; ++i) {
+                waitingRepository.join(ticketId, 100L + i);
+            }
 
-            // When
-            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 12L);
+            // When: 대기열에 없는 사용자가 입장 범위에 포함되는 대기 순서를 보내더라도 새로운 대기 순서를 발급받음
+            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 6L);
 
             // Then
             assertThat(response.purchasable()).isFalse();
+            assertThat(response.absoluteWaitOrder()).isEqualTo(11L);
+            assertThat(response.relativeWaitOrder()).isEqualTo(6L);
+            assertThat(response.admissionToken()).isNull();
+        }
+
+        @Test
+        @DisplayName("대기열에 저장된 자신의 대기 순서가 아닌 대기 순서를 보내면 예외를 던진다.")
+        void it_throws_exception_when_wait_order_is_not_own() {
+            // Given: 다른 사용자의 대기 순서가 입장 범위에 포함된 경우
+            passOrderRedisRepository.set(ticketId, 0L);
+            waitingRepository.join(ticketId, loginMemberId);
+            for (int i = 0; i < 10; ++i) {
+                waitingRepository.join(ticketId, 100L + i);
+            }
+            passOrderRedisRepository.set(ticketId, 10L);
+
+            // When, Then
+            assertThatThrownBy(() -> waitOrderService.getWaitOrder(ticketId, loginMemberId, 11L))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", WaitErrorCode.INVALID_WAIT_ORDER);
+            assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketId)).isEqualTo(10L);
         }
 
         @Test
@@ -167,13 +279,14 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
                 waitOrderService.getWaitOrder(ticketId, (long) i, null);
             }
 
-            // When: 사용자가 대기열 통과 가능한지 확인
-            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 5L);
+            // When: 대기 순서가 5인 사용자가 대기열 통과 가능한지 확인
+            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, 4L, 5L);
 
             // Then: 통과 가능 여부와 대기열 순서를 확인
             assertThat(response.purchasable()).isTrue();
             assertThat(response.relativeWaitOrder()).isEqualTo(0L);
             assertThat(response.absoluteWaitOrder()).isEqualTo(5L);
+            assertThat(response.admissionToken()).isNotBlank();
         }
 
         @Test
@@ -185,9 +298,12 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             for (int i = 0; i < 5; ++i) {
                 waitOrderService.getWaitOrder(ticketId, (long) i, null);
             }
+            for (int i = 5; i < 8; ++i) {
+                waitingRepository.join(ticketId, (long) i);
+            }
 
-            // When: 사용자가 대기열 통과 가능한지 확인
-            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, loginMemberId, 8L);
+            // When: 대기 순서가 8인 사용자가 대기열 통과 가능한지 확인
+            WaitOrderResponse response = waitOrderService.getWaitOrder(ticketId, 7L, 8L);
 
             // Then: 통과 가능 여부와 대기열 순서를 확인
             assertThat(response.purchasable()).isTrue();
@@ -231,10 +347,10 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             currentTicketWaitRedisRepository.addCurrentTicketWait(ticketId1);
             currentTicketWaitRedisRepository.addCurrentTicketWait(ticketId2);
             for (int i = 0; i < 6; ++i) {
-                waitingRepository.addWaiting(ticketId1, (long) i);
+                waitingRepository.join(ticketId1, (long) i);
             }
             for (int i = 0; i < 11; ++i) {
-                waitingRepository.addWaiting(ticketId2, (long) i);
+                waitingRepository.join(ticketId2, (long) i);
             }
         }
 
@@ -254,5 +370,38 @@ class WaitOrderServiceTest extends SpringBootTestConfig {
             assertThat(newPassOrder1).isEqualTo(5L);
             assertThat(newPassOrder2).isEqualTo(10L);
         }
+
+        @Test
+        @DisplayName("리더가 아니라면 입장 순서를 갱신하지 않고 현재 입장 순서를 브로드캐스트한다")
+        void it_does_not_update_pass_order_when_not_leader() {
+            // given
+            passOrderRedisRepository.set(ticketId1, 0L);
+            passOrderRedisRepository.set(ticketId2, 5L);
+            redisTemplate.opsForValue().set("queue:leader", "other-instance");
+
+            // when
+            waitOrderService.updateCurrentPassOrder();
+
+            // then
+            assertThat(passOrderRedisRepository.get(ticketId1)).isEqualTo(0L);
+            assertThat(passOrderRedisRepository.get(ticketId2)).isEqualTo(5L);
+            verify(passOrderPublisher).publish(new PassOrderMessage(ticketId1, 0L, 5L, 6L));
+            verify(passOrderPublisher).publish(new PassOrderMessage(ticketId2, 5L, 5L, 11L));
+        }
+
+        @Test
+        @DisplayName("갱신된 입장 순서를 티켓별로 브로드캐스트한다")
+        void it_publishes_updated_pass_order() {
+            // given
+            passOrderRedisRepository.set(ticketId1, 0L);
+            passOrderRedisRepository.set(ticketId2, 5L);
+
+            // when
+            waitOrderService.updateCurrentPassOrder();
+
+            // then
+            verify(passOrderPublisher).publish(new PassOrderMessage(ticketId1, 5L, 5L, 6L));
+            verify(passOrderPublisher).publish(new PassOrderMessage(ticketId2, 10L, 5L, 11L));
+        }
     }
 }
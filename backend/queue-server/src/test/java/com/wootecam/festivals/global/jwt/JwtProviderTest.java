@@ -4,13 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.wootecam.festivals.global.auth.AuthErrorCode;
+import com.wootecam.festivals.global.constants.AdmissionTokenConstants;
 import com.wootecam.festivals.global.exception.WebSocketException;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import java.util.Date;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 class JwtProviderTest extends SpringBootTestConfig {
 
@@ -18,6 +23,8 @@ class JwtProviderTest extends SpringBootTestConfig {
 
     @Autowired
     private JwtProvider jwtProvider;
+    @Value("${jwt.secret}")
+    private String secretKey;
 
     @Test
     @DisplayName("JWT를 정상적으로 생성할 수 있다.")
@@ -46,6 +53,47 @@ class JwtProviderTest extends SpringBootTestConfig {
         assertThat(extractedMemberId).isEqualTo(memberId);
     }
 
+    @Test
+    @DisplayName("입장 토큰은 같은 키로 서명되며, 매번 다른 토큰 ID 와 입장 토큰 audience 를 담는다.")
+    void it_generates_admission_token_signed_with_same_key() {
+        // Given
+        Long ticketId = 1L;
+        Long memberId = 1L;
+
+        // When
+        String first = jwtProvider.generateAdmissionToken(ticketId, memberId, 10L, JwtProvider.ADMISSION_TOKEN_VALIDITY);
+        String second = jwtProvider.generateAdmissionToken(ticketId, memberId, 10L, JwtProvider.ADMISSION_TOKEN_VALIDITY);
+
+        // Then
+        Claims firstClaims = parse(first);
+        Claims secondClaims = parse(second);
+        assertThat(firstClaims.getSubject()).isEqualTo(String.valueOf(memberId));
+        assertThat(firstClaims.getAudience()).containsExactly(AdmissionTokenConstants.ADMISSION_TOKEN_AUDIENCE);
+        assertThat(firstClaims.getId()).isNotBlank().isNotEqualTo(secondClaims.getId());
+    }
+
+    @Test
+    @DisplayName("입장 토큰을 액세스 토큰으로 사용하면 예외가 발생해야 한다.")
+    void it_throws_exception_when_admission_token_is_used_as_access_token() {
+        // Given
+        String admissionToken = jwtProvider.generateAdmissionToken(1L, 1L, 10L, JwtProvider.ADMISSION_TOKEN_VALIDITY);
+
+        // When & Then
+        WebSocketException exception = assertThrows(WebSocketException.class,
+                () -> jwtProvider.getMemberIdFromToken(admissionToken));
+
+        assertThat(exception.getErrorCode()).isEqualTo(AuthErrorCode.UNAUTHORIZED);
+        assertThat(exception.getMessage()).contains("액세스 토큰이 아닙니다.");
+    }
+
+    private Claims parse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
     @Test
     @DisplayName("만료된 JWT를 검증할 때 예외가 발생해야 한다.")
     void it_throws_exception_when_token_is_expired() {
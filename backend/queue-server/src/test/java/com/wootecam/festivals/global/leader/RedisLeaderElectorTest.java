@@ -0,0 +1,74 @@
+package com.wootecam.festivals.global.leader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.wootecam.festivals.utils.SpringBootTestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("RedisLeaderElector 클래스")
+class RedisLeaderElectorTest extends SpringBootTestConfig {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RedisLeaderElector leader;
+    private RedisLeaderElector follower;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        leader = new RedisLeaderElector(redisTemplate, 10000);
+        follower = new RedisLeaderElector(redisTemplate, 10000);
+    }
+
+    @Nested
+    @DisplayName("tryAcquireLeadership 메소드는")
+    class Describe_tryAcquireLeadership {
+
+        @Test
+        @DisplayName("먼저 임대를 획득한 인스턴스만 리더가 된다")
+        void it_elects_only_one_leader() {
+            // when
+            boolean leaderResult = leader.tryAcquireLeadership();
+            boolean followerResult = follower.tryAcquireLeadership();
+
+            // then
+            assertThat(leaderResult).isTrue();
+            assertThat(followerResult).isFalse();
+            assertThat(leader.tryAcquireLeadership()).isTrue();
+        }
+
+        @Test
+        @DisplayName("리더가 임대를 해제하면 다른 인스턴스가 리더가 된다")
+        void it_elects_new_leader_after_release() {
+            // given
+            leader.tryAcquireLeadership();
+
+            // when
+            leader.destroy();
+
+            // then
+            assertThat(follower.tryAcquireLeadership()).isTrue();
+            assertThat(leader.tryAcquireLeadership()).isFalse();
+        }
+
+        @Test
+        @DisplayName("리더의 임대 시간이 지나면 다른 인스턴스가 리더가 된다")
+        void it_elects_new_leader_after_lease_expires() throws InterruptedException {
+            // given
+            RedisLeaderElector shortLeaseLeader = new RedisLeaderElector(redisTemplate, 100);
+            shortLeaseLeader.tryAcquireLeadership();
+
+            // when
+            Thread.sleep(200);
+
+            // then
+            assertThat(follower.tryAcquireLeadership()).isTrue();
+        }
+    }
+}
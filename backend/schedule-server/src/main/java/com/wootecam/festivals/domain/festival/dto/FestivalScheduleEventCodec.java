@@ -0,0 +1,38 @@
+package com.wootecam.festivals.domain.festival.dto;
+
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.BinaryPayloadReader;
+import com.wootecam.festivals.global.utils.BinaryPayloadWriter;
+
+/**
+ * 축제 스트림 메시지의 바이너리 형식
+ * <p>
+ * 버전 1: festivalId, startTime, endTime
+ * </p>
+ */
+public class FestivalScheduleEventCodec extends BinaryPayloadCodec<FestivalScheduleEvent> {
+
+    public static final FestivalScheduleEventCodec INSTANCE = new FestivalScheduleEventCodec();
+
+    private static final int VERSION = 1;
+
+    private FestivalScheduleEventCodec() {
+    }
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    protected void write(FestivalScheduleEvent value, BinaryPayloadWriter writer) {
+        writer.writeLong(value.festivalId());
+        writer.writeDateTime(value.startTime());
+        writer.writeDateTime(value.endTime());
+    }
+
+    @Override
+    protected FestivalScheduleEvent read(int version, BinaryPayloadReader reader) {
+        return new FestivalScheduleEvent(reader.readLong(), reader.readDateTime(), reader.readDateTime());
+    }
+}
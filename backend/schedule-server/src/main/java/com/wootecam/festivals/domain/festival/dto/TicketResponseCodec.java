@@ -0,0 +1,51 @@
+package com.wootecam.festivals.domain.festival.dto;
+
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.BinaryPayloadReader;
+import com.wootecam.festivals.global.utils.BinaryPayloadWriter;
+
+/**
+ * 티켓 스트림 메시지의 바이너리 형식
+ * <p>
+ * 버전 1: id, name, detail, price, quantity, remainStock, startSaleTime, endSaleTime, refundEndTime, createdAt, updatedAt
+ * </p>
+ */
+public class TicketResponseCodec extends BinaryPayloadCodec<TicketResponse> {
+
+    public static final TicketResponseCodec INSTANCE = new TicketResponseCodec();
+
+    private static final int VERSION = 1;
+
+    private TicketResponseCodec() {
+    }
+
+    @Override
+    protected int version() {
+        return VERSION;
+    }
+
+    @Override
+    protected void write(TicketResponse value, BinaryPayloadWriter writer) {
+        writer.writeLong(value.id());
+        writer.writeString(value.name());
+        writer.writeString(value.detail());
+        writer.writeLong(value.price());
+        writer.writeInt(value.quantity());
+        writer.writeLong(value.remainStock());
+        writer.writeDateTime(value.startSaleTime());
+        writer.writeDateTime(value.endSaleTime());
+        writer.writeDateTime(value.refundEndTime());
+        writer.writeDateTime(value.createdAt());
+        writer.writeDateTime(value.updatedAt());
+    }
+
+    @Override
+    protected TicketResponse read(int version, BinaryPayloadReader reader) {
+        return new TicketResponse(reader.readLong(),
+                reader.readString(), reader.readString(),
+                reader.readLong(), reader.readInt(), reader.readLong(),
+                reader.readDateTime(), reader.readDateTime(),
+                reader.readDateTime(),
+                reader.readDateTime(), reader.readDateTime());
+    }
+}
@@ -3,7 +3,7 @@ package com.wootecam.festivals.domain.festival.service;
 import static com.wootecam.festivals.domain.festival.constant.FestivalRedisStreamConstants.FESTIVAL_STREAM_GROUP;
 import static com.wootecam.festivals.domain.festival.constant.FestivalRedisStreamConstants.FESTIVAL_STREAM_KEY;
 
-import com.wootecam.festivals.global.scheduler.PendingClaimScheduler;
+import com.wootecam.festivals.global.utils.RedisStreamRecoveryEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,10 +14,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FestivalPendingScheduler {
 
-    private final PendingClaimScheduler pendingClaimScheduler;
+    private final RedisStreamRecoveryEngine redisStreamRecoveryEngine;
+    private final FestivalScheduleConsumer festivalScheduleConsumer;
 
     @Scheduled(fixedRate = 60000)
     public void processFestivalPendingMessage() {
-        pendingClaimScheduler.processPendingMessage(FESTIVAL_STREAM_KEY, FESTIVAL_STREAM_GROUP);
+        redisStreamRecoveryEngine.recoverEvents(FESTIVAL_STREAM_KEY, FESTIVAL_STREAM_GROUP, festivalScheduleConsumer);
     }
 }
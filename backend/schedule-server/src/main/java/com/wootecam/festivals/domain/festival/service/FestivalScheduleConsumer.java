@@ -5,77 +5,63 @@ import static com.wootecam.festivals.domain.festival.constant.FestivalRedisStrea
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wootecam.festivals.domain.festival.dto.FestivalScheduleEventCodec;
 import com.wootecam.festivals.domain.festival.entity.Festival;
+import com.wootecam.festivals.global.event.EventBus;
+import com.wootecam.festivals.global.event.EventListener;
+import com.wootecam.festivals.global.event.EventMessage;
+import com.wootecam.festivals.global.event.EventSubscription;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
-import com.wootecam.festivals.global.utils.RedisStreamOperator;
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.annotation.DependsOn;
-import org.springframework.data.redis.connection.stream.Consumer;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.ReadOffset;
-import org.springframework.data.redis.connection.stream.StreamOffset;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.stream.StreamListener;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
-import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
 @Component
 @DependsOn("redisConnectionFactory")
 @Slf4j
 @RequiredArgsConstructor
-public class FestivalScheduleConsumer implements StreamListener<String, ObjectRecord<String, String>>, InitializingBean,
-        DisposableBean {
+public class FestivalScheduleConsumer implements EventListener, InitializingBean, DisposableBean {
 
-    private final StringRedisTemplate redisTemplate;
     private final FestivalSchedulerService festivalSchedulerService;
     private final ObjectMapper objectMapper;
-    private final RedisStreamOperator redisOperator;
-    private Subscription subscription;
-    private StreamMessageListenerContainer<String, ObjectRecord<String, String>> container;
+    private final EventBus eventBus;
+    private EventSubscription subscription;
 
     @Override
-    public void onMessage(ObjectRecord<String, String> message) {
+    public void onEvent(EventMessage message) {
         log.info("Received message: {}", message);
 
         try {
-            Festival festival = objectMapper.readValue(message.getValue(), Festival.class);
-            festivalSchedulerService.scheduleStatusUpdate(festival);
-
-            redisTemplate.opsForStream()
-                    .acknowledge(FESTIVAL_STREAM_KEY, FESTIVAL_STREAM_GROUP, message.getId());
-            log.info("성공적으로 메시지 처리 ACK : {}", message.getId());
+            festivalSchedulerService.scheduleStatusUpdate(readFestivalId(message.payload()));
         } catch (RuntimeException | JsonProcessingException e) {
             throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "축제 스트림 메시지 처리 중 예외 발생", e);
         }
     }
 
+    // 바이너리 형식을 사용하기 전에 축제 엔티티를 JSON 으로 발행한 메시지도 처리합니다.
+    private Long readFestivalId(String payload) throws JsonProcessingException {
+        if (BinaryPayloadCodec.isBinary(payload)) {
+            return FestivalScheduleEventCodec.INSTANCE.decode(payload).festivalId();
+        }
+        return objectMapper.readValue(payload, Festival.class).getId();
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         log.info("Starting FestivalScheduleConsumer...");
-        // StreamMessageListenerContainer 설정
-        this.container = this.redisOperator.createStreamMessageListenerContainer();
-
-        //Subscription 설정
-        this.subscription = this.container.receive(
-                Consumer.from(FESTIVAL_STREAM_GROUP, "consumer-" + System.currentTimeMillis()),
-                StreamOffset.create(FESTIVAL_STREAM_KEY, ReadOffset.lastConsumed()),
-                this
-        );
-
-        this.subscription.await(Duration.ofMillis(20));
-
-        // redis listen 시작
-        this.container.start();
-
-        if (this.container.isRunning()) {
-            log.info("FestivalScheduleConsumer is running...");
-        }
+        // 처리에 성공한 메시지는 EventBus 가 확인합니다.
+        this.subscription = eventBus.subscribe(StreamConsumerOptions.builder()
+                .streamKey(FESTIVAL_STREAM_KEY)
+                .groupName(FESTIVAL_STREAM_GROUP)
+                .pollTimeout(Duration.ofSeconds(20))
+                .build(), this);
     }
 
     @Override
@@ -84,8 +70,5 @@ public class FestivalScheduleConsumer implements StreamListener<String, ObjectRe
         if (this.subscription != null) {
             this.subscription.cancel();
         }
-        if (this.container != null) {
-            this.container.stop();
-        }
     }
 }
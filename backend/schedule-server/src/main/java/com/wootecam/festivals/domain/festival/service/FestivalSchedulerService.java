@@ -36,14 +36,23 @@ public class FestivalSchedulerService {
      * @param festival 스케줄링할 축제
      */
     public void scheduleStatusUpdate(Festival festival) {
+        scheduleStatusUpdate(festival.getId());
+    }
+
+    /**
+     * 축제를 조회해 시작 시간과 종료 시간을 스케줄링합니다. 축제 스트림 메시지를 처리할 때 호출됩니다.
+     *
+     * @param festivalId 스케줄링할 축제 ID
+     */
+    public void scheduleStatusUpdate(Long festivalId) {
 
-        Festival findFestival = festivalRepository.findById(festival.getId())
+        Festival findFestival = festivalRepository.findById(festivalId)
                 .orElseThrow(() -> new ApiException(FESTIVAL_NOT_FOUND));
 
-        log.debug("Festival 스케줄링 - ID: {}", festival.getId());
+        log.debug("Festival 스케줄링 - ID: {}", festivalId);
         log.debug("현재 시간 : {}", LocalDateTime.now());
-        log.debug("시작 시간 : {}", festival.getStartTime());
-        log.debug("종료 시간 : {}", festival.getEndTime());
+        log.debug("시작 시간 : {}", findFestival.getStartTime());
+        log.debug("종료 시간 : {}", findFestival.getEndTime());
 
 
         scheduleStartTimeUpdate(findFestival);
@@ -2,6 +2,7 @@ package com.wootecam.festivals.domain.ticket.repository;
 
 import com.wootecam.festivals.domain.festival.dto.TicketResponse;
 import com.wootecam.festivals.domain.ticket.entity.Ticket;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,4 +20,7 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
                     AND t.isDeleted = false
             """)
     Optional<TicketResponse> findUpcomingAndOngoingSaleTickets(Long ticketId);
+
+    @Query("SELECT ts.id FROM TicketStock ts WHERE ts.ticket.id = :ticketId AND ts.memberId IS NULL ORDER BY ts.id")
+    List<Long> findUnreservedTicketStockIds(Long ticketId);
 }
@@ -3,7 +3,7 @@ package com.wootecam.festivals.domain.ticket.service;
 import static com.wootecam.festivals.domain.ticket.constant.TicketRedisStreamConstants.TICKET_STREAM_GROUP;
 import static com.wootecam.festivals.domain.ticket.constant.TicketRedisStreamConstants.TICKET_STREAM_KEY;
 
-import com.wootecam.festivals.global.scheduler.PendingClaimScheduler;
+import com.wootecam.festivals.global.utils.RedisStreamRecoveryEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,10 +14,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TicketPendingScheduler {
 
-    private final PendingClaimScheduler pendingClaimScheduler;
+    private final RedisStreamRecoveryEngine redisStreamRecoveryEngine;
+    private final TicketScheduleConsumer ticketScheduleConsumer;
 
     @Scheduled(fixedRate = 60000)
     public void processTicketPendingMessage() {
-        pendingClaimScheduler.processPendingMessage(TICKET_STREAM_KEY, TICKET_STREAM_GROUP);
+        redisStreamRecoveryEngine.recoverEvents(TICKET_STREAM_KEY, TICKET_STREAM_GROUP, ticketScheduleConsumer);
     }
 }
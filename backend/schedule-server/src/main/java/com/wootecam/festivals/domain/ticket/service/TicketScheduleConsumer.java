@@ -6,73 +6,61 @@ import static com.wootecam.festivals.domain.ticket.constant.TicketRedisStreamCon
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.festival.dto.TicketResponse;
+import com.wootecam.festivals.domain.festival.dto.TicketResponseCodec;
+import com.wootecam.festivals.global.event.EventBus;
+import com.wootecam.festivals.global.event.EventListener;
+import com.wootecam.festivals.global.event.EventMessage;
+import com.wootecam.festivals.global.event.EventSubscription;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
-import com.wootecam.festivals.global.utils.RedisStreamOperator;
+import com.wootecam.festivals.global.utils.BinaryPayloadCodec;
+import com.wootecam.festivals.global.utils.StreamConsumerOptions;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.data.redis.connection.stream.Consumer;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.ReadOffset;
-import org.springframework.data.redis.connection.stream.StreamOffset;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.stream.StreamListener;
-import org.springframework.data.redis.stream.StreamMessageListenerContainer;
-import org.springframework.data.redis.stream.Subscription;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class TicketScheduleConsumer implements StreamListener<String, ObjectRecord<String, String>>, InitializingBean,
-        DisposableBean {
+public class TicketScheduleConsumer implements EventListener, InitializingBean, DisposableBean {
 
     private final TicketScheduleService ticketScheduleService;
-    private final StringRedisTemplate redisTemplate;
-    private final RedisStreamOperator redisOperator;
+    private final EventBus eventBus;
     private final ObjectMapper objectMapper;
-    private Subscription subscription;
-    private StreamMessageListenerContainer<String, ObjectRecord<String, String>> container;
+    private EventSubscription subscription;
 
     @Override
-    public void onMessage(ObjectRecord<String, String> message) {
+    public void onEvent(EventMessage message) {
         log.info("Received message: {}", message);
 
         try {
-            TicketResponse ticket = objectMapper.readValue(message.getValue(), TicketResponse.class);
+            TicketResponse ticket = readTicket(message.payload());
             ticketScheduleService.scheduleRedisTicketInfoUpdate(ticket);
-
-            redisTemplate.opsForStream().acknowledge(TICKET_STREAM_KEY, TICKET_STREAM_GROUP, message.getId());
-            log.info("성공적으로 메시지 처리 ACK : {}", message.getId());
-        } catch (JsonProcessingException e) {
+        } catch (JsonProcessingException | IllegalArgumentException e) {
             throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "티켓 스트림 메시지 처리 중 예외 발생", e);
         }
     }
 
+    // 바이너리 형식을 사용하기 전에 발행한 JSON 메시지도 처리합니다.
+    private TicketResponse readTicket(String payload) throws JsonProcessingException {
+        if (BinaryPayloadCodec.isBinary(payload)) {
+            return TicketResponseCodec.INSTANCE.decode(payload);
+        }
+        return objectMapper.readValue(payload, TicketResponse.class);
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         log.info("Starting TicketScheduleConsumer...");
-        // StreamMessageListenerContainer 설정
-        this.container = this.redisOperator.createStreamMessageListenerContainer();
-
-        //Subscription 설정
-        this.subscription = this.container.receive(
-                Consumer.from(TICKET_STREAM_GROUP, "consumer-" + System.currentTimeMillis()),
-                StreamOffset.create(TICKET_STREAM_KEY, ReadOffset.lastConsumed()),
-                this
-        );
-
-        this.subscription.await(Duration.ofMillis(20));
-
-        // redis listen 시작
-        this.container.start();
-
-        if (this.container.isRunning()) {
-            log.info("TicketScheduleConsumer is running...");
-        }
+        // 처리에 성공한 메시지는 EventBus 가 확인합니다.
+        this.subscription = eventBus.subscribe(StreamConsumerOptions.builder()
+                .streamKey(TICKET_STREAM_KEY)
+                .groupName(TICKET_STREAM_GROUP)
+                .pollTimeout(Duration.ofSeconds(20))
+                .build(), this);
     }
 
     @Override
@@ -81,8 +69,5 @@ public class TicketScheduleConsumer implements StreamListener<String, ObjectReco
         if (this.subscription != null) {
             this.subscription.cancel();
         }
-        if (this.container != null) {
-            this.container.stop();
-        }
     }
 }
@@ -5,13 +5,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wootecam.festivals.domain.festival.dto.TicketResponse;
 import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockIdRedisRepository;
 import com.wootecam.festivals.global.exception.GlobalErrorCode;
 import com.wootecam.festivals.global.exception.type.ApiException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,8 +26,19 @@ public class TicketScheduleJob implements Job {
     private final TicketInfoRedisRepository ticketInfoRedisRepository;
     private final TicketStockCountRedisRepository ticketStockCountRedisRepository;
     private final CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
+    private final TicketStockIdRedisRepository ticketStockIdRedisRepository;
+    private final TicketRepository ticketRepository;
     private final ObjectMapper objectMapper;
 
+    @Value("${ticket.stock.stripe.enabled:false}")
+    private boolean stripeEnabled;
+
+    @Value("${ticket.stock.stripe.count:8}")
+    private int stripeCount;
+
+    @Value("${ticket.stock.stripe.min-stock:10000}")
+    private long stripeMinStock;
+
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
         log.info("티켓 정보 업데이트 스케줄러 실행");
@@ -31,13 +46,27 @@ public class TicketScheduleJob implements Job {
             String ticketToJson = jobExecutionContext.getJobDetail().getJobDataMap().getString("ticket");
             TicketResponse ticket = objectMapper.readValue(ticketToJson, TicketResponse.class);
             ticketInfoRedisRepository.setTicketInfo(ticket.id(), ticket.startSaleTime(), ticket.endSaleTime());
-            ticketStockCountRedisRepository.setTicketStockCount(ticket.id(), ticket.remainStock());
+            ticketStockCountRedisRepository.setTicketStockCount(ticket.id(), ticket.remainStock(),
+                    getStripeCount(ticket.remainStock()));
+            // 구매 시 티켓 재고 행을 탐색하지 않도록 점유되지 않은 티켓 재고 ID 를 미리 적재합니다.
+            List<Long> ticketStockIds = ticketRepository.findUnreservedTicketStockIds(ticket.id());
+            ticketStockIdRedisRepository.setTicketStockIds(ticket.id(), ticketStockIds);
             currentTicketWaitRedisRepository.addCurrentTicketWait(ticket.id());
+            ticketInfoRedisRepository.publishTicketInfoUpdated(ticket.id());
 
-            log.info("티켓 정보 업데이트 스케줄러 실행 완료 - 티켓 ID: {}, 판매 시작 시각: {}, 판매 종료 시각: {}, 남은 재고: {}", ticket.id(),
-                    ticket.startSaleTime(), ticket.endSaleTime(), ticket.remainStock());
+            log.info("티켓 정보 업데이트 스케줄러 실행 완료 - 티켓 ID: {}, 판매 시작 시각: {}, 판매 종료 시각: {}, 남은 재고: {}, 적재한 재고 ID 수: {}",
+                    ticket.id(), ticket.startSaleTime(), ticket.endSaleTime(), ticket.remainStock(),
+                    ticketStockIds.size());
         } catch (RuntimeException | JsonProcessingException e) {
             throw new ApiException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "티켓 정보 업데이트 스케줄러 실행 중 오류 발생", e);
         }
     }
+
+    // 재고가 많은 티켓은 재고 차감이 하나의 키에 몰리지 않도록 재고 수량을 하위 카운터로 나누어 적재합니다.
+    private int getStripeCount(Long remainStock) {
+        if (!stripeEnabled || remainStock < stripeMinStock) {
+            return 1;
+        }
+        return stripeCount;
+    }
 }
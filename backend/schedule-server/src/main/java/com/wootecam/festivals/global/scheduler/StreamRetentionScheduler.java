@@ -0,0 +1,21 @@
+package com.wootecam.festivals.global.scheduler;
+
+import com.wootecam.festivals.global.utils.RedisStreamRetentionManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 소비자 그룹이 처리한 이벤트 스트림 메시지를 주기적으로 삭제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamRetentionScheduler {
+
+    private final RedisStreamRetentionManager redisStreamRetentionManager;
+
+    @Scheduled(fixedDelayString = "${redis.stream.retention.interval-millis:60000}")
+    public void trimStreams() {
+        redisStreamRetentionManager.trimAll();
+    }
+}
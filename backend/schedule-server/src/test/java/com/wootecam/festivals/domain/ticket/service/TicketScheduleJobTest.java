@@ -8,6 +8,7 @@ import com.wootecam.festivals.domain.festival.dto.TicketResponse;
 import com.wootecam.festivals.domain.ticket.repository.CurrentTicketWaitRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketInfoRedisRepository;
 import com.wootecam.festivals.domain.ticket.repository.TicketStockCountRedisRepository;
+import com.wootecam.festivals.domain.ticket.repository.TicketStockIdRedisRepository;
 import com.wootecam.festivals.global.exception.type.ApiException;
 import com.wootecam.festivals.utils.SpringBootTestConfig;
 import java.time.LocalDateTime;
@@ -46,6 +47,9 @@ class TicketScheduleJobTest extends SpringBootTestConfig {
     @Autowired
     private CurrentTicketWaitRedisRepository currentTicketWaitRedisRepository;
 
+    @Autowired
+    private TicketStockIdRedisRepository ticketStockIdRedisRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -88,6 +92,7 @@ class TicketScheduleJobTest extends SpringBootTestConfig {
         assertThat(ticketStockCountRedisRepository.getTicketStockCount(ticketResponse.id())).isEqualTo(
                 ticketResponse.remainStock());
         assertThat(currentTicketWaitRedisRepository.getCurrentTicketWait()).contains(ticketResponse.id());
+        assertThat(ticketStockIdRedisRepository.hasTicketStockIdPool(ticketResponse.id())).isTrue();
     }
 
     @Test
@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { useParams, useNavigate } from 'react-router-dom';
+import { useParams, useNavigate, useLocation } from 'react-router-dom';
 import apiClient from '../../utils/apiClient';
 import { Button } from '../../components/ui/button';
 import { Loader2 } from 'lucide-react';
@@ -7,6 +7,7 @@ import { Loader2 } from 'lucide-react';
 const TicketPurchasePage = () => {
     const { festivalId, ticketId } = useParams();
     const navigate = useNavigate();
+    const location = useLocation();
     const [purchaseInfo, setPurchaseInfo] = useState(null);
     const [error, setError] = useState(null);
     const [isLoading, setIsLoading] = useState(true);
@@ -16,7 +17,9 @@ const TicketPurchasePage = () => {
     useEffect(() => {
         const checkPurchaseAvailability = async () => {
             try {
-                const response = await apiClient.get(`/festivals/${festivalId}/tickets/${ticketId}/purchase/check`);
+                const response = await apiClient.get(`/festivals/${festivalId}/tickets/${ticketId}/purchase/check`, {
+                    headers: { 'Admission-Token': location.state?.admissionToken }
+                });
                 if (!response.data.data.purchasable) {
                     setError('현재 이 티켓은 구매할 수 없습니다.');
                     return;
@@ -70,7 +73,7 @@ const TicketPurchasePage = () => {
         };
 
         initializePageData();
-    }, [festivalId, ticketId, navigate]);
+    }, [festivalId, ticketId, navigate, location.state]);
 
     const handleSubmit = async (e) => {
         e.preventDefault();
@@ -2,6 +2,7 @@ import React, { useState, useEffect, useCallback } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
 import { Loader2, AlertCircle } from 'lucide-react';
 import waitClient from '../../utils/waitClient'
+import { subscribePassOrder } from '../../utils/passOrderSocket';
 import { useRecoilState } from 'recoil';
 import { waitOrdersState } from '../../utils/atoms';
 import { Button } from '../../components/ui/button';
@@ -13,6 +14,7 @@ const TicketQueuePage = () => {
     const [relativeWaitOrder, setRelativeWaitOrder] = useState(null);
     const [error, setError] = useState(null);
     const [isSoldOut, setIsSoldOut] = useState(false);
+    const [isSubscribed, setIsSubscribed] = useState(false);
 
     // 로컬 스토리지 키 생성 함수
     const getStorageKey = useCallback((ticketId) => `waitOrder_${ticketId}`, []);
@@ -36,7 +38,7 @@ const TicketQueuePage = () => {
             const fullUrl = currentWaitOrder ? `${url}?waitOrder=${currentWaitOrder}` : url;
 
             const response = await waitClient.get(fullUrl);
-            const { purchasable, relativeWaitOrder, absoluteWaitOrder } = response.data.data;
+            const { purchasable, relativeWaitOrder, absoluteWaitOrder, admissionToken } = response.data.data;
 
             console.log('대기열 상태:', response.data.data);
 
@@ -47,7 +49,7 @@ const TicketQueuePage = () => {
             }
 
             if (purchasable) {
-                navigate(`/festivals/${festivalId}/tickets/${ticketId}/purchase`);
+                navigate(`/festivals/${festivalId}/tickets/${ticketId}/purchase`, { state: { admissionToken } });
             }
         } catch (err) {
             if (err.response && err.response.data.errorCode === 'WT-0005') {
@@ -59,11 +61,31 @@ const TicketQueuePage = () => {
         }
     }, [festivalId, ticketId, navigate, getWaitOrder, setWaitOrder]);
 
+    // 입장 순서 토픽을 구독하여 대기 순서를 직접 계산하고, 입장 범위에 들어왔을 때만 대기열 상태를 조회합니다.
+    useEffect(() => {
+        return subscribePassOrder(ticketId, {
+            onConnect: () => setIsSubscribed(true),
+            onMessage: ({ passOrder, passChunkSize }) => {
+                const waitOrder = Number(getWaitOrder(ticketId));
+                if (!waitOrder) {
+                    return;
+                }
+                if (waitOrder <= passOrder + passChunkSize) {
+                    checkQueueStatus();
+                } else {
+                    setRelativeWaitOrder(waitOrder - passOrder);
+                }
+            },
+            onClose: () => setIsSubscribed(false),
+        });
+    }, [ticketId, getWaitOrder, checkQueueStatus]);
+
+    // 구독 중에는 메시지를 놓친 경우에 대비해 드물게, 구독하지 못했다면 자주 대기열 상태를 조회합니다.
     useEffect(() => {
         checkQueueStatus();
-        const intervalId = setInterval(checkQueueStatus, 3000);
+        const intervalId = setInterval(checkQueueStatus, isSubscribed ? 30000 : 3000);
         return () => clearInterval(intervalId);
-    }, [checkQueueStatus]);
+    }, [checkQueueStatus, isSubscribed]);
 
     useEffect(() => {
         console.log("waitOrders", waitOrders)
@@ -0,0 +1,67 @@
+// 대기열 서버의 STOMP 엔드포인트(/ws)에 연결하여 티켓별 입장 순서 토픽을 구독합니다.
+// 입장 순서 구독에 필요한 프레임(CONNECT, SUBSCRIBE, MESSAGE, DISCONNECT)만 처리하므로 별도의 STOMP 라이브러리를 사용하지 않습니다.
+const WAIT_SOCKET_URL = process.env.REACT_APP_WAIT_SOCKET_URL
+    || `${window.location.protocol === 'https:' ? 'wss:' : 'ws:'}//${window.location.host}/ws`;
+
+const FRAME_END = '\u0000';
+
+const createFrame = (command, headers = {}) => {
+    const headerLines = Object.entries(headers).map(([name, value]) => `${name}:${value}\n`).join('');
+    return `${command}\n${headerLines}\n${FRAME_END}`;
+};
+
+const parseFrames = (data) => data.split(FRAME_END)
+    .map((raw) => raw.replace(/^[\r\n]+/, '')) // 하트비트 줄바꿈 제거
+    .filter((raw) => raw.length > 0)
+    .map((raw) => {
+        const bodyIndex = raw.indexOf('\n\n');
+        const [command, ...headerLines] = raw.slice(0, bodyIndex).split('\n');
+        const headers = Object.fromEntries(headerLines.map((line) => {
+            const separatorIndex = line.indexOf(':');
+            return [line.slice(0, separatorIndex), line.slice(separatorIndex + 1)];
+        }));
+        return { command, headers, body: raw.slice(bodyIndex + 2) };
+    });
+
+/**
+ * 티켓의 입장 순서 토픽(/topic/tickets/{ticketId}/pass-order)을 구독합니다.
+ *
+ * @param ticketId 티켓 ID
+ * @param onConnect 구독을 시작하면 호출
+ * @param onMessage 입장 순서 메시지({ ticketId, passOrder, passChunkSize, lastWaitOrder })를 받으면 호출
+ * @param onClose 연결이 끊기면 호출
+ * @returns 구독을 해제하는 함수
+ */
+export const subscribePassOrder = (ticketId, { onConnect, onMessage, onClose }) => {
+    const socket = new WebSocket(WAIT_SOCKET_URL);
+
+    socket.onopen = () => {
+        socket.send(createFrame('CONNECT', { 'accept-version': '1.2', host: window.location.host, 'heart-beat': '0,0' }));
+    };
+
+    socket.onmessage = (event) => {
+        parseFrames(event.data).forEach(({ command, body }) => {
+            if (command === 'CONNECTED') {
+                socket.send(createFrame('SUBSCRIBE', {
+                    id: `pass-order-${ticketId}`,
+                    destination: `/topic/tickets/${ticketId}/pass-order`,
+                }));
+                onConnect && onConnect();
+            } else if (command === 'MESSAGE') {
+                onMessage(JSON.parse(body));
+            } else if (command === 'ERROR') {
+                console.error('입장 순서 구독 오류:', body);
+            }
+        });
+    };
+
+    socket.onclose = () => onClose && onClose();
+
+    return () => {
+        socket.onclose = null;
+        if (socket.readyState === WebSocket.OPEN) {
+            socket.send(createFrame('DISCONNECT'));
+        }
+        socket.close();
+    };
+};